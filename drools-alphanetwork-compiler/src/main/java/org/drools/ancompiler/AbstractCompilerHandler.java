@@ -33,6 +33,8 @@ abstract class AbstractCompilerHandler extends NetworkHandlerAdaptor {
 
     private static final String MAP_VARIABLE_NAME_SUFFIX = "ToNodeId";
 
+    private static final String READ_ACCESSOR_VARIABLE_NAME_PREFIX = "readAccessor";
+
     protected static final String RANGE_INDEX_VARIABLE_NAME_PREFIX = "rangeIndex";
 
     public static Class<?> getVariableType(AlphaNode alphaNode) {
@@ -71,8 +73,18 @@ abstract class AbstractCompilerHandler extends NetworkHandlerAdaptor {
         return getVariableName(variableType, sink.getId());
     }
 
-    protected String getVariableName() {
-        return MAP_VARIABLE_NAME_SUFFIX;
+    /**
+     * Returns the name of the map from the hashed values to the node ids of the n-th group of hashed alphas
+     */
+    protected String getHashedAlphasVariableName(int hashedAlphasIndex) {
+        return MAP_VARIABLE_NAME_SUFFIX + hashedAlphasIndex;
+    }
+
+    /**
+     * Returns the name of the accessor reading the hashed field of the n-th group of hashed alphas
+     */
+    protected static String getReadAccessorVariableName(int hashedAlphasIndex) {
+        return READ_ACCESSOR_VARIABLE_NAME_PREFIX + hashedAlphasIndex;
     }
 
     /**
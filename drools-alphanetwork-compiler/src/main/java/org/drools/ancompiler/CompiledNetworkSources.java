@@ -18,6 +18,7 @@ package org.drools.ancompiler;
 
 import java.util.Collection;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 import com.github.javaparser.ast.CompilationUnit;
@@ -35,7 +36,7 @@ public class CompiledNetworkSources {
     private final Logger logger = LoggerFactory.getLogger(CompiledNetworkSources.class);
 
     private final String source;
-    private final IndexableConstraint indexableConstraint;
+    private final List<IndexableConstraint> indexableConstraints;
     private final String name;
     private final String sourceName;
     private final ObjectTypeNode objectTypeNode;
@@ -43,14 +44,14 @@ public class CompiledNetworkSources {
     private Collection<CompilationUnit> initClasses;
 
     public CompiledNetworkSources(String source,
-                                  IndexableConstraint indexableConstraint,
+                                  List<IndexableConstraint> indexableConstraints,
                                   String name,
                                   String sourceName,
                                   ObjectTypeNode objectTypeNode,
                                   Map<String, AlphaRangeIndex> rangeIndexDeclarationMap,
                                   Collection<CompilationUnit> initClasses) {
         this.source = source;
-        this.indexableConstraint = indexableConstraint;
+        this.indexableConstraints = indexableConstraints;
         this.name = name;
         this.sourceName = sourceName;
         this.objectTypeNode = objectTypeNode;
@@ -86,15 +87,17 @@ public class CompiledNetworkSources {
 
     public CompiledNetwork newCompiledNetworkInstance(Class<?> aClass) {
         try {
-            return (CompiledNetwork) aClass.getDeclaredConstructor(org.drools.core.spi.InternalReadAccessor.class, Map.class)
-                    .newInstance(getFieldExtractor(), rangeIndexDeclarationMap);
+            return (CompiledNetwork) aClass.getDeclaredConstructor(InternalReadAccessor[].class, Map.class)
+                    .newInstance(getFieldExtractors(), rangeIndexDeclarationMap);
         } catch (Exception e) {
             throw new CouldNotCreateAlphaNetworkCompilerException(e);
         }
     }
 
-    private InternalReadAccessor getFieldExtractor() {
-        return indexableConstraint == null ? null : indexableConstraint.getFieldExtractor();
+    private InternalReadAccessor[] getFieldExtractors() {
+        return indexableConstraints.stream()
+                .map(IndexableConstraint::getFieldExtractor)
+                .toArray(InternalReadAccessor[]::new);
     }
 
     public Map<String, String> getAllGeneratedSources() {
@@ -31,6 +31,7 @@ import org.drools.core.reteoo.Sink;
 import org.drools.core.reteoo.WindowNode;
 import org.drools.core.rule.ContextEntry;
 import org.drools.core.rule.IndexableConstraint;
+import org.drools.core.spi.InternalReadAccessor;
 import org.drools.core.util.index.AlphaRangeIndex;
 
 /**
@@ -54,6 +55,11 @@ public class DeclarationsHandler extends AbstractCompilerHandler {
      */
     private HashedAlphasDeclaration currentHashedAlpha;
 
+    /**
+     * Number of groups of hashed AlphaNodes found so far, each of them has its own map and field reader
+     */
+    private int hashedAlphasCount = 0;
+
     private Map<String, AlphaRangeIndex> rangeIndexDeclarationMap = new HashMap<>();
 
     private final StringBuilder builder;
@@ -134,7 +140,7 @@ public class DeclarationsHandler extends AbstractCompilerHandler {
 
     @Override
     public void startHashedAlphaNodes(IndexableConstraint indexableConstraint) {
-        final String variableName = getVariableName();
+        final String variableName = getHashedAlphasVariableName(hashedAlphasCount);
 
         // we create a new hashed alpha that will be used to keep track of the hashes values to node ID for each
         // class field reader.
@@ -146,6 +152,13 @@ public class DeclarationsHandler extends AbstractCompilerHandler {
 
         final String alphaMap = getVariableDeclaration(variableName);
         builder.append(alphaMap).append(NEWLINE);
+        builder.append(getReadAccessorDeclaration()).append(NEWLINE);
+
+        hashedAlphasCount++;
+    }
+
+    private String getReadAccessorDeclaration() {
+        return PRIVATE_MODIFIER + " " + InternalReadAccessor.class.getName() + " " + getReadAccessorVariableName(hashedAlphasCount) + ";";
     }
 
     @Override
@@ -164,7 +177,7 @@ public class DeclarationsHandler extends AbstractCompilerHandler {
         String comment = firstNode.toString();
         String variableName = getRangeIndexVariableName(alphaRangeIndex, minId);
         rangeIndexDeclarationMap.put(variableName, alphaRangeIndex);
-        return PRIVATE_MODIFIER + " " + AlphaRangeIndex.class.getName() + " " + variableName + "; // including " + comment + " etc.";
+        return PRIVATE_MODIFIER + " " + RangeIndexDispatcher.class.getName() + " " + variableName + "; // including " + comment + " etc.";
     }
 
     public Map<String, AlphaRangeIndex> getRangeIndexDeclarationMap() {
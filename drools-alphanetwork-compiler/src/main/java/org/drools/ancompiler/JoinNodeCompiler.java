@@ -0,0 +1,296 @@
+/*
+ * Copyright 2022 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.drools.ancompiler;
+
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.drools.core.common.BetaConstraints;
+import org.drools.core.phreak.PhreakJoinNode;
+import org.drools.core.reteoo.AlphaNode;
+import org.drools.core.reteoo.JoinNode;
+import org.drools.core.reteoo.LeftInputAdapterNode;
+import org.drools.core.reteoo.LeftTupleSink;
+import org.drools.core.reteoo.LeftTupleSource;
+import org.drools.core.reteoo.ObjectSink;
+import org.drools.core.reteoo.Rete;
+import org.drools.core.reteoo.RuleTerminalNode;
+import org.drools.core.spi.BetaNodeFieldConstraint;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Generates a {@link PhreakJoinNode} specialised for a single {@link JoinNode}.
+ * <p/>
+ * The generated class overrides the evaluation of the left and right insertions, which are the hot paths of a join:
+ * the constraints are unrolled and referenced through their concrete types, so that their evaluation can be
+ * devirtualized and inlined, the indexed constraints already granted by the memory are skipped on the left side,
+ * and the right memory of a non indexed node is walked directly instead of through a {@link org.drools.core.util.FastIterator}.
+ * Updates and deletions are left to the generic implementation.
+ * <p/>
+ * Only the join nodes belonging to a simple linear path, from a {@link LeftInputAdapterNode} through other joins
+ * to a {@link RuleTerminalNode}, are compiled.
+ */
+public class JoinNodeCompiler {
+
+    private static final Logger logger = LoggerFactory.getLogger(JoinNodeCompiler.class);
+
+    private static final String NEWLINE = "\n";
+    public static final String PACKAGE_NAME = ObjectTypeNodeCompiler.PACKAGE_NAME;
+
+    private final JoinNode joinNode;
+
+    private final String generatedClassSimpleName;
+
+    public JoinNodeCompiler(JoinNode joinNode) {
+        this.joinNode = joinNode;
+        final String nodeHash = String.valueOf(joinNode.hashCode()).replace("-", "");
+        this.generatedClassSimpleName = String.format("CompiledJoinNode%d%s", joinNode.getId(), nodeHash);
+    }
+
+    public JoinNode getJoinNode() {
+        return joinNode;
+    }
+
+    /**
+     * Returns the fully qualified name of the generated subclass of {@link PhreakJoinNode}
+     */
+    public String getName() {
+        return PACKAGE_NAME + "." + generatedClassSimpleName;
+    }
+
+    public String generateSource() {
+        BetaConstraints betaConstraints = joinNode.getRawConstraints();
+        BetaNodeFieldConstraint[] constraints = betaConstraints.getConstraints();
+        int indexCount = betaConstraints.isIndexed() ? betaConstraints.getIndexCount() : 0;
+
+        StringBuilder builder = new StringBuilder();
+        builder.append("package ").append(PACKAGE_NAME).append(";").append(NEWLINE);
+        builder.append("public class ").append(generatedClassSimpleName).append(" extends ").append(PhreakJoinNode.class.getCanonicalName()).append(" {").append(NEWLINE);
+
+        // the constraints are declared with their concrete types
+        for (int i = 0; i < constraints.length; i++) {
+            builder.append("private final ").append(constraintTypeName(constraints[i])).append(" constraint").append(i).append(";").append(NEWLINE);
+        }
+
+        builder.append("public ").append(generatedClassSimpleName).append("(org.drools.core.reteoo.JoinNode joinNode) {").append(NEWLINE);
+        builder.append("org.drools.core.spi.BetaNodeFieldConstraint[] constraints = joinNode.getRawConstraints().getConstraints();").append(NEWLINE);
+        for (int i = 0; i < constraints.length; i++) {
+            builder.append(String.format("this.constraint%d = (%s) constraints[%d];\n", i, constraintTypeName(constraints[i]), i));
+        }
+        builder.append("}").append(NEWLINE);
+
+        createLeftInserts(builder, constraints.length, indexCount, betaConstraints.isIndexed());
+        createRightInserts(builder, constraints.length, betaConstraints.isIndexed());
+
+        builder.append("}").append(NEWLINE);
+
+        String sourceCode = builder.toString();
+        if (logger.isDebugEnabled()) {
+            logger.debug(String.format("Generated Compiled Join Node %s", sourceCode));
+        }
+        return sourceCode;
+    }
+
+    private void createLeftInserts(StringBuilder builder, int constraintsNr, int indexCount, boolean indexed) {
+        builder.append("@Override").append(NEWLINE);
+        builder.append("public void doLeftInserts(org.drools.core.reteoo.JoinNode joinNode, org.drools.core.reteoo.LeftTupleSink sink, " +
+                               "org.drools.core.reteoo.BetaMemory bm, org.drools.core.common.ReteEvaluator reteEvaluator, " +
+                               "org.drools.core.common.TupleSets<org.drools.core.reteoo.LeftTuple> srcLeftTuples, " +
+                               "org.drools.core.common.TupleSets<org.drools.core.reteoo.LeftTuple> trgLeftTuples) {").append(NEWLINE);
+        builder.append("org.drools.core.reteoo.TupleMemory ltm = bm.getLeftTupleMemory();").append(NEWLINE);
+        builder.append("org.drools.core.reteoo.TupleMemory rtm = bm.getRightTupleMemory();").append(NEWLINE);
+        declareContextEntries(builder, constraintsNr);
+
+        builder.append("for (org.drools.core.reteoo.LeftTuple leftTuple = srcLeftTuples.getInsertFirst(); leftTuple != null; ) {").append(NEWLINE);
+        builder.append("org.drools.core.reteoo.LeftTuple next = leftTuple.getStagedNext();").append(NEWLINE);
+        builder.append("boolean useLeftMemory = org.drools.core.phreak.RuleNetworkEvaluator.useLeftMemory(joinNode, leftTuple);").append(NEWLINE);
+        builder.append("if (useLeftMemory) { ltm.add(leftTuple); }").append(NEWLINE);
+        for (int i = 0; i < constraintsNr; i++) {
+            builder.append(String.format("context%d.updateFromTuple(reteEvaluator, leftTuple);\n", i));
+        }
+
+        if (indexed) {
+            builder.append("org.drools.core.util.FastIterator it = joinNode.getRightIterator(rtm);").append(NEWLINE);
+            builder.append("for (org.drools.core.reteoo.RightTuple rightTuple = joinNode.getFirstRightTuple(leftTuple, rtm, it); rightTuple != null; " +
+                                   "rightTuple = (org.drools.core.reteoo.RightTuple) it.next(rightTuple)) {").append(NEWLINE);
+        } else {
+            // not indexed, so the right memory is a plain list
+            builder.append("for (org.drools.core.reteoo.RightTuple rightTuple = (org.drools.core.reteoo.RightTuple) rtm.getFirst(leftTuple); rightTuple != null; " +
+                                   "rightTuple = (org.drools.core.reteoo.RightTuple) rightTuple.getNext()) {").append(NEWLINE);
+        }
+        builder.append("org.drools.core.common.InternalFactHandle rightHandle = rightTuple.getFactHandle();").append(NEWLINE);
+
+        // the indexed constraints are always satisfied by the tuples of the bucket
+        List<String> conditions = new ArrayList<>();
+        for (int i = indexCount; i < constraintsNr; i++) {
+            conditions.add(String.format("constraint%d.isAllowedCachedLeft(context%d, rightHandle)", i, i));
+        }
+        builder.append("if (").append(conditions.isEmpty() ? "true" : String.join(" && ", conditions)).append(") {").append(NEWLINE);
+        builder.append("insertChildLeftTuple(trgLeftTuples, leftTuple, rightTuple, null, null, sink, useLeftMemory);").append(NEWLINE);
+        builder.append("}").append(NEWLINE);
+        builder.append("}").append(NEWLINE);
+
+        builder.append("leftTuple.clearStaged();").append(NEWLINE);
+        builder.append("leftTuple = next;").append(NEWLINE);
+        builder.append("}").append(NEWLINE);
+        for (int i = 0; i < constraintsNr; i++) {
+            builder.append(String.format("context%d.resetTuple();\n", i));
+        }
+        builder.append("}").append(NEWLINE);
+    }
+
+    private void createRightInserts(StringBuilder builder, int constraintsNr, boolean indexed) {
+        builder.append("@Override").append(NEWLINE);
+        builder.append("public void doRightInserts(org.drools.core.reteoo.JoinNode joinNode, org.drools.core.reteoo.LeftTupleSink sink, " +
+                               "org.drools.core.reteoo.BetaMemory bm, org.drools.core.common.ReteEvaluator reteEvaluator, " +
+                               "org.drools.core.common.TupleSets<org.drools.core.reteoo.RightTuple> srcRightTuples, " +
+                               "org.drools.core.common.TupleSets<org.drools.core.reteoo.LeftTuple> trgLeftTuples) {").append(NEWLINE);
+        builder.append("org.drools.core.reteoo.TupleMemory ltm = bm.getLeftTupleMemory();").append(NEWLINE);
+        builder.append("org.drools.core.reteoo.TupleMemory rtm = bm.getRightTupleMemory();").append(NEWLINE);
+        declareContextEntries(builder, constraintsNr);
+
+        builder.append("if (srcRightTuples.getInsertSize() > 32 && rtm instanceof org.drools.core.util.AbstractHashTable) {").append(NEWLINE);
+        builder.append("((org.drools.core.util.AbstractHashTable) rtm).ensureCapacity(srcRightTuples.getInsertSize());").append(NEWLINE);
+        builder.append("}").append(NEWLINE);
+
+        builder.append("for (org.drools.core.reteoo.RightTuple rightTuple = srcRightTuples.getInsertFirst(); rightTuple != null; ) {").append(NEWLINE);
+        builder.append("org.drools.core.reteoo.RightTuple next = rightTuple.getStagedNext();").append(NEWLINE);
+        builder.append("rtm.add(rightTuple);").append(NEWLINE);
+        builder.append("if (ltm != null && ltm.size() > 0) {").append(NEWLINE);
+        builder.append("org.drools.core.common.InternalFactHandle rightHandle = rightTuple.getFactHandleForEvaluation();").append(NEWLINE);
+        for (int i = 0; i < constraintsNr; i++) {
+            builder.append(String.format("context%d.updateFromFactHandle(reteEvaluator, rightHandle);\n", i));
+        }
+
+        if (indexed) {
+            builder.append("org.drools.core.util.FastIterator it = joinNode.getLeftIterator(ltm);").append(NEWLINE);
+            builder.append("for (org.drools.core.reteoo.LeftTuple leftTuple = joinNode.getFirstLeftTuple(rightTuple, ltm, it); leftTuple != null; " +
+                                   "leftTuple = (org.drools.core.reteoo.LeftTuple) it.next(leftTuple)) {").append(NEWLINE);
+        } else {
+            // not indexed, so the left memory is a plain list
+            builder.append("for (org.drools.core.reteoo.LeftTuple leftTuple = (org.drools.core.reteoo.LeftTuple) ltm.getFirst(rightTuple); leftTuple != null; " +
+                                   "leftTuple = (org.drools.core.reteoo.LeftTuple) leftTuple.getNext()) {").append(NEWLINE);
+        }
+        builder.append("if (leftTuple.getStagedType() == org.drools.core.reteoo.LeftTuple.UPDATE) { continue; }").append(NEWLINE);
+
+        List<String> conditions = new ArrayList<>();
+        for (int i = 0; i < constraintsNr; i++) {
+            conditions.add(String.format("constraint%d.isAllowedCachedRight(leftTuple, context%d)", i, i));
+        }
+        builder.append("if (").append(conditions.isEmpty() ? "true" : String.join(" && ", conditions)).append(") {").append(NEWLINE);
+        builder.append("insertChildLeftTuple(trgLeftTuples, leftTuple, rightTuple, null, null, sink, true);").append(NEWLINE);
+        builder.append("}").append(NEWLINE);
+        builder.append("}").append(NEWLINE);
+        builder.append("}").append(NEWLINE);
+
+        builder.append("rightTuple.clearStaged();").append(NEWLINE);
+        builder.append("rightTuple = next;").append(NEWLINE);
+        builder.append("}").append(NEWLINE);
+        for (int i = 0; i < constraintsNr; i++) {
+            builder.append(String.format("context%d.resetFactHandle();\n", i));
+        }
+        builder.append("}").append(NEWLINE);
+    }
+
+    private void declareContextEntries(StringBuilder builder, int constraintsNr) {
+        if (constraintsNr > 0) {
+            builder.append("org.drools.core.rule.ContextEntry[] contextEntry = bm.getContext();").append(NEWLINE);
+        }
+        for (int i = 0; i < constraintsNr; i++) {
+            builder.append(String.format("org.drools.core.rule.ContextEntry context%d = contextEntry[%d];\n", i, i));
+        }
+    }
+
+    /**
+     * Returns the name of the concrete type of the constraint if it can be referenced by the generated class,
+     * otherwise falls back to the {@link BetaNodeFieldConstraint} interface
+     */
+    private static String constraintTypeName(BetaNodeFieldConstraint constraint) {
+        Class<?> type = constraint.getClass();
+        if (type.getCanonicalName() == null) {
+            return BetaNodeFieldConstraint.class.getCanonicalName();
+        }
+        for (Class<?> c = type; c != null; c = c.getEnclosingClass()) {
+            if (!Modifier.isPublic(c.getModifiers())) {
+                return BetaNodeFieldConstraint.class.getCanonicalName();
+            }
+        }
+        return type.getCanonicalName();
+    }
+
+    /**
+     * A join node can be compiled when it is part of a linear path starting from a left input adapter, going
+     * only through other join nodes and ending in rule terminal nodes
+     */
+    static boolean canBeCompiled(JoinNode joinNode) {
+        if (joinNode.isRightInputIsRiaNode() || joinNode.isIndexedUnificationJoin()) {
+            return false;
+        }
+        for (LeftTupleSource source = joinNode.getLeftTupleSource(); !(source instanceof LeftInputAdapterNode); source = source.getLeftTupleSource()) {
+            if (!(source instanceof JoinNode) || ((JoinNode) source).isRightInputIsRiaNode()) {
+                return false;
+            }
+        }
+        return sinksAreLinear(joinNode);
+    }
+
+    private static boolean sinksAreLinear(JoinNode joinNode) {
+        for (LeftTupleSink sink : joinNode.getSinkPropagator().getSinks()) {
+            if (sink instanceof JoinNode) {
+                if (((JoinNode) sink).isRightInputIsRiaNode() || !sinksAreLinear((JoinNode) sink)) {
+                    return false;
+                }
+            } else if (!(sink instanceof RuleTerminalNode)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    public static List<JoinNodeCompiler> joinNodeCompilers(Rete rete) {
+        return joinNodes(rete)
+                .stream()
+                .filter(JoinNodeCompiler::canBeCompiled)
+                .map(JoinNodeCompiler::new)
+                .collect(Collectors.toList());
+    }
+
+    public static Collection<JoinNode> joinNodes(Rete rete) {
+        Set<JoinNode> joinNodes = new LinkedHashSet<>();
+        rete.getEntryPointNodes().values().stream()
+                .flatMap(ep -> ep.getObjectTypeNodes().values().stream())
+                .forEach(otn -> collectJoinNodes(otn.getObjectSinkPropagator().getSinks(), joinNodes));
+        return joinNodes;
+    }
+
+    // every join node is the sink of the object type node, or of one of its alpha nodes, of its right input
+    private static void collectJoinNodes(ObjectSink[] sinks, Set<JoinNode> joinNodes) {
+        for (ObjectSink sink : sinks) {
+            if (sink instanceof AlphaNode) {
+                collectJoinNodes(((AlphaNode) sink).getObjectSinkPropagator().getSinks(), joinNodes);
+            } else if (sink instanceof JoinNode) {
+                joinNodes.add((JoinNode) sink);
+            }
+        }
+    }
+}
@@ -0,0 +1,96 @@
+/*
+ * Copyright 2022 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.drools.ancompiler;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.drools.compiler.kie.builder.impl.KieBaseUpdater;
+import org.drools.compiler.kie.builder.impl.KieBaseUpdaterOptions;
+import org.drools.compiler.kie.builder.impl.KieBaseUpdatersContext;
+import org.drools.core.phreak.PhreakJoinNode;
+import org.drools.core.reteoo.JoinNode;
+import org.drools.core.reteoo.Rete;
+import org.drools.kiesession.rulebase.InternalKnowledgeBase;
+import org.kie.api.KieBase;
+import org.kie.internal.builder.conf.CompiledJoinsOption;
+import org.kie.memorycompiler.KieMemoryCompiler;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Compiles in memory the join nodes of the simple linear paths of the network, see {@link JoinNodeCompiler}, and
+ * sets the generated evaluators on them.
+ * <p/>
+ * This is opt-in: it is only run when the {@link CompiledJoinsOption} of the KieBase is enabled, or explicitly
+ * through {@link #generateAndSetInMemoryCompiledJoins(KieBase)}.
+ */
+public class KieBaseUpdaterCompiledJoins implements KieBaseUpdater {
+
+    private final Logger logger = LoggerFactory.getLogger(KieBaseUpdaterCompiledJoins.class);
+
+    private final KieBaseUpdatersContext ctx;
+
+    public KieBaseUpdaterCompiledJoins(KieBaseUpdatersContext ctx) {
+        this.ctx = ctx;
+    }
+
+    public void run() {
+        if (ctx.getOption(CompiledJoinsOption.class).filter(CompiledJoinsOption.ENABLED::equals).isPresent()) {
+            inMemoryUpdate(ctx.getClassLoader(), ctx.getRete());
+        }
+    }
+
+    /**
+     * This assumes the kie-memory-compiler module is provided at runtime
+     */
+    private void inMemoryUpdate(ClassLoader rootClassLoader, Rete rete) {
+        List<JoinNodeCompiler> joinNodeCompilers = JoinNodeCompiler.joinNodeCompilers(rete);
+        if (joinNodeCompilers.isEmpty()) {
+            return;
+        }
+
+        Map<String, String> sources = new HashMap<>();
+        for (JoinNodeCompiler joinNodeCompiler : joinNodeCompilers) {
+            sources.put(joinNodeCompiler.getName(), joinNodeCompiler.generateSource());
+        }
+        Map<String, Class<?>> compiledClasses = KieMemoryCompiler.compile(sources, rootClassLoader);
+
+        for (JoinNodeCompiler joinNodeCompiler : joinNodeCompilers) {
+            JoinNode joinNode = joinNodeCompiler.getJoinNode();
+            joinNode.setCompiledJoin(newCompiledJoinInstance(compiledClasses.get(joinNodeCompiler.getName()), joinNode));
+        }
+        logger.debug("Compiled {} join nodes", joinNodeCompilers.size());
+    }
+
+    private static PhreakJoinNode newCompiledJoinInstance(Class<?> aClass, JoinNode joinNode) {
+        try {
+            return (PhreakJoinNode) aClass.getDeclaredConstructor(JoinNode.class).newInstance(joinNode);
+        } catch (Exception e) {
+            throw new CouldNotCreateAlphaNetworkCompilerException(e);
+        }
+    }
+
+    public static void generateAndSetInMemoryCompiledJoins(KieBase kbase) {
+        KieBaseUpdaterOptions kieBaseUpdaterOptions = new KieBaseUpdaterOptions(new KieBaseUpdaterOptions.OptionEntry(
+                CompiledJoinsOption.class, CompiledJoinsOption.ENABLED));
+        KieBaseUpdatersContext context = new KieBaseUpdatersContext(kieBaseUpdaterOptions,
+                (( InternalKnowledgeBase ) kbase).getRete(), (( InternalKnowledgeBase ) kbase).getRootClassLoader());
+        new KieBaseUpdaterCompiledJoins(context).run();
+    }
+}
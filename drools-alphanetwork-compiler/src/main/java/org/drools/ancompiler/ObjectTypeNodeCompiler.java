@@ -112,13 +112,6 @@ public class ObjectTypeNodeCompiler {
         DebugHandler debugHandler = new DebugHandler();
         parser.accept(debugHandler);
 
-        // After the first parsing we decide whether to traverse hashedAlphaNodes or not
-
-        if(parser.getIndexableConstraints().size() > 1) {
-            logger.warn("Alpha Network Compiler with multiple Indexable Constraints is not supported, reverting to non hashed-ANC. This might be slower ");
-            parser.setTraverseHashedAlphaNodes(false);
-        }
-
         createAdditionalFields(builder);
 
         // create declarations
@@ -180,7 +173,7 @@ public class ObjectTypeNodeCompiler {
 
         return new CompiledNetworkSources(
                 sourceCode,
-                parser.getIndexableConstraint(),
+                parser.getIndexableConstraints(),
                 getName(),
                 getSourceName(),
                 objectTypeNode,
@@ -232,7 +225,6 @@ public class ObjectTypeNodeCompiler {
                 append(CompiledNetwork.class.getName()).append("{ ").append(NEWLINE);
 
         builder.append(String.format("private static final org.slf4j.Logger logger = org.slf4j.LoggerFactory.getLogger(%s.class);%n", generatedClassSimpleName));
-        builder.append("org.drools.core.spi.InternalReadAccessor readAccessor;\n");
     }
 
     /**
@@ -242,15 +234,21 @@ public class ObjectTypeNodeCompiler {
      *
      * @param hashedAlphaDeclarations declarations used for creating statements to populate the hashed alpha
      *                                maps for the generate class
+     * @param rangeIndexDeclarationMap range indexes from which the dispatchers of the generated class are created
      */
     private void createConstructor(Collection<HashedAlphasDeclaration> hashedAlphaDeclarations, Map<String, AlphaRangeIndex> rangeIndexDeclarationMap) {
-        builder.append("public ").append(generatedClassSimpleName).append("(org.drools.core.spi.InternalReadAccessor readAccessor, java.util.Map<String, " + AlphaRangeIndex.class.getCanonicalName() + "> rangeIndexDeclarationMap) {").append(NEWLINE);
+        builder.append("public ").append(generatedClassSimpleName).append("(org.drools.core.spi.InternalReadAccessor[] readAccessors, java.util.Map<String, " + AlphaRangeIndex.class.getCanonicalName() + "> rangeIndexDeclarationMap) {").append(NEWLINE);
 
-        builder.append("this.readAccessor = readAccessor;\n");
         // for each hashed alpha, we need to fill in the map member variable with the hashed values to node Ids
+        int hashedAlphasIndex = 0;
         for (HashedAlphasDeclaration declaration : hashedAlphaDeclarations) {
             String mapVariableName = declaration.getVariableName();
 
+            // the read accessors are given in the same order in which the hashed alphas have been declared
+            builder.append("this.").append(AbstractCompilerHandler.getReadAccessorVariableName(hashedAlphasIndex))
+                    .append(" = readAccessors[").append(hashedAlphasIndex).append("];").append(NEWLINE);
+            hashedAlphasIndex++;
+
             for (Object hashedValue : declaration.getHashedValues()) {
                 Object value = hashedValue;
 
@@ -282,7 +280,7 @@ public class ObjectTypeNodeCompiler {
 
         // Range Index
         for (String variableName : rangeIndexDeclarationMap.keySet()) {
-            builder.append("this." + variableName + " = rangeIndexDeclarationMap.get(\"" + variableName + "\");");
+            builder.append("this." + variableName + " = new " + RangeIndexDispatcher.class.getCanonicalName() + "(rangeIndexDeclarationMap.get(\"" + variableName + "\"));");
             builder.append(NEWLINE);
         }
 
@@ -16,12 +16,12 @@
 
 package org.drools.ancompiler;
 
+import java.util.ArrayList;
 import java.util.Collection;
-import java.util.LinkedHashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
-import java.util.Set;
 
 import org.drools.core.reteoo.AlphaNode;
 import org.drools.core.reteoo.BetaNode;
@@ -59,14 +59,11 @@ public class ObjectTypeNodeParser {
      * OTN we are parsing/traversing
      */
     private final ObjectTypeNode objectTypeNode;
-    private LinkedHashSet<IndexableConstraint> indexableConstraints = new LinkedHashSet<>();
 
-    // When we have more than one indexable constraints we disable traversing of HashedAlphaNode
-    private boolean traverseHashedAlphaNodes = true;
-
-    public void setTraverseHashedAlphaNodes(boolean traverseHashedAlphaNodes) {
-        this.traverseHashedAlphaNodes = traverseHashedAlphaNodes;
-    }
+    /**
+     * The constraints of each group of hashed alpha nodes, in the order in which the groups are traversed
+     */
+    private final List<IndexableConstraint> indexableConstraints = new ArrayList<>();
 
     /**
      * Creates a new parser for the specified ObjectTypeNode
@@ -90,6 +87,7 @@ public class ObjectTypeNodeParser {
      */
     public void accept(NetworkHandler handler) {
         ObjectSinkPropagator propagator = objectTypeNode.getObjectSinkPropagator();
+        indexableConstraints.clear();
 
         handler.startObjectTypeNode(objectTypeNode);
         traversePropagator(propagator, handler);
@@ -105,15 +103,11 @@ public class ObjectTypeNodeParser {
         } else if (propagator instanceof CompositeObjectSinkAdapter) {
             CompositeObjectSinkAdapter composite = (CompositeObjectSinkAdapter) propagator;
 
-            if(traverseHashedAlphaNodes) {
-                traverseSinkList(composite.getRangeIndexableSinks(), handler);
-                traverseSinkList(composite.getHashableSinks(), handler);
-                traverseSinkList(composite.getOthers(), handler);
-                traverseRangeIndexedAlphaNodes(composite.getRangeIndexMap(), handler);
-                traverseHashedAlphaNodes(composite.getHashedSinkMap(), handler);
-            } else {
-                traverseSinkList(composite.getSinks(), handler);
-            }
+            traverseSinkList(composite.getRangeIndexableSinks(), handler);
+            traverseSinkList(composite.getHashableSinks(), handler);
+            traverseSinkList(composite.getOthers(), handler);
+            traverseRangeIndexedAlphaNodes(composite.getRangeIndexMap(), handler);
+            traverseHashedAlphaNodes(composite.getHashedSinkMap(), handler);
         } else if (propagator instanceof CompositePartitionAwareObjectSinkAdapter) {
             CompositePartitionAwareObjectSinkAdapter composite = (CompositePartitionAwareObjectSinkAdapter) propagator;
             traverseSinkList(composite.getSinks(), handler);
@@ -136,39 +130,52 @@ public class ObjectTypeNodeParser {
     }
 
     private void traverseHashedAlphaNodes(Map<CompositeObjectSinkAdapter.HashKey, AlphaNode> hashedAlphaNodes, NetworkHandler handler) {
-        if (hashedAlphaNodes != null && !hashedAlphaNodes.isEmpty()) {
-            AlphaNode firstAlpha = hashedAlphaNodes.values().iterator().next();
-            IndexableConstraint hashedFieldReader = getClassFieldReaderForHashedAlpha(firstAlpha);
-            indexableConstraints.add(hashedFieldReader);
-
-            // start the hashed alphas
-            handler.startHashedAlphaNodes(hashedFieldReader);
-
-            AlphaNode optionalNullAlphaNodeCase = null;
-            for (Map.Entry<CompositeObjectSinkAdapter.HashKey, AlphaNode> entry : hashedAlphaNodes.entrySet()) {
-                CompositeObjectSinkAdapter.HashKey hashKey = entry.getKey();
-                AlphaNode alphaNode = entry.getValue();
-
-                final Object objectValue = hashKey.getObjectValue();
-                if (objectValue != null) {
-                    handler.startHashedAlphaNode(alphaNode, objectValue);
-                    // traverse the propagator for each alpha
-                    traversePropagator(alphaNode.getObjectSinkPropagator(), handler);
-                    handler.endHashedAlphaNode(alphaNode, hashKey.getObjectValue());
-                } else {
-                    optionalNullAlphaNodeCase = alphaNode;
-                }
-            }
+        if (hashedAlphaNodes == null || hashedAlphaNodes.isEmpty()) {
+            return;
+        }
+        // the same propagator can hash its alphas on more than one field, each of them is reported as a separated group
+        Map<Integer, Map<CompositeObjectSinkAdapter.HashKey, AlphaNode>> hashedAlphaNodesByField = new LinkedHashMap<>();
+        for (Map.Entry<CompositeObjectSinkAdapter.HashKey, AlphaNode> entry : hashedAlphaNodes.entrySet()) {
+            hashedAlphaNodesByField.computeIfAbsent(entry.getKey().getIndex(), i -> new LinkedHashMap<>())
+                    .put(entry.getKey(), entry.getValue());
+        }
+        for (Map<CompositeObjectSinkAdapter.HashKey, AlphaNode> fieldHashedAlphaNodes : hashedAlphaNodesByField.values()) {
+            traverseFieldHashedAlphaNodes(fieldHashedAlphaNodes, handler);
+        }
+    }
 
-            // end of the hashed alphas
-            handler.endHashedAlphaNodes(hashedFieldReader);
+    private void traverseFieldHashedAlphaNodes(Map<CompositeObjectSinkAdapter.HashKey, AlphaNode> hashedAlphaNodes, NetworkHandler handler) {
+        AlphaNode firstAlpha = hashedAlphaNodes.values().iterator().next();
+        IndexableConstraint hashedFieldReader = getClassFieldReaderForHashedAlpha(firstAlpha);
+        indexableConstraints.add(hashedFieldReader);
 
-            if (optionalNullAlphaNodeCase != null) {
-                handler.nullCaseAlphaNodeStart(optionalNullAlphaNodeCase);
-                traversePropagator(optionalNullAlphaNodeCase.getObjectSinkPropagator(), handler);
-                handler.nullCaseAlphaNodeEnd(optionalNullAlphaNodeCase);
+        // start the hashed alphas
+        handler.startHashedAlphaNodes(hashedFieldReader);
+
+        AlphaNode optionalNullAlphaNodeCase = null;
+        for (Map.Entry<CompositeObjectSinkAdapter.HashKey, AlphaNode> entry : hashedAlphaNodes.entrySet()) {
+            CompositeObjectSinkAdapter.HashKey hashKey = entry.getKey();
+            AlphaNode alphaNode = entry.getValue();
+
+            final Object objectValue = hashKey.getObjectValue();
+            if (objectValue != null) {
+                handler.startHashedAlphaNode(alphaNode, objectValue);
+                // traverse the propagator for each alpha
+                traversePropagator(alphaNode.getObjectSinkPropagator(), handler);
+                handler.endHashedAlphaNode(alphaNode, hashKey.getObjectValue());
+            } else {
+                optionalNullAlphaNodeCase = alphaNode;
             }
         }
+
+        // end of the hashed alphas
+        handler.endHashedAlphaNodes(hashedFieldReader);
+
+        if (optionalNullAlphaNodeCase != null) {
+            handler.nullCaseAlphaNodeStart(optionalNullAlphaNodeCase);
+            traversePropagator(optionalNullAlphaNodeCase.getObjectSinkPropagator(), handler);
+            handler.nullCaseAlphaNodeEnd(optionalNullAlphaNodeCase);
+        }
     }
 
     private void traverseRangeIndexedAlphaNodes(Map<CompositeObjectSinkAdapter.FieldIndex, AlphaRangeIndex> rangeIndexMap, NetworkHandler handler) {
@@ -235,15 +242,11 @@ public class ObjectTypeNodeParser {
         return (IndexableConstraint) fieldConstraint;
     }
 
-    public Set<IndexableConstraint> getIndexableConstraints() {
+    /**
+     * Returns the constraints of all the groups of hashed alpha nodes found during the last parsing,
+     * in the same order in which their {@link NetworkHandler#startHashedAlphaNodes} events have been fired
+     */
+    public List<IndexableConstraint> getIndexableConstraints() {
         return indexableConstraints;
     }
-
-    public IndexableConstraint getIndexableConstraint() {
-        IndexableConstraint[] constraintsArray = indexableConstraints
-                .toArray(new IndexableConstraint[0]);
-
-        return indexableConstraints.isEmpty() ? null :
-                constraintsArray[constraintsArray.length - 1];
-    }
 }
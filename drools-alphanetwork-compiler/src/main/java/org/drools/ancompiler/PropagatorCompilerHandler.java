@@ -66,7 +66,6 @@ import org.drools.core.spi.InternalReadAccessor;
 import org.drools.core.spi.PropagationContext;
 import org.drools.core.util.index.AlphaRangeIndex;
 
-import static com.github.javaparser.StaticJavaParser.parseExpression;
 import static com.github.javaparser.StaticJavaParser.parseStatement;
 import static com.github.javaparser.StaticJavaParser.parseType;
 import static com.github.javaparser.ast.NodeList.nodeList;
@@ -88,7 +87,16 @@ public abstract class PropagatorCompilerHandler extends AbstractCompilerHandler
     protected static final String MODIFY_PREVIOUS_TUPLE_PARAM_NAME = "modifyPreviousTuples";
     protected static final String LOCAL_FACT_VAR_NAME = "fact";
 
-    private Class<?> fieldType;
+    /**
+     * The type of the hashed field of the groups of hashed alphas currently being compiled, the innermost first
+     */
+    private final Deque<Class<?>> fieldTypes = new ArrayDeque<>();
+    /**
+     * The indexes of the groups of hashed alphas currently being compiled, the innermost first
+     */
+    private final Deque<Integer> hashedAlphasIndexes = new ArrayDeque<>();
+    private int hashedAlphasCount = 0;
+    private int lastEndedHashedAlphasIndex;
 
     protected BlockStmt allStatements = new BlockStmt();
     protected Deque<Node> currentStatement = new ArrayDeque<>();
@@ -155,18 +163,25 @@ public abstract class PropagatorCompilerHandler extends AbstractCompilerHandler
     @Override
     public void startHashedAlphaNodes(IndexableConstraint indexableConstraint) {
         final InternalReadAccessor fieldExtractor = indexableConstraint.getFieldExtractor();
-        fieldType = fieldExtractor.getExtractToClass();
+        final Class<?> fieldType = fieldExtractor.getExtractToClass();
+        final int hashedAlphasIndex = hashedAlphasCount++;
+        fieldTypes.push(fieldType);
+        hashedAlphasIndexes.push(hashedAlphasIndex);
+
+        // the hashed value is read from the handle, as the switch can be nested in a method extracted from an outer switch
+        final MethodCallExpr readHashedValue = readHashedValue(hashedAlphasIndex);
 
+        final BlockStmt currentBlockStatement = getCurrentBlockStatement();
         final SwitchStmt switchStmt;
         final Statement nullCheck;
         if (canInlineValue(fieldType)) {
 
-            String switchVariableName = "switchVar";
+            String switchVariableName = "switchVar" + hashedAlphasIndex;
             ExpressionStmt switchVariable = localVariableWithCastInitializer(toJPType(fieldType),
                                                                              switchVariableName,
-                                                                             parseExpression("readAccessor.getValue(fact)"));
+                                                                             readHashedValue);
 
-            this.allStatements.addStatement(switchVariable);
+            currentBlockStatement.addStatement(switchVariable);
             switchStmt = new SwitchStmt().setSelector(new NameExpr(switchVariableName));
 
             if (fieldType.isPrimitive()) {
@@ -178,13 +193,15 @@ public abstract class PropagatorCompilerHandler extends AbstractCompilerHandler
             }
         } else { // Hashable but not inlinable
 
-            String localVariableName = "NodeId";
+            String localVariableName = "NodeId" + hashedAlphasIndex;
 
             ExpressionStmt expressionStmt = localVariableWithCastInitializer(parseType("java.lang.Integer"),
                                                                              localVariableName,
-                                                                             parseExpression("ToNodeId.get(readAccessor.getValue(fact))"));
+                                                                             new MethodCallExpr(new NameExpr(getHashedAlphasVariableName(hashedAlphasIndex)),
+                                                                                                "get",
+                                                                                                nodeList(readHashedValue)));
 
-            this.allStatements.addStatement(expressionStmt);
+            currentBlockStatement.addStatement(expressionStmt);
 
             switchStmt = new SwitchStmt().setSelector(new MethodCallExpr(new NameExpr(localVariableName), "intValue", nodeList()));
 
@@ -194,10 +211,43 @@ public abstract class PropagatorCompilerHandler extends AbstractCompilerHandler
                     .setThenStmt(switchStmt);
         }
 
-        this.allStatements.addStatement(nullCheck);
+        currentBlockStatement.addStatement(nullCheck);
         this.currentStatement.push(switchStmt);
     }
 
+    @Override
+    public void endHashedAlphaNodes(IndexableConstraint indexableConstraint) {
+        this.currentStatement.pop();
+        fieldTypes.pop();
+        lastEndedHashedAlphasIndex = hashedAlphasIndexes.pop();
+    }
+
+    @Override
+    public void nullCaseAlphaNodeStart(AlphaNode hashedAlpha) {
+        // the null case is reported right after the end of its group of hashed alphas
+        IfStmt ifStatement = new IfStmt()
+                .setCondition(new MethodCallExpr(new NameExpr(getReadAccessorVariableName(lastEndedHashedAlphasIndex)),
+                                                 "isNullValue",
+                                                 nodeList(new NameExpr(WORKING_MEMORY_PARAM_NAME),
+                                                          new MethodCallExpr(new NameExpr(FACT_HANDLE_PARAM_NAME), "getObject"))))
+                .setThenStmt(new BlockStmt());
+
+        getCurrentBlockStatement().addStatement(ifStatement);
+
+        currentStatement.push(ifStatement);
+    }
+
+    @Override
+    public void nullCaseAlphaNodeEnd(AlphaNode hashedAlpha) {
+        currentStatement.pop();
+    }
+
+    private MethodCallExpr readHashedValue(int hashedAlphasIndex) {
+        return new MethodCallExpr(new NameExpr(getReadAccessorVariableName(hashedAlphasIndex)),
+                                  "getValue",
+                                  nodeList(new MethodCallExpr(new NameExpr(FACT_HANDLE_PARAM_NAME), "getObject")));
+    }
+
     protected boolean canInlineValue(Class<?> fieldType) {
         return Stream.of(String.class, Integer.class, int.class).anyMatch(c -> c.isAssignableFrom(fieldType));
     }
@@ -206,7 +256,7 @@ public abstract class PropagatorCompilerHandler extends AbstractCompilerHandler
     public void startHashedAlphaNode(AlphaNode hashedAlpha, Object hashedValue) {
         SwitchEntry newSwitchEntry = new SwitchEntry();
 
-        if (canInlineValue(fieldType)) {
+        if (canInlineValue(fieldTypes.getFirst())) {
             final Expression quotedHashedValue;
             if (hashedValue instanceof String) {
                 quotedHashedValue = new StringLiteralExpr((String) hashedValue);
@@ -234,10 +284,11 @@ public abstract class PropagatorCompilerHandler extends AbstractCompilerHandler
         String matchingResultVariableName = rangeIndexVariableName + "_result";
         String matchingNodeVariableName = matchingResultVariableName + "_node";
 
-        ExpressionStmt matchingResultVariable = localVariable(parseType("java.util.Collection<org.drools.core.reteoo.AlphaNode>"),
+        // the ids of the matching nodes are precomputed for each interval between the bounds of the index
+        ExpressionStmt matchingResultVariable = localVariable(parseType("int[]"),
                                                               matchingResultVariableName,
                                                               new MethodCallExpr(new NameExpr(rangeIndexVariableName),
-                                                                                 "getMatchingAlphaNodes",
+                                                                                 "getMatchingNodeIds",
                                                                                  nodeList(new MethodCallExpr(new NameExpr(FACT_HANDLE_PARAM_NAME), "getObject"))));
 
         final BlockStmt currentBlockStatement = getCurrentBlockStatement();
@@ -245,12 +296,12 @@ public abstract class PropagatorCompilerHandler extends AbstractCompilerHandler
         currentBlockStatement.addStatement(matchingResultVariable);
 
         BlockStmt body = new BlockStmt();
-        ForEachStmt forEachStmt = new ForEachStmt(new VariableDeclarationExpr(parseType("org.drools.core.reteoo.AlphaNode"), matchingNodeVariableName),
+        ForEachStmt forEachStmt = new ForEachStmt(new VariableDeclarationExpr(parseType("int"), matchingNodeVariableName),
                                                   new NameExpr(matchingResultVariableName), body);
 
         currentBlockStatement.addStatement(forEachStmt);
 
-        SwitchStmt switchStatement = new SwitchStmt().setSelector(new MethodCallExpr(new NameExpr(matchingNodeVariableName), "getId"));
+        SwitchStmt switchStatement = new SwitchStmt().setSelector(new NameExpr(matchingNodeVariableName));
         this.currentStatement.push(switchStatement);
         body.addStatement(switchStatement);
     }
@@ -0,0 +1,113 @@
+/*
+ * Copyright 2022 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.drools.ancompiler;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.TreeSet;
+
+import org.drools.core.reteoo.AlphaNode;
+import org.drools.core.rule.IndexableConstraint;
+import org.drools.core.spi.InternalReadAccessor;
+import org.drools.core.util.index.AlphaRangeIndex;
+
+/**
+ * Used by the compiled alpha network to find the range indexed {@link AlphaNode}s matching a fact.
+ * <p/>
+ * The distinct bounds of the {@link AlphaRangeIndex} split the domain of the indexed field in 2n+1 regions:
+ * the one below the first bound, each bound, each interval between two consecutive bounds and the one above the
+ * last bound. The ids of the nodes matching each region are precomputed, so that dispatching a fact only requires
+ * a binary search of its value among the bounds instead of navigating the trees of the range index.
+ */
+public class RangeIndexDispatcher {
+
+    private static final int[] NO_NODES = new int[0];
+
+    private final InternalReadAccessor fieldExtractor;
+
+    private final Comparable[] bounds;
+
+    private final int[][] nodeIdsByRegion;
+
+    public RangeIndexDispatcher(AlphaRangeIndex alphaRangeIndex) {
+        this.fieldExtractor = alphaRangeIndex.getFieldIndex().getFieldExtractor();
+
+        List<AlphaNode> alphaNodes = new ArrayList<>(alphaRangeIndex.getAllValues());
+        alphaNodes.sort(Comparator.comparingInt(AlphaNode::getId));
+
+        TreeSet<Comparable> distinctBounds = new TreeSet<>();
+        for (AlphaNode alphaNode : alphaNodes) {
+            distinctBounds.add(alphaRangeIndex.getIndexedValue(alphaNode));
+        }
+        this.bounds = distinctBounds.toArray(new Comparable[distinctBounds.size()]);
+
+        int regionsNr = bounds.length * 2 + 1;
+        List<List<Integer>> regions = new ArrayList<>(regionsNr);
+        for (int i = 0; i < regionsNr; i++) {
+            regions.add(new ArrayList<>());
+        }
+
+        for (AlphaNode alphaNode : alphaNodes) {
+            int boundRegion = 2 * Arrays.binarySearch(bounds, alphaRangeIndex.getIndexedValue(alphaNode)) + 1;
+            int from;
+            int to;
+            switch (((IndexableConstraint) alphaNode.getConstraint()).getConstraintType()) {
+                case LESS_THAN:
+                    from = 0;
+                    to = boundRegion - 1;
+                    break;
+                case LESS_OR_EQUAL:
+                    from = 0;
+                    to = boundRegion;
+                    break;
+                case GREATER_THAN:
+                    from = boundRegion + 1;
+                    to = regionsNr - 1;
+                    break;
+                case GREATER_OR_EQUAL:
+                    from = boundRegion;
+                    to = regionsNr - 1;
+                    break;
+                default:
+                    throw new IllegalArgumentException("Unsupported range constraint " + alphaNode.getConstraint());
+            }
+            for (int i = from; i <= to; i++) {
+                regions.get(i).add(alphaNode.getId());
+            }
+        }
+
+        this.nodeIdsByRegion = new int[regionsNr][];
+        for (int i = 0; i < regionsNr; i++) {
+            this.nodeIdsByRegion[i] = regions.get(i).stream().mapToInt(Integer::intValue).toArray();
+        }
+    }
+
+    /**
+     * Returns the ids, in ascending order, of the nodes whose constraint is satisfied by the given object
+     */
+    public int[] getMatchingNodeIds(Object object) {
+        Object value = fieldExtractor.getValue(object);
+        if (value == null) {
+            return NO_NODES;
+        }
+        int pos = Arrays.binarySearch(bounds, value);
+        // a found bound is an odd region, otherwise the insertion point gives the even region of the interval
+        return nodeIdsByRegion[pos >= 0 ? 2 * pos + 1 : -2 * (pos + 1)];
+    }
+}
@@ -0,0 +1,92 @@
+/*
+ * Copyright 2022 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.drools.ancompiler;
+
+import java.util.concurrent.TimeUnit;
+
+import org.kie.api.KieBase;
+import org.kie.api.io.ResourceType;
+import org.kie.api.runtime.KieSession;
+import org.kie.internal.utils.KieHelper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares the interpreted phreak join evaluation with the compiled one, inserting a batch of facts matched by
+ * a chain of indexed and non indexed joins in a new session
+ */
+@Fork(1)
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@Warmup(iterations = 5, time = 5, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 5, time = 5, timeUnit = TimeUnit.SECONDS)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class CompiledJoinNodeBenchmark {
+
+    private static final String DRL =
+            "import " + Person.class.getCanonicalName() + ";\n" +
+            "rule SameName when\n" +
+            "  $p1 : Person( age > 10 )\n" +
+            "  $p2 : Person( this != $p1, name == $p1.name, age > $p1.age )\n" +
+            "then\n" +
+            "end\n" +
+            "rule Older when\n" +
+            "  $p1 : Person( name == \"name0\" )\n" +
+            "  $p2 : Person( age > $p1.age, age < 30 )\n" +
+            "  $p3 : Person( age > $p2.age, age < 20 )\n" +
+            "then\n" +
+            "end\n";
+
+    @Param({"false", "true"})
+    private boolean compiledJoins;
+
+    @Param({"1000"})
+    private int factsNr;
+
+    private KieBase kieBase;
+
+    @Setup(Level.Trial)
+    public void createKieBase() {
+        kieBase = new KieHelper().addContent(DRL, ResourceType.DRL).build();
+        if (compiledJoins) {
+            KieBaseUpdaterCompiledJoins.generateAndSetInMemoryCompiledJoins(kieBase);
+        }
+    }
+
+    @Benchmark
+    public int insertAndFire() {
+        KieSession ksession = kieBase.newKieSession();
+        try {
+            for (int i = 0; i < factsNr; i++) {
+                ksession.insert(new Person("name" + (i % 50), i % 100));
+            }
+            return ksession.fireAllRules();
+        } finally {
+            ksession.dispose();
+        }
+    }
+}
@@ -0,0 +1,146 @@
+/*
+ * Copyright 2022 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.drools.ancompiler;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+import org.drools.core.reteoo.JoinNode;
+import org.drools.kiesession.rulebase.InternalKnowledgeBase;
+import org.junit.Test;
+import org.kie.api.KieServices;
+import org.kie.api.builder.model.KieModuleModel;
+import org.kie.api.runtime.KieSession;
+import org.kie.api.runtime.rule.FactHandle;
+import org.kie.internal.builder.conf.CompiledJoinsOption;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class CompiledJoinNodeTest extends BaseModelTest {
+
+    public CompiledJoinNodeTest(RUN_TYPE testRunType) {
+        super(testRunType);
+    }
+
+    @Test
+    public void testCompiledJoins() {
+        final String drl =
+                "import " + Person.class.getCanonicalName() + ";\n" +
+                "global java.util.List results;\n" +
+                "rule Indexed when\n" +
+                "  $p1 : Person( age > 10 )\n" +
+                "  $p2 : Person( this != $p1, name == $p1.name )\n" +
+                "then\n" +
+                "  results.add(drools.getRule().getName() + \":\" + $p1.getAge() + \"-\" + $p2.getAge());\n" +
+                "end\n" +
+                "rule NotIndexed when\n" +
+                "  $p1 : Person( name == \"Mario\" )\n" +
+                "  $p2 : Person( age > $p1.age )\n" +
+                "  $p3 : Person( age > $p2.age )\n" +
+                "then\n" +
+                "  results.add(drools.getRule().getName() + \":\" + $p1.getAge() + \"-\" + $p2.getAge() + \"-\" + $p3.getAge());\n" +
+                "end\n";
+
+        KieSession ksession = getKieSession(drl);
+        KieBaseUpdaterCompiledJoins.generateAndSetInMemoryCompiledJoins(ksession.getKieBase());
+
+        Collection<JoinNode> joinNodes = JoinNodeCompiler.joinNodes(((InternalKnowledgeBase) ksession.getKieBase()).getRete());
+        assertThat(joinNodes).isNotEmpty().allMatch(j -> j.getCompiledJoin() != null);
+
+        List<String> results = new ArrayList<>();
+        ksession.setGlobal("results", results);
+
+        try {
+            ksession.insert(new Person("Mario", 40));
+            FactHandle luca = ksession.insert(new Person("Luca", 20));
+            ksession.insert(new Person("Mario", 50));
+            ksession.insert(new Person("Edson", 60));
+            ksession.fireAllRules();
+            assertThat(results).containsExactlyInAnyOrder("Indexed:40-50", "Indexed:50-40",
+                                                          "NotIndexed:40-50-60");
+            results.clear();
+
+            // updates and deletions still go through the generic join evaluation
+            Person lucaPerson = (Person) ksession.getObject(luca);
+            lucaPerson.setAge(45);
+            ksession.update(luca, lucaPerson);
+            ksession.fireAllRules();
+            assertThat(results).containsExactlyInAnyOrder("NotIndexed:40-45-50", "NotIndexed:40-45-60");
+            results.clear();
+
+            ksession.delete(luca);
+            ksession.insert(new Person("Luca", 70));
+            ksession.fireAllRules();
+            assertThat(results).containsExactlyInAnyOrder("NotIndexed:40-50-70", "NotIndexed:40-60-70", "NotIndexed:50-60-70");
+        } finally {
+            ksession.dispose();
+        }
+    }
+
+    @Test
+    public void testCompiledJoinsOption() {
+        final String drl =
+                "import " + Person.class.getCanonicalName() + ";\n" +
+                "rule R when\n" +
+                "  $p1 : Person( age > 10 )\n" +
+                "  $p2 : Person( name == $p1.name )\n" +
+                "then\n" +
+                "end\n";
+
+        KieSession ksession = getKieSession(drl);
+        try {
+            // the join nodes are not compiled by default
+            Collection<JoinNode> joinNodes = JoinNodeCompiler.joinNodes(((InternalKnowledgeBase) ksession.getKieBase()).getRete());
+            assertThat(joinNodes).isNotEmpty().allMatch(j -> j.getCompiledJoin() == null);
+        } finally {
+            ksession.dispose();
+        }
+
+        KieModuleModel model = KieServices.get().newKieModuleModel();
+        model.setConfigurationProperty(CompiledJoinsOption.PROPERTY_NAME, "true");
+        ksession = getKieSession(model, drl);
+        try {
+            Collection<JoinNode> joinNodes = JoinNodeCompiler.joinNodes(((InternalKnowledgeBase) ksession.getKieBase()).getRete());
+            assertThat(joinNodes).isNotEmpty().allMatch(j -> j.getCompiledJoin() != null);
+        } finally {
+            ksession.dispose();
+        }
+    }
+
+    @Test
+    public void testJoinsOutOfLinearPathsAreNotCompiled() {
+        final String drl =
+                "import " + Person.class.getCanonicalName() + ";\n" +
+                "rule R when\n" +
+                "  $p1 : Person( age > 10 )\n" +
+                "  not Person( age > $p1.age )\n" +
+                "  $p2 : Person( name == $p1.name )\n" +
+                "then\n" +
+                "end\n";
+
+        KieSession ksession = getKieSession(drl);
+        try {
+            KieBaseUpdaterCompiledJoins.generateAndSetInMemoryCompiledJoins(ksession.getKieBase());
+
+            Collection<JoinNode> joinNodes = JoinNodeCompiler.joinNodes(((InternalKnowledgeBase) ksession.getKieBase()).getRete());
+            assertThat(joinNodes).isNotEmpty().allMatch(j -> j.getCompiledJoin() == null);
+        } finally {
+            ksession.dispose();
+        }
+    }
+}
@@ -29,9 +29,7 @@ public class MultipleIndexableConstraintsTest extends BaseModelTest {
         super(testRunType);
     }
 
-    /* Currently we don't support multiple indexable constraints in the ANC, so this test will pass because
-        it disables the switch generation and the inlining. See DROOLS-5947
-     */
+    // The alphas on age are hashed under each of the hashed alphas on name, so the ANC generates nested switches
     @Test
     public void testMultipleIndexedConstraintTest() {
         final StringBuilder rule =
@@ -54,8 +52,46 @@ public class MultipleIndexableConstraintsTest extends BaseModelTest {
         ksession.insert(c);
 
         try {
-            ksession.fireAllRules();
-            assertThat(results).contains(a, b, c);
+            assertThat(ksession.fireAllRules()).isEqualTo(3);
+            assertThat(results).containsExactlyInAnyOrder(a, b, c);
+        } finally {
+            ksession.dispose();
+        }
+    }
+
+    // The same propagator hashes its alphas both on name and on age
+    @Test
+    public void testIndexedConstraintsOnDifferentFields() {
+        final StringBuilder rule =
+                new StringBuilder("global java.util.List results;\n" +
+                                          "import " + Person.class.getCanonicalName() + ";\n");
+
+        for (int i = 0; i < 10; i++) {
+            rule.append("rule ruleName" + i + " when\n" +
+                                "    $p : Person( name == \"n" + i + "\" )\n" +
+                                "then\n" +
+                                " results.add($p);\n" +
+                                "end\n" +
+                                "rule ruleAge" + i + " when\n" +
+                                "    $p : Person( age == " + i + " )\n" +
+                                "then\n" +
+                                " results.add($p);\n" +
+                                "end\n");
+        }
+
+        KieSession ksession = getKieSession(rule.toString());
+        ArrayList<Object> results = new ArrayList<>();
+        ksession.setGlobal("results", results);
+        Person a = new Person("n3", 5);
+        Person b = new Person("n4", 20);
+        Person c = new Person("x", 20);
+        ksession.insert(a);
+        ksession.insert(b);
+        ksession.insert(c);
+
+        try {
+            assertThat(ksession.fireAllRules()).isEqualTo(3);
+            assertThat(results).containsExactlyInAnyOrder(a, a, b);
         } finally {
             ksession.dispose();
         }
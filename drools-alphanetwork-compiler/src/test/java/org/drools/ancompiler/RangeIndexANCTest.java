@@ -229,4 +229,61 @@ public class RangeIndexANCTest extends BaseModelTest {
         assertThat(results).containsOnly("test1", "test2", "test3");
         results.clear();
     }
+
+    @Test
+    public void testBoundaries() {
+        final String drl = "package com.sample\n" +
+                           "import " + Person.class.getCanonicalName() + "\n" +
+                           "global java.util.List results;\n" +
+                           "rule test1\n when\n" +
+                           "   Person( age < 18 )\n" +
+                           "then\n" +
+                           "   results.add(drools.getRule().getName());" +
+                           "end\n" +
+                           "rule test2\n when\n" +
+                           "   Person( age <= 18 )\n" +
+                           "then\n" +
+                           "   results.add(drools.getRule().getName());" +
+                           "end\n" +
+                           "rule test3\n when\n" +
+                           "   Person( age > 18 )\n" +
+                           "then\n" +
+                           "   results.add(drools.getRule().getName());" +
+                           "end\n" +
+                           "rule test4\n when\n" +
+                           "   Person( age >= 18 )\n" +
+                           "then\n" +
+                           "   results.add(drools.getRule().getName());" +
+                           "end\n" +
+                           "rule test5\n when\n" +
+                           "   Person( age >= 65 )\n" +
+                           "then\n" +
+                           "   results.add(drools.getRule().getName());" +
+                           "end\n";
+
+        final KieBase kbase = createKieBaseWithRangeIndexThresholdValue(drl, 3);
+        final KieSession ksession = kbase.newKieSession();
+
+        List<String> results = new ArrayList<>();
+        ksession.setGlobal("results", results);
+
+        ksession.insert(new Person("John", 17));
+        ksession.fireAllRules();
+        assertThat(results).containsOnly("test1", "test2");
+        results.clear();
+
+        ksession.insert(new Person("Paul", 18));
+        ksession.fireAllRules();
+        assertThat(results).containsOnly("test2", "test4");
+        results.clear();
+
+        ksession.insert(new Person("George", 40));
+        ksession.fireAllRules();
+        assertThat(results).containsOnly("test3", "test4");
+        results.clear();
+
+        ksession.insert(new Person("Ringo", 65));
+        ksession.fireAllRules();
+        assertThat(results).containsOnly("test3", "test4", "test5");
+    }
 }
@@ -19,7 +19,6 @@ import org.drools.tms.beliefsystem.BeliefSet;
 import org.drools.tms.beliefsystem.BeliefSystem;
 import org.drools.tms.beliefsystem.ModedAssertion;
 import org.drools.core.common.InternalFactHandle;
-import org.drools.core.common.WorkingMemoryAction;
 import org.drools.core.spi.PropagationContext;
 import org.drools.core.util.LinkedList;
 
@@ -94,11 +93,6 @@ public class NonConflictingModeSet<M extends ModedAssertion<M>> extends LinkedLi
 
     }
 
-    @Override
-    public void setWorkingMemoryAction(WorkingMemoryAction wmAction) {
-
-    }
-
     @Override
     public boolean isNegated() {
         return false;
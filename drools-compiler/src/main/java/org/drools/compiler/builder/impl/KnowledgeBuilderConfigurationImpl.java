@@ -50,6 +50,7 @@ import org.kie.internal.builder.KnowledgeBuilderConfiguration;
 import org.kie.internal.builder.ResultSeverity;
 import org.kie.internal.builder.conf.AccumulateFunctionOption;
 import org.kie.internal.builder.conf.AlphaNetworkCompilerOption;
+import org.kie.internal.builder.conf.CompiledJoinsOption;
 import org.kie.internal.builder.conf.DefaultDialectOption;
 import org.kie.internal.builder.conf.DefaultPackageNameOption;
 import org.kie.internal.builder.conf.DumpDirOption;
@@ -134,6 +135,7 @@ public class KnowledgeBuilderConfigurationImpl
     private boolean                           parallelLambdaExternalization         = true;
 
     private AlphaNetworkCompilerOption        alphaNetworkCompilerOption            = AlphaNetworkCompilerOption.DISABLED;
+    private boolean                           compiledJoins                         = false;
 
     private static final PropertySpecificOption DEFAULT_PROP_SPEC_OPT = PropertySpecificOption.ALWAYS;
     private PropertySpecificOption            propertySpecificOption  = DEFAULT_PROP_SPEC_OPT;
@@ -240,6 +242,9 @@ public class KnowledgeBuilderConfigurationImpl
 
         setProperty(ParallelLambdaExternalizationOption.PROPERTY_NAME,
                     this.chainedProperties.getProperty(ParallelLambdaExternalizationOption.PROPERTY_NAME,"true"));
+
+        setProperty(CompiledJoinsOption.PROPERTY_NAME,
+                    this.chainedProperties.getProperty(CompiledJoinsOption.PROPERTY_NAME,"false"));
     }
 
     protected ClassLoader getFunctionFactoryClassLoader() {
@@ -312,6 +317,8 @@ public class KnowledgeBuilderConfigurationImpl
             } catch (IllegalArgumentException e) {
                 log.warn("Invalid value " + value + " for option " + AlphaNetworkCompilerOption.PROPERTY_NAME);
             }
+        } else if (name.equals(CompiledJoinsOption.PROPERTY_NAME)) {
+            setCompiledJoins(Boolean.valueOf(value));
         } else {
             // if the property from the kmodule was not intercepted above, just add it to the chained properties.
             Properties additionalProperty = new Properties();
@@ -358,6 +365,8 @@ public class KnowledgeBuilderConfigurationImpl
         	return String.valueOf(isExternaliseCanonicalModelLambda());
         } else if (name.equals(ParallelLambdaExternalizationOption.PROPERTY_NAME)) {
         	return String.valueOf(isParallelLambdaExternalization());
+        } else if (name.equals(CompiledJoinsOption.PROPERTY_NAME)) {
+            return String.valueOf(isCompiledJoins());
         }
         return null;
     }
@@ -694,6 +703,14 @@ public class KnowledgeBuilderConfigurationImpl
         this.alphaNetworkCompilerOption = alphaNetworkCompilerOption;
     }
 
+    public boolean isCompiledJoins() {
+        return compiledJoins;
+    }
+
+    public void setCompiledJoins(boolean compiledJoins) {
+        this.compiledJoins = compiledJoins;
+    }
+
     @SuppressWarnings("unchecked")
     public <T extends SingleValueKnowledgeBuilderOption> T getOption(Class<T> option) {
         if (DefaultDialectOption.class.equals(option)) {
@@ -718,6 +735,8 @@ public class KnowledgeBuilderConfigurationImpl
             return (T) (parallelLambdaExternalization ? ParallelLambdaExternalizationOption.ENABLED : ParallelLambdaExternalizationOption.DISABLED);
         } else if (AlphaNetworkCompilerOption.class.equals(option)) {
             return (T) alphaNetworkCompilerOption;
+        } else if (CompiledJoinsOption.class.equals(option)) {
+            return (T) (compiledJoins ? CompiledJoinsOption.ENABLED : CompiledJoinsOption.DISABLED);
         }
         return null;
     }
@@ -781,6 +800,8 @@ public class KnowledgeBuilderConfigurationImpl
             this.parallelLambdaExternalization = ((ParallelLambdaExternalizationOption) option).isLambdaExternalizationParallel();
         } else if (option instanceof AlphaNetworkCompilerOption) {
             this.alphaNetworkCompilerOption = ((AlphaNetworkCompilerOption) option);
+        } else if (option instanceof CompiledJoinsOption) {
+            this.compiledJoins = ((CompiledJoinsOption) option).isCompiledJoins();
         }
     }
 
@@ -384,6 +384,15 @@ public class KnowledgeBuilderImpl implements InternalKnowledgeBuilder, TypeDecla
 
         dtableConfiguration.setTrimCell( this.configuration.isTrimCellsInDTable() );
 
+        // the DRL is still generated when it has to be dumped or parsed with a non default language level
+        if (this.configuration.getDumpDir() == null && this.configuration.getLanguageLevel() == DrlParser.DEFAULT_LANGUAGE_LEVEL) {
+            PackageDescr pkg = DecisionTableFactory.loadPackageDescr(resource, dtableConfiguration);
+            if (pkg != null) {
+                pkg.setResource(resource);
+                return pkg;
+            }
+        }
+
         String generatedDrl = DecisionTableFactory.loadFromResource(resource, dtableConfiguration);
         return generatedDrlToPackageDescr(resource, generatedDrl);
     }
@@ -76,6 +76,7 @@ import org.kie.internal.builder.KnowledgeBuilderFactory;
 import org.kie.internal.builder.ResourceChange;
 import org.kie.internal.builder.ResourceChangeSet;
 import org.kie.internal.builder.conf.AlphaNetworkCompilerOption;
+import org.kie.internal.builder.conf.CompiledJoinsOption;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -284,7 +285,9 @@ public class KieContainerImpl
                 compositeUpdater.add(kieBaseUpdater);
 
                 KieBaseUpdaterOptions kieBaseUpdaterOptions = new KieBaseUpdaterOptions(new KieBaseUpdaterOptions.OptionEntry(
-                        AlphaNetworkCompilerOption.class, builderConfiguration.getAlphaNetworkCompilerOption()));
+                        AlphaNetworkCompilerOption.class, builderConfiguration.getAlphaNetworkCompilerOption()),
+                        new KieBaseUpdaterOptions.OptionEntry(
+                        CompiledJoinsOption.class, builderConfiguration.getOption(CompiledJoinsOption.class)));
 
                 KieBaseUpdaters updaters = KieService.load(KieBaseUpdaters.class);
                 updaters.getChildren()
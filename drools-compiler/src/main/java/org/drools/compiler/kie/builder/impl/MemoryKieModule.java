@@ -43,6 +43,7 @@ import org.kie.api.builder.model.KieModuleModel;
 import org.kie.api.internal.utils.KieService;
 import org.kie.internal.builder.KnowledgeBuilder;
 import org.kie.internal.builder.conf.AlphaNetworkCompilerOption;
+import org.kie.internal.builder.conf.CompiledJoinsOption;
 import org.drools.util.PortablePath;
 import org.kie.memorycompiler.resources.ResourceReader;
 import org.slf4j.Logger;
@@ -148,7 +149,9 @@ public class MemoryKieModule extends AbstractKieModule
             KieContainerImpl.CompositeRunnable compositeUpdater = new KieContainerImpl.CompositeRunnable();
 
             KieBaseUpdaterOptions kieBaseUpdaterOptions = new KieBaseUpdaterOptions(new KieBaseUpdaterOptions.OptionEntry(
-                    AlphaNetworkCompilerOption.class, builderConfiguration.getAlphaNetworkCompilerOption()));
+                    AlphaNetworkCompilerOption.class, builderConfiguration.getAlphaNetworkCompilerOption()),
+                    new KieBaseUpdaterOptions.OptionEntry(
+                    CompiledJoinsOption.class, builderConfiguration.getOption(CompiledJoinsOption.class)));
 
             KieBaseUpdaters updaters = KieService.load(KieBaseUpdaters.class);
             updaters.getChildren()
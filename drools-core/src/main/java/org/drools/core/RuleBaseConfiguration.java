@@ -56,6 +56,7 @@ import org.kie.internal.conf.ConstraintJittingThresholdOption;
 import org.kie.internal.conf.IndexLeftBetaMemoryOption;
 import org.kie.internal.conf.IndexPrecedenceOption;
 import org.kie.internal.conf.IndexRightBetaMemoryOption;
+import org.kie.internal.conf.LazyAgendaGroupsOption;
 import org.kie.internal.conf.MaxThreadsOption;
 import org.kie.internal.conf.MultithreadEvaluationOption;
 import org.kie.internal.conf.PermGenThresholdOption;
@@ -110,6 +111,7 @@ import static org.drools.core.util.MemoryUtil.hasPermGen;
  * drools.declarativeAgendaEnabled =  &lt;true|false&gt;
  * drools.permgenThreshold = &lt;1...n&gt;
  * drools.jittingThreshold = &lt;1...n&gt;
+ * drools.lazyAgendaGroups = &lt;true|false&gt;
  * </pre>
  */
 public class RuleBaseConfiguration
@@ -148,6 +150,8 @@ public class RuleBaseConfiguration
     private String          consequenceExceptionHandler;
     private String          ruleBaseUpdateHandler;
     private boolean         mutabilityEnabled;
+    private boolean         deferredUpdatesEnabled;
+    private boolean         lazyAgendaGroups;
 
     private boolean declarativeAgenda;
 
@@ -214,6 +218,8 @@ public class RuleBaseConfiguration
         out.writeBoolean(declarativeAgenda);
         out.writeInt(sessionPoolSize);
         out.writeBoolean(mutabilityEnabled);
+        out.writeBoolean(deferredUpdatesEnabled);
+        out.writeBoolean(lazyAgendaGroups);
     }
 
     public void readExternal(ObjectInput in) throws IOException,
@@ -246,6 +252,8 @@ public class RuleBaseConfiguration
         declarativeAgenda = in.readBoolean();
         sessionPoolSize = in.readInt();
         mutabilityEnabled = in.readBoolean();
+        deferredUpdatesEnabled = in.readBoolean();
+        lazyAgendaGroups = in.readBoolean();
     }
 
     /**
@@ -329,6 +337,8 @@ public class RuleBaseConfiguration
             setConsequenceExceptionHandler( StringUtils.isEmpty( value ) ? DefaultConsequenceExceptionHandler.class.getName() : value);
         } else if ( name.equals( "drools.ruleBaseUpdateHandler" ) ) {
             setRuleBaseUpdateHandler( StringUtils.isEmpty( value ) ? "" : value);
+        } else if ( name.equals( LazyAgendaGroupsOption.PROPERTY_NAME ) ) {
+            setLazyAgendaGroups( StringUtils.isEmpty( value ) ? false : Boolean.valueOf(value));
         } else if ( name.equals( "drools.conflictResolver" ) ) {
             setAdvancedProcessRuleIntegration( StringUtils.isEmpty( value ) ? false : Boolean.valueOf(value));
         } else if ( name.equals( MultithreadEvaluationOption.PROPERTY_NAME ) ) {
@@ -340,7 +350,7 @@ public class RuleBaseConfiguration
         } else if ( name.equals( MBeansOption.PROPERTY_NAME ) ) {
             setMBeansEnabled( MBeansOption.isEnabled(value));
         } else if ( name.equals( KieBaseMutabilityOption.PROPERTY_NAME ) ) {
-            setMutabilityEnabled( StringUtils.isEmpty( value ) ? true : KieBaseMutabilityOption.determineMutability(value) == KieBaseMutabilityOption.ALLOWED );
+            setMutability( StringUtils.isEmpty( value ) ? KieBaseMutabilityOption.ALLOWED : KieBaseMutabilityOption.determineMutability(value) );
         }
     }
 
@@ -386,6 +396,8 @@ public class RuleBaseConfiguration
             return getConsequenceExceptionHandler();
         } else if ( name.equals( "drools.ruleBaseUpdateHandler" ) ) {
             return getRuleBaseUpdateHandler();
+        } else if ( name.equals( LazyAgendaGroupsOption.PROPERTY_NAME ) ) {
+            return Boolean.toString(isLazyAgendaGroups());
         } else if ( name.equals( "drools.advancedProcessRuleIntegration" ) ) {
             return Boolean.toString(isAdvancedProcessRuleIntegration());
         } else if ( name.equals( MultithreadEvaluationOption.PROPERTY_NAME ) ) {
@@ -397,7 +409,7 @@ public class RuleBaseConfiguration
         } else if ( name.equals( MBeansOption.PROPERTY_NAME ) ) {
             return isMBeansEnabled() ? "enabled" : "disabled";
         } else if ( name.equals( KieBaseMutabilityOption.PROPERTY_NAME ) ) {
-            return isMutabilityEnabled() ? "ALLOWED" : "DISABLED";
+            return getMutability().name();
         }
 
         return null;
@@ -488,8 +500,11 @@ public class RuleBaseConfiguration
         setDeclarativeAgendaEnabled( Boolean.valueOf( this.chainedProperties.getProperty( DeclarativeAgendaOption.PROPERTY_NAME,
                                                                                           "false" ) ) );
 
-        setMutabilityEnabled( KieBaseMutabilityOption.determineMutability(
-                this.chainedProperties.getProperty( KieBaseMutabilityOption.PROPERTY_NAME, "ALLOWED" )) == KieBaseMutabilityOption.ALLOWED );
+        setMutability( KieBaseMutabilityOption.determineMutability(
+                this.chainedProperties.getProperty( KieBaseMutabilityOption.PROPERTY_NAME, "ALLOWED" )) );
+
+        setLazyAgendaGroups( Boolean.valueOf( this.chainedProperties.getProperty( LazyAgendaGroupsOption.PROPERTY_NAME,
+                                                                                  "false" ) ) );
     }
 
     /**
@@ -895,6 +910,40 @@ public class RuleBaseConfiguration
         return mutabilityEnabled;
     }
 
+    public void setMutability( KieBaseMutabilityOption mutability ) {
+        this.mutabilityEnabled = mutability.isMutable();
+        this.deferredUpdatesEnabled = mutability == KieBaseMutabilityOption.DEFERRED;
+    }
+
+    public KieBaseMutabilityOption getMutability() {
+        if (!mutabilityEnabled) {
+            return KieBaseMutabilityOption.DISABLED;
+        }
+        return deferredUpdatesEnabled ? KieBaseMutabilityOption.DEFERRED : KieBaseMutabilityOption.ALLOWED;
+    }
+
+    /**
+     * Returns true if the updates of the KieBase have to wait for all the sessions to be at rest,
+     * instead of pausing the ones that are firing rules
+     */
+    public boolean isDeferredUpdatesEnabled() {
+        return deferredUpdatesEnabled;
+    }
+
+    public void setLazyAgendaGroups( boolean lazyAgendaGroups ) {
+        checkCanChange(); // throws an exception if a change isn't possible;
+        this.lazyAgendaGroups = lazyAgendaGroups;
+    }
+
+    /**
+     * Returns true if the rules belonging to an agenda group other than MAIN are linked into the network
+     * only when their agenda group gets the focus or is activated for the first time.
+     * This requires a mutable KieBase.
+     */
+    public boolean isLazyAgendaGroups() {
+        return lazyAgendaGroups;
+    }
+
     public static class AssertBehaviour
             implements
             Externalizable {
@@ -1073,7 +1122,9 @@ public class RuleBaseConfiguration
         } else if (DeclarativeAgendaOption.class.equals(option)) {
             return (T) (this.isDeclarativeAgenda() ? DeclarativeAgendaOption.ENABLED : DeclarativeAgendaOption.DISABLED);
         } else if (KieBaseMutabilityOption.class.equals(option)) {
-            return (T) (this.isMutabilityEnabled() ? KieBaseMutabilityOption.ALLOWED : KieBaseMutabilityOption.DISABLED);
+            return (T) getMutability();
+        } else if (LazyAgendaGroupsOption.class.equals(option)) {
+            return (T) (this.lazyAgendaGroups ? LazyAgendaGroupsOption.YES : LazyAgendaGroupsOption.NO);
         }
         return null;
 
@@ -1125,7 +1176,9 @@ public class RuleBaseConfiguration
         } else if (option instanceof DeclarativeAgendaOption) {
             setDeclarativeAgendaEnabled(((DeclarativeAgendaOption) option).isDeclarativeAgendaEnabled());
         } else if (option instanceof KieBaseMutabilityOption) {
-            setMutabilityEnabled(option == KieBaseMutabilityOption.ALLOWED);
+            setMutability((KieBaseMutabilityOption) option);
+        } else if (option instanceof LazyAgendaGroupsOption) {
+            setLazyAgendaGroups(((LazyAgendaGroupsOption) option).isLazyAgendaGroups());
         }
 
     }
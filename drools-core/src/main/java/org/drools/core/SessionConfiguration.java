@@ -42,6 +42,8 @@ import org.kie.api.runtime.conf.TimedRuleExecutionOption;
 import org.kie.api.runtime.conf.TimerJobFactoryOption;
 import org.kie.api.runtime.conf.WorkItemHandlerOption;
 import org.kie.api.runtime.process.WorkItemHandler;
+import org.kie.internal.runtime.conf.FireUntilHaltFireBudgetOption;
+import org.kie.internal.runtime.conf.FireUntilHaltTimeBudgetOption;
 import org.kie.internal.runtime.conf.ForceEagerActivationFilter;
 import org.kie.internal.runtime.conf.ForceEagerActivationOption;
 
@@ -107,6 +109,18 @@ public abstract class SessionConfiguration implements KieSessionConfiguration, E
     public abstract QueryListenerOption getQueryListenerOption();
     public abstract void setQueryListenerOption( QueryListenerOption queryListener );
 
+    public abstract void setFireUntilHaltFireBudget(int fireBudget);
+    public abstract int getFireUntilHaltFireBudget();
+    public abstract void setFireUntilHaltTimeBudget(long timeBudgetMillis);
+    public abstract long getFireUntilHaltTimeBudget();
+
+    /**
+     * Returns true if each iteration of the fireUntilHalt loop is bounded by a number of firings or by a time budget
+     */
+    public final boolean hasFireUntilHaltBudget() {
+        return getFireUntilHaltFireBudget() > 0 || getFireUntilHaltTimeBudget() > 0;
+    }
+
     public final <T extends KieSessionOption> void setOption(T option) {
         if ( option instanceof ClockTypeOption ) {
             setClockType( ClockType.resolveClockType( ((ClockTypeOption) option).getClockType() ) );
@@ -131,6 +145,10 @@ public abstract class SessionConfiguration implements KieSessionConfiguration, E
             setQueryListenerOption( (QueryListenerOption) option );
         } else if ( option instanceof BeliefSystemTypeOption ) {
             setBeliefSystemType( ((BeliefSystemType.resolveBeliefSystemType( ((BeliefSystemTypeOption) option).getBeliefSystemType() ))) );
+        } else if ( option instanceof FireUntilHaltFireBudgetOption ) {
+            setFireUntilHaltFireBudget( ((FireUntilHaltFireBudgetOption) option).getFireBudget() );
+        } else if ( option instanceof FireUntilHaltTimeBudgetOption ) {
+            setFireUntilHaltTimeBudget( ((FireUntilHaltTimeBudgetOption) option).getTimeBudgetMillis() );
         }
     }
 
@@ -152,6 +170,10 @@ public abstract class SessionConfiguration implements KieSessionConfiguration, E
             return (T) getQueryListenerOption();
         } else if ( BeliefSystemTypeOption.class.equals( option ) ) {
             return (T) BeliefSystemTypeOption.get( this.getBeliefSystemType().getId() );
+        } else if ( FireUntilHaltFireBudgetOption.class.equals( option ) ) {
+            return (T) FireUntilHaltFireBudgetOption.get( getFireUntilHaltFireBudget() );
+        } else if ( FireUntilHaltTimeBudgetOption.class.equals( option ) ) {
+            return (T) FireUntilHaltTimeBudgetOption.get( getFireUntilHaltTimeBudget() );
         }
         return null;
     }
@@ -194,6 +216,10 @@ public abstract class SessionConfiguration implements KieSessionConfiguration, E
             setQueryListenerOption( QueryListenerOption.determineQueryListenerClassOption( property ) );
         } else if ( name.equals( BeliefSystemTypeOption.PROPERTY_NAME ) ) {
             setBeliefSystemType(StringUtils.isEmpty(value) ? BeliefSystemType.SIMPLE : BeliefSystemType.resolveBeliefSystemType(value));
+        } else if ( name.equals( FireUntilHaltFireBudgetOption.PROPERTY_NAME ) ) {
+            setFireUntilHaltFireBudget( StringUtils.isEmpty( value ) ? -1 : Integer.parseInt( value ) );
+        } else if ( name.equals( FireUntilHaltTimeBudgetOption.PROPERTY_NAME ) ) {
+            setFireUntilHaltTimeBudget( StringUtils.isEmpty( value ) ? -1L : Long.parseLong( value ) );
         }
     }
 
@@ -219,6 +245,10 @@ public abstract class SessionConfiguration implements KieSessionConfiguration, E
             return getQueryListenerOption().getAsString();
         } else if ( name.equals( BeliefSystemTypeOption.PROPERTY_NAME ) ) {
             return getBeliefSystemType().getId();
+        } else if ( name.equals( FireUntilHaltFireBudgetOption.PROPERTY_NAME ) ) {
+            return Integer.toString( getFireUntilHaltFireBudget() );
+        } else if ( name.equals( FireUntilHaltTimeBudgetOption.PROPERTY_NAME ) ) {
+            return Long.toString( getFireUntilHaltTimeBudget() );
         }
         return null;
     }
@@ -42,6 +42,8 @@ import org.kie.api.runtime.conf.TimedRuleExecutionFilter;
 import org.kie.api.runtime.conf.TimedRuleExecutionOption;
 import org.kie.api.runtime.conf.TimerJobFactoryOption;
 import org.kie.api.runtime.process.WorkItemHandler;
+import org.kie.internal.runtime.conf.FireUntilHaltFireBudgetOption;
+import org.kie.internal.runtime.conf.FireUntilHaltTimeBudgetOption;
 import org.kie.internal.runtime.conf.ForceEagerActivationFilter;
 import org.kie.internal.runtime.conf.ForceEagerActivationOption;
 import org.kie.internal.utils.ChainedProperties;
@@ -63,6 +65,8 @@ import org.kie.internal.utils.ChainedProperties;
  * 
  * drools.keepReference = <true|false>
  * drools.clockType = <pseudo|realtime|heartbeat|implicit>
+ * drools.fireUntilHaltFireBudget = <1...n>
+ * drools.fireUntilHaltTimeBudget = <1...n>
  */
 public class SessionConfigurationImpl extends SessionConfiguration {
 
@@ -89,6 +93,9 @@ public class SessionConfigurationImpl extends SessionConfiguration {
 
     private QueryListenerOption            queryListener;
 
+    private int                            fireUntilHaltFireBudget;
+    private long                           fireUntilHaltTimeBudget;
+
     private Map<String, WorkItemHandler>   workItemHandlers;
     private WorkItemManagerFactory         workItemManagerFactory;
     private ExecutableRunner runner;
@@ -180,6 +187,10 @@ public class SessionConfigurationImpl extends SessionConfiguration {
         setQueryListenerOption( QueryListenerOption.determineQueryListenerClassOption( getPropertyValue( QueryListenerOption.PROPERTY_NAME, QueryListenerOption.STANDARD.getAsString() ) ) );
 
         setTimerJobFactoryType(TimerJobFactoryType.resolveTimerJobFactoryType( getPropertyValue( TimerJobFactoryOption.PROPERTY_NAME, TimerJobFactoryType.THREAD_SAFE_TRACKABLE.getId() ) ));
+
+        setFireUntilHaltFireBudget(Integer.parseInt( getPropertyValue( FireUntilHaltFireBudgetOption.PROPERTY_NAME, "-1" ) ));
+
+        setFireUntilHaltTimeBudget(Long.parseLong( getPropertyValue( FireUntilHaltTimeBudgetOption.PROPERTY_NAME, "-1" ) ));
     }
 
     public SessionConfigurationImpl addDefaultProperties(Properties properties) {
@@ -441,4 +452,30 @@ public class SessionConfigurationImpl extends SessionConfiguration {
         checkCanChange();
         this.queryListener = queryListener;
     }
+
+    /**
+     * Sets the maximum number of rules fired by an iteration of the fireUntilHalt loop
+     * before flushing the pending propagations, or -1 for no limit
+     */
+    public void setFireUntilHaltFireBudget(int fireBudget) {
+        checkCanChange();
+        this.fireUntilHaltFireBudget = fireBudget;
+    }
+
+    public int getFireUntilHaltFireBudget() {
+        return this.fireUntilHaltFireBudget;
+    }
+
+    /**
+     * Sets the maximum time, in milliseconds, spent firing rules by an iteration of the fireUntilHalt loop
+     * before flushing the pending propagations, or -1 for no limit
+     */
+    public void setFireUntilHaltTimeBudget(long timeBudgetMillis) {
+        checkCanChange();
+        this.fireUntilHaltTimeBudget = timeBudgetMillis;
+    }
+
+    public long getFireUntilHaltTimeBudget() {
+        return this.fireUntilHaltTimeBudget;
+    }
 }
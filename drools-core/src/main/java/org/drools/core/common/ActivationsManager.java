@@ -72,6 +72,19 @@ public interface ActivationsManager {
 
     boolean isFiring();
 
+    /**
+     * Clears the agenda and the pending propagations, bringing this manager back to its initial state
+     */
+    void reset();
+
+    /**
+     * Returns true if the current iteration of the fire loop has consumed its time budget,
+     * so the rule being fired has to give way to the flush of the pending propagations
+     */
+    default boolean isFiringBudgetExhausted() {
+        return false;
+    }
+
     void evaluateEagerList();
     void evaluateQueriesForRule(RuleAgendaItem item);
 
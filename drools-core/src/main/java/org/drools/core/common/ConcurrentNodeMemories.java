@@ -24,7 +24,6 @@ import java.util.concurrent.locks.ReentrantLock;
 
 import org.drools.core.impl.RuleBase;
 import org.drools.core.reteoo.SegmentMemory;
-import org.kie.internal.runtime.StatefulKnowledgeSession;
 
 /**
  * A concurrent implementation for the node memories interface
@@ -51,8 +50,8 @@ public class ConcurrentNodeMemories implements NodeMemories {
         this.memories = new AtomicReferenceArray<>( this.ruleBase.getMemoryCount() );
     }
 
-    public void resetAllMemories(StatefulKnowledgeSession session) {
-        RuleBase kBase = (RuleBase) session.getKieBase();
+    public void resetAllMemories(ReteEvaluator reteEvaluator) {
+        RuleBase kBase = reteEvaluator.getKnowledgeBase();
         Set<SegmentMemory> smemSet = new HashSet<>();
 
         for (int i = 0; i < memories.length(); i++) {
@@ -63,14 +62,14 @@ public class ConcurrentNodeMemories implements NodeMemories {
             }
         }
 
-        smemSet.forEach(smem -> resetSegmentMemory(session, kBase, smem));
+        smemSet.forEach(smem -> resetSegmentMemory(reteEvaluator, kBase, smem));
     }
 
-    private void resetSegmentMemory(StatefulKnowledgeSession session, RuleBase kBase, SegmentMemory smem) {
+    private void resetSegmentMemory(ReteEvaluator reteEvaluator, RuleBase kBase, SegmentMemory smem) {
         if (smem != null) {
             smem.reset(kBase.getSegmentPrototype(smem));
             if (smem.isSegmentLinked()) {
-                smem.notifyRuleLinkSegment((InternalWorkingMemory) session);
+                smem.notifyRuleLinkSegment(reteEvaluator);
             }
         }
     }
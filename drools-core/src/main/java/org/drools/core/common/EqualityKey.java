@@ -27,12 +27,21 @@ import org.drools.core.util.LinkedList;
  * Upon instantiation the EqualityKey caches the first Object's hashCode
  * this can never change. The EqualityKey has an internal datastructure
  * which references all the handles which are equal. It also records
- * Whether the referenced facts are JUSTIFIED or STATED
+ * Whether the referenced facts are JUSTIFIED or STATED.
+ * As most keys only ever reference a single handle, the first one is kept
+ * inline and the list of the other handles is created only when a second
+ * equal handle is added.
  */
-public abstract class EqualityKey extends LinkedList<DefaultFactHandle> implements Externalizable {
+public abstract class EqualityKey implements Externalizable {
     public final static int    STATED    = 1;
     public final static int    JUSTIFIED = 2;
 
+    /** The first referenced handle */
+    private DefaultFactHandle  factHandle;
+
+    /** The other referenced handles, null unless more than one handle is referenced */
+    private LinkedList<DefaultFactHandle> otherFactHandles;
+
     /** This is cached in the constructor from the first added Object */
     private int          hashCode;
 
@@ -44,25 +53,27 @@ public abstract class EqualityKey extends LinkedList<DefaultFactHandle> implemen
     }
 
     public EqualityKey(final InternalFactHandle handle) {
-        super( ( DefaultFactHandle ) handle );
+        this.factHandle = ( DefaultFactHandle ) handle;
         this.hashCode = handle.getObjectHashCode();
     }
 
     public EqualityKey(final InternalFactHandle handle,
                        final int status) {
-        super( ( DefaultFactHandle ) handle );
+        this.factHandle = ( DefaultFactHandle ) handle;
         this.hashCode = handle.getObjectHashCode();
         this.status = status;
     }
 
     public void readExternal(ObjectInput in) throws IOException, ClassNotFoundException {
-        super.readExternal(in);
+        factHandle       = (DefaultFactHandle) in.readObject();
+        otherFactHandles = (LinkedList<DefaultFactHandle>) in.readObject();
         hashCode    = in.readInt();
         status      = in.readInt();
     }
 
     public void writeExternal(ObjectOutput out) throws IOException {
-        super.writeExternal(out);
+        out.writeObject(factHandle);
+        out.writeObject(otherFactHandles);
         out.writeInt(hashCode);
         out.writeInt(status);
     }
@@ -83,6 +94,82 @@ public abstract class EqualityKey extends LinkedList<DefaultFactHandle> implemen
         remove( ( DefaultFactHandle ) handle );
     }
 
+    public DefaultFactHandle getFirst() {
+        return this.factHandle;
+    }
+
+    public DefaultFactHandle get(final int i) {
+        return i == 0 ? this.factHandle : this.otherFactHandles.get( i - 1 );
+    }
+
+    /**
+     * Returns the handles after the first one, or null if this key references at most one handle
+     */
+    public LinkedList<DefaultFactHandle> getOtherFactHandles() {
+        return this.otherFactHandles;
+    }
+
+    public boolean isEmpty() {
+        return this.factHandle == null;
+    }
+
+    public int size() {
+        if ( this.factHandle == null ) {
+            return 0;
+        }
+        return this.otherFactHandles == null ? 1 : this.otherFactHandles.size() + 1;
+    }
+
+    public boolean contains(final DefaultFactHandle handle) {
+        return this.factHandle == handle || ( this.otherFactHandles != null && this.otherFactHandles.contains( handle ) );
+    }
+
+    public void add(final DefaultFactHandle handle) {
+        if ( this.factHandle == null ) {
+            this.factHandle = handle;
+        } else {
+            getOrCreateOtherFactHandles().add( handle );
+        }
+    }
+
+    public void addFirst(final DefaultFactHandle handle) {
+        if ( this.factHandle != null ) {
+            getOrCreateOtherFactHandles().addFirst( this.factHandle );
+        }
+        this.factHandle = handle;
+    }
+
+    public DefaultFactHandle removeFirst() {
+        DefaultFactHandle first = this.factHandle;
+        if ( this.otherFactHandles == null ) {
+            this.factHandle = null;
+        } else {
+            this.factHandle = this.otherFactHandles.removeFirst();
+            if ( this.otherFactHandles.isEmpty() ) {
+                this.otherFactHandles = null;
+            }
+        }
+        return first;
+    }
+
+    public void remove(final DefaultFactHandle handle) {
+        if ( this.factHandle == handle ) {
+            removeFirst();
+        } else if ( this.otherFactHandles != null ) {
+            this.otherFactHandles.remove( handle );
+            if ( this.otherFactHandles.isEmpty() ) {
+                this.otherFactHandles = null;
+            }
+        }
+    }
+
+    private LinkedList<DefaultFactHandle> getOrCreateOtherFactHandles() {
+        if ( this.otherFactHandles == null ) {
+            this.otherFactHandles = new LinkedList<>();
+        }
+        return this.otherFactHandles;
+    }
+
     /**
      * @return the status
      */
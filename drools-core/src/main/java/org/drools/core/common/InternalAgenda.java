@@ -148,6 +148,7 @@ public interface InternalAgenda extends Agenda, ActivationsManager {
     void activate();
     void deactivate();
     boolean tryDeactivate();
+    boolean tryDeactivateAtRest();
 
     Map<String,InternalActivationGroup> getActivationGroupsMap();
 
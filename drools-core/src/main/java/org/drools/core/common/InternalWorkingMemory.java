@@ -145,6 +145,12 @@ public interface InternalWorkingMemory
     void deactivate();
     boolean tryDeactivate();
 
+    /**
+     * Deactivates this session only if it is not firing rules: differently from {@link #tryDeactivate()}
+     * a running fireUntilHalt is never paused, and the session can be deactivated only while it waits for new facts
+     */
+    boolean tryDeactivateAtRest();
+
     Iterator<? extends PropagationEntry> getActionsIterator();
 
     void removeGlobal(String identifier);
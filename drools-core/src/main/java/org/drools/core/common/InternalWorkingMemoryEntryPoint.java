@@ -16,6 +16,8 @@
 
 package org.drools.core.common;
 
+import java.util.List;
+
 import org.drools.core.WorkingMemoryEntryPoint;
 import org.drools.core.base.TraitHelper;
 import org.drools.core.definitions.rule.impl.RuleImpl;
@@ -76,5 +78,19 @@ public interface InternalWorkingMemoryEntryPoint extends WorkingMemoryEntryPoint
                               Activation activation,
                               TerminalNode terminalNode);
 
+    /**
+     * Deletes all the given handles, as {@link #delete(InternalFactHandle, Object, ObjectTypeConf, RuleImpl, Activation, TerminalNode)}
+     * does for each of them, but retracting them from the network with a single propagation
+     */
+    default void delete(List<InternalFactHandle> handles,
+                        List<ObjectTypeConf> typeConfs,
+                        RuleImpl rule,
+                        TerminalNode terminalNode) {
+        for (int i = 0; i < handles.size(); i++) {
+            InternalFactHandle handle = handles.get( i );
+            delete( handle, handle.getObject(), typeConfs.get( i ), rule, null, terminalNode );
+        }
+    }
+
     void removeFromObjectStore(InternalFactHandle handle);
 }
@@ -16,9 +16,6 @@
 
 package org.drools.core.common;
 
-
-import org.kie.internal.runtime.StatefulKnowledgeSession;
-
 /**
  * An interface for node memories implementation
  */
@@ -52,5 +49,5 @@ public interface NodeMemories {
      */
     int length();
 
-    void resetAllMemories(StatefulKnowledgeSession session);
+    void resetAllMemories(ReteEvaluator reteEvaluator);
 }
@@ -124,6 +124,11 @@ public interface ReteEvaluator {
 
     void dispose();
 
+    /**
+     * Brings this evaluator back to the state it had right after its creation, so it can be reused
+     */
+    void reset();
+
     int fireAllRules();
     int fireAllRules(int max);
     int fireAllRules(AgendaFilter agendaFilter);
@@ -88,6 +88,8 @@ public class ActivationsManagerImpl implements ActivationsManager {
         this.agendaGroupsManager = new AgendaGroupsManager.SimpleAgendaGroupsManager(reteEvaluator);
         this.propagationList = new SynchronizedPropagationList(reteEvaluator);
         this.ruleEvaluator = new SequentialRuleEvaluator( this );
+        // all the rules are put in the MAIN agenda group, so the lazy ones are linked before the first fact is inserted
+        reteEvaluator.getKnowledgeBase().addAllLazyRules( reteEvaluator );
         if (reteEvaluator.getKnowledgeBase().getConfiguration().getEventProcessingMode() == EventProcessingOption.STREAM) {
             expirationContexts = new ArrayList<>();
         }
@@ -241,6 +243,25 @@ public class ActivationsManagerImpl implements ActivationsManager {
         return firing;
     }
 
+    @Override
+    public void reset() {
+        agendaGroupsManager.reset(false);
+
+        for ( InternalActivationGroup group : this.activationGroups.values() ) {
+            group.setTriggeredForRecency( this.reteEvaluator.getFactHandleFactory().getRecency() );
+            group.reset();
+        }
+
+        eager.clear();
+        queries.clear();
+        if (expirationContexts != null) {
+            expirationContexts.clear();
+        }
+        activationCounter = 0;
+        firing = false;
+        propagationList.reset();
+    }
+
     @Override
     public void evaluateEagerList() {
         while ( !eager.isEmpty() ) {
@@ -45,6 +45,7 @@ import org.drools.core.definitions.InternalKnowledgePackage;
 import org.drools.core.definitions.rule.impl.RuleImpl;
 import org.drools.core.factmodel.ClassDefinition;
 import org.drools.core.management.DroolsManagementAgent;
+import org.drools.core.phreak.PropagationEntry;
 import org.drools.core.reteoo.AsyncReceiveNode;
 import org.drools.core.reteoo.CompositePartitionAwareObjectSinkAdapter;
 import org.drools.core.reteoo.CoreComponentFactory;
@@ -139,6 +140,9 @@ public class KnowledgeBaseImpl implements RuleBase {
 
     private boolean hasMultipleAgendaGroups = false;
 
+    // the rules kept out of the network when the agenda groups are lazy, indexed by agenda group
+    private final Map<String, List<RuleImpl>> lazyRules = new ConcurrentHashMap<>();
+
     public KnowledgeBaseImpl() { }
 
     public KnowledgeBaseImpl(final String id,
@@ -495,6 +499,67 @@ public class KnowledgeBaseImpl implements RuleBase {
         return hasMultipleAgendaGroups;
     }
 
+    @Override
+    public boolean hasLazyRules(String agendaGroup) {
+        return !lazyRules.isEmpty() && lazyRules.containsKey( agendaGroup );
+    }
+
+    @Override
+    public void addLazyRules(String agendaGroup, ReteEvaluator reteEvaluator, Runnable onRulesAdded) {
+        // the focus can be set from a consequence, while the network is being evaluated, so the rules are linked
+        // only when the propagations of the evaluator are flushed, between two rule firings
+        reteEvaluator.addPropagation( new LazyRulesLinking( this, agendaGroup, onRulesAdded ) );
+    }
+
+    private static class LazyRulesLinking extends PropagationEntry.AbstractPropagationEntry {
+
+        private final KnowledgeBaseImpl kBase;
+        private final String agendaGroup;
+        private final Runnable onRulesAdded;
+
+        private LazyRulesLinking(KnowledgeBaseImpl kBase, String agendaGroup, Runnable onRulesAdded) {
+            this.kBase = kBase;
+            this.agendaGroup = agendaGroup;
+            this.onRulesAdded = onRulesAdded;
+        }
+
+        @Override
+        public void execute(ReteEvaluator reteEvaluator) {
+            // this rule base does not keep track of its sessions, so the only live one is the session requiring the rules
+            boolean added;
+            kBase.kBaseInternal_lock();
+            try {
+                added = kBase.kBaseInternal_addLazyRules( agendaGroup, sessionsOf( reteEvaluator ) );
+            } finally {
+                kBase.kBaseInternal_unlock();
+            }
+            if (added) {
+                onRulesAdded.run();
+            }
+        }
+
+        @Override
+        public String toString() {
+            return "Link lazy rules of agenda group " + agendaGroup;
+        }
+    }
+
+    @Override
+    public void addAllLazyRules(ReteEvaluator reteEvaluator) {
+        kBaseInternal_lock();
+        try {
+            kBaseInternal_addAllLazyRules( sessionsOf( reteEvaluator ) );
+        } finally {
+            kBaseInternal_unlock();
+        }
+    }
+
+    private static Collection<InternalWorkingMemory> sessionsOf(ReteEvaluator reteEvaluator) {
+        return reteEvaluator instanceof InternalWorkingMemory ?
+                Collections.singletonList( (InternalWorkingMemory) reteEvaluator ) :
+                Collections.emptyList();
+    }
+
     private void disableMultithreadEvaluation(String warningMessage) {
         config.enforceSingleThreadEvaluation();
         logger.warn( warningMessage );
@@ -1004,14 +1069,61 @@ public class KnowledgeBaseImpl implements RuleBase {
     }
 
     public void kBaseInternal_addRules(Collection<? extends Rule> rules, Collection<InternalWorkingMemory> workingMemories ) {
+        boolean lazyAgendaGroups = config.isLazyAgendaGroups() && config.isMutabilityEnabled();
+        List<RuleImpl> rulesToBeAdded = new ArrayList<>( rules.size() );
         for (Rule r : rules) {
             RuleImpl rule = (RuleImpl) r;
             checkMultithreadedEvaluation( rule );
             this.hasMultipleAgendaGroups |= !rule.isMainAgendaGroup();
-            this.reteooBuilder.addRule(rule, workingMemories);
+            if (lazyAgendaGroups && isLazyRule( rule )) {
+                lazyRules.computeIfAbsent( rule.getAgendaGroup(), k -> new ArrayList<>() ).add( rule );
+            } else {
+                rulesToBeAdded.add( rule );
+            }
+        }
+        if (!rulesToBeAdded.isEmpty()) {
+            this.reteooBuilder.addRules( rulesToBeAdded, workingMemories );
         }
     }
 
+    /**
+     * A rule can be linked lazily only if it cannot produce any match before its agenda group gets the focus:
+     * queries, auto-focus rules and rules taking part in an inheritance hierarchy are always linked eagerly.
+     */
+    private static boolean isLazyRule(RuleImpl rule) {
+        return !rule.isMainAgendaGroup() && !rule.isQuery() && !rule.getAutoFocus() &&
+                rule.getParent() == null && !rule.hasChildren();
+    }
+
+    /**
+     * Links into the network the lazy rules of the given agenda group, propagating into them the facts
+     * already inserted in the given working memories
+     *
+     * @return true if there were rules to be linked
+     */
+    public boolean kBaseInternal_addLazyRules(String agendaGroup, Collection<InternalWorkingMemory> workingMemories) {
+        List<RuleImpl> rules = lazyRules.remove( agendaGroup );
+        if (rules == null) {
+            return false;
+        }
+        this.reteooBuilder.addRules( rules, workingMemories );
+        return true;
+    }
+
+    /**
+     * Links into the network the lazy rules of all the agenda groups, propagating into them the facts
+     * already inserted in the given working memories
+     */
+    public void kBaseInternal_addAllLazyRules(Collection<InternalWorkingMemory> workingMemories) {
+        for (String agendaGroup : new ArrayList<>( lazyRules.keySet() )) {
+            kBaseInternal_addLazyRules( agendaGroup, workingMemories );
+        }
+    }
+
+    public boolean hasLazyRules() {
+        return !lazyRules.isEmpty();
+    }
+
     public void removeQuery( final String packageName, final String ruleName ) {
         removeRule(packageName, ruleName);
     }
@@ -1042,6 +1154,14 @@ public class KnowledgeBaseImpl implements RuleBase {
     }
 
     public void kBaseInternal_removeRules(Collection<? extends Rule> rules, Collection<InternalWorkingMemory> workingMemories) {
+        if (!lazyRules.isEmpty()) {
+            for (Rule rule : rules) {
+                lazyRules.computeIfPresent( ((RuleImpl) rule).getAgendaGroup(), (k, v) -> {
+                    v.remove( rule );
+                    return v.isEmpty() ? null : v;
+                } );
+            }
+        }
         this.reteooBuilder.removeRules(rules, workingMemories);
     }
 
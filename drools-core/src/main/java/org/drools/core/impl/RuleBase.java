@@ -154,6 +154,25 @@ public interface RuleBase {
 
     boolean hasMultipleAgendaGroups();
 
+    default boolean hasLazyRules( String agendaGroup ) {
+        return false;
+    }
+
+    /**
+     * Links into the network the rules of the given agenda group that have been kept out of it
+     * because of {@link RuleBaseConfiguration#isLazyAgendaGroups()}, and then runs the given callback.
+     * The facts of the live sessions, including the requesting one, are propagated into the new rules.
+     * The link is deferred until the requesting evaluator is not evaluating the network, and may wait until all
+     * the sessions are at rest, as for any other update of the rule base.
+     */
+    default void addLazyRules( String agendaGroup, ReteEvaluator reteEvaluator, Runnable onRulesAdded ) { }
+
+    /**
+     * Links into the network the rules of all the lazy agenda groups, before returning.
+     * This is required by the evaluators that put all the rules in the MAIN agenda group.
+     */
+    default void addAllLazyRules( ReteEvaluator reteEvaluator ) { }
+
     default int getWorkingMemoryCounter() {
         return 0;
     }
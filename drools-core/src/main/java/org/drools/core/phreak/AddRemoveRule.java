@@ -22,9 +22,11 @@ import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.drools.core.common.ActivationsManager;
 import org.drools.core.common.EventFactHandle;
@@ -70,6 +72,7 @@ import org.drools.core.reteoo.SegmentNodeMemory;
 import org.drools.core.reteoo.TerminalNode;
 import org.drools.core.reteoo.TupleMemory;
 import org.drools.core.reteoo.WindowNode;
+import org.drools.core.rule.GroupElement;
 import org.drools.core.spi.PropagationContext;
 import org.drools.core.spi.Tuple;
 import org.drools.core.util.FastIterator;
@@ -90,6 +93,15 @@ public class AddRemoveRule {
      * For add tuples are processed after the segments and pmems have been adjusted
      */
     public static void addRule(TerminalNode tn, Collection<InternalWorkingMemory> wms, RuleBase kBase) {
+        addRule(tn, wms, kBase, null);
+    }
+
+    /**
+     * As {@link #addRule(TerminalNode, Collection, RuleBase)}, but when a {@link RuleAdditionBatch} is given
+     * the flush of the working memories and the insertion of the existing facts into the new beta nodes
+     * are deferred to {@link RuleAdditionBatch#complete(Collection)}
+     */
+    public static void addRule(TerminalNode tn, Collection<InternalWorkingMemory> wms, RuleBase kBase, RuleAdditionBatch batch) {
         if (log.isTraceEnabled()) {
             log.trace("Adding Rule {}", tn.getRule().getName());
         }
@@ -109,7 +121,11 @@ public class AddRemoveRule {
         // It does not matter that the prior segments have not yet been processed for splitting, as this will only apply for branches of paths that did not exist before
 
         for (InternalWorkingMemory wm : wms) {
-            wm.flushPropagations();
+            if (batch != null) {
+                batch.flushPropagations(wm);
+            } else {
+                wm.flushPropagations();
+            }
 
             if (NodeTypeEnums.LeftInputAdapterNode == firstSplit.getType() && firstSplit.getAssociationsSize() == 1) {
                 // rule added with no sharing
@@ -135,8 +151,10 @@ public class AddRemoveRule {
             }
         }
 
-        if (hasWms) {
-            insertFacts( pathEndNodes, wms );
+        if (batch != null && hasWms) {
+            batch.nodesToPopulate.addAll( getNodesToPopulate( pathEndNodes ) );
+        } else if (hasWms) {
+            insertFacts( getNodesToPopulate( pathEndNodes ), wms );
         } else {
             for (PathEndNode node : pathEndNodes.otherEndNodes) {
                 node.resetPathMemSpec(null);
@@ -791,8 +809,9 @@ public class AddRemoveRule {
         lian.getObjectSource().updateSink(liaAdapter, pctx, wm);
     }
 
-    private static void insertFacts(PathEndNodes endNodes, Collection<InternalWorkingMemory> wms) {
+    private static Collection<BetaNode> getNodesToPopulate(PathEndNodes endNodes) {
         Set<LeftTupleNode> visited = new HashSet<>();
+        List<BetaNode> nodesToPopulate = new ArrayList<>();
 
         for ( PathEndNode endNode : endNodes.subjectEndNodes ) {
             LeftTupleNode[]  nodes = endNode.getPathNodes();
@@ -805,15 +824,67 @@ public class AddRemoveRule {
                     BetaNode bn = (BetaNode) node;
 
                     if (!bn.isRightInputIsRiaNode()) {
-                        for ( InternalWorkingMemory wm : wms ) {
-                            PropagationContextFactory pctxFactory = RuntimeComponentFactory.get().getPropagationContextFactory();
-                            final PropagationContext pctx = pctxFactory.createPropagationContext(wm.getNextPropagationIdCounter(), PropagationContext.Type.RULE_ADDITION, null, null, null);
-                            bn.getRightInput().updateSink(bn, pctx, wm);
-                        }
+                        nodesToPopulate.add( bn );
                     }
                 }
             }
         }
+        return nodesToPopulate;
+    }
+
+    private static void insertFacts(Collection<BetaNode> nodesToPopulate, Collection<InternalWorkingMemory> wms) {
+        PropagationContextFactory pctxFactory = RuntimeComponentFactory.get().getPropagationContextFactory();
+        for ( InternalWorkingMemory wm : wms ) {
+            for ( BetaNode bn : nodesToPopulate ) {
+                final PropagationContext pctx = pctxFactory.createPropagationContext(wm.getNextPropagationIdCounter(), PropagationContext.Type.RULE_ADDITION, null, null, null);
+                bn.getRightInput().updateSink(bn, pctx, wm);
+            }
+        }
+    }
+
+    /**
+     * Accumulates the work that can be shared by many rules added to the network in a single change set:
+     * each working memory is flushed only once, before the first rule is processed, and the existing facts are
+     * propagated only once into each new beta node, after all the segments and path memories have been adjusted.
+     * Deferring the right inputs is safe because they are only staged, and evaluated lazily as it would happen
+     * for facts inserted after the rules.
+     * The batch can also hold the transformed LHS of its rules, when they have been computed ahead of the network build.
+     */
+    public static class RuleAdditionBatch {
+        private final Set<InternalWorkingMemory> flushedWms = new HashSet<>();
+        private final Set<BetaNode> nodesToPopulate = new LinkedHashSet<>();
+        private final Map<RuleImpl, GroupElement[]> transformedLhs = new ConcurrentHashMap<>();
+
+        public void setTransformedLhs(RuleImpl rule, GroupElement[] subrules) {
+            transformedLhs.put(rule, subrules);
+        }
+
+        /**
+         * Returns the transformed LHS of the given rule, or null if it has not been computed ahead.
+         * The LHS is handed out only once, since the network build modifies it.
+         */
+        public GroupElement[] getTransformedLhs(RuleImpl rule) {
+            return transformedLhs.remove(rule);
+        }
+
+        private void flushPropagations(InternalWorkingMemory wm) {
+            if (flushedWms.add(wm)) {
+                wm.flushPropagations();
+            }
+        }
+
+        /**
+         * Inserts the existing facts into the beta nodes created by the rules of this batch.
+         * This method must be called once, after the last rule of the batch has been added.
+         */
+        public void complete(Collection<InternalWorkingMemory> wms) {
+            if (!wms.isEmpty()) {
+                insertFacts( nodesToPopulate, wms );
+            }
+            nodesToPopulate.clear();
+            flushedWms.clear();
+            transformedLhs.clear();
+        }
     }
 
     private static void deleteRightInputData(LeftTupleSink node, InternalWorkingMemory wm) {
@@ -464,7 +464,7 @@ public class PhreakJoinNode {
         }
     }
 
-    private static void insertChildLeftTuple( TupleSets<LeftTuple> trgLeftTuples,
+    protected static void insertChildLeftTuple( TupleSets<LeftTuple> trgLeftTuples,
                                               LeftTuple leftTuple,
                                               RightTuple rightTuple,
                                               LeftTuple currentLeftChild,
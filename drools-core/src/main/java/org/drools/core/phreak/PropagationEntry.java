@@ -377,6 +377,59 @@ public interface PropagationEntry {
         }
     }
 
+    class DeleteBatch extends AbstractPropagationEntry {
+        private final Delete[] deletes;
+
+        public DeleteBatch(Delete[] deletes) {
+            this.deletes = deletes;
+        }
+
+        public void execute(ReteEvaluator reteEvaluator) {
+            for (Delete delete : deletes) {
+                delete.execute( reteEvaluator );
+            }
+        }
+
+        @Override
+        public boolean isPartitionSplittable() {
+            return true;
+        }
+
+        @Override
+        public PropagationEntry getSplitForPartition( int partitionNr ) {
+            PropagationEntry[] splits = new PropagationEntry[deletes.length];
+            for (int i = 0; i < deletes.length; i++) {
+                splits[i] = deletes[i].getSplitForPartition( partitionNr );
+            }
+            return new PartitionedDeleteBatch( splits, partitionNr );
+        }
+
+        @Override
+        public String toString() {
+            return "Delete of " + deletes.length + " facts";
+        }
+    }
+
+    class PartitionedDeleteBatch extends AbstractPartitionedPropagationEntry {
+        private final PropagationEntry[] deletes;
+
+        PartitionedDeleteBatch(PropagationEntry[] deletes, int partition) {
+            super( partition );
+            this.deletes = deletes;
+        }
+
+        public void execute(ReteEvaluator reteEvaluator) {
+            for (PropagationEntry delete : deletes) {
+                delete.execute( reteEvaluator );
+            }
+        }
+
+        @Override
+        public String toString() {
+            return "Delete of " + deletes.length + " facts for partition " + partition;
+        }
+    }
+
     class PartitionedDelete extends AbstractPartitionedPropagationEntry {
         private final InternalFactHandle handle;
         private final PropagationContext context;
@@ -17,6 +17,8 @@ package org.drools.core.phreak;
 
 import java.util.Iterator;
 
+import org.drools.core.util.LatencyHistogram;
+
 public interface PropagationList {
     void addEntry(PropagationEntry propagationEntry);
 
@@ -42,4 +44,18 @@ public interface PropagationList {
     void dispose();
 
     void setFiringUntilHalt( boolean firingUntilHalt );
+
+    /**
+     * Starts recording in the given histogram, for each entry, the time elapsed between its enqueueing and the
+     * completion of the fireUntilHalt loop iteration that propagated it
+     */
+    default void setLatencyHistogram( LatencyHistogram latencyHistogram ) { }
+
+    default void onFireIterationCompleted() { }
+
+    /**
+     * Sets a handler notified, while the engine is not firing until halt, every time an entry is added
+     * to an empty list, so that a thread different from the one adding the entry can be woken to flush it
+     */
+    default void setWakeUpHandler( Runnable wakeUpHandler ) { }
 }
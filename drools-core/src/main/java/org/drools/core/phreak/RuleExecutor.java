@@ -265,7 +265,7 @@ public class RuleExecutor {
                                    int fireLimit,
                                    int localFireCount,
                                    ActivationsManager activationsManager) {
-        if (!activationsManager.isFiring() || (fireLimit >= 0 && (localFireCount + fireCount >= fireLimit))) {
+        if (!activationsManager.isFiring() || (fireLimit >= 0 && (localFireCount + fireCount >= fireLimit)) || activationsManager.isFiringBudgetExhausted()) {
             return true;
         }
 
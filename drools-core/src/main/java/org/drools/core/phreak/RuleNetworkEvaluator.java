@@ -570,7 +570,9 @@ public class RuleNetworkEvaluator {
 
         switch (node.getType()) {
             case NodeTypeEnums.JoinNode: {
-                pJoinNode.doNode((JoinNode) node, sink, bm,
+                JoinNode joinNode = (JoinNode) node;
+                PhreakJoinNode compiledJoin = joinNode.getCompiledJoin();
+                (compiledJoin != null ? compiledJoin : pJoinNode).doNode(joinNode, sink, bm,
                         reteEvaluator, srcTuples, trgTuples, stagedLeftTuples);
                 break;
             }
@@ -15,9 +15,11 @@
 
 package org.drools.core.phreak;
 
+import java.util.Arrays;
 import java.util.Iterator;
 
 import org.drools.core.common.ReteEvaluator;
+import org.drools.core.util.LatencyHistogram;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -36,6 +38,16 @@ public class SynchronizedPropagationList implements PropagationList {
 
     private volatile boolean firingUntilHalt = false;
 
+    private volatile Runnable wakeUpHandler;
+
+    private LatencyHistogram latencyHistogram;
+    // enqueueing times of the entries not taken yet
+    private long[] pendingTimes = new long[16];
+    private int pendingCount;
+    // enqueueing times of the entries taken by an iteration of the fireUntilHalt loop not completed yet
+    private long[] takenTimes = new long[16];
+    private int takenCount;
+
     public SynchronizedPropagationList(ReteEvaluator reteEvaluator) {
         this.reteEvaluator = reteEvaluator;
     }
@@ -68,10 +80,18 @@ public class SynchronizedPropagationList implements PropagationList {
     }
 
     synchronized void internalAddEntry( PropagationEntry entry ) {
+        if (latencyHistogram != null) {
+            if (pendingCount == pendingTimes.length) {
+                pendingTimes = Arrays.copyOf( pendingTimes, pendingCount << 1 );
+            }
+            pendingTimes[pendingCount++] = System.nanoTime();
+        }
         if ( head == null ) {
             head = entry;
             if (firingUntilHalt) {
                 notifyWaitOnRest();
+            } else if (wakeUpHandler != null) {
+                wakeUpHandler.run();
             }
         } else {
             tail.setNext( entry );
@@ -111,14 +131,48 @@ public class SynchronizedPropagationList implements PropagationList {
         head = null;
         tail = null;
         hasEntriesDeferringExpiration = false;
+        if (pendingCount > 0) {
+            // only the entries evaluated by the fireUntilHalt loop are recorded
+            if (firingUntilHalt) {
+                if (takenCount + pendingCount > takenTimes.length) {
+                    takenTimes = Arrays.copyOf( takenTimes, Math.max( takenCount + pendingCount, takenTimes.length << 1 ) );
+                }
+                System.arraycopy( pendingTimes, 0, takenTimes, takenCount, pendingCount );
+                takenCount += pendingCount;
+            }
+            pendingCount = 0;
+        }
         return currentHead;
     }
 
+    @Override
+    public synchronized void setLatencyHistogram( LatencyHistogram latencyHistogram ) {
+        this.latencyHistogram = latencyHistogram;
+    }
+
+    @Override
+    public void setWakeUpHandler( Runnable wakeUpHandler ) {
+        this.wakeUpHandler = wakeUpHandler;
+    }
+
+    @Override
+    public synchronized void onFireIterationCompleted() {
+        if (takenCount > 0) {
+            long now = System.nanoTime();
+            for (int i = 0; i < takenCount; i++) {
+                latencyHistogram.record( now - takenTimes[i] );
+            }
+            takenCount = 0;
+        }
+    }
+
     @Override
     public synchronized void reset() {
         head = null;
         tail = null;
         disposed = false;
+        pendingCount = 0;
+        takenCount = 0;
     }
 
     @Override
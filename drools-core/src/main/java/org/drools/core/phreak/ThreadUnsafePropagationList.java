@@ -18,18 +18,28 @@ import java.util.Collections;
 import java.util.Iterator;
 
 import org.drools.core.common.ReteEvaluator;
+import org.drools.core.util.LatencyHistogram;
 
 public class ThreadUnsafePropagationList implements PropagationList {
 
     private final ReteEvaluator reteEvaluator;
 
+    private LatencyHistogram latencyHistogram;
+
     public ThreadUnsafePropagationList( ReteEvaluator reteEvaluator ) {
         this.reteEvaluator = reteEvaluator;
     }
 
     @Override
     public void addEntry( PropagationEntry propagationEntry ) {
-        propagationEntry.execute( reteEvaluator );
+        if (latencyHistogram == null) {
+            propagationEntry.execute( reteEvaluator );
+        } else {
+            // the entries are evaluated as soon as they are added, so their latency is the time taken to propagate them
+            long start = System.nanoTime();
+            propagationEntry.execute( reteEvaluator );
+            latencyHistogram.record( System.nanoTime() - start );
+        }
     }
 
     @Override
@@ -83,4 +93,9 @@ public class ThreadUnsafePropagationList implements PropagationList {
     @Override
     public void setFiringUntilHalt( boolean firingUntilHalt ) {
     }
+
+    @Override
+    public void setLatencyHistogram( LatencyHistogram latencyHistogram ) {
+        this.latencyHistogram = latencyHistogram;
+    }
 }
@@ -19,6 +19,7 @@ package org.drools.core.reteoo;
 import org.drools.core.common.BetaConstraints;
 import org.drools.core.common.InternalFactHandle;
 import org.drools.core.common.ReteEvaluator;
+import org.drools.core.phreak.PhreakJoinNode;
 import org.drools.core.reteoo.builder.BuildContext;
 import org.drools.core.spi.PropagationContext;
 
@@ -26,6 +27,11 @@ public class JoinNode extends BetaNode {
 
     private static final long serialVersionUID = 510l;
 
+    /**
+     * Evaluator specialised for this node, used by the phreak network in place of the generic one when present
+     */
+    private transient PhreakJoinNode compiledJoin;
+
     public JoinNode() {
 
     }
@@ -48,6 +54,14 @@ public class JoinNode extends BetaNode {
         return NodeTypeEnums.JoinNode;
     }
 
+    public PhreakJoinNode getCompiledJoin() {
+        return compiledJoin;
+    }
+
+    public void setCompiledJoin(PhreakJoinNode compiledJoin) {
+        this.compiledJoin = compiledJoin;
+    }
+
     public String toString() {
         return "[JoinNode(" + this.getId() + ") - " + getObjectTypeNode().getObjectType() + "]";
     }
@@ -30,6 +30,8 @@ import java.util.List;
 import java.util.Map;
 import java.util.Queue;
 import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
 
 import org.drools.core.common.BaseNode;
 import org.drools.core.common.DroolsObjectInputStream;
@@ -40,10 +42,14 @@ import org.drools.core.common.NetworkNode;
 import org.drools.core.definitions.rule.impl.RuleImpl;
 import org.drools.core.impl.RuleBase;
 import org.drools.core.phreak.AddRemoveRule;
+import org.drools.core.phreak.AddRemoveRule.RuleAdditionBatch;
 import org.drools.core.reteoo.builder.ReteooRuleBuilder;
 import org.drools.core.rule.InvalidPatternException;
+import org.drools.core.rule.LogicTransformer;
 import org.drools.core.rule.WindowDeclaration;
 import org.kie.api.definition.rule.Rule;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 /**
  * Builds the Rete-OO network for a <code>Package</code>.
@@ -58,6 +64,13 @@ public class ReteooBuilder
 
     private static final long           serialVersionUID = 510l;
 
+    private static final Logger log = LoggerFactory.getLogger(ReteooBuilder.class);
+
+    /**
+     * Minimum number of rules added together for their LHS to be transformed in parallel before building the network
+     */
+    static final int PARALLEL_LHS_TRANSFORMATION_THRESHOLD = 10;
+
     /** The RuleBase */
     private transient RuleBase  kBase;
 
@@ -104,7 +117,69 @@ public class ReteooBuilder
      * @throws InvalidPatternException
      */
     public synchronized void addRule(final RuleImpl rule, Collection<InternalWorkingMemory> workingMemories) {
-        final List<TerminalNode> terminals = this.ruleBuilder.addRule( rule, this.kBase, workingMemories );
+        addRule( rule, workingMemories, null );
+    }
+
+    /**
+     * Add many <code>Rule</code>s to the network as a single change set: the working memories are flushed once
+     * and the existing facts are propagated once into each new beta node, after all the rules have been added.
+     *
+     * @param rules
+     *            The rules to add.
+     * @throws InvalidPatternException
+     */
+    public synchronized void addRules(final Collection<RuleImpl> rules, Collection<InternalWorkingMemory> workingMemories) {
+        if (rules.size() == 1) {
+            addRule( rules.iterator().next(), workingMemories, null );
+            return;
+        }
+
+        RuleAdditionBatch batch = new RuleAdditionBatch();
+        if (rules.size() >= PARALLEL_LHS_TRANSFORMATION_THRESHOLD) {
+            transformLhsInParallel( rules, batch );
+        }
+        try {
+            for (RuleImpl rule : rules) {
+                addRule( rule, workingMemories, batch );
+            }
+        } finally {
+            batch.complete( workingMemories );
+        }
+    }
+
+    /**
+     * The logic transformation of the LHS only depends on the rule itself, so it can be computed concurrently
+     * for all the rules of the batch, while the nodes are still created and attached sequentially to preserve
+     * their sharing. A rule whose transformation fails is transformed again during its sequential build,
+     * so that the error is reported in the usual order.
+     * The rules extending or extended by other rules are left to the sequential build: their extended LHS is only
+     * a shallow copy of the elements of the parent rules, that the transformation modifies.
+     */
+    private void transformLhsInParallel(Collection<RuleImpl> rules, RuleAdditionBatch batch) {
+        Map<String, Class<?>> globals = kBase.getGlobals();
+        try {
+            ForkJoinPoolHolder.BUILDER_POOL.submit( () -> rules.parallelStream()
+                    .filter( rule -> rule.getParent() == null && !rule.hasChildren() )
+                    .forEach( rule -> {
+                        try {
+                            batch.setTransformedLhs( rule, rule.getTransformedLhs( LogicTransformer.getInstance(), globals ) );
+                        } catch (RuntimeException e) {
+                            log.debug( "Unable to transform the LHS of rule " + rule.getFullyQualifiedName() + ", it will be retried by the sequential build", e );
+                        }
+                    } ) ).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException e) {
+            throw new RuntimeException( e.getCause() );
+        }
+    }
+
+    private static class ForkJoinPoolHolder {
+        private static final ForkJoinPool BUILDER_POOL = new ForkJoinPool(); // avoid common pool
+    }
+
+    private void addRule(final RuleImpl rule, Collection<InternalWorkingMemory> workingMemories, RuleAdditionBatch batch) {
+        final List<TerminalNode> terminals = this.ruleBuilder.addRule( rule, this.kBase, workingMemories, batch );
 
         TerminalNode[] nodes = terminals.toArray( new TerminalNode[terminals.size()] );
         this.rules.put( rule.getFullyQualifiedName(), nodes );
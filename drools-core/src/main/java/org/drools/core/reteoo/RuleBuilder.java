@@ -22,12 +22,17 @@ import java.util.List;
 import org.drools.core.common.InternalWorkingMemory;
 import org.drools.core.definitions.rule.impl.RuleImpl;
 import org.drools.core.impl.RuleBase;
+import org.drools.core.phreak.AddRemoveRule.RuleAdditionBatch;
 import org.drools.core.rule.WindowDeclaration;
 
 public interface RuleBuilder {
 
     List<TerminalNode> addRule( RuleImpl rule, RuleBase kBase, Collection<InternalWorkingMemory> workingMemories );
 
+    default List<TerminalNode> addRule( RuleImpl rule, RuleBase kBase, Collection<InternalWorkingMemory> workingMemories, RuleAdditionBatch batch ) {
+        return addRule( rule, kBase, workingMemories );
+    }
+
     void addEntryPoint( String id, RuleBase kBase, Collection<InternalWorkingMemory> workingMemories );
 
     WindowNode addWindowNode( WindowDeclaration window, RuleBase kBase, Collection<InternalWorkingMemory> workingMemories );
@@ -28,6 +28,7 @@ import org.drools.core.common.UpdateContext;
 import org.drools.core.definitions.rule.impl.RuleImpl;
 import org.drools.core.impl.RuleBase;
 import org.drools.core.phreak.AddRemoveRule;
+import org.drools.core.phreak.AddRemoveRule.RuleAdditionBatch;
 import org.drools.core.reteoo.PathEndNode;
 import org.drools.core.reteoo.RightInputAdapterNode;
 import org.drools.core.reteoo.RuleBuilder;
@@ -109,18 +110,27 @@ public class ReteooRuleBuilder implements RuleBuilder {
      * @throws InvalidPatternException
      */
     public List<TerminalNode> addRule( RuleImpl rule, RuleBase kBase, Collection<InternalWorkingMemory> workingMemories ) throws InvalidPatternException {
+        return addRule( rule, kBase, workingMemories, null );
+    }
+
+    /**
+     * As {@link #addRule(RuleImpl, RuleBase, Collection)}, deferring to the given batch the work that can be
+     * shared with the other rules added in the same change set
+     */
+    public List<TerminalNode> addRule( RuleImpl rule, RuleBase kBase, Collection<InternalWorkingMemory> workingMemories, RuleAdditionBatch batch ) throws InvalidPatternException {
 
         // the list of terminal nodes
         final List<TerminalNode> nodes = new ArrayList<>();
 
         // transform rule and gets the array of subrules
-        final GroupElement[] subrules = rule.getTransformedLhs( LogicTransformer.getInstance(), kBase.getGlobals() );
+        final GroupElement[] subrules = getTransformedLhs( rule, kBase, batch );
 
         for (int i = 0; i < subrules.length; i++) {
 
             // creates a clean build context for each subrule
             final BuildContext context = new BuildContext( kBase, workingMemories );
             context.setRule( rule );
+            context.setRuleAdditionBatch( batch );
 
             // if running in STREAM mode, calculate temporal distance for events
             if (EventProcessingOption.STREAM.equals( kBase.getConfiguration().getEventProcessingMode() )) {
@@ -146,6 +156,11 @@ public class ReteooRuleBuilder implements RuleBuilder {
         return nodes;
     }
 
+    private GroupElement[] getTransformedLhs( RuleImpl rule, RuleBase kBase, RuleAdditionBatch batch ) {
+        GroupElement[] subrules = batch != null ? batch.getTransformedLhs( rule ) : null;
+        return subrules != null ? subrules : rule.getTransformedLhs( LogicTransformer.getInstance(), kBase.getGlobals() );
+    }
+
     private TerminalNode addSubRule( final BuildContext context,
                                      final GroupElement subrule,
                                      final int subruleIndex,
@@ -190,7 +205,7 @@ public class ReteooRuleBuilder implements RuleBuilder {
 
         setPathEndNodes(context);
 
-        AddRemoveRule.addRule( terminal, context.getWorkingMemories(), context.getRuleBase() );
+        AddRemoveRule.addRule( terminal, context.getWorkingMemories(), context.getRuleBase(), context.getRuleAdditionBatch() );
 
         // adds the terminal node to the list of nodes created/added by this sub-rule
         context.getNodes().add( baseTerminalNode );
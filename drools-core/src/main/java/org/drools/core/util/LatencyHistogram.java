@@ -0,0 +1,96 @@
+/*
+ * Copyright 2022 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.drools.core.util;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * A lock-free histogram of latencies expressed in nanoseconds. Values are collected in buckets whose upper bounds
+ * are the powers of 2, so the percentiles are approximated by excess to at most twice the actual value.
+ */
+public class LatencyHistogram {
+
+    private static final int BUCKETS = 64;
+
+    private final AtomicLongArray buckets = new AtomicLongArray( BUCKETS );
+    private final AtomicLong count = new AtomicLong();
+    private final AtomicLong max = new AtomicLong();
+
+    public void record( long latencyNanos ) {
+        long latency = Math.max( latencyNanos, 0L );
+        buckets.incrementAndGet( bucketOf( latency ) );
+        count.incrementAndGet();
+        max.accumulateAndGet( latency, Math::max );
+    }
+
+    public long getCount() {
+        return count.get();
+    }
+
+    public long getMax( TimeUnit unit ) {
+        return unit.convert( max.get(), TimeUnit.NANOSECONDS );
+    }
+
+    /**
+     * Returns the upper bound of the bucket containing the given percentile (between 0 and 100) of the recorded
+     * latencies, or 0 if nothing has been recorded yet
+     */
+    public long getPercentile( double percentile, TimeUnit unit ) {
+        if (percentile < 0 || percentile > 100) {
+            throw new IllegalArgumentException( "Invalid percentile " + percentile );
+        }
+        long total = count.get();
+        if (total == 0) {
+            return 0L;
+        }
+        long threshold = Math.max( 1L, (long) Math.ceil( total * percentile / 100 ) );
+        long accumulated = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            accumulated += buckets.get( i );
+            if (accumulated >= threshold) {
+                return unit.convert( Math.min( upperBoundOf( i ), max.get() ), TimeUnit.NANOSECONDS );
+            }
+        }
+        return getMax( unit );
+    }
+
+    public void reset() {
+        for (int i = 0; i < BUCKETS; i++) {
+            buckets.set( i, 0L );
+        }
+        count.set( 0L );
+        max.set( 0L );
+    }
+
+    static int bucketOf( long latencyNanos ) {
+        return latencyNanos == 0 ? 0 : BUCKETS - Long.numberOfLeadingZeros( latencyNanos - 1 );
+    }
+
+    private static long upperBoundOf( int bucket ) {
+        return bucket >= BUCKETS - 1 ? Long.MAX_VALUE : 1L << bucket;
+    }
+
+    @Override
+    public String toString() {
+        return "LatencyHistogram[count=" + getCount() +
+                ", p50=" + getPercentile( 50, TimeUnit.MICROSECONDS ) + "us" +
+                ", p99=" + getPercentile( 99, TimeUnit.MICROSECONDS ) + "us" +
+                ", max=" + getMax( TimeUnit.MICROSECONDS ) + "us]";
+    }
+}
@@ -156,6 +156,13 @@ public class AlphaRangeIndex implements Externalizable {
         return rangeIndex.getValues((Comparable) value);
     }
 
+    /**
+     * Returns the value which the field is compared with by the constraint of the given indexed alpha node
+     */
+    public Comparable getIndexedValue(AlphaNode alphaNode) {
+        return extractKey((IndexableConstraint) alphaNode.getConstraint());
+    }
+
     public Collection<AlphaNode> getAllValues() {
         return rangeIndex.getAllValues();
     }
@@ -0,0 +1,58 @@
+/*
+ * Copyright 2022 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.drools.core.util;
+
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+
+public class LatencyHistogramTest {
+
+    @Test
+    public void testBuckets() {
+        assertEquals( 0, LatencyHistogram.bucketOf( 0 ) );
+        assertEquals( 0, LatencyHistogram.bucketOf( 1 ) );
+        assertEquals( 1, LatencyHistogram.bucketOf( 2 ) );
+        assertEquals( 2, LatencyHistogram.bucketOf( 3 ) );
+        assertEquals( 2, LatencyHistogram.bucketOf( 4 ) );
+        assertEquals( 3, LatencyHistogram.bucketOf( 5 ) );
+        assertEquals( 63, LatencyHistogram.bucketOf( Long.MAX_VALUE ) );
+    }
+
+    @Test
+    public void testPercentiles() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        assertEquals( 0, histogram.getPercentile( 99, TimeUnit.NANOSECONDS ) );
+
+        for (int i = 0; i < 99; i++) {
+            histogram.record( 1000 );
+        }
+        histogram.record( 1_000_000 );
+
+        assertEquals( 100, histogram.getCount() );
+        assertEquals( 1024, histogram.getPercentile( 50, TimeUnit.NANOSECONDS ) );
+        assertEquals( 1024, histogram.getPercentile( 99, TimeUnit.NANOSECONDS ) );
+        assertEquals( 1_000_000, histogram.getPercentile( 100, TimeUnit.NANOSECONDS ) );
+        assertEquals( 1_000_000, histogram.getMax( TimeUnit.NANOSECONDS ) );
+
+        histogram.reset();
+        assertEquals( 0, histogram.getCount() );
+        assertEquals( 0, histogram.getMax( TimeUnit.NANOSECONDS ) );
+    }
+}
@@ -0,0 +1,259 @@
+/*
+ * Copyright 2022 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.drools.decisiontable;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.drools.drl.ast.descr.AttributeDescr;
+import org.drools.drl.ast.descr.ExprConstraintDescr;
+import org.drools.drl.ast.descr.PackageDescr;
+import org.drools.drl.ast.descr.PatternDescr;
+import org.drools.drl.ast.descr.RuleDescr;
+import org.drools.drl.parser.DrlParser;
+import org.drools.drl.parser.DroolsParserException;
+import org.drools.template.model.Condition;
+import org.drools.template.model.Consequence;
+import org.drools.template.model.DRLOutput;
+import org.drools.template.model.Package;
+import org.drools.template.model.Rule;
+import org.drools.util.StringUtils;
+import org.kie.api.io.Resource;
+
+/**
+ * Builds the descriptor of the rules of a decision table from the rule model filled by the sheet listener, instead of
+ * rendering the whole package to DRL and parsing it back.
+ * <p>
+ * A condition of a column headed by a single pattern, like $p : Person, becomes a pattern with one constraint per
+ * cell, which is what the DRL parser would produce for it, and the actions become the consequence as they are. The
+ * header of the package and the rules that have conditions, metadata or attributes of other shapes are still rendered
+ * and parsed, in a DRL that is only as large as they are.
+ */
+public class DecisionTablePackageDescrBuilder {
+
+    private static final Pattern PATTERN_HEADER = Pattern.compile( "(?:([$\\w]+)\\s*:\\s*)?([$\\w.]+)" );
+    private static final Pattern NESTED_CONSTRAINT = Pattern.compile( "\\.\\s*\\(" );
+
+    private static final Set<String> EXPRESSION_ATTRIBUTES = new HashSet<String>( Arrays.asList( "salience", "enabled" ) );
+    private static final Set<String> BOOLEAN_ATTRIBUTES = new HashSet<String>( Arrays.asList( "no-loop", "lock-on-active", "auto-focus" ) );
+    private static final Set<String> STRING_ATTRIBUTES = new HashSet<String>( Arrays.asList( "activation-group", "ruleflow-group", "agenda-group" ) );
+    private static final Set<String> DATE_ATTRIBUTES = new HashSet<String>( Arrays.asList( "date-effective", "date-expires" ) );
+
+    private final Resource resource;
+
+    public DecisionTablePackageDescrBuilder( Resource resource ) {
+        this.resource = resource;
+    }
+
+    /**
+     * @return The descriptor of the package, or null when the DRL that still has to be parsed has errors. The errors
+     * are then better reported by parsing the DRL of the whole decision table.
+     */
+    public PackageDescr build( final Package rulePackage ) {
+        final List<Rule> rules = rulePackage.getRules();
+        final List<RuleDescr> ruleDescrs = new ArrayList<RuleDescr>( rules.size() );
+
+        final DRLOutput out = new DRLOutput();
+        rulePackage.renderHeaderDRL( out );
+        for ( Rule rule : rules ) {
+            RuleDescr ruleDescr = toRuleDescr( rule );
+            if ( ruleDescr == null ) {
+                rule.renderDRL( out );
+            }
+            ruleDescrs.add( ruleDescr );
+        }
+
+        final PackageDescr packageDescr = parse( out.getDRL() );
+        if ( packageDescr == null ) {
+            return null;
+        }
+
+        // the parsed rules take the place of the rules that could not be built, so the load order is kept
+        final Iterator<RuleDescr> parsedRules = new ArrayList<RuleDescr>( packageDescr.getRules() ).iterator();
+        packageDescr.getRules().clear();
+        for ( RuleDescr ruleDescr : ruleDescrs ) {
+            if ( ruleDescr == null ) {
+                packageDescr.addRule( parsedRules.next() );
+            } else {
+                ruleDescr.setNamespace( packageDescr.getNamespace() );
+                ruleDescr.setUnit( packageDescr.getUnit() );
+                packageDescr.addRule( ruleDescr );
+                packageDescr.afterRuleAdded( ruleDescr );
+            }
+        }
+        return packageDescr;
+    }
+
+    private PackageDescr parse( String drl ) {
+        DrlParser parser = new DrlParser();
+        try {
+            PackageDescr packageDescr = parser.parse( resource, drl );
+            return parser.hasErrors() ? null : packageDescr;
+        } catch (DroolsParserException e) {
+            return null;
+        }
+    }
+
+    private RuleDescr toRuleDescr( Rule rule ) {
+        if ( !rule.getMetadata().isEmpty() ) {
+            return null;
+        }
+
+        RuleDescr ruleDescr = new RuleDescr( StringUtils.unescapeJava( stripQuotes( rule.getName() ) ) );
+        ruleDescr.setResource( resource );
+
+        for ( Map.Entry<String, String> attribute : rule.getAttributes().entrySet() ) {
+            AttributeDescr attributeDescr = toAttributeDescr( attribute.getKey(), attribute.getValue() );
+            if ( attributeDescr == null ) {
+                return null;
+            }
+            ruleDescr.addAttribute( attributeDescr );
+        }
+
+        for ( Condition condition : rule.getConditions() ) {
+            PatternDescr patternDescr = toPatternDescr( condition );
+            if ( patternDescr == null ) {
+                return null;
+            }
+            ruleDescr.getLhs().addDescr( patternDescr );
+        }
+
+        StringBuilder consequence = new StringBuilder();
+        String sep = "";
+        for ( Consequence cons : rule.getConsequences() ) {
+            consequence.append( sep ).append( cons.getSnippet() );
+            sep = "\n\t\t";
+        }
+        if ( consequence.length() > 0 ) {
+            consequence.append( "\n" );
+        }
+        ruleDescr.setConsequence( consequence.toString() );
+        return ruleDescr;
+    }
+
+    private AttributeDescr toAttributeDescr( String name, String value ) {
+        AttributeDescr attributeDescr = new AttributeDescr( name );
+        attributeDescr.setResource( resource );
+        if ( EXPRESSION_ATTRIBUTES.contains( name ) ) {
+            attributeDescr.setValue( value.trim() );
+            attributeDescr.setType( AttributeDescr.Type.EXPRESSION );
+        } else if ( BOOLEAN_ATTRIBUTES.contains( name ) ) {
+            attributeDescr.setValue( value );
+            attributeDescr.setType( AttributeDescr.Type.BOOLEAN );
+        } else if ( STRING_ATTRIBUTES.contains( name ) ) {
+            attributeDescr.setValue( StringUtils.unescapeJava( stripQuotes( value ) ) );
+            attributeDescr.setType( AttributeDescr.Type.STRING );
+        } else if ( DATE_ATTRIBUTES.contains( name ) ) {
+            attributeDescr.setValue( StringUtils.unescapeJava( stripQuotes( value ) ) );
+            attributeDescr.setType( AttributeDescr.Type.DATE );
+        } else {
+            // timers, durations and calendars are left to the parser
+            return null;
+        }
+        return attributeDescr;
+    }
+
+    private PatternDescr toPatternDescr( Condition condition ) {
+        if ( condition.getPattern() == null ) {
+            return null;
+        }
+        Matcher header = PATTERN_HEADER.matcher( condition.getPattern() );
+        if ( !header.matches() ) {
+            return null;
+        }
+
+        List<String> constraints = new ArrayList<String>();
+        for ( String constraint : condition.getConstraints() ) {
+            if ( !splitConstraints( constraint, constraints ) ) {
+                return null;
+            }
+        }
+
+        PatternDescr patternDescr = new PatternDescr( header.group( 2 ), header.group( 1 ) );
+        patternDescr.setResource( resource );
+        for ( String constraint : constraints ) {
+            ExprConstraintDescr constraintDescr = new ExprConstraintDescr( constraint );
+            constraintDescr.setType( ExprConstraintDescr.Type.NAMED );
+            constraintDescr.setPosition( patternDescr.getConstraint().getDescrs().size() );
+            constraintDescr.setResource( resource );
+            patternDescr.addConstraint( constraintDescr );
+        }
+        return patternDescr;
+    }
+
+    /**
+     * Splits the text of a cell at the commas that are outside of quotes and brackets, as the parser does. Returns
+     * false when the text has something the parser would read differently, like a comment, a nested constraint, a
+     * positional separator or an unbalanced bracket.
+     */
+    private static boolean splitConstraints( String text, List<String> constraints ) {
+        int depth = 0;
+        char quote = 0;
+        int start = 0;
+        for ( int i = 0; i < text.length(); i++ ) {
+            char c = text.charAt( i );
+            if ( quote != 0 ) {
+                if ( c == '\\' ) {
+                    i++;
+                } else if ( c == quote ) {
+                    quote = 0;
+                }
+            } else if ( c == '"' || c == '\'' ) {
+                quote = c;
+            } else if ( c == '(' || c == '[' || c == '{' ) {
+                depth++;
+            } else if ( c == ')' || c == ']' || c == '}' ) {
+                if ( --depth < 0 ) {
+                    return false;
+                }
+            } else if ( c == ';' ) {
+                return false;
+            } else if ( c == '/' && i + 1 < text.length() && ( text.charAt( i + 1 ) == '/' || text.charAt( i + 1 ) == '*' ) ) {
+                return false;
+            } else if ( c == ',' && depth == 0 ) {
+                if ( !addConstraint( text.substring( start, i ), constraints ) ) {
+                    return false;
+                }
+                start = i + 1;
+            }
+        }
+        return quote == 0 && depth == 0 && addConstraint( text.substring( start ), constraints );
+    }
+
+    private static boolean addConstraint( String constraint, List<String> constraints ) {
+        constraint = constraint.trim();
+        if ( constraint.isEmpty() || NESTED_CONSTRAINT.matcher( constraint ).find() ) {
+            return false;
+        }
+        constraints.add( constraint );
+        return true;
+    }
+
+    private static String stripQuotes( String value ) {
+        if ( value.length() >= 2 && value.startsWith( "\"" ) && value.endsWith( "\"" ) ) {
+            return value.substring( 1, value.length() - 1 );
+        }
+        return value;
+    }
+}
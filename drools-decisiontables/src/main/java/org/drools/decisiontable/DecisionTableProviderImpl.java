@@ -22,6 +22,7 @@ import java.io.UncheckedIOException;
 import java.util.ArrayList;
 import java.util.List;
 
+import org.drools.drl.ast.descr.PackageDescr;
 import org.drools.drl.extensions.DecisionTableProvider;
 import org.drools.util.StringUtils;
 import org.drools.template.parser.DecisionTableParseException;
@@ -37,6 +38,13 @@ public class DecisionTableProviderImpl
 
     private static final transient Logger logger = LoggerFactory.getLogger( DecisionTableProviderImpl.class );
 
+    /**
+     * Builds the rules of the decision tables straight into their descriptors, see {@link DecisionTablePackageDescrBuilder}.
+     * Disabled by default: a constraint with a syntax error is then reported when the rule is built instead of when the
+     * DRL is parsed.
+     */
+    private static final boolean DIRECT_PACKAGE_DESCR = Boolean.getBoolean( "drools.decisiontable.directPackageDescr" );
+
     @Override
     public String loadFromResource(Resource resource,
                                    DecisionTableConfiguration configuration) {
@@ -50,6 +58,19 @@ public class DecisionTableProviderImpl
         }
     }
 
+    @Override
+    public PackageDescr loadPackageDescr(Resource resource,
+                                         DecisionTableConfiguration configuration) {
+        if ( !DIRECT_PACKAGE_DESCR ) {
+            return null;
+        }
+        try {
+            return compileResourceToPackageDescr( resource, configuration );
+        } catch (Exception e) {
+            throw new DecisionTableParseException(resource, e);
+        }
+    }
+
     @Override
     public List<String> loadFromInputStreamWithTemplates(Resource resource,
                                                          DecisionTableConfiguration configuration) {
@@ -94,6 +115,29 @@ public class DecisionTableProviderImpl
         return null;
     }
 
+    private PackageDescr compileResourceToPackageDescr(Resource resource,
+                                                       DecisionTableConfiguration configuration) {
+        SpreadsheetCompiler compiler = new SpreadsheetCompiler(configuration.isTrimCell());
+
+        switch ( configuration.getInputType() ) {
+            case XLS :
+            case XLSX :
+                if ( StringUtils.isEmpty( configuration.getWorksheetName() ) ) {
+                    return compiler.compileToPackageDescr( resource,
+                                                           InputType.XLS );
+                } else {
+                    return compiler.compileToPackageDescr( resource,
+                                                           configuration.getWorksheetName() );
+                }
+            case CSV : {
+                return compiler.compileToPackageDescr( resource,
+                                                       InputType.CSV );
+            }
+        }
+
+        return null;
+    }
+
     /**
      * Adapts a <code>Reader</code> as an <code>InputStream</code>. Adapted from
      * <CODE>StringInputStream</CODE>.
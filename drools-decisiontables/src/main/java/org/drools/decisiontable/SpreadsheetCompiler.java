@@ -23,6 +23,7 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
+import org.drools.drl.ast.descr.PackageDescr;
 import org.drools.util.io.FileSystemResource;
 import org.drools.decisiontable.parser.DecisionTableParser;
 import org.drools.decisiontable.parser.DefaultRuleSheetListener;
@@ -128,6 +129,28 @@ public class SpreadsheetCompiler {
         return out.getDRL();
     }
 
+    /**
+     * Builds the descriptor of the rules of the spreadsheet without going through their DRL, see
+     * {@link DecisionTablePackageDescrBuilder}.
+     *
+     * @return The descriptor, or null when the spreadsheet has to be compiled to DRL to report its errors.
+     */
+    public PackageDescr compileToPackageDescr(final Resource resource,
+                                              final InputType type) {
+        final RuleSheetListener listener = new DefaultRuleSheetListener(true, trimCell);
+        parseResource( type.createParser( listener ), resource );
+        return listenerToPackageDescr( listener, resource );
+    }
+
+    public PackageDescr compileToPackageDescr(final Resource resource,
+                                              final String worksheetName) {
+        return listenerToPackageDescr( getRuleSheetListener( resource, worksheetName ), resource );
+    }
+
+    public PackageDescr listenerToPackageDescr( RuleSheetListener listener, Resource resource ) {
+        return new DecisionTablePackageDescrBuilder( resource ).build( listener.getRuleSet() );
+    }
+
     private void parseResource( DecisionTableParser parser, Resource resource ) {
         if (resource instanceof FileSystemResource) {
             parser.parseFile( ( (FileSystemResource) resource ).getFile() );
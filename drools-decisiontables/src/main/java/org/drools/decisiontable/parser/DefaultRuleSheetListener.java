@@ -328,6 +328,13 @@ implements RuleSheetListener {
                     case CONDITION:
                         Condition cond = new Condition();
                         cond.setSnippet( replaceOutOfQuotes( src.getResult(), "\\n", " " ) );
+                        if ( src instanceof LhsBuilder && ( (LhsBuilder) src ).getPattern() != null ) {
+                            List<String> constraints = new ArrayList<String>();
+                            for ( String constraint : ( (LhsBuilder) src ).getConstraints() ) {
+                                constraints.add( replaceOutOfQuotes( constraint, "\\n", " " ) );
+                            }
+                            cond.setPattern( ( (LhsBuilder) src ).getPattern(), constraints );
+                        }
                         _currentRule.addCondition( cond );
                         break;
                     case ACTION:
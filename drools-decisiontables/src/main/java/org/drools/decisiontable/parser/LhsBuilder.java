@@ -45,6 +45,7 @@ public class LhsBuilder implements SourceBuilder {
     private boolean multiple;
     private boolean forAll;
     private String andop;
+    private String pattern;
     private Map<Integer, String> constraints;
     private List<String> values;
     private boolean hasValues;
@@ -141,6 +142,9 @@ public class LhsBuilder implements SourceBuilder {
         if ( matPar.find() ) {
             colDefPrefix = colDef.substring( 0, matPar.start() ) + '(';
             colDefSuffix = ")" + colDef.substring( matPar.end() ) + annDef;
+            if ( annDef.isEmpty() ) {
+                pattern = colDef.substring( 0, matPar.start() ).trim();
+            }
             return;
         }
 
@@ -157,6 +161,9 @@ public class LhsBuilder implements SourceBuilder {
         } else {
             colDefPrefix = colDef + '(';
             colDefSuffix = ")" + annDef;
+            if ( annDef.isEmpty() ) {
+                pattern = colDef;
+            }
         }
     }
 
@@ -281,6 +288,21 @@ public class LhsBuilder implements SourceBuilder {
         }
     }
 
+    /**
+     * Returns the pattern of the column, as in $p : Person, when the result is that pattern followed by the constraints
+     * of the cells inside its parentheses. Returns null for the other kinds of column, like eval or from.
+     */
+    public String getPattern() {
+        return pattern;
+    }
+
+    /**
+     * Returns the constraints of the current row, in the order they are written inside the parentheses of the pattern.
+     */
+    public List<String> getConstraints() {
+        return new ArrayList<String>( values );
+    }
+
     /**
      * Returns true if this is building up multiple constraints as in:
      * Foo(a ==b, c == d) etc...
@@ -25,7 +25,14 @@ import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 
+import javax.xml.parsers.ParserConfigurationException;
+
+import org.apache.poi.openxml4j.exceptions.OpenXML4JException;
+import org.apache.poi.openxml4j.opc.OPCPackage;
+import org.apache.poi.openxml4j.opc.PackageAccess;
 import org.apache.poi.openxml4j.util.ZipSecureFile;
+import org.apache.poi.poifs.filesystem.FileMagic;
+import org.apache.poi.ss.usermodel.BuiltinFormats;
 import org.apache.poi.ss.usermodel.Cell;
 import org.apache.poi.ss.usermodel.CellStyle;
 import org.apache.poi.ss.usermodel.CellType;
@@ -38,6 +45,13 @@ import org.apache.poi.ss.usermodel.Sheet;
 import org.apache.poi.ss.usermodel.Workbook;
 import org.apache.poi.ss.usermodel.WorkbookFactory;
 import org.apache.poi.ss.util.CellRangeAddress;
+import org.apache.poi.ss.util.CellReference;
+import org.apache.poi.util.XMLHelper;
+import org.apache.poi.xssf.eventusermodel.ReadOnlySharedStringsTable;
+import org.apache.poi.xssf.eventusermodel.XSSFReader;
+import org.apache.poi.xssf.model.SharedStrings;
+import org.apache.poi.xssf.model.StylesTable;
+import org.apache.poi.xssf.usermodel.XSSFCellStyle;
 import org.drools.util.DateUtils;
 import org.drools.decisiontable.parser.DecisionTableParser;
 import org.drools.decisiontable.parser.DefaultRuleSheetListener;
@@ -45,11 +59,22 @@ import org.drools.template.parser.DataListener;
 import org.drools.template.parser.DecisionTableParseException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.xml.sax.Attributes;
+import org.xml.sax.ContentHandler;
+import org.xml.sax.InputSource;
+import org.xml.sax.SAXException;
+import org.xml.sax.XMLReader;
+import org.xml.sax.helpers.DefaultHandler;
 
 import static java.lang.String.format;
 
 /**
  * Parse an excel spreadsheet, pushing cell info into the SheetListener interface.
+ * <p/>
+ * When streaming is enabled, through {@link #setStreaming(boolean)} or the drools.excelParser.streaming system
+ * property, xlsx files are read row by row from the xml of their sheets instead of being loaded in a POI workbook.
+ * The cells are pushed to the listeners as the workbook path does, except that formulas are never evaluated: their
+ * cached results are used. xls files are always loaded in a workbook.
  */
 public class ExcelParser
         implements
@@ -73,6 +98,7 @@ public class ExcelParser
     public static final String DEFAULT_RULESHEET_NAME = "Decision Tables";
     private Map<String, List<DataListener>> _listeners = new HashMap<>();
     private boolean _useFirstSheet;
+    private boolean _streaming = Boolean.getBoolean( "drools.excelParser.streaming" );
 
     /**
      * Define a map of sheet name to listener handlers.
@@ -99,10 +125,21 @@ public class ExcelParser
         initMinInflateRatio();
     }
 
+    public void setStreaming( boolean streaming ) {
+        this._streaming = streaming;
+    }
+
     public void parseFile( InputStream inStream ) {
         try {
+            if ( _streaming ) {
+                inStream = FileMagic.prepareToCheckMagic( inStream );
+                if ( FileMagic.valueOf( inStream ) == FileMagic.OOXML ) {
+                    parseAndRevert( OPCPackage.open( inStream ) );
+                    return;
+                }
+            }
             parseWorkbook( WorkbookFactory.create( inStream ) );
-        } catch ( IOException e ) {
+        } catch ( IOException | OpenXML4JException e ) {
             throw new DecisionTableParseException( "Failed to open Excel stream, " + "please check that the content is xls97 format.",
                                                    e );
         }
@@ -110,13 +147,100 @@ public class ExcelParser
 
     public void parseFile( File file ) {
         try {
+            if ( _streaming && FileMagic.valueOf( file ) == FileMagic.OOXML ) {
+                parseAndRevert( OPCPackage.open( file, PackageAccess.READ ) );
+                return;
+            }
             parseWorkbook( WorkbookFactory.create( file, (String)null, true ) );
-        } catch ( IOException e ) {
+        } catch ( IOException | OpenXML4JException e ) {
             throw new DecisionTableParseException( "Failed to open Excel stream, " + "please check that the content is xls97 format.",
                                                    e );
         }
     }
 
+    private void parseAndRevert( OPCPackage pkg ) {
+        try {
+            parsePackage( pkg );
+        } finally {
+            // the package has only been read, closing it would try to save it
+            pkg.revert();
+        }
+    }
+
+    /**
+     * Streams the sheets of a xlsx package to the listeners, without building the workbook
+     */
+    public void parsePackage( OPCPackage pkg ) {
+        try {
+            XSSFReader reader = new XSSFReader( pkg );
+            SharedStrings sharedStrings = new ReadOnlySharedStringsTable( pkg );
+            StylesTable styles = reader.getStylesTable();
+            boolean date1904 = isDate1904( reader );
+
+            if ( _useFirstSheet ) {
+                streamSheet( reader, null, sharedStrings, styles, date1904, _listeners.get( DEFAULT_RULESHEET_NAME ) );
+            } else {
+                for ( String sheetName : _listeners.keySet() ) {
+                    streamSheet( reader, sheetName, sharedStrings, styles, date1904, _listeners.get( sheetName ) );
+                }
+            }
+        } catch ( IOException | OpenXML4JException | SAXException | ParserConfigurationException e ) {
+            throw new DecisionTableParseException( "Failed to read the xlsx stream", e );
+        }
+    }
+
+    private void streamSheet( XSSFReader reader,
+                              String sheetName,
+                              SharedStrings sharedStrings,
+                              StylesTable styles,
+                              boolean date1904,
+                              List<? extends DataListener> listeners ) throws IOException, OpenXML4JException, SAXException, ParserConfigurationException {
+        // the merged regions are stored after the rows, so they have to be read before streaming the cells
+        MergedCellsHandler mergedCellsHandler = new MergedCellsHandler();
+        parseSheet( reader, sheetName, mergedCellsHandler );
+        parseSheet( reader, sheetName, new StreamingSheetHandler( listeners, sharedStrings, styles, date1904, mergedCellsHandler.mergedRanges ) );
+        finishSheet( listeners );
+    }
+
+    private void parseSheet( XSSFReader reader,
+                             String sheetName,
+                             ContentHandler handler ) throws IOException, OpenXML4JException, SAXException, ParserConfigurationException {
+        XSSFReader.SheetIterator sheets = (XSSFReader.SheetIterator) reader.getSheetsData();
+        while ( sheets.hasNext() ) {
+            try (InputStream sheet = sheets.next()) {
+                if ( sheetName == null || sheetName.equals( sheets.getSheetName() ) ) {
+                    parseXml( sheet, handler );
+                    return;
+                }
+            }
+        }
+        throw new IllegalStateException( "Could not find the sheetName (" + sheetName
+                                                 + ") in the workbook sheetNames." );
+    }
+
+    private static boolean isDate1904( XSSFReader reader ) throws IOException, OpenXML4JException, SAXException, ParserConfigurationException {
+        boolean[] date1904 = new boolean[1];
+        try (InputStream workbook = reader.getWorkbookData()) {
+            parseXml( workbook, new DefaultHandler() {
+                @Override
+                public void startElement( String uri, String localName, String qName, Attributes attributes ) {
+                    if ( "workbookPr".equals( localName ) ) {
+                        String value = attributes.getValue( "date1904" );
+                        date1904[0] = "1".equals( value ) || "true".equalsIgnoreCase( value );
+                    }
+                }
+            } );
+        }
+        return date1904[0];
+    }
+
+    private static void parseXml( InputStream in,
+                                  ContentHandler handler ) throws IOException, SAXException, ParserConfigurationException {
+        XMLReader xmlReader = XMLHelper.newXMLReader();
+        xmlReader.setContentHandler( handler );
+        xmlReader.parse( new InputSource( in ) );
+    }
+
     public void parseWorkbook( Workbook workbook ) {
         try {
             try {
@@ -350,4 +474,198 @@ public class ExcelParser
         }
         return false;
     }
+
+    private static class MergedCellsHandler extends DefaultHandler {
+
+        private final List<CellRangeAddress> mergedRanges = new ArrayList<>();
+
+        @Override
+        public void startElement( String uri, String localName, String qName, Attributes attributes ) {
+            if ( "mergeCell".equals( localName ) ) {
+                mergedRanges.add( CellRangeAddress.valueOf( attributes.getValue( "ref" ) ) );
+            }
+        }
+    }
+
+    /**
+     * Reads the rows of a sheet from its xml and pushes their cells to the listeners like {@link #processSheet(Sheet, List)}.
+     * Only the cells of the current row are kept in memory.
+     */
+    private class StreamingSheetHandler extends DefaultHandler {
+
+        private final List<? extends DataListener> listeners;
+        private final SharedStrings sharedStrings;
+        private final StylesTable styles;
+        private final boolean date1904;
+        private final List<CellRangeAddress> mergedRanges;
+        private final Map<CellRangeAddress, String> mergedValues = new HashMap<>();
+        private final DataFormatter formatter = new DataFormatter( Locale.ENGLISH );
+        private final boolean numericDisabled;
+        private final boolean ignoreNumericFormat;
+
+        private final List<StreamedCell> rowCells = new ArrayList<>();
+        private final StringBuilder value = new StringBuilder();
+        private int lastRow = -1;
+        private int row;
+        private int column;
+        private String cellType;
+        private int styleIndex;
+        private boolean formula;
+        private boolean hasValue;
+        private boolean readingValue;
+
+        private StreamingSheetHandler( List<? extends DataListener> listeners,
+                                       SharedStrings sharedStrings,
+                                       StylesTable styles,
+                                       boolean date1904,
+                                       List<CellRangeAddress> mergedRanges ) {
+            this.listeners = listeners;
+            this.sharedStrings = sharedStrings;
+            this.styles = styles;
+            this.date1904 = date1904;
+            this.mergedRanges = mergedRanges;
+            this.numericDisabled = isNumericDisabled( listeners );
+            this.ignoreNumericFormat = doesIgnoreNumericFormat( listeners );
+        }
+
+        @Override
+        public void startElement( String uri, String localName, String qName, Attributes attributes ) {
+            switch ( localName ) {
+                case "row":
+                    String rowRef = attributes.getValue( "r" );
+                    row = rowRef != null ? Integer.parseInt( rowRef ) - 1 : lastRow + 1;
+                    column = -1;
+                    rowCells.clear();
+                    break;
+                case "c":
+                    String cellRef = attributes.getValue( "r" );
+                    column = cellRef != null ? new CellReference( cellRef ).getCol() : column + 1;
+                    cellType = attributes.getValue( "t" );
+                    String style = attributes.getValue( "s" );
+                    styleIndex = style != null ? Integer.parseInt( style ) : 0;
+                    formula = false;
+                    hasValue = false;
+                    value.setLength( 0 );
+                    break;
+                case "f":
+                    formula = true;
+                    break;
+                case "v":
+                case "t":
+                    readingValue = true;
+                    hasValue = true;
+                    break;
+            }
+        }
+
+        @Override
+        public void characters( char[] ch, int start, int length ) {
+            if ( readingValue ) {
+                value.append( ch, start, length );
+            }
+        }
+
+        @Override
+        public void endElement( String uri, String localName, String qName ) {
+            switch ( localName ) {
+                case "v":
+                case "t":
+                    readingValue = false;
+                    break;
+                case "c":
+                    addCell( hasValue ? formatValue( value.toString() ) : "" );
+                    break;
+                case "row":
+                    for ( int i = lastRow + 1; i < row; i++ ) {
+                        newRow( listeners, i, 0 );
+                    }
+                    newRow( listeners, row, rowCells.isEmpty() ? 0 : rowCells.get( rowCells.size() - 1 ).column + 1 );
+                    for ( StreamedCell cell : rowCells ) {
+                        newCell( listeners, row, cell.column, cell.value, cell.mergedColStart );
+                    }
+                    lastRow = row;
+                    break;
+            }
+        }
+
+        private void addCell( String cellValue ) {
+            int mergedColStart = DataListener.NON_MERGED;
+            CellRangeAddress merged = getRangeIfMerged( row, column );
+            if ( merged != null ) {
+                if ( merged.getFirstRow() == row && merged.getFirstColumn() == column ) {
+                    mergedValues.put( merged, cellValue );
+                } else {
+                    // the top left cell of the region has been read already
+                    cellValue = mergedValues.get( merged );
+                    if ( cellValue == null ) {
+                        return;
+                    }
+                }
+                mergedColStart = merged.getFirstColumn();
+            }
+            rowCells.add( new StreamedCell( column, cellValue, mergedColStart ) );
+        }
+
+        private CellRangeAddress getRangeIfMerged( int row, int column ) {
+            for ( CellRangeAddress range : mergedRanges ) {
+                if ( range.isInRange( row, column ) ) {
+                    return range;
+                }
+            }
+            return null;
+        }
+
+        private String formatValue( String rawValue ) {
+            if ( cellType != null ) {
+                switch ( cellType ) {
+                    case "b":
+                        return "1".equals( rawValue ) ? "true" : "false";
+                    case "s":
+                        return sharedStrings.getItemAt( Integer.parseInt( rawValue ) ).getString();
+                    case "inlineStr":
+                    case "str":
+                    case "e":
+                    case "d":
+                        return rawValue;
+                }
+            }
+
+            double num = Double.parseDouble( rawValue );
+            XSSFCellStyle style = styles != null && styleIndex < styles.getNumCellStyles() ? styles.getStyleAt( styleIndex ) : null;
+            int formatIndex = style != null ? style.getDataFormat() : 0;
+            String formatString = style != null ? style.getDataFormatString() : null;
+            if ( formatString == null ) {
+                formatString = BuiltinFormats.getBuiltinFormat( formatIndex );
+            }
+
+            if ( formula || numericDisabled ) {
+                return formatter.formatRawCellContents( num, formatIndex, formatString, date1904 );
+            }
+            if ( DateUtil.isADateFormat( formatIndex, formatString ) && DateUtil.isValidExcelDate( num ) ) {
+                return "\"" + DateUtils.format( DateUtil.getJavaDate( num, date1904 ) ) + "\"";
+            }
+            if ( ignoreNumericFormat && !"General".equalsIgnoreCase( formatString ) ) {
+                // If it's not GENERAL format (e.g. Percent, Currency), we don't rely on formatter
+                return String.valueOf( num );
+            }
+            if ( num - Math.round( num ) != 0 ) {
+                return String.valueOf( num );
+            }
+            // e.g. format '42.0' to '42' for int
+            return formatter.formatRawCellContents( num, formatIndex, formatString, date1904 );
+        }
+    }
+
+    private static class StreamedCell {
+
+        private final int column;
+        private final String value;
+        private final int mergedColStart;
+
+        private StreamedCell( int column, String value, int mergedColStart ) {
+            this.column = column;
+            this.value = value;
+            this.mergedColStart = mergedColStart;
+        }
+    }
 }
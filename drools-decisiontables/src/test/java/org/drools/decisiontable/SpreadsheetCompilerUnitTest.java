@@ -27,6 +27,12 @@ import org.drools.decisiontable.parser.DefaultRuleSheetListener;
 import org.drools.decisiontable.parser.RuleMatrixSheetListener;
 import org.drools.decisiontable.parser.RuleSheetParserUtil;
 import org.drools.decisiontable.parser.xls.ExcelParser;
+import org.drools.drl.ast.descr.AttributeDescr;
+import org.drools.drl.ast.descr.BaseDescr;
+import org.drools.drl.ast.descr.PackageDescr;
+import org.drools.drl.ast.descr.PatternDescr;
+import org.drools.drl.ast.descr.RuleDescr;
+import org.drools.drl.parser.DrlParser;
 import org.drools.kiesession.rulebase.InternalKnowledgeBase;
 import org.drools.kiesession.rulebase.KnowledgeBaseFactory;
 import org.drools.template.model.Global;
@@ -34,6 +40,7 @@ import org.drools.template.model.Import;
 import org.drools.template.parser.DataListener;
 import org.junit.Test;
 import org.kie.api.KieBase;
+import org.kie.api.io.Resource;
 import org.kie.api.io.ResourceType;
 import org.kie.api.runtime.KieSession;
 import org.kie.internal.builder.DecisionTableConfiguration;
@@ -887,4 +894,44 @@ public class SpreadsheetCompilerUnitTest {
             System.clearProperty( "drools.excelParser.minInflateRatio" );
         }
     }
+
+    @Test
+    public void testPackageDescrIsTheSameAsTheParsedDrl() throws Exception {
+        for ( String path : new String[] { "/data/MultiSheetDST.drl.xls", "/data/CanDrinkUsingWatch.drl.xls" } ) {
+            final Resource resource = ResourceFactory.newClassPathResource( path, getClass() );
+            final String drl = new SpreadsheetCompiler().compile( resource, InputType.XLS );
+            final PackageDescr parsed = new DrlParser().parse( resource, drl );
+
+            final PackageDescr built = new SpreadsheetCompiler().compileToPackageDescr( resource, InputType.XLS );
+
+            assertNotNull( built );
+            assertEquals( parsed.getNamespace(), built.getNamespace() );
+            assertEquals( parsed.getImports().size(), built.getImports().size() );
+            assertEquals( describe( parsed ), describe( built ) );
+        }
+    }
+
+    private static List<String> describe( PackageDescr packageDescr ) {
+        final List<String> rules = new ArrayList<>();
+        for ( RuleDescr rule : packageDescr.getRules() ) {
+            final StringBuilder sb = new StringBuilder( rule.getName() ).append( " " ).append( rule.getLoadOrder() );
+            for ( AttributeDescr attribute : rule.getAttributes().values() ) {
+                sb.append( " " ).append( attribute.getName() ).append( "=" ).append( attribute.getValue() ).append( ":" ).append( attribute.getType() );
+            }
+            for ( BaseDescr descr : rule.getLhs().getDescrs() ) {
+                if ( descr instanceof PatternDescr ) {
+                    final PatternDescr pattern = (PatternDescr) descr;
+                    sb.append( " " ).append( pattern.getIdentifier() ).append( ":" ).append( pattern.getObjectType() );
+                    for ( BaseDescr constraint : pattern.getConstraint().getDescrs() ) {
+                        sb.append( " [" ).append( constraint.getText() ).append( "]" );
+                    }
+                } else {
+                    sb.append( " " ).append( descr );
+                }
+            }
+            sb.append( " then " ).append( rule.getConsequence().toString().trim() );
+            rules.add( sb.toString() );
+        }
+        return rules;
+    }
 }
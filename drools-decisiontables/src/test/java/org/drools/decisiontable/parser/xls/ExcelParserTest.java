@@ -19,13 +19,20 @@ package org.drools.decisiontable.parser.xls;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNull;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.util.ArrayList;
+import java.util.Calendar;
 import java.util.List;
 import java.util.Map;
 
 import org.apache.poi.ss.usermodel.Cell;
+import org.apache.poi.ss.usermodel.CellStyle;
+import org.apache.poi.ss.usermodel.Row;
 import org.apache.poi.ss.usermodel.Sheet;
 import org.apache.poi.ss.usermodel.Workbook;
 import org.apache.poi.ss.util.CellRangeAddress;
+import org.apache.poi.xssf.usermodel.XSSFFormulaEvaluator;
 import org.apache.poi.xssf.usermodel.XSSFWorkbook;
 import org.drools.template.parser.DataListener;
 import org.junit.Test;
@@ -70,4 +77,66 @@ public class ExcelParserTest {
         assertEquals(FIRST_CELL_CONTENT, sheet.getRow(rangeIfMerged.getFirstRow()).getCell(rangeIfMerged.getFirstColumn()).getStringCellValue());
     }
 
+    @Test
+    public void testStreamingPushesTheSameCells() throws Exception {
+        Workbook workbook = new XSSFWorkbook();
+        Sheet sheet = workbook.createSheet();
+        Row row = sheet.createRow(0);
+        row.createCell(0).setCellValue("RuleTable Merged");
+        row.createCell(1);
+        row.createCell(2);
+        sheet.addMergedRegion(new CellRangeAddress(0, 0, 0, 2));
+
+        row = sheet.createRow(2);
+        row.createCell(0).setCellValue(42);
+        row.createCell(1).setCellValue(4.2);
+        row.createCell(2).setCellValue(true);
+        row.createCell(4).setCellFormula("A3*2");
+
+        row = sheet.createRow(3);
+        CellStyle dateStyle = workbook.createCellStyle();
+        dateStyle.setDataFormat(workbook.getCreationHelper().createDataFormat().getFormat("dd-MMM-yyyy"));
+        Calendar calendar = Calendar.getInstance();
+        calendar.clear();
+        calendar.set(2022, Calendar.MARCH, 10);
+        Cell dateCell = row.createCell(1);
+        dateCell.setCellValue(calendar.getTime());
+        dateCell.setCellStyle(dateStyle);
+        row.createCell(3).setCellValue("text");
+        XSSFFormulaEvaluator.evaluateAllFormulaCells((XSSFWorkbook) workbook);
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        workbook.write(out);
+        workbook.close();
+
+        assertEquals(parse(out.toByteArray(), false), parse(out.toByteArray(), true));
+    }
+
+    private List<String> parse(byte[] xlsx, boolean streaming) {
+        List<String> events = new ArrayList<>();
+        ExcelParser parser = new ExcelParser(new DataListener() {
+            @Override
+            public void startSheet(String name) {
+                events.add("startSheet " + name);
+            }
+
+            @Override
+            public void finishSheet() {
+                events.add("finishSheet");
+            }
+
+            @Override
+            public void newRow(int rowNumber, int columns) {
+                events.add("newRow " + rowNumber + " " + columns);
+            }
+
+            @Override
+            public void newCell(int row, int column, String value, int mergedColStart) {
+                events.add("newCell " + row + " " + column + " " + value + " " + mergedColStart);
+            }
+        });
+        parser.setStreaming(streaming);
+        parser.parseFile(new ByteArrayInputStream(xlsx));
+        return events;
+    }
 }
@@ -18,6 +18,7 @@ package org.drools.drl.extensions;
 import java.io.InputStream;
 import java.util.List;
 
+import org.drools.drl.ast.descr.PackageDescr;
 import org.kie.api.internal.utils.KieService;
 import org.kie.api.io.Resource;
 import org.kie.internal.builder.DecisionTableConfiguration;
@@ -35,6 +36,10 @@ public class DecisionTableFactory {
         return getDecisionTableProvider().loadFromResource( resource, configuration );
     }
 
+    public static PackageDescr loadPackageDescr(Resource resource, DecisionTableConfiguration configuration) {
+        return getDecisionTableProvider().loadPackageDescr( resource, configuration );
+    }
+
     public static List<String> loadFromInputStreamWithTemplates(Resource resource, DecisionTableConfiguration configuration) {
         return getDecisionTableProvider().loadFromInputStreamWithTemplates( resource, configuration );
     }
@@ -17,6 +17,7 @@ package org.drools.drl.extensions;
 
 import java.util.List;
 
+import org.drools.drl.ast.descr.PackageDescr;
 import org.kie.api.internal.utils.KieService;
 import org.kie.api.io.Resource;
 import org.kie.internal.builder.DecisionTableConfiguration;
@@ -29,5 +30,16 @@ public interface DecisionTableProvider extends KieService {
     List<String> loadFromInputStreamWithTemplates(Resource resource,
                                                   DecisionTableConfiguration configuration);
 
+    /**
+     * Builds the descriptor of the rules of the decision table without generating and parsing their DRL.
+     *
+     * @return The descriptor, or null when the provider can't build it and the decision table has to be loaded
+     * through {@link #loadFromResource(Resource, DecisionTableConfiguration)}
+     */
+    default PackageDescr loadPackageDescr(Resource resource,
+                                          DecisionTableConfiguration configuration) {
+        return null;
+    }
+
 
 }
@@ -378,6 +378,11 @@ public class CompositeDefaultAgenda implements Externalizable, InternalAgenda {
         return agendas[0].tryDeactivate();
     }
 
+    @Override
+    public boolean tryDeactivateAtRest() {
+        return agendas[0].tryDeactivateAtRest();
+    }
+
     @Override
     public void activateRuleFlowGroup( String name ) {
         throw new UnsupportedOperationException( "org.drools.core.common.CompositeDefaultAgenda.activateRuleFlowGroup -> TODO" );
@@ -26,7 +26,9 @@ import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
 
+import org.drools.core.SessionConfiguration;
 import org.drools.core.common.ActivationGroupImpl;
 import org.drools.core.common.ActivationGroupNode;
 import org.drools.core.common.ActivationsFilter;
@@ -70,8 +72,10 @@ import org.drools.core.spi.PropagationContext;
 import org.drools.core.spi.RuleFlowGroup;
 import org.drools.core.spi.Tuple;
 import org.drools.util.StringUtils;
+import org.drools.core.util.LatencyHistogram;
 import org.drools.core.util.index.TupleList;
 import org.drools.wiring.api.ComponentsFactory;
+import org.drools.kiesession.rulebase.InternalKnowledgeBase;
 import org.kie.api.conf.EventProcessingOption;
 import org.kie.api.event.rule.MatchCancelledCause;
 import org.kie.api.runtime.process.ProcessInstance;
@@ -133,6 +137,14 @@ public class DefaultAgenda implements Externalizable, InternalAgenda {
 
     private AgendaGroupsManager agendaGroupsManager;
 
+    private int fireUntilHaltFireBudget = -1;
+    private long fireUntilHaltTimeBudgetNanos = -1L;
+    private LatencyHistogram fireUntilHaltLatencies;
+    private int fireUntilHaltMaxIterationFireCount;
+
+    // the nanoTime after which the rule being fired gives way to the flush of the pending propagations, 0 if unbounded
+    private long firingDeadline;
+
     // ------------------------------------------------------------
     // Constructors
     // ------------------------------------------------------------
@@ -220,6 +232,16 @@ public class DefaultAgenda implements Externalizable, InternalAgenda {
 
         this.ruleEvaluator = new SequentialRuleEvaluator( this );
         this.propagationList = createPropagationList();
+
+        SessionConfiguration sessionConf = workingMemory.getSessionConfiguration();
+        if ( sessionConf.hasFireUntilHaltBudget() ) {
+            this.fireUntilHaltFireBudget = sessionConf.getFireUntilHaltFireBudget();
+            this.fireUntilHaltTimeBudgetNanos = sessionConf.getFireUntilHaltTimeBudget() > 0 ?
+                    TimeUnit.MILLISECONDS.toNanos( sessionConf.getFireUntilHaltTimeBudget() ) :
+                    -1L;
+            this.fireUntilHaltLatencies = new LatencyHistogram();
+            this.propagationList.setLatencyHistogram( fireUntilHaltLatencies );
+        }
     }
 
     private PropagationList createPropagationList() {
@@ -236,6 +258,22 @@ public class DefaultAgenda implements Externalizable, InternalAgenda {
         return propagationList;
     }
 
+    /**
+     * Returns the latencies between the enqueueing of each propagation and the end of the fireUntilHalt loop
+     * iteration that evaluated it, or null if the fireUntilHalt loop is not bounded by a budget
+     */
+    public LatencyHistogram getFireUntilHaltLatencies() {
+        return fireUntilHaltLatencies;
+    }
+
+    /**
+     * Returns the highest number of rules fired by a single iteration of the fireUntilHalt loop
+     * bounded by a budget, or 0 if no bounded iteration fired any rule
+     */
+    public int getFireUntilHaltMaxIterationFireCount() {
+        return fireUntilHaltMaxIterationFireCount;
+    }
+
     @Override
     public InternalWorkingMemory getWorkingMemory() {
         return this.workingMemory;
@@ -364,6 +402,15 @@ public class DefaultAgenda implements Externalizable, InternalAgenda {
         InternalAgendaGroup agendaGroup = getAgendaGroupsManager().getAgendaGroup( name );
         agendaGroup.setAutoFocusActivator( ctx );
         getAgendaGroupsManager().setFocus( agendaGroup );
+        // if the rules are linked only at the end of the current firing, the empty group could have already lost the focus
+        addLazyRules( name, () -> getAgendaGroupsManager().setFocus( agendaGroup ) );
+    }
+
+    private void addLazyRules(String agendaGroup, Runnable onRulesAdded) {
+        RuleBase kBase = workingMemory.getKnowledgeBase();
+        if ( kBase.hasLazyRules( agendaGroup ) ) {
+            kBase.addLazyRules( agendaGroup, workingMemory, onRulesAdded );
+        }
     }
 
     @Override
@@ -421,6 +468,12 @@ public class DefaultAgenda implements Externalizable, InternalAgenda {
         group.setFocus();
         this.workingMemory.getAgendaEventSupport().fireAfterRuleFlowGroupActivated( group, this.workingMemory );
         propagationList.notifyWaitOnRest();
+        // if the rules are linked only at the end of the current firing, the empty group could have already been deactivated
+        addLazyRules( group.getName(), () -> {
+            if ( !group.isActive() ) {
+                activateRuleFlowGroup( group, processInstanceId, nodeInstanceId );
+            }
+        } );
     }
 
     @Override
@@ -697,6 +750,9 @@ public class DefaultAgenda implements Externalizable, InternalAgenda {
 
     private int fireLoop(AgendaFilter agendaFilter, int fireLimit, RestHandler restHandler, boolean isInternalFire) {
         int fireCount = 0;
+        // when bounded, each iteration of a fireUntilHalt gives way to the flush of the pending propagations
+        // after having consumed its fire or time budget, so a long cascade of firings cannot starve them
+        boolean bounded = restHandler == RestHandler.FIRE_UNTIL_HALT && fireUntilHaltLatencies != null;
         try {
             PropagationEntry head = propagationList.takeAll();
             int returnedFireCount;
@@ -745,14 +801,22 @@ public class DefaultAgenda implements Externalizable, InternalAgenda {
                     // only fire rules while the limit has not reached.
                     // if halt is called, then isFiring will be false.
                     // The while loop may continue to loop, to keep flushing the action propagation queue
-                    returnedFireCount = ruleEvaluator.evaluateAndFire( agendaFilter, fireCount, fireLimit, group );
+                    int iterationFireLimit = bounded ? startBoundedIteration( fireCount ) : fireLimit;
+                    returnedFireCount = ruleEvaluator.evaluateAndFire( agendaFilter, fireCount, iterationFireLimit, group );
                     fireCount += returnedFireCount;
 
                     limitReached = ( fireLimit > 0 && fireCount >= fireLimit );
+                    if (bounded) {
+                        fireUntilHaltMaxIterationFireCount = Math.max( fireUntilHaltMaxIterationFireCount, returnedFireCount );
+                        completeBoundedIteration();
+                    }
                     head = propagationList.takeAll();
                 } else {
                     returnedFireCount = 0; // no rules fired this iteration, so we know this is 0
                     group = null; // set the group to null in case the fire limit has been reached
+                    if (bounded) {
+                        completeBoundedIteration();
+                    }
                 }
 
                 if ( returnedFireCount == 0 && head == null && ( group == null || ( group.isEmpty() && !group.isAutoDeactivate() ) ) && !flushExpirations() ) {
@@ -766,6 +830,7 @@ public class DefaultAgenda implements Externalizable, InternalAgenda {
 
             agendaGroupsManager.deactivateMainGroupWhenEmpty();
         } finally {
+            firingDeadline = 0L;
             // makes sure the engine is inactive, if an exception is thrown.
             // if it safely returns, then the engine should already be inactive
             if (isInternalFire) {
@@ -775,6 +840,23 @@ public class DefaultAgenda implements Externalizable, InternalAgenda {
         return fireCount;
     }
 
+    private int startBoundedIteration(int fireCount) {
+        if (fireUntilHaltTimeBudgetNanos > 0) {
+            firingDeadline = System.nanoTime() + fireUntilHaltTimeBudgetNanos;
+        }
+        return fireUntilHaltFireBudget > 0 ? fireCount + fireUntilHaltFireBudget : -1;
+    }
+
+    private void completeBoundedIteration() {
+        firingDeadline = 0L;
+        propagationList.onFireIterationCompleted();
+    }
+
+    @Override
+    public boolean isFiringBudgetExhausted() {
+        return firingDeadline != 0L && System.nanoTime() - firingDeadline > 0;
+    }
+
     interface RestHandler {
         RestHandler FIRE_ALL_RULES = new FireAllRulesRestHandler();
         RestHandler FIRE_UNTIL_HALT = new FireUntilHaltRestHandler();
@@ -801,6 +883,8 @@ public class DefaultAgenda implements Externalizable, InternalAgenda {
                 if (isInternalFire && agenda.executionStateMachine.getCurrentState() == ExecutionStateMachine.ExecutionState.FIRING_UNTIL_HALT) {
                     agenda.executionStateMachine.inactiveOnFireUntilHalt();
                     deactivated = true;
+                    // a fireUntilHalt waiting for new facts is a safe point to apply the deferred kbase updates
+                    agenda.flushDeferredKieBaseModifications();
                 }
 
                 PropagationEntry head;
@@ -873,6 +957,18 @@ public class DefaultAgenda implements Externalizable, InternalAgenda {
         return executionStateMachine.tryDeactivate();
     }
 
+    private void flushDeferredKieBaseModifications() {
+        RuleBase kBase = workingMemory.getKnowledgeBase();
+        if ( kBase instanceof InternalKnowledgeBase && kBase.getConfiguration().isDeferredUpdatesEnabled() ) {
+            ( (InternalKnowledgeBase) kBase ).flushModifications();
+        }
+    }
+
+    @Override
+    public boolean tryDeactivateAtRest() {
+        return executionStateMachine.tryDeactivateAtRest();
+    }
+
     static class Halt extends PropagationEntry.AbstractPropagationEntry {
 
         private final ExecutionStateMachine executionStateMachine;
@@ -1015,6 +1111,8 @@ public class DefaultAgenda implements Externalizable, InternalAgenda {
 
         boolean tryDeactivate();
 
+        boolean tryDeactivateAtRest();
+
         void immediateHalt(PropagationList propagationList);
 
         void inactiveOnFireUntilHalt();
@@ -1083,6 +1181,11 @@ public class DefaultAgenda implements Externalizable, InternalAgenda {
             return true;
         }
 
+        @Override
+        public boolean tryDeactivateAtRest() {
+            return tryDeactivate();
+        }
+
         @Override
         public void immediateHalt( PropagationList propagationList ) {
             currentState = ExecutionState.INACTIVE;
@@ -1253,6 +1356,19 @@ public class DefaultAgenda implements Externalizable, InternalAgenda {
             return false;
         }
 
+        public boolean tryDeactivateAtRest() {
+            synchronized (stateMachineLock) {
+                if ( !currentState.isAlive() ) {
+                    return true;
+                }
+                if ( currentState == ExecutionState.INACTIVE || currentState == ExecutionState.INACTIVE_ON_FIRING_UNTIL_HALT ) {
+                    setCurrentState( ExecutionState.DEACTIVATED );
+                    return true;
+                }
+            }
+            return false;
+        }
+
         private void pauseFiringUntilHalt() {
             if ( currentState == ExecutionState.FIRING_UNTIL_HALT) {
                 wasFiringUntilHalt = true;
@@ -656,6 +656,10 @@ public class StatefulKnowledgeSessionForRHS
         return delegate.tryDeactivate();
     }
 
+    public boolean tryDeactivateAtRest() {
+        return delegate.tryDeactivateAtRest();
+    }
+
     public void setAsyncExceptionHandler(AsyncExceptionHandler handler) {
         delegate.setAsyncExceptionHandler(handler);
     }
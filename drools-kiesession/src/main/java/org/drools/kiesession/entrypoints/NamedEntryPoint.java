@@ -45,6 +45,7 @@ import org.drools.core.common.TruthMaintenanceSystemFactory;
 import org.drools.core.definitions.rule.impl.RuleImpl;
 import org.drools.core.facttemplates.Fact;
 import org.drools.core.impl.RuleBase;
+import org.drools.core.phreak.PropagationEntry;
 import org.drools.core.reteoo.EntryPointNode;
 import org.drools.core.reteoo.ObjectTypeConf;
 import org.drools.core.reteoo.ObjectTypeNode;
@@ -501,6 +502,29 @@ public class NamedEntryPoint implements InternalWorkingMemoryEntryPoint, Propert
         return propagationContext;
     }
 
+    @Override
+    public void delete(List<InternalFactHandle> handles, List<ObjectTypeConf> typeConfs, RuleImpl rule, TerminalNode terminalNode) {
+        PropagationContext[] propagationContexts = new PropagationContext[handles.size()];
+        PropagationEntry.Delete[] deletes = new PropagationEntry.Delete[handles.size()];
+        for (int i = 0; i < deletes.length; i++) {
+            propagationContexts[i] = pctxFactory.createPropagationContext( this.reteEvaluator.getNextPropagationIdCounter(), PropagationContext.Type.DELETION,
+                    rule, terminalNode,
+                    handles.get( i ), this.entryPoint );
+            deletes[i] = new PropagationEntry.Delete( this.entryPointNode, handles.get( i ), propagationContexts[i], typeConfs.get( i ) );
+        }
+
+        this.reteEvaluator.addPropagation( new PropagationEntry.DeleteBatch( deletes ) );
+
+        for (int i = 0; i < deletes.length; i++) {
+            InternalFactHandle handle = handles.get( i );
+            afterRetract(handle, rule, terminalNode);
+
+            this.objectStore.removeHandle( handle );
+
+            this.reteEvaluator.getRuleRuntimeEventSupport().fireObjectRetracted(propagationContexts[i], handle, handle.getObject(), this.reteEvaluator);
+        }
+    }
+
     protected void afterRetract(InternalFactHandle handle, RuleImpl rule, TerminalNode terminalNode) {
 
     }
@@ -27,9 +27,13 @@ import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 
 import org.drools.core.RuleBaseConfiguration;
 import org.drools.core.SessionConfiguration;
@@ -75,6 +79,9 @@ import org.kie.api.runtime.StatelessKieSession;
 
 public class SessionsAwareKnowledgeBase implements InternalKnowledgeBase {
 
+    private static final long MAX_DEFERRAL_NANOS = TimeUnit.SECONDS.toNanos( 10 );
+    private static final long DEFERRAL_RETRY_NANOS = TimeUnit.MILLISECONDS.toNanos( 100 );
+
     private final KnowledgeBaseImpl delegate;
 
     private final transient Set<InternalWorkingMemory> statefulSessions = ConcurrentHashMap.newKeySet();
@@ -90,6 +97,12 @@ public class SessionsAwareKnowledgeBase implements InternalKnowledgeBase {
     private final AtomicInteger sessionDeactivationsCounter = new AtomicInteger();
     private final AtomicBoolean flushingUpdates = new AtomicBoolean( false );
 
+    /**
+     * With deferred updates enabled, the time when the oldest modification still in the queue has been deferred
+     * or -1 if no modification is waiting
+     */
+    private final AtomicLong firstDeferredModificationTime = new AtomicLong( -1L );
+
     private final AtomicBoolean mbeanRegistered = new AtomicBoolean(false);
 
     private final KieBaseEventSupport eventSupport = new KieBaseEventSupport(this);
@@ -282,12 +295,20 @@ public class SessionsAwareKnowledgeBase implements InternalKnowledgeBase {
     public void enqueueModification(Runnable modification) {
         if ( tryLockAndDeactivate() ) {
             try {
+                // the modifications still in the queue have been requested before this one
+                runQueuedModifications();
                 modification.run();
             } finally {
                 unlockAndActivate();
             }
         } else {
             kbaseModificationsQueue.offer(modification);
+            if (isDeferredUpdatesEnabled()) {
+                long deferredSince = System.nanoTime();
+                if (firstDeferredModificationTime.compareAndSet( -1L, deferredSince )) {
+                    scheduleDeferralFallback( deferredSince, MAX_DEFERRAL_NANOS );
+                }
+            }
         }
     }
 
@@ -301,11 +322,19 @@ public class SessionsAwareKnowledgeBase implements InternalKnowledgeBase {
             return false;
         }
 
+        // with deferred updates the modifications are applied only if all the sessions are at rest,
+        // otherwise they are retried at the next safe point
+        boolean deferred = isDeferredUpdatesEnabled() && !isDeferralExpired();
+        if (deferred && !tryLockAndDeactivate()) {
+            flushingUpdates.set( false );
+            return false;
+        }
+
         try {
-            lockAndDeactivate();
-            while (!kbaseModificationsQueue.isEmpty()) {
-                kbaseModificationsQueue.poll().run();
+            if (!deferred) {
+                lockAndDeactivate();
             }
+            runQueuedModifications();
         } finally {
             flushingUpdates.set( false );
             unlockAndActivate();
@@ -313,6 +342,47 @@ public class SessionsAwareKnowledgeBase implements InternalKnowledgeBase {
         return true;
     }
 
+    private void runQueuedModifications() {
+        for (Runnable modification = kbaseModificationsQueue.poll(); modification != null; modification = kbaseModificationsQueue.poll()) {
+            modification.run();
+        }
+        firstDeferredModificationTime.set( -1L );
+    }
+
+    /**
+     * A session firing until halt without ever getting at rest never reaches a safe point, so the expired
+     * deferred modifications are also flushed by a timer, pausing the busy sessions
+     */
+    private void scheduleDeferralFallback(long deferredSince, long delayNanos) {
+        DeferralFallbackTimer.SCHEDULER.schedule( () -> {
+            if (firstDeferredModificationTime.get() != deferredSince) {
+                // already flushed at a safe point
+                return;
+            }
+            if (!flushModifications() && firstDeferredModificationTime.get() == deferredSince) {
+                if (kbaseModificationsQueue.isEmpty()) {
+                    firstDeferredModificationTime.compareAndSet( deferredSince, -1L );
+                } else {
+                    // another thread was flushing the queue, check again later
+                    scheduleDeferralFallback( deferredSince, DEFERRAL_RETRY_NANOS );
+                }
+            }
+        }, delayNanos, TimeUnit.NANOSECONDS );
+    }
+
+    private boolean isDeferredUpdatesEnabled() {
+        return delegate.getConfiguration().isDeferredUpdatesEnabled();
+    }
+
+    /**
+     * A deferred modification that cannot find all the sessions at rest within {@link #MAX_DEFERRAL_NANOS}
+     * is applied pausing the busy sessions, as it would happen without deferred updates
+     */
+    private boolean isDeferralExpired() {
+        long deferredSince = firstDeferredModificationTime.get();
+        return deferredSince != -1L && System.nanoTime() - deferredSince >= MAX_DEFERRAL_NANOS;
+    }
+
     private void lockAndDeactivate() {
         lock();
         deactivateAllSessions();
@@ -354,9 +424,10 @@ public class SessionsAwareKnowledgeBase implements InternalKnowledgeBase {
         if (wms.isEmpty()) {
             return true;
         }
+        boolean deferredUpdates = isDeferredUpdatesEnabled();
         List<InternalWorkingMemory> deactivatedWMs = new ArrayList<>();
         for ( InternalWorkingMemory wm : wms ) {
-            if (wm.tryDeactivate()) {
+            if (deferredUpdates ? wm.tryDeactivateAtRest() : wm.tryDeactivate()) {
                 deactivatedWMs.add(wm);
             } else {
                 for (InternalWorkingMemory deactivatedWM : deactivatedWMs) {
@@ -370,7 +441,7 @@ public class SessionsAwareKnowledgeBase implements InternalKnowledgeBase {
 
     private boolean tryLockAndDeactivate() {
         if ( sessionDeactivationsCounter.incrementAndGet() > 1 ) {
-            delegate.kBaseInternal_writeLock();
+            lock();
             return true;
         }
 
@@ -382,6 +453,11 @@ public class SessionsAwareKnowledgeBase implements InternalKnowledgeBase {
 
         if (!locked) {
             sessionDeactivationsCounter.decrementAndGet();
+        } else if ( delegate.kBaseInternal_getLock().getWriteHoldCount() == 1 ) {
+            // the lock events are fired only once the sessions have been deactivated, so a failed attempt
+            // does not notify a lock that is never released
+            this.eventSupport.fireBeforeRuleBaseLocked();
+            this.eventSupport.fireAfterRuleBaseLocked();
         }
 
         return locked;
@@ -539,6 +615,34 @@ public class SessionsAwareKnowledgeBase implements InternalKnowledgeBase {
         return delegate.hasMultipleAgendaGroups();
     }
 
+    @Override
+    public boolean hasLazyRules(String agendaGroup) {
+        return delegate.hasLazyRules(agendaGroup);
+    }
+
+    @Override
+    public void addLazyRules(String agendaGroup, ReteEvaluator reteEvaluator, Runnable onRulesAdded) {
+        enqueueModification( () -> {
+            if (delegate.kBaseInternal_addLazyRules( agendaGroup, statefulSessions )) {
+                onRulesAdded.run();
+            }
+        } );
+    }
+
+    @Override
+    public void addAllLazyRules(ReteEvaluator reteEvaluator) {
+        if (!delegate.hasLazyRules()) {
+            return;
+        }
+        // the evaluator cannot start without these rules, so the link cannot be deferred to a later safe point
+        lockAndDeactivate();
+        try {
+            delegate.kBaseInternal_addAllLazyRules( statefulSessions );
+        } finally {
+            unlockAndActivate();
+        }
+    }
+
     @Override
     public void registerTypeDeclaration(TypeDeclaration newDecl, InternalKnowledgePackage newPkg) {
         delegate.registerTypeDeclaration(newDecl, newPkg);
@@ -805,4 +909,12 @@ public class SessionsAwareKnowledgeBase implements InternalKnowledgeBase {
     public void registerSegmentPrototype(LeftTupleSource tupleSource, SegmentMemory smem) {
         delegate.registerSegmentPrototype(tupleSource, smem);
     }
+
+    private static class DeferralFallbackTimer {
+        private static final ScheduledExecutorService SCHEDULER = Executors.newSingleThreadScheduledExecutor( r -> {
+            Thread thread = new Thread( r, "drools-deferred-kbase-updates" );
+            thread.setDaemon( true );
+            return thread;
+        } );
+    }
 }
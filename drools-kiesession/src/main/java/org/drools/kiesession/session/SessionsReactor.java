@@ -0,0 +1,168 @@
+/*
+ * Copyright 2022 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.drools.kiesession.session;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.drools.core.common.InternalAgenda;
+import org.drools.kiesession.agenda.DefaultAgenda;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Multiplexes the rule evaluation of many sessions on a fixed number of carrier threads, as an alternative
+ * to running each of them in fireUntilHalt on its own thread.
+ * A registered session is woken only when an entry is added to its empty propagation list, because of an
+ * insertion, an update, a deletion or a due timer, and it is then evaluated with a fireAllRules on one of the
+ * carrier threads. Idle sessions don't hold any thread.
+ */
+public class SessionsReactor {
+
+    private static final Logger log = LoggerFactory.getLogger( SessionsReactor.class );
+
+    private static final AtomicInteger REACTORS_COUNTER = new AtomicInteger();
+
+    private final ExecutorService carriers;
+    private final Map<StatefulKnowledgeSessionImpl, ReactiveSession> sessions = new ConcurrentHashMap<>();
+
+    private volatile boolean shutdown = false;
+
+    public SessionsReactor( int carrierThreads ) {
+        if (carrierThreads < 1) {
+            throw new IllegalArgumentException( "A reactor needs at least one carrier thread" );
+        }
+        this.carriers = Executors.newFixedThreadPool( carrierThreads, new CarrierThreadFactory( REACTORS_COUNTER.incrementAndGet() ) );
+    }
+
+    /**
+     * Registers the given session, that from now on is evaluated by this reactor every time its propagation list
+     * becomes not empty. The session must be thread safe, must not be partitioned and must not be already
+     * firing until halt. Disposing the session unregisters it.
+     */
+    public void register( StatefulKnowledgeSessionImpl session ) {
+        if (shutdown) {
+            throw new IllegalStateException( "The reactor has been shut down" );
+        }
+        if (!session.getSessionConfiguration().isThreadSafe()) {
+            throw new IllegalArgumentException( "Only thread safe sessions can be registered on a reactor" );
+        }
+        InternalAgenda agenda = session.getAgenda();
+        if (!( agenda instanceof DefaultAgenda )) {
+            throw new IllegalArgumentException( "Sessions with a partitioned agenda cannot be registered on a reactor" );
+        }
+
+        SessionsReactor currentReactor = session.getReactor();
+        if (currentReactor != null) {
+            throw new IllegalStateException( "Session " + session.getIdentifier() + " is already registered on " +
+                                             ( currentReactor == this ? "this" : "another" ) + " reactor" );
+        }
+
+        ReactiveSession reactiveSession = new ReactiveSession( session );
+        if (sessions.putIfAbsent( session, reactiveSession ) != null) {
+            throw new IllegalStateException( "Session " + session.getIdentifier() + " is already registered on this reactor" );
+        }
+        // a disposed session unregisters itself, even if it never wakes up again
+        session.setReactor( this );
+        ( (DefaultAgenda) agenda ).getPropagationList().setWakeUpHandler( reactiveSession::wakeUp );
+        // evaluates what has been inserted before the registration
+        reactiveSession.wakeUp();
+    }
+
+    public void unregister( StatefulKnowledgeSessionImpl session ) {
+        if (sessions.remove( session ) != null) {
+            ( (DefaultAgenda) session.getAgenda() ).getPropagationList().setWakeUpHandler( null );
+            session.setReactor( null );
+        }
+    }
+
+    public int getRegisteredSessionsCount() {
+        return sessions.size();
+    }
+
+    /**
+     * Unregisters all the sessions and stops the carrier threads once the evaluations already started are completed.
+     * The sessions are not disposed.
+     */
+    public void shutdown() {
+        shutdown = true;
+        for (StatefulKnowledgeSessionImpl session : sessions.keySet()) {
+            unregister( session );
+        }
+        carriers.shutdown();
+    }
+
+    private class ReactiveSession {
+
+        private final StatefulKnowledgeSessionImpl session;
+        private final AtomicBoolean scheduled = new AtomicBoolean( false );
+
+        private ReactiveSession( StatefulKnowledgeSessionImpl session ) {
+            this.session = session;
+        }
+
+        private void wakeUp() {
+            if (shutdown || !scheduled.compareAndSet( false, true )) {
+                return;
+            }
+            try {
+                carriers.execute( this::evaluate );
+            } catch (RejectedExecutionException e) {
+                // the reactor is shutting down: the entry is left in the propagation list for the next fire
+                scheduled.set( false );
+            }
+        }
+
+        private void evaluate() {
+            // entries added from now on schedule a new evaluation: if this one is still firing
+            // the new evaluation is a no-op, because the running fire loop flushes them before coming to rest
+            scheduled.set( false );
+            if (!session.isAlive()) {
+                unregister( session );
+                return;
+            }
+            try {
+                session.fireAllRules();
+            } catch (RuntimeException e) {
+                log.error( "Error evaluating session " + session.getIdentifier() + " on reactor", e );
+            }
+        }
+    }
+
+    private static class CarrierThreadFactory implements ThreadFactory {
+
+        private final int reactorId;
+        private final AtomicInteger threadsCounter = new AtomicInteger();
+
+        private CarrierThreadFactory( int reactorId ) {
+            this.reactorId = reactorId;
+        }
+
+        @Override
+        public Thread newThread( Runnable r ) {
+            Thread thread = new Thread( r, "drools-reactor-" + reactorId + "-carrier-" + threadsCounter.incrementAndGet() );
+            thread.setDaemon( true );
+            return thread;
+        }
+    }
+}
@@ -24,17 +24,20 @@ import java.io.ObjectOutput;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.Comparator;
 import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReentrantLock;
 
+import org.drools.core.InitialFact;
 import org.drools.core.QueryResultsImpl;
 import org.drools.core.RuleBaseConfiguration;
 import org.drools.core.SessionConfiguration;
@@ -49,12 +52,16 @@ import org.drools.core.base.StandardQueryViewChangedEventListener;
 import org.drools.core.beliefsystem.Mode;
 import org.drools.core.common.ActivationsManager;
 import org.drools.core.common.ConcurrentNodeMemories;
+import org.drools.core.common.DefaultFactHandle;
 import org.drools.core.common.EndOperationListener;
+import org.drools.core.common.EqualityKey;
+import org.drools.core.common.EventFactHandle;
 import org.drools.core.common.EventSupport;
 import org.drools.core.common.InternalAgenda;
 import org.drools.core.common.InternalFactHandle;
 import org.drools.core.common.InternalKnowledgeRuntime;
 import org.drools.core.common.InternalWorkingMemoryActions;
+import org.drools.core.common.InternalWorkingMemoryEntryPoint;
 import org.drools.core.common.Memory;
 import org.drools.core.common.MemoryFactory;
 import org.drools.core.common.NodeMemories;
@@ -63,6 +70,7 @@ import org.drools.core.common.ObjectStoreWrapper;
 import org.drools.core.common.ObjectTypeConfigurationRegistry;
 import org.drools.core.common.PropagationContextFactory;
 import org.drools.core.common.ReteEvaluator;
+import org.drools.core.common.TruthMaintenanceSystemFactory;
 import org.drools.core.definitions.rule.impl.RuleImpl;
 import org.drools.core.event.AgendaEventSupport;
 import org.drools.core.event.RuleEventListenerSupport;
@@ -79,6 +87,7 @@ import org.drools.core.reteoo.AsyncReceiveNode;
 import org.drools.core.reteoo.EntryPointNode;
 import org.drools.core.reteoo.LeftInputAdapterNode;
 import org.drools.core.reteoo.LeftTuple;
+import org.drools.core.reteoo.ObjectTypeConf;
 import org.drools.core.reteoo.ObjectTypeNode;
 import org.drools.core.reteoo.PathMemory;
 import org.drools.core.reteoo.QueryTerminalNode;
@@ -97,6 +106,7 @@ import org.drools.core.spi.GlobalResolver;
 import org.drools.core.spi.PropagationContext;
 import org.drools.core.time.TimerService;
 import org.drools.core.time.TimerServiceFactory;
+import org.drools.core.time.impl.PseudoClockScheduler;
 import org.drools.core.util.bitmask.BitMask;
 import org.drools.kiesession.entrypoints.NamedEntryPointsManager;
 import org.drools.kiesession.rulebase.InternalKnowledgeBase;
@@ -228,6 +238,9 @@ public class StatefulKnowledgeSessionImpl extends AbstractRuntime
     private transient StatefulSessionPool pool;
     private transient boolean alive = true;
 
+    // the reactor evaluating this session, if any
+    private transient volatile SessionsReactor reactor;
+
     // this is a counter of concurrent operations happening. When this counter is zero,
     // the engine is idle.
     private final AtomicInteger opCounter = new AtomicInteger(0);
@@ -457,8 +470,20 @@ public class StatefulKnowledgeSessionImpl extends AbstractRuntime
         return this;
     }
 
+    SessionsReactor getReactor() {
+        return reactor;
+    }
+
+    void setReactor(SessionsReactor reactor) {
+        this.reactor = reactor;
+    }
+
     public void dispose() {
         alive = false;
+        SessionsReactor currentReactor = reactor;
+        if (currentReactor != null) {
+            currentReactor.unregister(this);
+        }
         if (pool != null) {
             pool.release(this);
             return;
@@ -830,6 +855,89 @@ public class StatefulKnowledgeSessionImpl extends AbstractRuntime
         return this.config;
     }
 
+    /**
+     * Creates a new session of the same KieBase, sharing this session's configuration and environment, whose working
+     * memory starts with a copy of the facts <b>stated</b> in this one, on the same entry points, and with the same
+     * globals.
+     * <p>
+     * Each copied fact keeps the id, recency and, for events, the timestamp and duration of its handle in this
+     * session, so the handles of this session can be used to look up the same facts in the clone. The facts are
+     * inserted in their original order, and a pseudo clock is moved forward to the time of this session.
+     * </p>
+     * Nothing is shared with this session other than the fact objects themselves: the clone propagates again every
+     * copied fact into its own node memories, so this costs as much as inserting the same facts into a new session.
+     * For the same reason the activations of this session are not copied, and the rules matching the copied facts
+     * fire again in the clone. Logically inserted facts are not copied either, since they are justified again by the
+     * rules of the clone. Since the fact objects are shared, they must not be mutated in a session while the other one
+     * is still in use.
+     * @return the new session
+     */
+    public StatefulKnowledgeSessionImpl cloneWithFactHandles() {
+        final StatefulKnowledgeSessionImpl clone = (StatefulKnowledgeSessionImpl) kBase.newKieSession(config, environment);
+        this.kBase.readLock();
+        this.lock.lock();
+        try {
+            if (getTimerService() instanceof PseudoClockScheduler) {
+                ((PseudoClockScheduler) clone.getTimerService()).advanceTime(getTimerService().getCurrentTime() - clone.getTimerService().getCurrentTime(),
+                                                                             TimeUnit.MILLISECONDS);
+            }
+            // the new facts of the clone get ids and recencies following the ones of the copied facts
+            clone.getFactHandleFactory().clear(this.handleFactory.getId(), this.handleFactory.getRecency());
+
+            for (String globalName : getGlobals().getGlobalKeys()) {
+                clone.setGlobal(globalName, globalResolver.resolveGlobal(globalName));
+            }
+
+            List<InternalFactHandle> handles = new ArrayList<>();
+            for (WorkingMemoryEntryPoint ep : this.entryPointsManager.getEntryPoints()) {
+                for (Iterator<InternalFactHandle> it = ep.getObjectStore().iterateFactHandles(); it.hasNext(); ) {
+                    InternalFactHandle handle = it.next();
+                    if (isCloneable(handle)) {
+                        handles.add(handle);
+                    }
+                }
+            }
+            handles.sort(Comparator.comparingLong(InternalFactHandle::getId));
+            for (InternalFactHandle handle : handles) {
+                clone.insertClonedFact(handle);
+            }
+        } finally {
+            this.lock.unlock();
+            this.kBase.readUnlock();
+        }
+        return clone;
+    }
+
+    private static boolean isCloneable(InternalFactHandle handle) {
+        if (handle.getObject() instanceof InitialFact || (handle.isEvent() && ((EventFactHandle) handle).isExpired())) {
+            return false;
+        }
+        EqualityKey key = handle.getEqualityKey();
+        return key == null || key.getStatus() != EqualityKey.JUSTIFIED;
+    }
+
+    private void insertClonedFact(InternalFactHandle parentHandle) {
+        InternalWorkingMemoryEntryPoint ep = (InternalWorkingMemoryEntryPoint) getEntryPoint(parentHandle.getEntryPointName());
+        Object object = parentHandle.getObject();
+        ObjectTypeConf typeConf = ep.getObjectTypeConfigurationRegistry().getOrCreateObjectTypeConf(ep.getEntryPoint(), object);
+
+        InternalFactHandle handle = parentHandle.isEvent() ?
+                new EventFactHandle(parentHandle.getId(), object, parentHandle.getRecency(),
+                                    ((EventFactHandle) parentHandle).getStartTimestamp(), ((EventFactHandle) parentHandle).getDuration(),
+                                    ep, typeConf.isTrait()) :
+                new DefaultFactHandle(parentHandle.getId(), object, parentHandle.getRecency(), ep, typeConf.isTrait());
+        PropagationContext pctx = this.pctxFactory.createPropagationContext(getNextPropagationIdCounter(), PropagationContext.Type.INSERTION,
+                                                                            null, null, handle, ep.getEntryPoint());
+
+        if (parentHandle.getEqualityKey() != null) {
+            // the fact was stated on a type with TMS enabled, so it also needs its equality key in the clone
+            typeConf.enableTMS();
+            TruthMaintenanceSystemFactory.get().getOrCreateTruthMaintenanceSystem(ep)
+                    .insertOnTms(object, typeConf, pctx, null, (o, conf) -> handle);
+        }
+        ep.insert(handle, object, null, typeConf, pctx);
+    }
+
     public void reset() {
         if (nodeMemories != null) {
             nodeMemories.resetAllMemories( this );
@@ -1620,6 +1728,11 @@ public class StatefulKnowledgeSessionImpl extends AbstractRuntime
         return agenda.tryDeactivate();
     }
 
+    @Override
+    public boolean tryDeactivateAtRest() {
+        return agenda.tryDeactivateAtRest();
+    }
+
     @Override
     public void cancelActivation( Activation activation, boolean declarativeAgenda ) {
         if (declarativeAgenda && activation.getActivationFactHandle() != null) {
@@ -0,0 +1,170 @@
+/*
+ * Copyright 2022 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.drools.kiesession;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.drools.core.RuleBaseConfiguration;
+import org.drools.core.phreak.ExecutableEntry;
+import org.drools.kiesession.rulebase.InternalKnowledgeBase;
+import org.drools.kiesession.rulebase.KnowledgeBaseFactory;
+import org.drools.kiesession.session.StatefulKnowledgeSessionImpl;
+import org.junit.Test;
+import org.kie.api.conf.KieBaseMutabilityOption;
+import org.kie.api.event.kiebase.AfterKieBaseLockedEvent;
+import org.kie.api.event.kiebase.AfterKieBaseUnlockedEvent;
+import org.kie.api.event.kiebase.BeforeKieBaseLockedEvent;
+import org.kie.api.event.kiebase.BeforeKieBaseUnlockedEvent;
+import org.kie.api.event.kiebase.DefaultKieBaseEventListener;
+import org.kie.api.runtime.KieSession;
+
+import static java.util.Arrays.asList;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class DeferredKieBaseUpdatesTest {
+
+    @Test(timeout = 10000)
+    public void testUpdateDoesNotPauseBusySession() throws Exception {
+        InternalKnowledgeBase kBase = newDeferredKnowledgeBase();
+        KieSession ksession = kBase.newKieSession();
+
+        CountDownLatch busy = new CountDownLatch( 1 );
+        CountDownLatch release = new CountDownLatch( 1 );
+        CountDownLatch applied = new CountDownLatch( 1 );
+
+        Thread firingThread = new Thread( ksession::fireUntilHalt );
+        firingThread.start();
+        try {
+            ksession.submit( kSession -> {
+                busy.countDown();
+                await( release );
+            } );
+            assertTrue( busy.await( 5, TimeUnit.SECONDS ) );
+
+            // without deferred updates this would halt the fireUntilHalt and then wait for the action to complete
+            kBase.enqueueModification( applied::countDown );
+            assertEquals( 1, applied.getCount() );
+
+            release.countDown();
+            // the fireUntilHalt waiting for new facts is a safe point
+            assertTrue( applied.await( 5, TimeUnit.SECONDS ) );
+        } finally {
+            release.countDown();
+            ksession.halt();
+            firingThread.join( 5000 );
+            ksession.dispose();
+        }
+    }
+
+    @Test(timeout = 10000)
+    public void testQueuedUpdatesAreAppliedFirst() throws Exception {
+        InternalKnowledgeBase kBase = newDeferredKnowledgeBase();
+        StatefulKnowledgeSessionImpl ksession = (StatefulKnowledgeSessionImpl) kBase.newKieSession();
+
+        CountDownLatch busy = new CountDownLatch( 1 );
+        CountDownLatch release = new CountDownLatch( 1 );
+        List<Integer> applied = new CopyOnWriteArrayList<>();
+
+        Thread taskThread = new Thread( () -> ksession.getAgenda().executeTask( new ExecutableEntry() {
+            @Override
+            public void execute() {
+                busy.countDown();
+                await( release );
+            }
+
+            @Override
+            public void enqueue() { }
+        } ) );
+        taskThread.start();
+        try {
+            assertTrue( busy.await( 5, TimeUnit.SECONDS ) );
+            kBase.enqueueModification( () -> applied.add( 1 ) );
+            kBase.enqueueModification( () -> applied.add( 2 ) );
+            assertTrue( applied.isEmpty() );
+        } finally {
+            release.countDown();
+            taskThread.join( 5000 );
+        }
+
+        // the session is now at rest, but the end of a task is not a safe point
+        assertTrue( applied.isEmpty() );
+        kBase.enqueueModification( () -> applied.add( 3 ) );
+        assertEquals( asList( 1, 2, 3 ), applied );
+
+        ksession.dispose();
+    }
+
+    @Test
+    public void testLockEventsOfAnUpdateOnSessionsAtRest() {
+        InternalKnowledgeBase kBase = newDeferredKnowledgeBase();
+        KieSession ksession = kBase.newKieSession();
+
+        AtomicInteger beforeLocked = new AtomicInteger();
+        AtomicInteger afterLocked = new AtomicInteger();
+        AtomicInteger beforeUnlocked = new AtomicInteger();
+        AtomicInteger afterUnlocked = new AtomicInteger();
+        kBase.addEventListener( new DefaultKieBaseEventListener() {
+            @Override
+            public void beforeKieBaseLocked( BeforeKieBaseLockedEvent event ) {
+                beforeLocked.incrementAndGet();
+            }
+
+            @Override
+            public void afterKieBaseLocked( AfterKieBaseLockedEvent event ) {
+                afterLocked.incrementAndGet();
+            }
+
+            @Override
+            public void beforeKieBaseUnlocked( BeforeKieBaseUnlockedEvent event ) {
+                beforeUnlocked.incrementAndGet();
+            }
+
+            @Override
+            public void afterKieBaseUnlocked( AfterKieBaseUnlockedEvent event ) {
+                afterUnlocked.incrementAndGet();
+            }
+        } );
+
+        kBase.enqueueModification( () -> { } );
+
+        assertEquals( 1, beforeLocked.get() );
+        assertEquals( 1, afterLocked.get() );
+        assertEquals( 1, beforeUnlocked.get() );
+        assertEquals( 1, afterUnlocked.get() );
+
+        ksession.dispose();
+    }
+
+    private static InternalKnowledgeBase newDeferredKnowledgeBase() {
+        RuleBaseConfiguration conf = new RuleBaseConfiguration();
+        conf.setOption( KieBaseMutabilityOption.DEFERRED );
+        return KnowledgeBaseFactory.newKnowledgeBase( conf );
+    }
+
+    private static void await( CountDownLatch latch ) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            throw new RuntimeException( e );
+        }
+    }
+}
@@ -16,20 +16,31 @@
 
 package org.drools.kiesession;
 
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
 
+import org.drools.core.ClockType;
+import org.drools.core.SessionConfiguration;
 import org.drools.core.base.MapGlobalResolver;
 import org.drools.core.common.EqualityKey;
+import org.drools.core.common.EventFactHandle;
+import org.drools.core.common.InternalFactHandle;
 import org.drools.core.common.InternalWorkingMemory;
+import org.drools.core.common.InternalWorkingMemoryEntryPoint;
 import org.drools.core.common.ReteEvaluator;
 import org.drools.core.common.RuleBasePartitionId;
 import org.drools.core.common.TruthMaintenanceSystem;
 import org.drools.core.common.TruthMaintenanceSystemFactory;
 import org.drools.core.common.WorkingMemoryAction;
+import org.drools.core.impl.EnvironmentFactory;
 import org.drools.core.phreak.PropagationEntry;
 import org.drools.core.reteoo.EntryPointNode;
+import org.drools.core.reteoo.ObjectTypeConf;
 import org.drools.core.reteoo.Rete;
 import org.drools.core.reteoo.builder.NodeFactory;
 import org.drools.core.reteoo.builder.PhreakNodeFactory;
@@ -37,19 +48,26 @@ import org.drools.core.rule.EntryPointId;
 import org.drools.core.spi.GlobalResolver;
 import org.drools.core.test.model.Cheese;
 import org.drools.core.test.model.Person;
+import org.drools.core.time.impl.PseudoClockScheduler;
 import org.drools.kiesession.rulebase.InternalKnowledgeBase;
 import org.drools.kiesession.rulebase.KnowledgeBaseFactory;
 import org.drools.kiesession.session.StatefulKnowledgeSessionImpl;
 import org.junit.Ignore;
 import org.junit.Test;
+import org.kie.api.definition.type.Role;
+import org.kie.api.event.rule.DefaultRuleRuntimeEventListener;
+import org.kie.api.event.rule.ObjectDeletedEvent;
 import org.kie.api.runtime.KieSession;
 import org.kie.api.runtime.rule.EntryPoint;
 import org.kie.api.runtime.rule.FactHandle;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNotSame;
 import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
 
 public class ReteooWorkingMemoryTest {
@@ -162,6 +180,107 @@ public class ReteooWorkingMemoryTest {
         }
     }
 
+    @Test
+    public void testCloneWithFactHandles() {
+        InternalKnowledgeBase kBase = KnowledgeBaseFactory.newKnowledgeBase();
+        kBase.addGlobal( "global1", String.class );
+        StatefulKnowledgeSessionImpl ksession = (StatefulKnowledgeSessionImpl)kBase.newKieSession();
+        ksession.setGlobal( "global1", "value1" );
+
+        final Person bob = new Person( "bob", 35 );
+        ksession.insert( bob );
+        ksession.insert( new Cheese( "stilton", 35 ) );
+
+        StatefulKnowledgeSessionImpl clone = ksession.cloneWithFactHandles();
+        assertNotSame( ksession, clone );
+        assertEquals( "value1", clone.getGlobal( "global1" ) );
+        assertEquals( 2, clone.getObjects().size() );
+        assertTrue( clone.getObjects().contains( bob ) );
+
+        // the clone is independent from its parent
+        clone.insert( new Cheese( "brie", 35 ) );
+        clone.delete( clone.getFactHandle( bob ) );
+        assertEquals( 2, clone.getObjects().size() );
+        assertEquals( 2, ksession.getObjects().size() );
+        assertNotNull( ksession.getFactHandle( bob ) );
+
+        clone.dispose();
+        ksession.dispose();
+    }
+
+    @Test
+    public void testCloneWithFactHandlesKeepsFactHandles() {
+        InternalKnowledgeBase kBase = KnowledgeBaseFactory.newKnowledgeBase();
+        SessionConfiguration config = SessionConfiguration.newInstance();
+        config.setClockType( ClockType.PSEUDO_CLOCK );
+        StatefulKnowledgeSessionImpl ksession = (StatefulKnowledgeSessionImpl)kBase.newKieSession( config, EnvironmentFactory.newEnvironment() );
+        PseudoClockScheduler clock = (PseudoClockScheduler) ksession.getSessionClock();
+
+        final InternalFactHandle stilton = (InternalFactHandle) ksession.insert( new Cheese( "stilton", 35 ) );
+        clock.advanceTime( 10, TimeUnit.MILLISECONDS );
+        final EventFactHandle event = (EventFactHandle) ksession.insert( new ClonedEvent() );
+        clock.advanceTime( 10, TimeUnit.MILLISECONDS );
+        final InternalFactHandle brie = (InternalFactHandle) ksession.insert( new Cheese( "brie", 10 ) );
+
+        StatefulKnowledgeSessionImpl clone = ksession.cloneWithFactHandles();
+        assertEquals( 20, clone.getSessionClock().getCurrentTime() );
+        for ( InternalFactHandle handle : new InternalFactHandle[] { stilton, event, brie } ) {
+            InternalFactHandle cloned = (InternalFactHandle) clone.getFactHandle( handle.getObject() );
+            assertNotSame( handle, cloned );
+            assertEquals( handle.getId(), cloned.getId() );
+            assertEquals( handle.getRecency(), cloned.getRecency() );
+        }
+        EventFactHandle clonedEvent = (EventFactHandle) clone.getFactHandle( event.getObject() );
+        assertEquals( 10, clonedEvent.getStartTimestamp() );
+
+        // the new facts of the clone do not reuse the ids of the copied ones
+        InternalFactHandle gouda = (InternalFactHandle) clone.insert( new Cheese( "gouda", 5 ) );
+        assertTrue( gouda.getId() > brie.getId() );
+        assertTrue( gouda.getRecency() > brie.getRecency() );
+
+        clone.dispose();
+        ksession.dispose();
+    }
+
+    @Role( Role.Type.EVENT )
+    public static class ClonedEvent { }
+
+    @Test
+    public void testDeleteHandlesWithSinglePropagation() {
+        InternalKnowledgeBase kBase = KnowledgeBaseFactory.newKnowledgeBase();
+        StatefulKnowledgeSessionImpl ksession = (StatefulKnowledgeSessionImpl) kBase.newKieSession();
+
+        AtomicInteger deleted = new AtomicInteger();
+        ksession.addEventListener( new DefaultRuleRuntimeEventListener() {
+            @Override
+            public void objectDeleted( ObjectDeletedEvent event ) {
+                deleted.incrementAndGet();
+            }
+        } );
+
+        InternalWorkingMemoryEntryPoint ep = (InternalWorkingMemoryEntryPoint) ksession.getEntryPoint( EntryPointId.DEFAULT.getEntryPointId() );
+        List<InternalFactHandle> handles = new ArrayList<>();
+        List<ObjectTypeConf> typeConfs = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            Cheese cheese = new Cheese( "cheese" + i, i );
+            handles.add( (InternalFactHandle) ksession.insert( cheese ) );
+            typeConfs.add( ep.getObjectTypeConfigurationRegistry().getOrCreateObjectTypeConf( ep.getEntryPoint(), cheese ) );
+        }
+        ksession.flushPropagations();
+
+        ep.delete( handles, typeConfs, null, null );
+
+        assertEquals( 0, ksession.getFactCount() );
+        assertEquals( 3, deleted.get() );
+
+        Iterator<? extends PropagationEntry> actions = ksession.getActionsIterator();
+        assertTrue( actions.next() instanceof PropagationEntry.DeleteBatch );
+        assertFalse( actions.hasNext() );
+
+        ksession.flushPropagations();
+        assertFalse( ksession.getActionsIterator().hasNext() );
+    }
+
     @Test @Ignore
     public void testExecuteQueueActions() {
         InternalKnowledgeBase kBase = KnowledgeBaseFactory.newKnowledgeBase();
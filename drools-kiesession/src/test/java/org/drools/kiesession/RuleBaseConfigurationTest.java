@@ -23,6 +23,7 @@ import org.drools.core.RuleBaseConfiguration.AssertBehaviour;
 import org.drools.core.RuleBaseConfiguration.SequentialAgenda;
 import org.drools.core.common.PriorityQueueAgendaGroupFactory;
 import org.junit.Test;
+import org.kie.api.conf.KieBaseMutabilityOption;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
@@ -104,4 +105,25 @@ public class RuleBaseConfigurationTest {
         assertEquals( SequentialAgenda.DYNAMIC, cfg.getSequentialAgenda() );
         assertTrue( cfg.getAgendaGroupFactory() instanceof PriorityQueueAgendaGroupFactory );
     }
+
+    @Test
+    public void testMutability() {
+        RuleBaseConfiguration cfg = new RuleBaseConfiguration();
+        assertTrue( cfg.isMutabilityEnabled() );
+        assertFalse( cfg.isDeferredUpdatesEnabled() );
+        assertEquals( KieBaseMutabilityOption.ALLOWED, cfg.getOption( KieBaseMutabilityOption.class ) );
+
+        Properties properties = new Properties();
+        properties.setProperty( KieBaseMutabilityOption.PROPERTY_NAME, "deferred" );
+        cfg = new RuleBaseConfiguration(properties);
+
+        assertTrue( cfg.isMutabilityEnabled() );
+        assertTrue( cfg.isDeferredUpdatesEnabled() );
+        assertEquals( KieBaseMutabilityOption.DEFERRED, cfg.getOption( KieBaseMutabilityOption.class ) );
+        assertEquals( "DEFERRED", cfg.getProperty( KieBaseMutabilityOption.PROPERTY_NAME ) );
+
+        cfg.setOption( KieBaseMutabilityOption.DISABLED );
+        assertFalse( cfg.isMutabilityEnabled() );
+        assertFalse( cfg.isDeferredUpdatesEnabled() );
+    }
 }
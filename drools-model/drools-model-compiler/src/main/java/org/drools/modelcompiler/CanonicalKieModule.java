@@ -94,6 +94,7 @@ import org.kie.internal.builder.KnowledgeBuilderFactory;
 import org.kie.internal.builder.ResourceChange;
 import org.kie.internal.builder.ResourceChangeSet;
 import org.kie.internal.builder.conf.AlphaNetworkCompilerOption;
+import org.kie.internal.builder.conf.CompiledJoinsOption;
 import org.drools.util.PortablePath;
 import org.kie.util.maven.support.DependencyFilter;
 import org.kie.util.maven.support.PomModel;
@@ -249,10 +250,13 @@ public class CanonicalKieModule implements InternalKieModule {
         if(knowledgeBuilderForKieBase instanceof KnowledgeBuilderImpl) {// When using executable module in tests
             KnowledgeBuilderImpl knowledgeBuilderForImpl = (KnowledgeBuilderImpl) knowledgeBuilderForKieBase;
             KnowledgeBuilderConfigurationImpl builderConfiguration = knowledgeBuilderForImpl.getBuilderConfiguration();
-            options = singletonList(
+            options = Arrays.asList(
                     new KieBaseUpdaterOptions.OptionEntry(
                             AlphaNetworkCompilerOption.class,
-                            builderConfiguration.getAlphaNetworkCompilerOption()));
+                            builderConfiguration.getAlphaNetworkCompilerOption()),
+                    new KieBaseUpdaterOptions.OptionEntry(
+                            CompiledJoinsOption.class,
+                            builderConfiguration.getOption(CompiledJoinsOption.class)));
         } else if(resourceFileExists(getANCFile(internalKieModule.getReleaseId()))) { // executable model with ANC
             options = singletonList(
                     new KieBaseUpdaterOptions.OptionEntry(
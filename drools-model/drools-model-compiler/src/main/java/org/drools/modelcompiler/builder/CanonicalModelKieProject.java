@@ -44,6 +44,7 @@ import org.kie.api.builder.Message;
 import org.kie.internal.builder.KnowledgeBuilder;
 import org.kie.memorycompiler.CompilationProblem;
 import org.kie.memorycompiler.CompilationResult;
+import org.kie.memorycompiler.ShardedJavaCompiler;
 import org.drools.util.PortablePath;
 
 import static java.util.stream.Collectors.groupingBy;
@@ -105,7 +106,7 @@ public class CanonicalModelKieProject extends KieModuleKieProject {
 
         String[] sources = sourceFiles.toArray(new String[sourceFiles.size()]);
         if (sources.length != 0) {
-            CompilationResult res = getCompiler().compile(sources, srcMfs, trgMfs, getClassLoader());
+            CompilationResult res = ShardedJavaCompiler.forSources(getCompiler(), sources.length).compile(sources, srcMfs, trgMfs, getClassLoader());
 
             Stream.of(res.getErrors()).collect(groupingBy( CompilationProblem::getFileName))
                     .forEach( (name, errors) -> {
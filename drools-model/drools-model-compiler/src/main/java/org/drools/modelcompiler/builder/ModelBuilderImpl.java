@@ -16,6 +16,7 @@
 
 package org.drools.modelcompiler.builder;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.HashSet;
@@ -218,6 +219,8 @@ public class ModelBuilderImpl<T extends PackageSources> extends KnowledgeBuilder
             return;
         }
 
+        List<PackageModel> pkgModels = new ArrayList<>();
+        int rulesCount = 0;
         for (CompositePackageDescr packageDescr : packages) {
             setAssetFilter(packageDescr.getFilter());
             PackageRegistry pkgRegistry = getPackageRegistry(packageDescr.getNamespace());
@@ -227,8 +230,31 @@ public class ModelBuilderImpl<T extends PackageSources> extends KnowledgeBuilder
             PackageModel pkgModel = packageModels.remove( pkgRegistry.getPackage().getName() );
             pkgModel.setOneClassPerRule( oneClassPerRule );
             if (getResults( ResultSeverity.ERROR ).isEmpty()) {
+                pkgModels.add( pkgModel );
+                rulesCount += packageDescr.getRules().size();
+            }
+        }
+
+        generateSources( pkgModels, rulesCount );
+    }
+
+    private void generateSources( List<PackageModel> pkgModels, int rulesCount ) {
+        int parallelRulesBuildThreshold = getBuilderConfiguration().getParallelRulesBuildThreshold();
+        boolean parallelSourcesGeneration = parallelRulesBuildThreshold != -1 && pkgModels.size() > 1 && rulesCount > parallelRulesBuildThreshold;
+
+        if (!parallelSourcesGeneration) {
+            for (PackageModel pkgModel : pkgModels) {
                 packageSources.put( pkgModel.getName(), sourcesGenerator.apply( pkgModel ) );
             }
+            return;
+        }
+
+        // the sources of a package are generated only from its own model, so the packages can be written concurrently
+        // and the results are collected in the order of the packages, as when they are written one after the other
+        List<T> sources = KnowledgeBuilderImpl.ForkJoinPoolHolder.COMPILER_POOL.submit( () ->
+                pkgModels.parallelStream().map( sourcesGenerator ).collect( Collectors.toList() ) ).join();
+        for (int i = 0; i < pkgModels.size(); i++) {
+            packageSources.put( pkgModels.get(i).getName(), sources.get(i) );
         }
     }
 
@@ -35,7 +35,6 @@ import com.github.javaparser.ast.body.MethodDeclaration;
 import com.github.javaparser.ast.body.VariableDeclarator;
 import com.github.javaparser.ast.expr.AssignExpr;
 import com.github.javaparser.ast.expr.Expression;
-import com.github.javaparser.ast.expr.FieldAccessExpr;
 import com.github.javaparser.ast.expr.LambdaExpr;
 import com.github.javaparser.ast.expr.LiteralStringValueExpr;
 import com.github.javaparser.ast.expr.MethodCallExpr;
@@ -73,6 +72,9 @@ public class ExecModelLambdaPostProcessor {
 
     Logger logger = LoggerFactory.getLogger(ExecModelLambdaPostProcessor.class.getCanonicalName());
 
+    public static final String DROOLS_PARAMETERIZE_LAMBDA_CONSTANTS = "drools.externalisedLambda.parameterizeConstants";
+    private static final boolean PARAMETERIZE_LAMBDA_CONSTANTS = Boolean.parseBoolean(System.getProperty(DROOLS_PARAMETERIZE_LAMBDA_CONSTANTS, "false"));
+
     private final Map<String, CreatedClass> lambdaClasses;
     private final String packageName;
     private final String ruleClassName;
@@ -165,7 +167,7 @@ public class ExecModelLambdaPostProcessor {
                         this.convertTemporalExpr(methodCallExpr1);
                     } else {
                         extractLambdaFromMethodCall(methodCallExpr1,
-                                (exprId) -> new MaterializedLambdaPredicate(packageName, ruleClassName, getPredicateInformation(exprId)));
+                                (exprId) -> new MaterializedLambdaPredicate(packageName, ruleClassName, getPredicateInformation(exprId), PARAMETERIZE_LAMBDA_CONSTANTS));
                     }
                 });
 
@@ -342,10 +344,6 @@ public class ExecModelLambdaPostProcessor {
         return type.isPrimitiveType() ? type.asPrimitiveType().toBoxedType() : type;
     }
 
-    private FieldAccessExpr lambdaInstance(ClassOrInterfaceType type) {
-        return new FieldAccessExpr(new NameExpr(type.asString()), "INSTANCE");
-    }
-
     private List<MaterializedLambda.BitMaskVariable> findBitMaskFields(MethodCallExpr methodCallExpr) {
         return optionalToStream(methodCallExpr.findAncestor(MethodDeclaration.class))
                 .flatMap(node -> node.findAll(VariableDeclarator.class).stream())
@@ -389,10 +387,11 @@ public class ExecModelLambdaPostProcessor {
 
     private void replaceLambda(LambdaExpr lambdaExpr, Function<Optional<String>, MaterializedLambda> lambdaExtractor, Optional<String> exprId) {
         try {
-            CreatedClass aClass = lambdaExtractor.apply(exprId).create(lambdaExpr.clone(), imports, staticImports);
+            MaterializedLambda materializedLambda = lambdaExtractor.apply(exprId);
+            CreatedClass aClass = materializedLambda.create(lambdaExpr.clone(), imports, staticImports);
             lambdaClasses.put(aClass.getClassNameWithPackage(), aClass);
             ClassOrInterfaceType type = toClassOrInterfaceType(aClass.getClassNameWithPackage());
-            FieldAccessExpr lambdaInstance = lambdaInstance(type);
+            Expression lambdaInstance = materializedLambda.createInstanceExpression(type);
             toBeReplacedLambdas.add( () -> lambdaExpr.replace(lambdaInstance) );
         } catch (DoNotConvertLambdaException e) {
             logger.debug("Cannot externalize lambdas {}", e.getMessage());
@@ -32,7 +32,9 @@ import com.github.javaparser.ast.body.EnumConstantDeclaration;
 import com.github.javaparser.ast.body.EnumDeclaration;
 import com.github.javaparser.ast.body.MethodDeclaration;
 import com.github.javaparser.ast.body.Parameter;
+import com.github.javaparser.ast.body.TypeDeclaration;
 import com.github.javaparser.ast.expr.Expression;
+import com.github.javaparser.ast.expr.FieldAccessExpr;
 import com.github.javaparser.ast.expr.LambdaExpr;
 import com.github.javaparser.ast.expr.MethodCallExpr;
 import com.github.javaparser.ast.expr.Name;
@@ -85,9 +87,7 @@ abstract class MaterializedLambda {
         CompilationUnit compilationUnit = new CompilationUnit();
         addImports(imports, staticImports, compilationUnit);
 
-        EnumDeclaration classDeclaration = create(compilationUnit);
-
-        createMethodsDeclaration(classDeclaration);
+        TypeDeclaration<?> classDeclaration = createClassDeclaration(compilationUnit);
 
         String classHash = classHash(MATERIALIZED_LAMBDA_PRETTY_PRINTER.print(compilationUnit));
         String isolatedPackageName = getIsolatedPackageName(classHash);
@@ -142,6 +142,19 @@ abstract class MaterializedLambda {
         }
     }
 
+    protected TypeDeclaration<?> createClassDeclaration(CompilationUnit compilationUnit) {
+        EnumDeclaration classDeclaration = create(compilationUnit);
+        createMethodsDeclaration(classDeclaration);
+        return classDeclaration;
+    }
+
+    /**
+     * @return The expression that replaces the lambda, once it has been materialized in the class of the given type
+     */
+    Expression createInstanceExpression(ClassOrInterfaceType type) {
+        return new FieldAccessExpr(new NameExpr(type.asString()), "INSTANCE");
+    }
+
     protected EnumDeclaration create(CompilationUnit compilationUnit) {
         EnumDeclaration lambdaClass = compilationUnit.addEnum(temporaryClassHash);
         lambdaClass.addAnnotation(createSimpleAnnotation(org.drools.compiler.kie.builder.MaterializedLambda.class));
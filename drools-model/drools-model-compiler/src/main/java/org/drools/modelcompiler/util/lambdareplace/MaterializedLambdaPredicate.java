@@ -17,37 +17,153 @@
 
 package org.drools.modelcompiler.util.lambdareplace;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+import com.github.javaparser.ast.CompilationUnit;
 import com.github.javaparser.ast.Modifier;
+import com.github.javaparser.ast.Node;
 import com.github.javaparser.ast.NodeList;
+import com.github.javaparser.ast.body.ClassOrInterfaceDeclaration;
+import com.github.javaparser.ast.body.ConstructorDeclaration;
 import com.github.javaparser.ast.body.EnumDeclaration;
 import com.github.javaparser.ast.body.MethodDeclaration;
+import com.github.javaparser.ast.body.TypeDeclaration;
+import com.github.javaparser.ast.expr.ArrayInitializerExpr;
 import com.github.javaparser.ast.expr.AssignExpr;
+import com.github.javaparser.ast.expr.BinaryExpr;
 import com.github.javaparser.ast.expr.BooleanLiteralExpr;
+import com.github.javaparser.ast.expr.ConditionalExpr;
 import com.github.javaparser.ast.expr.Expression;
+import com.github.javaparser.ast.expr.FieldAccessExpr;
+import com.github.javaparser.ast.expr.LambdaExpr;
+import com.github.javaparser.ast.expr.LiteralExpr;
 import com.github.javaparser.ast.expr.MethodCallExpr;
 import com.github.javaparser.ast.expr.NameExpr;
 import com.github.javaparser.ast.expr.ObjectCreationExpr;
+import com.github.javaparser.ast.expr.StringLiteralExpr;
+import com.github.javaparser.ast.expr.ThisExpr;
+import com.github.javaparser.ast.expr.UnaryExpr;
 import com.github.javaparser.ast.expr.VariableDeclarationExpr;
+import com.github.javaparser.ast.nodeTypes.NodeWithMembers;
 import com.github.javaparser.ast.stmt.BlockStmt;
 import com.github.javaparser.ast.stmt.ExpressionStmt;
 import com.github.javaparser.ast.stmt.ReturnStmt;
+import com.github.javaparser.ast.stmt.SwitchEntry;
 import com.github.javaparser.ast.type.ClassOrInterfaceType;
 import com.github.javaparser.ast.type.PrimitiveType;
+import com.github.javaparser.ast.type.Type;
 import com.github.javaparser.utils.StringEscapeUtils;
 import org.drools.model.functions.PredicateInformation;
 
 import static org.drools.modelcompiler.builder.generator.DrlxParseUtil.createSimpleAnnotation;
 import static org.drools.modelcompiler.builder.generator.DrlxParseUtil.toClassOrInterfaceType;
 import static org.drools.modelcompiler.builder.generator.DrlxParseUtil.toStringLiteral;
+import static org.drools.modelcompiler.util.lambdareplace.ExecModelLambdaPostProcessor.MATERIALIZED_LAMBDA_PRETTY_PRINTER;
+import static org.drools.util.StringUtils.md5Hash;
 
+/**
+ * Materializes the lambda of a constraint.
+ * <br>
+ * When the constants are parameterized, the literals of the constraint become final fields of a class that is
+ * instantiated with their values, instead of an enum singleton. The constraints that differ only by their constants,
+ * like the ones of the rows of a decision table, then share the same generated class.
+ */
 public class MaterializedLambdaPredicate extends MaterializedLambda {
 
     private static final String CLASS_NAME_PREFIX = "LambdaPredicate";
+    private static final String CONSTANT_FIELD_PREFIX = "__constant";
+    private static final String EXPRESSION_HASH_FIELD = "expressionHash";
+    private static final String PREDICATE_INFORMATION_FIELD = "predicateInformation";
+
+    // keeps the arguments of the constructor, and of the one of the predicate information, under the limit of the jvm,
+    // also when all the constants are long or double
+    private static final int MAX_CONSTANTS = 100;
+    private static final int MAX_RULE_DEFS = 25;
+
     private final PredicateInformation predicateInformation;
+    private final boolean parameterizeConstants;
+
+    private final List<LiteralExpr> constants = new ArrayList<>();
+    private String expressionHash;
 
     MaterializedLambdaPredicate(String packageName, String ruleClassName, PredicateInformation predicateInformation) {
+        this(packageName, ruleClassName, predicateInformation, false);
+    }
+
+    MaterializedLambdaPredicate(String packageName, String ruleClassName, PredicateInformation predicateInformation, boolean parameterizeConstants) {
         super(packageName, ruleClassName);
         this.predicateInformation = predicateInformation;
+        this.parameterizeConstants = parameterizeConstants;
+    }
+
+    @Override
+    public CreatedClass create(LambdaExpr lambdaExpr, Collection<String> imports, Collection<String> staticImports) {
+        if (parameterizeConstants && canPassPredicateInformation() && lambdaExpr.getBody() instanceof ExpressionStmt) {
+            // the hash identifies the constraint with its constants, so the node sharing is the same as for a singleton
+            expressionHash = md5Hash(MATERIALIZED_LAMBDA_PRETTY_PRINTER.print(lambdaExpr));
+            replaceConstantsWithFields(lambdaExpr);
+        }
+        return super.create(lambdaExpr, imports, staticImports);
+    }
+
+    private boolean canPassPredicateInformation() {
+        return !predicateInformation.isMoreThanMaxRuleDefs() && predicateInformation.getRuleDefs().size() <= MAX_RULE_DEFS;
+    }
+
+    private void replaceConstantsWithFields(LambdaExpr lambdaExpr) {
+        for (LiteralExpr literal : lambdaExpr.getBody().findAll(LiteralExpr.class)) {
+            if (constants.size() < MAX_CONSTANTS && isReplaceableConstant(literal)) {
+                constants.add(literal.clone());
+                literal.replace(new NameExpr(CONSTANT_FIELD_PREFIX + (constants.size() - 1)));
+            }
+        }
+    }
+
+    /**
+     * A literal can be read from a field, unless the java compiler needs it to be a constant, like in the
+     * initializer of a byte array, or the type of the expression depends on it being a constant.
+     */
+    private static boolean isReplaceableConstant(LiteralExpr literal) {
+        Node parent = literal.getParentNode().orElse(null);
+        if (parent instanceof ConditionalExpr || parent instanceof SwitchEntry || literal.findAncestor(ArrayInitializerExpr.class).isPresent()) {
+            return false;
+        }
+        if (literal.isStringLiteralExpr()) {
+            // the concatenation of constants is interned
+            return !(parent instanceof BinaryExpr && ((BinaryExpr) parent).getOperator() == BinaryExpr.Operator.PLUS);
+        }
+        if (literal.isIntegerLiteralExpr() || literal.isLongLiteralExpr()) {
+            // the min values can only be written as the operand of a minus
+            return !(parent instanceof UnaryExpr && isMinValue(literal));
+        }
+        return literal.isDoubleLiteralExpr() || literal.isCharLiteralExpr();
+    }
+
+    private static boolean isMinValue(LiteralExpr literal) {
+        String value = literal.isIntegerLiteralExpr() ?
+                literal.asIntegerLiteralExpr().getValue() :
+                literal.asLongLiteralExpr().getValue().replaceAll("[lL]$", "");
+        value = value.replace("_", "");
+        return value.equals("2147483648") || value.equals("9223372036854775808");
+    }
+
+    private static Type constantType(LiteralExpr literal) {
+        if (literal.isStringLiteralExpr()) {
+            return toClassOrInterfaceType(String.class);
+        }
+        if (literal.isIntegerLiteralExpr()) {
+            return PrimitiveType.intType();
+        }
+        if (literal.isLongLiteralExpr()) {
+            return PrimitiveType.longType();
+        }
+        if (literal.isCharLiteralExpr()) {
+            return PrimitiveType.charType();
+        }
+        String value = literal.asDoubleLiteralExpr().getValue();
+        return value.endsWith("f") || value.endsWith("F") ? PrimitiveType.floatType() : PrimitiveType.doubleType();
     }
 
     @Override
@@ -63,7 +179,78 @@ public class MaterializedLambdaPredicate extends MaterializedLambda {
         }
     }
 
-    private void createTestMethod(EnumDeclaration classDeclaration) {
+    @Override
+    protected TypeDeclaration<?> createClassDeclaration(CompilationUnit compilationUnit) {
+        if (constants.isEmpty()) {
+            return super.createClassDeclaration(compilationUnit);
+        }
+
+        ClassOrInterfaceDeclaration lambdaClass = compilationUnit.addClass(temporaryClassHash);
+        lambdaClass.addAnnotation(createSimpleAnnotation(org.drools.compiler.kie.builder.MaterializedLambda.class));
+        lambdaClass.setImplementedTypes(createImplementedTypes());
+
+        List<Type> fieldTypes = new ArrayList<>();
+        List<String> fieldNames = new ArrayList<>();
+        fieldTypes.add(toClassOrInterfaceType(String.class));
+        fieldNames.add(EXPRESSION_HASH_FIELD);
+        fieldTypes.add(toClassOrInterfaceType(PredicateInformation.class));
+        fieldNames.add(PREDICATE_INFORMATION_FIELD);
+        for (int i = 0; i < constants.size(); i++) {
+            fieldTypes.add(constantType(constants.get(i)));
+            fieldNames.add(CONSTANT_FIELD_PREFIX + i);
+        }
+
+        for (int i = 0; i < fieldNames.size(); i++) {
+            lambdaClass.addField(fieldTypes.get(i), fieldNames.get(i), Modifier.Keyword.PRIVATE, Modifier.Keyword.FINAL);
+        }
+        ConstructorDeclaration constructor = lambdaClass.addConstructor(Modifier.Keyword.PUBLIC);
+        for (int i = 0; i < fieldNames.size(); i++) {
+            constructor.addParameter(fieldTypes.get(i).clone(), fieldNames.get(i));
+            constructor.getBody().addStatement(new AssignExpr(new FieldAccessExpr(new ThisExpr(), fieldNames.get(i)),
+                                                              new NameExpr(fieldNames.get(i)),
+                                                              AssignExpr.Operator.ASSIGN));
+        }
+
+        MethodDeclaration getExpressionHash = lambdaClass.addMethod("getExpressionHash", Modifier.Keyword.PUBLIC);
+        getExpressionHash.setType(toClassOrInterfaceType(String.class));
+        getExpressionHash.setBody(new BlockStmt(NodeList.nodeList(new ReturnStmt(new NameExpr(EXPRESSION_HASH_FIELD)))));
+
+        createTestMethod(lambdaClass);
+
+        MethodDeclaration getPredicateInformation = lambdaClass.addMethod("predicateInformation", Modifier.Keyword.PUBLIC);
+        getPredicateInformation.addAnnotation("Override");
+        getPredicateInformation.setType(toClassOrInterfaceType(PredicateInformation.class));
+        getPredicateInformation.setBody(new BlockStmt(NodeList.nodeList(new ReturnStmt(new NameExpr(PREDICATE_INFORMATION_FIELD)))));
+
+        return lambdaClass;
+    }
+
+    @Override
+    Expression createInstanceExpression(ClassOrInterfaceType type) {
+        if (constants.isEmpty()) {
+            return super.createInstanceExpression(type);
+        }
+        NodeList<Expression> arguments = NodeList.nodeList(new StringLiteralExpr(expressionHash), createPredicateInformationExpression());
+        for (LiteralExpr constant : constants) {
+            arguments.add(constant.clone());
+        }
+        return new ObjectCreationExpr(null, type, arguments);
+    }
+
+    private Expression createPredicateInformationExpression() {
+        ClassOrInterfaceType predicateInformationType = toClassOrInterfaceType(PredicateInformation.class);
+        if (predicateInformation.isEmpty()) {
+            return new FieldAccessExpr(new NameExpr(predicateInformationType.asString()), "EMPTY_PREDICATE_INFORMATION");
+        }
+        NodeList<Expression> arguments = NodeList.nodeList(toStringLiteral(StringEscapeUtils.escapeJava(predicateInformation.getStringConstraint())));
+        for (PredicateInformation.RuleDef ruleDef : predicateInformation.getRuleDefs()) {
+            arguments.add(toStringLiteral(ruleDef.getRuleName()));
+            arguments.add(toStringLiteral(ruleDef.getFileName()));
+        }
+        return new ObjectCreationExpr(null, predicateInformationType, arguments);
+    }
+
+    private void createTestMethod(NodeWithMembers<?> classDeclaration) {
         MethodDeclaration methodDeclaration = classDeclaration.addMethod("test", Modifier.Keyword.PUBLIC);
         methodDeclaration.setThrownExceptions(NodeList.nodeList(toClassOrInterfaceType(java.lang.Exception.class)));
         methodDeclaration.addAnnotation(createSimpleAnnotation("Override"));
@@ -20,6 +20,7 @@ import java.math.BigDecimal;
 import java.math.BigInteger;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.HashSet;
@@ -798,6 +799,39 @@ public class CompilerTest extends BaseModelTest {
         assertFalse(results.contains("Hello World"));
     }
 
+    @Test
+    public void testRetractLogicalInsertChain() {
+        String str = "rule Root when\n" +
+                     "  String( this == \"root\" )\n" +
+                     "then\n" +
+                     "  insertLogical( Integer.valueOf( 0 ) );\n" +
+                     "end\n" +
+                     "rule Level when\n" +
+                     "  $i : Integer( this < 5 )\n" +
+                     "then\n" +
+                     "  insertLogical( Integer.valueOf( $i + 1 ) );\n" +
+                     "  insertLogical( Long.valueOf( $i * 2L ) );\n" +
+                     "  insertLogical( Long.valueOf( $i * 2L + 1 ) );\n" +
+                     "end";
+
+        KieSession ksession = getKieSession(str);
+
+        FactHandle root = ksession.insert("root");
+        ksession.fireAllRules();
+
+        assertEquals(6, getObjectsIntoList(ksession, Integer.class).size());
+        assertEquals(10, getObjectsIntoList(ksession, Long.class).size());
+
+        // a stated fact equal to a justified one is not retracted with the chain
+        ksession.insert(3L);
+
+        ksession.delete(root);
+        ksession.fireAllRules();
+
+        assertTrue(getObjectsIntoList(ksession, Integer.class).isEmpty());
+        assertEquals(Collections.singletonList(3L), getObjectsIntoList(ksession, Long.class));
+    }
+
     @Test
     public void testModifyRewriteAvoidTwiceThePreceeding() {
         String str = "import " + Person.class.getCanonicalName() + ";" +
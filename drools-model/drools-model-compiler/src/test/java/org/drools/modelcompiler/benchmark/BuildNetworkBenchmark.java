@@ -0,0 +1,92 @@
+/*
+ * Copyright 2022 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.drools.modelcompiler.benchmark;
+
+import java.io.StringReader;
+import java.util.Collection;
+import java.util.concurrent.TimeUnit;
+
+import org.drools.kiesession.rulebase.InternalKnowledgeBase;
+import org.drools.kiesession.rulebase.KnowledgeBaseFactory;
+import org.drools.modelcompiler.domain.Person;
+import org.kie.api.definition.KiePackage;
+import org.kie.api.io.ResourceType;
+import org.kie.internal.builder.KnowledgeBuilder;
+import org.kie.internal.builder.KnowledgeBuilderFactory;
+import org.kie.internal.io.ResourceFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures only the construction of the Rete network: the packages are compiled once, and each invocation
+ * adds them to a new empty KieBase
+ */
+@Fork(1)
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@Warmup(iterations = 5, time = 10, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 5, time = 5, timeUnit = TimeUnit.SECONDS)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class BuildNetworkBenchmark {
+
+    @Param({"1000", "10000"})
+    private int numberOfRules;
+
+    private Collection<KiePackage> packages;
+
+    @Setup(Level.Trial)
+    public void compilePackages() {
+        KnowledgeBuilder kbuilder = KnowledgeBuilderFactory.newKnowledgeBuilder();
+        kbuilder.add( ResourceFactory.newReaderResource( new StringReader( generateDRL( numberOfRules ) ) ), ResourceType.DRL );
+        if ( kbuilder.hasErrors() ) {
+            throw new IllegalStateException( kbuilder.getErrors().toString() );
+        }
+        packages = kbuilder.getKnowledgePackages();
+    }
+
+    @Benchmark
+    public InternalKnowledgeBase buildNetwork() {
+        InternalKnowledgeBase kbase = KnowledgeBaseFactory.newKnowledgeBase();
+        kbase.addPackages( packages );
+        return kbase;
+    }
+
+    private static String generateDRL( int numberOfRules ) {
+        StringBuilder sb = new StringBuilder();
+        sb.append( "package org.drools.modelcompiler.benchmarks;\n" );
+        sb.append( "import " + Person.class.getCanonicalName() + ";\n\n" );
+        for (int i = 0; i < numberOfRules; i++) {
+            // a shared alpha constraint on age, a specific one on name and a join sharing the first pattern every 10 rules
+            sb.append( "rule R" + i + " when\n" );
+            sb.append( "  $p1 : Person( age > " + ( i % 10 ) + ", name == \"Mark_" + ( i / 10 ) + "\" )\n" );
+            sb.append( "  $p2 : Person( name != \"Mark_" + i + "\", age > $p1.age )\n" );
+            sb.append( "then\n" );
+            sb.append( "end\n\n" );
+        }
+        return sb.toString();
+    }
+}
@@ -0,0 +1,98 @@
+/*
+ * Copyright 2022 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.drools.modelcompiler.benchmark;
+
+import java.io.StringReader;
+import java.util.concurrent.TimeUnit;
+
+import org.drools.kiesession.rulebase.InternalKnowledgeBase;
+import org.drools.kiesession.rulebase.KnowledgeBaseFactory;
+import org.kie.api.io.ResourceType;
+import org.kie.api.runtime.KieSession;
+import org.kie.internal.builder.KnowledgeBuilder;
+import org.kie.internal.builder.KnowledgeBuilderFactory;
+import org.kie.internal.io.ResourceFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares the memory needed by a session where a rule inserts its facts logically with the one of the same session
+ * where the rule inserts them as stated facts. Run it with the gc profiler (-prof gc): the gc.alloc.rate.norm of an
+ * invocation, divided by the number of facts, gives the bytes allocated for each inserted fact
+ */
+@Fork(1)
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@Warmup(iterations = 5, time = 10, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 5, time = 5, timeUnit = TimeUnit.SECONDS)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class LogicalInsertFootprintBenchmark {
+
+    @Param({"10000"})
+    private int numberOfFacts;
+
+    @Param({"true", "false"})
+    private boolean logical;
+
+    private InternalKnowledgeBase kbase;
+
+    @Setup(Level.Trial)
+    public void createKieBase() {
+        KnowledgeBuilder kbuilder = KnowledgeBuilderFactory.newKnowledgeBuilder();
+        kbuilder.add( ResourceFactory.newReaderResource( new StringReader( generateDRL( logical ) ) ), ResourceType.DRL );
+        if ( kbuilder.hasErrors() ) {
+            throw new IllegalStateException( kbuilder.getErrors().toString() );
+        }
+        kbase = KnowledgeBaseFactory.newKnowledgeBase();
+        kbase.addPackages( kbuilder.getKnowledgePackages() );
+    }
+
+    @Benchmark
+    public long insertFacts() {
+        KieSession ksession = kbase.newKieSession();
+        try {
+            for (int i = 0; i < numberOfFacts; i++) {
+                ksession.insert( i );
+            }
+            ksession.fireAllRules();
+            return ksession.getFactCount();
+        } finally {
+            ksession.dispose();
+        }
+    }
+
+    private static String generateDRL( boolean logical ) {
+        StringBuilder sb = new StringBuilder();
+        sb.append( "package org.drools.modelcompiler.benchmarks;\n\n" );
+        sb.append( "rule Justify when\n" );
+        sb.append( "  $i : Integer()\n" );
+        sb.append( "then\n" );
+        sb.append( "  " + ( logical ? "insertLogical" : "insert" ) + "( Long.valueOf( $i ) );\n" );
+        sb.append( "end\n" );
+        return sb.toString();
+    }
+}
@@ -0,0 +1,110 @@
+/*
+ * Copyright 2022 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.drools.modelcompiler.benchmark;
+
+import java.io.StringReader;
+import java.util.concurrent.TimeUnit;
+
+import org.drools.kiesession.rulebase.InternalKnowledgeBase;
+import org.drools.kiesession.rulebase.KnowledgeBaseFactory;
+import org.kie.api.io.ResourceType;
+import org.kie.api.runtime.KieSession;
+import org.kie.api.runtime.rule.FactHandle;
+import org.kie.internal.builder.KnowledgeBuilder;
+import org.kie.internal.builder.KnowledgeBuilderFactory;
+import org.kie.internal.io.ResourceFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the insertion and the retraction of a deep chain of logically inserted facts: every level of the chain
+ * justifies the next one together with a number of leaf facts, and all of them are retracted in cascade when the
+ * fact at the root of the chain is deleted
+ */
+@Fork(1)
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@Warmup(iterations = 5, time = 10, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 5, time = 5, timeUnit = TimeUnit.SECONDS)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class LogicalRetractionChainBenchmark {
+
+    @Param({"100", "1000"})
+    private int depth;
+
+    @Param({"1", "10"})
+    private int justifiedPerLevel;
+
+    private KieSession ksession;
+
+    @Setup(Level.Trial)
+    public void createSession() {
+        KnowledgeBuilder kbuilder = KnowledgeBuilderFactory.newKnowledgeBuilder();
+        kbuilder.add( ResourceFactory.newReaderResource( new StringReader( generateDRL( depth, justifiedPerLevel ) ) ), ResourceType.DRL );
+        if ( kbuilder.hasErrors() ) {
+            throw new IllegalStateException( kbuilder.getErrors().toString() );
+        }
+        InternalKnowledgeBase kbase = KnowledgeBaseFactory.newKnowledgeBase();
+        kbase.addPackages( kbuilder.getKnowledgePackages() );
+        ksession = kbase.newKieSession();
+    }
+
+    @TearDown(Level.Trial)
+    public void disposeSession() {
+        ksession.dispose();
+    }
+
+    @Benchmark
+    public long insertAndRetractChain() {
+        FactHandle root = ksession.insert( "root" );
+        ksession.fireAllRules();
+        long count = ksession.getFactCount();
+        ksession.delete( root );
+        ksession.fireAllRules();
+        return count - ksession.getFactCount();
+    }
+
+    private static String generateDRL( int depth, int justifiedPerLevel ) {
+        StringBuilder sb = new StringBuilder();
+        sb.append( "package org.drools.modelcompiler.benchmarks;\n\n" );
+        sb.append( "rule Root when\n" );
+        sb.append( "  String( this == \"root\" )\n" );
+        sb.append( "then\n" );
+        sb.append( "  insertLogical( Integer.valueOf( 0 ) );\n" );
+        sb.append( "end\n\n" );
+        sb.append( "rule Level when\n" );
+        sb.append( "  $i : Integer( this < " + depth + " )\n" );
+        sb.append( "then\n" );
+        sb.append( "  insertLogical( Integer.valueOf( $i + 1 ) );\n" );
+        sb.append( "  for (int j = 0; j < " + justifiedPerLevel + "; j++) {\n" );
+        sb.append( "    insertLogical( Long.valueOf( $i * " + justifiedPerLevel + "L + j ) );\n" );
+        sb.append( "  }\n" );
+        sb.append( "end\n" );
+        return sb.toString();
+    }
+}
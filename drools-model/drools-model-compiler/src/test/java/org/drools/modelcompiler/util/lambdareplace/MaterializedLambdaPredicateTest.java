@@ -18,9 +18,12 @@ package org.drools.modelcompiler.util.lambdareplace;
 
 import java.util.ArrayList;
 
+import com.github.javaparser.ast.type.ClassOrInterfaceType;
 import org.drools.model.functions.PredicateInformation;
 import org.junit.Test;
 
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.drools.modelcompiler.builder.generator.DrlxParseUtil.toClassOrInterfaceType;
 import static org.drools.modelcompiler.util.lambdareplace.MaterializedLambdaTestUtils.verifyCreatedClass;
 
 
@@ -96,4 +99,30 @@ public class MaterializedLambdaPredicateTest {
         verifyCreatedClass(aClass, expectedResult);
     }
 
-}
\ No newline at end of file
+    @Test
+    public void constraintsDifferingOnlyByConstantsShareTheClass() {
+        MaterializedLambdaPredicate first = new MaterializedLambdaPredicate("org.drools.modelcompiler.util.lambdareplace",
+                "rulename",
+                new PredicateInformation("age > 35", "rule1", "rulefilename.drl"),
+                true);
+        CreatedClass firstClass = first.create("(org.drools.modelcompiler.domain.Person p) -> p.getAge() > 35 && p.getName().equals(\"Mark\")", new ArrayList<>(), new ArrayList<>());
+
+        MaterializedLambdaPredicate second = new MaterializedLambdaPredicate("org.drools.modelcompiler.util.lambdareplace",
+                "rulename",
+                new PredicateInformation("age > 40", "rule2", "rulefilename.drl"),
+                true);
+        CreatedClass secondClass = second.create("(org.drools.modelcompiler.domain.Person p) -> p.getAge() > 40 && p.getName().equals(\"Edson\")", new ArrayList<>(), new ArrayList<>());
+
+        assertThat(secondClass.getClassNameWithPackage()).isEqualTo(firstClass.getClassNameWithPackage());
+        assertThat(firstClass.getCompilationUnit().toString()).contains("return p.getAge() > __constant0 && p.getName().equals(__constant1);");
+
+        ClassOrInterfaceType type = toClassOrInterfaceType(firstClass.getClassNameWithPackage());
+        String firstInstance = first.createInstanceExpression(type).toString();
+        String secondInstance = second.createInstanceExpression(type).toString();
+        assertThat(firstInstance).contains("\"rule1\"", "35", "\"Mark\"");
+        assertThat(secondInstance).contains("\"rule2\"", "40", "\"Edson\"");
+        // the node sharing still tells the two constraints apart
+        assertThat(firstInstance.substring(0, firstInstance.indexOf(',')))
+                .isNotEqualTo(secondInstance.substring(0, secondInstance.indexOf(',')));
+    }
+}
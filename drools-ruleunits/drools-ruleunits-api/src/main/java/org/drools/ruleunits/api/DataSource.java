@@ -27,6 +27,16 @@ public interface DataSource<T> extends Iterable<T> {
 
     void subscribe(DataProcessor<T> subscriber);
 
+    /**
+     * Stops notifying the given subscriber of the changes of this data source. The data already delivered to the
+     * subscriber is left untouched.
+     *
+     * @throws UnsupportedOperationException if this data source cannot remove its subscribers
+     */
+    default void unsubscribe(DataProcessor<T> subscriber) {
+        throw new UnsupportedOperationException(getClass().getName() + " does not support removing its subscribers");
+    }
+
     interface Factory extends KieService {
         <T> DataStream<T> createStream();
 
@@ -15,6 +15,11 @@
  */
 package org.drools.ruleunits.impl;
 
+import java.util.ArrayList;
+import java.util.List;
+
+import org.drools.ruleunits.api.DataProcessor;
+import org.drools.ruleunits.api.DataSource;
 import org.drools.ruleunits.api.RuleUnit;
 import org.drools.ruleunits.api.RuleUnitData;
 import org.drools.ruleunits.api.RuleUnitInstance;
@@ -22,9 +27,10 @@ import org.drools.ruleunits.api.RuleUnitQuery;
 
 public abstract class AbstractRuleUnitInstance<E, T extends RuleUnitData> implements RuleUnitInstance<T> {
 
-    private final T unitMemory;
+    private T unitMemory;
     private final RuleUnit<T> unit;
     protected final E evaluator;
+    private final List<Runnable> unsubscriptions = new ArrayList<>();
 
     public AbstractRuleUnitInstance(RuleUnit<T> unit, T unitMemory, E evaluator) {
         this.unit = unit;
@@ -60,4 +66,30 @@ public abstract class AbstractRuleUnitInstance<E, T extends RuleUnitData> implem
     }
 
     protected abstract void bind(E evaluator, T workingMemory);
+
+    /**
+     * Subscribes the given processor to a data source of the rule unit data, keeping track of the subscription so
+     * that it is removed when this instance is unbound
+     */
+    protected <D> void subscribe(DataSource<D> dataSource, DataProcessor<D> processor) {
+        dataSource.subscribe(processor);
+        unsubscriptions.add(() -> dataSource.unsubscribe(processor));
+    }
+
+    /**
+     * Removes all the subscriptions made through {@link #subscribe(DataSource, DataProcessor)}, so that the rule unit
+     * data this instance was bound to is not propagated to its evaluator anymore
+     */
+    protected void unbind() {
+        unsubscriptions.forEach(Runnable::run);
+        unsubscriptions.clear();
+    }
+
+    /**
+     * Binds this instance, whose evaluator has been reset, to a new rule unit data
+     */
+    protected void rebind(T unitMemory) {
+        this.unitMemory = unitMemory;
+        bind(evaluator, unitMemory);
+    }
 }
@@ -0,0 +1,215 @@
+/*
+ * Copyright 2022 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.drools.ruleunits.impl;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.BooleanSupplier;
+import java.util.function.Consumer;
+
+/**
+ * A multi-producer queue whose elements are delivered in batches, in the same order they have been offered,
+ * by one thread at a time. Offering an element never takes a lock: the producer delivers the pending elements
+ * itself when no other thread is doing so, otherwise it leaves them to the thread currently delivering.
+ * When more than capacity elements are pending the producers wait until they have been delivered.
+ * <p>
+ * A failure in the delivery of an element does not prevent the delivery of the following ones: it is rethrown,
+ * once all the pending elements have been delivered, to the thread that was delivering them.
+ */
+class BatchingDeliveryQueue<E> {
+
+    private final Queue<E> queue = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger pending = new AtomicInteger();
+    private final AtomicReference<Thread> owner = new AtomicReference<>();
+
+    // the threads waiting for the delivery of a batch or for the release of the ownership, only
+    // when there is at least one of them the delivering thread has to take the lock to wake them up
+    private final AtomicInteger waiters = new AtomicInteger();
+    private final Lock lock = new ReentrantLock();
+    private final Condition progress = lock.newCondition();
+
+    private final int batchSize;
+    private final int capacity;
+    private final Consumer<E> deliverer;
+
+    BatchingDeliveryQueue(int batchSize, int capacity, Consumer<E> deliverer) {
+        if (batchSize < 1 || capacity < 1) {
+            throw new IllegalArgumentException("Batch size and capacity must be positive");
+        }
+        this.batchSize = batchSize;
+        this.capacity = capacity;
+        this.deliverer = deliverer;
+    }
+
+    void offer(E e) {
+        queue.offer(e);
+        int pendingNr = pending.incrementAndGet();
+        drain();
+        if (pendingNr > capacity) {
+            awaitCapacity();
+        }
+    }
+
+    /**
+     * Delivers all the pending elements, waiting for the ones that are being delivered by another thread
+     */
+    void flush() {
+        drain();
+        while (pending.get() > 0 && !isOwner()) {
+            awaitProgress(() -> owner.get() != null && pending.get() > 0);
+            drain();
+        }
+    }
+
+    /**
+     * Runs the given action while no element is being delivered, after having delivered the pending ones
+     */
+    void exclusively(Runnable action) {
+        if (isOwner()) {
+            action.run();
+            return;
+        }
+        Thread current = Thread.currentThread();
+        while (!owner.compareAndSet(null, current)) {
+            awaitProgress(() -> owner.get() != null);
+        }
+        RuntimeException failure;
+        try {
+            failure = deliverPending();
+            action.run();
+        } finally {
+            release();
+        }
+        drain();
+        if (failure != null) {
+            throw failure;
+        }
+    }
+
+    int getPendingCount() {
+        return pending.get();
+    }
+
+    private void drain() {
+        RuntimeException failure = null;
+        // the check on the queue after releasing the ownership guarantees that an element
+        // offered while the previous owner was completing its delivery is not left behind
+        while (!queue.isEmpty() && owner.compareAndSet(null, Thread.currentThread())) {
+            try {
+                failure = addFailure(failure, deliverPending());
+            } finally {
+                release();
+            }
+        }
+        if (failure != null) {
+            throw failure;
+        }
+    }
+
+    private void awaitCapacity() {
+        while (pending.get() > capacity && !isOwner()) {
+            awaitProgress(() -> owner.get() != null && pending.get() > capacity);
+            drain();
+        }
+    }
+
+    /**
+     * Delivers the pending elements, returning the failures of their delivery, if any
+     */
+    private RuntimeException deliverPending() {
+        RuntimeException failure = null;
+        // the pending count can be transiently lower than the elements in the queue, it is incremented after the offer
+        List<E> batch = new ArrayList<>(Math.min(batchSize, Math.max(pending.get(), 1)));
+        while (true) {
+            E e;
+            while (batch.size() < batchSize && (e = queue.poll()) != null) {
+                batch.add(e);
+            }
+            if (batch.isEmpty()) {
+                return failure;
+            }
+            try {
+                for (E element : batch) {
+                    try {
+                        deliverer.accept(element);
+                    } catch (RuntimeException t) {
+                        failure = addFailure(failure, t);
+                    }
+                }
+            } finally {
+                pending.addAndGet(-batch.size());
+                batch.clear();
+                signalProgress();
+            }
+        }
+    }
+
+    private static RuntimeException addFailure(RuntimeException failure, RuntimeException other) {
+        if (failure == null) {
+            return other;
+        }
+        if (other != null && other != failure) {
+            failure.addSuppressed(other);
+        }
+        return failure;
+    }
+
+    private void release() {
+        owner.set(null);
+        signalProgress();
+    }
+
+    private void signalProgress() {
+        if (waiters.get() > 0) {
+            lock.lock();
+            try {
+                progress.signalAll();
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+
+    /**
+     * Parks the current thread while the given condition holds, it has to be released by the delivery of a batch
+     * or by the release of the ownership
+     */
+    private void awaitProgress(BooleanSupplier blocked) {
+        // registering as a waiter before checking the condition guarantees that the thread changing
+        // it afterwards sees the waiter and wakes it up
+        waiters.incrementAndGet();
+        lock.lock();
+        try {
+            while (blocked.getAsBoolean()) {
+                progress.awaitUninterruptibly();
+            }
+        } finally {
+            lock.unlock();
+            waiters.decrementAndGet();
+        }
+    }
+
+    private boolean isOwner() {
+        return owner.get() == Thread.currentThread();
+    }
+}
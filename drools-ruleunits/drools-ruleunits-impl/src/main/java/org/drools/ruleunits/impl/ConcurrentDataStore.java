@@ -0,0 +1,197 @@
+/*
+ * Copyright 2022 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.drools.ruleunits.impl;
+
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.drools.core.definitions.rule.impl.RuleImpl;
+import org.drools.core.reteoo.TerminalNode;
+import org.drools.core.spi.Activation;
+import org.drools.core.util.bitmask.BitMask;
+import org.drools.ruleunits.impl.facthandles.RuleUnitInternalFactHandle;
+import org.drools.ruleunits.impl.factory.DataHandleImpl;
+import org.kie.api.runtime.rule.FactHandle;
+import org.drools.ruleunits.api.DataHandle;
+import org.drools.ruleunits.api.DataProcessor;
+import org.drools.ruleunits.api.DataStore;
+
+/**
+ * A {@link DataStore} that can be modified by many threads at the same time without any external synchronization.
+ * Additions, updates and removals never take a lock: they are queued and propagated to the subscribers in batches,
+ * in the same order they have been requested, and the producers are slowed down when more than capacity
+ * operations are waiting to be propagated.
+ * The modifications coming from the consequences of the rules are instead propagated immediately.
+ */
+public class ConcurrentDataStore<T> implements DataStore<T>, InternalStoreCallback {
+
+    public static final int DEFAULT_BATCH_SIZE = 64;
+    public static final int DEFAULT_CAPACITY = 16 * 1024;
+
+    // only accessed by the thread propagating the operations
+    private final Map<Object, DataHandle> store = new IdentityHashMap<>();
+    private final List<EntryPointDataProcessor> entryPointSubscribers = new ArrayList<>();
+    private final List<DataProcessor<T>> subscribers = new ArrayList<>();
+
+    private final BatchingDeliveryQueue<Operation> deliveryQueue;
+
+    public ConcurrentDataStore() {
+        this(DEFAULT_BATCH_SIZE, DEFAULT_CAPACITY);
+    }
+
+    public ConcurrentDataStore(int batchSize, int capacity) {
+        this.deliveryQueue = new BatchingDeliveryQueue<>(batchSize, capacity, this::deliver);
+    }
+
+    public DataHandle add(T t) {
+        DataHandle dh = createDataHandle(t);
+        deliveryQueue.offer(new Operation(OperationType.ADD, dh, t));
+        return dh;
+    }
+
+    protected DataHandle createDataHandle(T t) {
+        return new DataHandleImpl(t);
+    }
+
+    public DataHandle findHandle(long id) {
+        DataHandle[] found = new DataHandle[1];
+        deliveryQueue.exclusively(() -> {
+            for (DataHandle dh : store.values()) {
+                if (((DataHandleImpl) dh).getId() == id) {
+                    found[0] = dh;
+                    return;
+                }
+            }
+        });
+        if (found[0] == null) {
+            throw new IllegalArgumentException("Cannot find id");
+        }
+        return found[0];
+    }
+
+    @Override
+    public void update(DataHandle handle, T object) {
+        deliveryQueue.offer(new Operation(OperationType.UPDATE, handle, object));
+    }
+
+    @Override
+    public void remove(Object object) {
+        deliveryQueue.offer(new Operation(OperationType.REMOVE, null, object));
+    }
+
+    @Override
+    public void remove(DataHandle handle) {
+        deliveryQueue.offer(new Operation(OperationType.REMOVE, handle, handle.getObject()));
+    }
+
+    @Override
+    public void subscribe(DataProcessor processor) {
+        deliveryQueue.exclusively(() -> {
+            if (processor instanceof EntryPointDataProcessor) {
+                entryPointSubscribers.add((EntryPointDataProcessor) processor);
+            } else {
+                subscribers.add(processor);
+            }
+            store.values().forEach(dh -> internalInsert(dh, processor));
+        });
+    }
+
+    @Override
+    public void unsubscribe(DataProcessor processor) {
+        deliveryQueue.exclusively(() -> {
+            if (processor instanceof EntryPointDataProcessor) {
+                entryPointSubscribers.remove(processor);
+            } else {
+                subscribers.remove(processor);
+            }
+        });
+    }
+
+    /**
+     * Waits until all the operations requested so far have been propagated to the subscribers
+     */
+    public void flush() {
+        deliveryQueue.flush();
+    }
+
+    @Override
+    public void update(RuleUnitInternalFactHandle fh, Object obj, BitMask mask, Class<?> modifiedClass, Activation activation) {
+        deliveryQueue.exclusively(() -> {
+            DataHandle dh = fh.getDataHandle();
+            entryPointSubscribers.forEach(s -> s.update(dh, obj, mask, modifiedClass, activation));
+            subscribers.forEach(s -> s.update(dh, (T) obj));
+        });
+    }
+
+    @Override
+    public void delete(RuleUnitInternalFactHandle fh, RuleImpl rule, TerminalNode terminalNode, FactHandle.State fhState) {
+        deliveryQueue.exclusively(() -> {
+            DataHandle dh = fh.getDataHandle();
+            entryPointSubscribers.forEach(s -> s.delete(dh, rule, terminalNode, fhState));
+            subscribers.forEach(s -> s.delete(dh));
+            store.remove(fh.getObject());
+        });
+    }
+
+    private void deliver(Operation operation) {
+        switch (operation.type) {
+            case ADD:
+                store.put(operation.object, operation.handle);
+                entryPointSubscribers.forEach(s -> internalInsert(operation.handle, s));
+                subscribers.forEach(s -> internalInsert(operation.handle, s));
+                break;
+            case UPDATE:
+                entryPointSubscribers.forEach(s -> s.update(operation.handle, operation.handle.getObject()));
+                subscribers.forEach(s -> s.update(operation.handle, (T) operation.object));
+                break;
+            case REMOVE:
+                DataHandle handle = operation.handle != null ? operation.handle : store.get(operation.object);
+                if (handle != null) {
+                    entryPointSubscribers.forEach(s -> s.delete(handle));
+                    subscribers.forEach(s -> s.delete(handle));
+                    store.remove(handle.getObject());
+                }
+                break;
+        }
+    }
+
+    private void internalInsert(DataHandle dh, DataProcessor s) {
+        FactHandle fh = s.insert(dh, dh.getObject());
+        if (fh != null) {
+            ((RuleUnitInternalFactHandle) fh).setDataStore(this);
+            ((RuleUnitInternalFactHandle) fh).setDataHandle(dh);
+        }
+    }
+
+    private enum OperationType {
+        ADD, UPDATE, REMOVE
+    }
+
+    private static class Operation {
+
+        private final OperationType type;
+        private final DataHandle handle;
+        private final Object object;
+
+        private Operation(OperationType type, DataHandle handle, Object object) {
+            this.type = type;
+            this.handle = handle;
+            this.object = object;
+        }
+    }
+}
@@ -0,0 +1,88 @@
+/*
+ * Copyright 2022 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.drools.ruleunits.impl;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.drools.ruleunits.api.DataProcessor;
+import org.drools.ruleunits.api.DataStream;
+
+/**
+ * A {@link DataStream} that can be fed by many threads at the same time without any external synchronization.
+ * Appending never takes a lock, the appended values are delivered to the subscribers in batches and the
+ * producers are slowed down when more than capacity values are waiting to be delivered.
+ */
+public class ConcurrentDataStream<T> implements DataStream<T> {
+
+    public static final int DEFAULT_BATCH_SIZE = 64;
+    public static final int DEFAULT_CAPACITY = 16 * 1024;
+
+    // only accessed by the thread delivering the values
+    private final List<T> values = new ArrayList<>();
+    private final List<DataProcessor> subscribers = new ArrayList<>();
+
+    private final BatchingDeliveryQueue<T> deliveryQueue;
+
+    public ConcurrentDataStream() {
+        this(DEFAULT_BATCH_SIZE, DEFAULT_CAPACITY);
+    }
+
+    public ConcurrentDataStream(int batchSize, int capacity) {
+        this.deliveryQueue = new BatchingDeliveryQueue<>(batchSize, capacity, this::deliver);
+    }
+
+    @SafeVarargs
+    public static <T> ConcurrentDataStream<T> create(T... ts) {
+        ConcurrentDataStream<T> stream = new ConcurrentDataStream<>();
+        for (T t : ts) {
+            stream.append(t);
+        }
+        return stream;
+    }
+
+    @Override
+    public void append(T t) {
+        deliveryQueue.offer(t);
+    }
+
+    @Override
+    public void subscribe(DataProcessor subscriber) {
+        deliveryQueue.exclusively(() -> {
+            subscribers.add(subscriber);
+            values.forEach(subscriber::insert);
+        });
+    }
+
+    @Override
+    public void unsubscribe(DataProcessor subscriber) {
+        deliveryQueue.exclusively(() -> subscribers.remove(subscriber));
+    }
+
+    /**
+     * Waits until all the values appended so far have been delivered to the subscribers
+     */
+    public void flush() {
+        deliveryQueue.flush();
+    }
+
+    private void deliver(T t) {
+        values.add(t);
+        for (DataProcessor subscriber : subscribers) {
+            subscriber.insert(t);
+        }
+    }
+}
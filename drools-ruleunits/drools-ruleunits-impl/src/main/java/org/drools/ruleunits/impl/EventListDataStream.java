@@ -57,6 +57,11 @@ public class EventListDataStream<T> implements DataStream<T> {
         values.forEach(v -> insertAndAdvanceClock(v, subscriber));
     }
 
+    @Override
+    public void unsubscribe(DataProcessor subscriber) {
+        subscribers.remove(subscriber);
+    }
+
     private void insertAndAdvanceClock(T t, DataProcessor subscriber) {
         EventFactHandle fh = (EventFactHandle) subscriber.insert(null, t);
         long timestamp = fh.getStartTimestamp();
@@ -92,6 +92,15 @@ public class FieldDataStore<T> implements SingletonStore<T>, InternalStoreCallba
         }
     }
 
+    @Override
+    public void unsubscribe(DataProcessor processor) {
+        if (processor instanceof EntryPointDataProcessor) {
+            entryPointSubscribers.remove(processor);
+        } else {
+            subscribers.remove(processor);
+        }
+    }
+
     @Override
     public void update(RuleUnitInternalFactHandle fh, Object obj, BitMask mask, Class<?> modifiedClass, Activation activation) {
         DataHandle dh = fh.getDataHandle();
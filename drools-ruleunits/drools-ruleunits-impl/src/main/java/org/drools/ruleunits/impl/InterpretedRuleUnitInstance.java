@@ -39,7 +39,7 @@ public class InterpretedRuleUnitInstance<T extends RuleUnitData> extends ReteEva
                 if (v instanceof DataSource) {
                     DataSource<?> o = (DataSource<?>) v;
                     EntryPoint ep = reteEvaluator.getEntryPoint(dataSourceName);
-                    o.subscribe(new EntryPointDataProcessor(ep));
+                    subscribe((DataSource) o, new EntryPointDataProcessor(ep));
                 }
                 try {
                     reteEvaluator.setGlobal(dataSourceName, v);
@@ -88,6 +88,15 @@ public class ListDataStore<T> implements DataStore<T>, InternalStoreCallback {
         store.values().forEach(dh -> internalInsert(dh, processor));
     }
 
+    @Override
+    public void unsubscribe(DataProcessor processor) {
+        if (processor instanceof EntryPointDataProcessor) {
+            entryPointSubscribers.remove(processor);
+        } else {
+            subscribers.remove(processor);
+        }
+    }
+
     @Override
     public void update(RuleUnitInternalFactHandle fh, Object obj, BitMask mask, Class<?> modifiedClass, Activation activation) {
         DataHandle dh = ((RuleUnitInternalFactHandle) fh).getDataHandle();
@@ -25,6 +25,9 @@ import org.drools.ruleunits.api.RuleUnitData;
 
 public abstract class ReteEvaluatorBasedRuleUnitInstance<T extends RuleUnitData> extends AbstractRuleUnitInstance<ReteEvaluator, T> {
 
+    private RuleUnitInstancesPool<T> pool;
+    private volatile boolean released;
+
     public ReteEvaluatorBasedRuleUnitInstance(RuleUnit<T> unit, T unitMemory, ReteEvaluator evaluator) {
         super(unit, unitMemory, evaluator);
     }
@@ -36,9 +39,30 @@ public abstract class ReteEvaluatorBasedRuleUnitInstance<T extends RuleUnitData>
 
     @Override
     public void dispose() {
+        if (pool != null) {
+            if (released) {
+                return;
+            }
+            // marked before being released, since it can be immediately taken again by another thread
+            released = true;
+            if (pool.release(this)) {
+                return;
+            }
+            released = false;
+        }
         evaluator.dispose();
     }
 
+    void setPool(RuleUnitInstancesPool<T> pool) {
+        this.pool = pool;
+    }
+
+    @Override
+    protected void rebind(T unitMemory) {
+        released = false;
+        super.rebind(unitMemory);
+    }
+
     @Override
     public List<Map<String, Object>> executeQuery(String query, Object... arguments) {
         fire();
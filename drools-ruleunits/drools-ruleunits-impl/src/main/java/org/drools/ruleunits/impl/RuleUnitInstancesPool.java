@@ -0,0 +1,103 @@
+/*
+ * Copyright 2022 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.drools.ruleunits.impl;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import org.drools.ruleunits.api.RuleUnitData;
+import org.drools.ruleunits.api.RuleUnitInstance;
+
+/**
+ * Keeps the disposed instances of a rule unit, so that the next ones can reuse their evaluator, with all its
+ * node memories, after a reset instead of creating a new one.
+ * An instance is given back to the pool when it is disposed: its subscriptions to the data sources it was bound to,
+ * made through {@link AbstractRuleUnitInstance#subscribe}, are removed, so that those data sources do not reach the
+ * evaluator anymore once it is reused. An instance bound to a data source that does not support
+ * {@link DataSource#unsubscribe} is disposed instead.
+ */
+public class RuleUnitInstancesPool<T extends RuleUnitData> {
+
+    private final Queue<ReteEvaluatorBasedRuleUnitInstance<T>> idleInstances = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger idleInstancesCount = new AtomicInteger();
+
+    private final int maxIdleInstances;
+    private final Function<T, RuleUnitInstance<T>> instanceFactory;
+
+    private volatile boolean shutdown = false;
+
+    public RuleUnitInstancesPool(int maxIdleInstances, Function<T, RuleUnitInstance<T>> instanceFactory) {
+        if (maxIdleInstances < 1) {
+            throw new IllegalArgumentException("A pool must keep at least one instance");
+        }
+        this.maxIdleInstances = maxIdleInstances;
+        this.instanceFactory = instanceFactory;
+    }
+
+    public RuleUnitInstance<T> get(T data) {
+        ReteEvaluatorBasedRuleUnitInstance<T> instance = idleInstances.poll();
+        if (instance != null) {
+            idleInstancesCount.decrementAndGet();
+            instance.rebind(data);
+            return instance;
+        }
+
+        RuleUnitInstance<T> created = instanceFactory.apply(data);
+        if (created instanceof ReteEvaluatorBasedRuleUnitInstance) {
+            ((ReteEvaluatorBasedRuleUnitInstance<T>) created).setPool(this);
+        }
+        return created;
+    }
+
+    public int getIdleInstancesCount() {
+        return idleInstancesCount.get();
+    }
+
+    /**
+     * Disposes all the idle instances. The instances disposed from now on are not kept anymore.
+     */
+    public void shutdown() {
+        shutdown = true;
+        ReteEvaluatorBasedRuleUnitInstance<T> instance;
+        while ((instance = idleInstances.poll()) != null) {
+            idleInstancesCount.decrementAndGet();
+            instance.getEvaluator().dispose();
+        }
+    }
+
+    boolean release(ReteEvaluatorBasedRuleUnitInstance<T> instance) {
+        if (shutdown) {
+            return false;
+        }
+        if (idleInstancesCount.incrementAndGet() > maxIdleInstances) {
+            idleInstancesCount.decrementAndGet();
+            return false;
+        }
+        // the data sources of the released instance must not reach the evaluator once it is reset and reused
+        try {
+            instance.unbind();
+        } catch (UnsupportedOperationException e) {
+            // a data source that cannot be unsubscribed keeps the instance bound, so it cannot be reused
+            idleInstancesCount.decrementAndGet();
+            return false;
+        }
+        instance.getEvaluator().reset();
+        idleInstances.offer(instance);
+        return true;
+    }
+}
@@ -15,6 +15,7 @@
  */
 package org.drools.ruleunits.impl.factory;
 
+import org.drools.ruleunits.impl.RuleUnitInstancesPool;
 import org.drools.ruleunits.api.RuleUnit;
 import org.drools.ruleunits.api.RuleUnitData;
 import org.drools.ruleunits.api.RuleUnitInstance;
@@ -25,6 +26,8 @@ public abstract class AbstractRuleUnit<T extends RuleUnitData> implements RuleUn
     private final String id;
     protected final RuleUnits ruleUnits;
 
+    private volatile RuleUnitInstancesPool<T> instancesPool;
+
     public AbstractRuleUnit(String id, RuleUnits ruleUnits) {
         this.id = id;
         this.ruleUnits = ruleUnits;
@@ -37,9 +40,26 @@ public abstract class AbstractRuleUnit<T extends RuleUnitData> implements RuleUn
         return id;
     }
 
+    /**
+     * Keeps up to the given number of disposed instances of this unit, so that the next created instances reuse
+     * them instead of building a new evaluator each time. A size of 0 disables the pooling.
+     */
+    public void setInstancesPoolSize(int maxIdleInstances) {
+        RuleUnitInstancesPool<T> oldPool = instancesPool;
+        instancesPool = maxIdleInstances > 0 ? new RuleUnitInstancesPool<>(maxIdleInstances, this::internalCreateInstance) : null;
+        if (oldPool != null) {
+            oldPool.shutdown();
+        }
+    }
+
+    public RuleUnitInstancesPool<T> getInstancesPool() {
+        return instancesPool;
+    }
+
     @Override
     public RuleUnitInstance<T> createInstance(T data, String name) {
-        RuleUnitInstance<T> instance = internalCreateInstance(data);
+        RuleUnitInstancesPool<T> pool = instancesPool;
+        RuleUnitInstance<T> instance = pool != null ? pool.get(data) : internalCreateInstance(data);
         if (name != null) {
             ruleUnits.register(name, instance);
         }
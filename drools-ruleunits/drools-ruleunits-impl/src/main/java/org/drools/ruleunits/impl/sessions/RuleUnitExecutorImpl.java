@@ -238,6 +238,24 @@ public class RuleUnitExecutorImpl implements ReteEvaluator {
         return getDefaultEntryPoint().insert(object);
     }
 
+    @Override
+    public void reset() {
+        nodeMemories.resetAllMemories(this);
+        activationsManager.reset();
+
+        this.globalResolver.clear();
+        this.handleFactory.clear(0, 0);
+        this.propagationIdCounter.set(1);
+
+        for (WorkingMemoryEntryPoint ep : this.entryPointsManager.getEntryPoints()) {
+            ep.reset();
+        }
+
+        this.timerService.reset();
+
+        initInitialFact(ruleBase);
+    }
+
     @Override
     public void dispose() {
         for (WorkingMemoryEntryPoint ep : this.entryPointsManager.getEntryPoints()) {
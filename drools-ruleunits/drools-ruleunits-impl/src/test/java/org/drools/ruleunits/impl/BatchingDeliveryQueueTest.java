@@ -0,0 +1,100 @@
+/*
+ * Copyright 2022 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.drools.ruleunits.impl;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+
+import static java.util.Arrays.asList;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class BatchingDeliveryQueueTest {
+
+    @Test
+    public void testFailedDeliveryDoesNotDropTheRestOfTheBatch() {
+        List<Integer> delivered = new CopyOnWriteArrayList<>();
+        BatchingDeliveryQueue<Integer> queue = new BatchingDeliveryQueue<>(4, 100, i -> {
+            if (i == 2) {
+                throw new IllegalStateException("Cannot deliver " + i);
+            }
+            delivered.add(i);
+        });
+
+        // the elements offered by the owner are delivered in a single batch when it releases the ownership
+        IllegalStateException failure = assertThrows(IllegalStateException.class, () -> queue.exclusively(() -> {
+            queue.offer(1);
+            queue.offer(2);
+            queue.offer(3);
+        }));
+
+        assertEquals("Cannot deliver 2", failure.getMessage());
+        assertEquals(asList(1, 3), delivered);
+        assertEquals(0, queue.getPendingCount());
+
+        queue.offer(4);
+        assertEquals(asList(1, 3, 4), delivered);
+    }
+
+    @Test
+    @Timeout(10)
+    public void testFlushWaitsForTheDeliveringThread() throws InterruptedException {
+        List<Integer> delivered = new CopyOnWriteArrayList<>();
+        BatchingDeliveryQueue<Integer> queue = new BatchingDeliveryQueue<>(4, 100, delivered::add);
+
+        CountDownLatch owning = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        Thread owner = new Thread(() -> queue.exclusively(() -> {
+            owning.countDown();
+            await(release);
+        }));
+        owner.start();
+        assertTrue(owning.await(5, TimeUnit.SECONDS));
+
+        // the element is left to the owner, so the flush has to wait for it to release the ownership
+        queue.offer(1);
+        CountDownLatch flushed = new CountDownLatch(1);
+        Thread flusher = new Thread(() -> {
+            queue.flush();
+            flushed.countDown();
+        });
+        flusher.start();
+        assertFalse(flushed.await(100, TimeUnit.MILLISECONDS));
+        assertTrue(delivered.isEmpty());
+
+        release.countDown();
+        assertTrue(flushed.await(5, TimeUnit.SECONDS));
+        assertEquals(asList(1), delivered);
+
+        owner.join();
+        flusher.join();
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            throw new RuntimeException(e);
+        }
+    }
+}
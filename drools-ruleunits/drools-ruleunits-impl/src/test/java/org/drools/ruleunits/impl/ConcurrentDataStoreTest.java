@@ -0,0 +1,105 @@
+/*
+ * Copyright 2022 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.drools.ruleunits.impl;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.drools.ruleunits.impl.factory.DataHandleImpl;
+import org.junit.jupiter.api.Test;
+import org.kie.api.runtime.rule.FactHandle;
+import org.drools.ruleunits.api.DataHandle;
+import org.drools.ruleunits.api.DataProcessor;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class ConcurrentDataStoreTest {
+
+    @Test
+    public void testAddUpdateRemove() {
+        Probe<String> probe = new Probe<>();
+        ConcurrentDataStore<String> strings = new ConcurrentDataStore<>();
+        strings.subscribe(probe);
+
+        DataHandle a = strings.add("a");
+        DataHandle b = strings.add("b");
+        assertEquals(2, probe.handles.size());
+        assertSame(b, strings.findHandle(((DataHandleImpl) b).getId()));
+
+        strings.update(a, "a");
+        assertEquals(1, probe.updates);
+
+        strings.remove(a);
+        strings.remove("b");
+        assertTrue(probe.handles.isEmpty());
+    }
+
+    @Test
+    public void testConcurrentAdd() throws InterruptedException {
+        Probe<Integer> probe = new Probe<>();
+        ConcurrentDataStore<Integer> integers = new ConcurrentDataStore<>(16, 100);
+        integers.subscribe(probe);
+
+        int producersNr = 4;
+        int valuesPerProducer = 5_000;
+        List<Thread> producers = new ArrayList<>();
+        for (int i = 0; i < producersNr; i++) {
+            Thread producer = new Thread(() -> {
+                for (int j = 0; j < valuesPerProducer; j++) {
+                    // each value is removed right after having been added, but only the even ones
+                    DataHandle dh = integers.add(j);
+                    if (j % 2 == 0) {
+                        integers.remove(dh);
+                    }
+                }
+            });
+            producers.add(producer);
+            producer.start();
+        }
+        for (Thread producer : producers) {
+            producer.join();
+        }
+        integers.flush();
+
+        assertEquals(producersNr * valuesPerProducer / 2, probe.handles.size());
+    }
+
+    private static class Probe<T> implements DataProcessor<T> {
+
+        Set<DataHandle> handles = new HashSet<>();
+        int updates = 0;
+
+        @Override
+        public FactHandle insert(DataHandle handle, T object) {
+            handles.add(handle);
+            return null;
+        }
+
+        @Override
+        public void update(DataHandle handle, T object) {
+            updates++;
+        }
+
+        @Override
+        public void delete(DataHandle handle) {
+            handles.remove(handle);
+        }
+    }
+}
@@ -0,0 +1,89 @@
+/*
+ * Copyright 2022 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.drools.ruleunits.impl;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.kie.api.runtime.rule.FactHandle;
+import org.drools.ruleunits.api.DataHandle;
+import org.drools.ruleunits.api.DataProcessor;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class ConcurrentDataStreamTest {
+
+    @Test
+    public void testCreate() {
+        Counter<Integer> counter = new Counter<>();
+        ConcurrentDataStream<Integer> integers = ConcurrentDataStream.create(1, 2, 3);
+        integers.subscribe(counter);
+        assertEquals(3, counter.count);
+    }
+
+    @Test
+    public void testConcurrentAppend() throws InterruptedException {
+        Counter<Integer> counter = new Counter<>();
+        // a small capacity forces the producers to wait for the delivery of the pending values
+        ConcurrentDataStream<Integer> integers = new ConcurrentDataStream<>(16, 100);
+        integers.subscribe(counter);
+
+        int producersNr = 4;
+        int valuesPerProducer = 10_000;
+        List<Thread> producers = new ArrayList<>();
+        for (int i = 0; i < producersNr; i++) {
+            Thread producer = new Thread(() -> {
+                for (int j = 0; j < valuesPerProducer; j++) {
+                    integers.append(j);
+                }
+            });
+            producers.add(producer);
+            producer.start();
+        }
+        for (Thread producer : producers) {
+            producer.join();
+        }
+        integers.flush();
+
+        assertEquals(producersNr * valuesPerProducer, counter.count);
+
+        Counter<Integer> lateCounter = new Counter<>();
+        integers.subscribe(lateCounter);
+        assertEquals(producersNr * valuesPerProducer, lateCounter.count);
+    }
+
+    private static class Counter<T> implements DataProcessor<T> {
+
+        int count = 0;
+
+        @Override
+        public FactHandle insert(DataHandle handle, T object) {
+            count++;
+            return null;
+        }
+
+        @Override
+        public void update(DataHandle handle, T object) {
+
+        }
+
+        @Override
+        public void delete(DataHandle handle) {
+
+        }
+    }
+}
@@ -0,0 +1,76 @@
+/*
+ * Copyright 2022 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.drools.ruleunits.impl;
+
+import java.util.concurrent.TimeUnit;
+
+import org.drools.ruleunits.api.RuleUnitInstance;
+import org.drools.ruleunits.impl.RuleUnitInstancesPoolTest.PooledRuleUnit;
+import org.drools.ruleunits.impl.RuleUnitInstancesPoolTest.Strings;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the throughput of request-scoped rule unit executions, where each request creates an instance,
+ * fires it once and disposes it, with and without the pooling of the instances
+ */
+@Fork(1)
+@Threads(4)
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@Warmup(iterations = 5, time = 5, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 5, time = 5, timeUnit = TimeUnit.SECONDS)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class RequestScopedRuleUnitBenchmark {
+
+    @Param({"0", "16"})
+    private int poolSize;
+
+    private PooledRuleUnit unit;
+
+    @Setup(Level.Trial)
+    public void createUnit() {
+        unit = new PooledRuleUnit();
+        unit.setInstancesPoolSize(poolSize);
+    }
+
+    @TearDown(Level.Trial)
+    public void disposeUnit() {
+        unit.setInstancesPoolSize(0);
+    }
+
+    @Benchmark
+    public int executeRequest() {
+        RuleUnitInstance<Strings> instance = unit.createInstance(new Strings("a", "b", "c"));
+        try {
+            return instance.fire();
+        } finally {
+            instance.dispose();
+        }
+    }
+}
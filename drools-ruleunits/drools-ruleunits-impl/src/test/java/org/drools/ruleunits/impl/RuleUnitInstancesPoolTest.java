@@ -0,0 +1,194 @@
+/*
+ * Copyright 2022 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.drools.ruleunits.impl;
+
+import java.io.StringReader;
+
+import org.drools.compiler.builder.impl.KnowledgeBuilderImpl;
+import org.drools.kiesession.rulebase.InternalKnowledgeBase;
+import org.drools.kiesession.rulebase.KnowledgeBaseFactory;
+import org.drools.ruleunits.api.DataHandle;
+import org.drools.ruleunits.api.DataProcessor;
+import org.drools.ruleunits.api.DataStore;
+import org.drools.ruleunits.api.RuleUnitData;
+import org.drools.ruleunits.api.RuleUnitInstance;
+import org.drools.ruleunits.impl.factory.AbstractRuleUnit;
+import org.drools.ruleunits.impl.sessions.RuleUnitExecutorImpl;
+import org.drools.util.io.ReaderResource;
+import org.junit.jupiter.api.Test;
+import org.kie.api.io.ResourceType;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+public class RuleUnitInstancesPoolTest {
+
+    @Test
+    public void testReuseDisposedInstance() {
+        PooledRuleUnit unit = new PooledRuleUnit();
+        unit.setInstancesPoolSize(1);
+
+        Strings first = new Strings("a", "b");
+        RuleUnitInstance<Strings> instance = unit.createInstance(first);
+        assertEquals(2, instance.fire());
+        instance.dispose();
+        assertEquals(1, unit.getInstancesPool().getIdleInstancesCount());
+
+        // disposing twice doesn't give back the same instance again
+        instance.dispose();
+        assertEquals(1, unit.getInstancesPool().getIdleInstancesCount());
+
+        Strings second = new Strings("c");
+        RuleUnitInstance<Strings> reused = unit.createInstance(second);
+        assertSame(instance, reused);
+        assertSame(second, ((AbstractRuleUnitInstance<?, Strings>) reused).ruleUnitData());
+        assertEquals(0, unit.getInstancesPool().getIdleInstancesCount());
+
+        // nothing of the facts of the previous data survives the reset
+        assertEquals(1, ((ReteEvaluatorBasedRuleUnitInstance<Strings>) reused).getEvaluator()
+                .getEntryPoint(Strings.class.getCanonicalName() + ".strings").getFactCount());
+        assertEquals(1, reused.fire());
+        reused.dispose();
+    }
+
+    @Test
+    public void testReleasedDataIsUnsubscribed() {
+        PooledRuleUnit unit = new PooledRuleUnit();
+        unit.setInstancesPoolSize(1);
+
+        Strings first = new Strings("a");
+        RuleUnitInstance<Strings> instance = unit.createInstance(first);
+        instance.dispose();
+
+        RuleUnitInstance<Strings> reused = unit.createInstance(new Strings("b"));
+        assertSame(instance, reused);
+
+        // the data of the released instance doesn't reach the reused evaluator anymore
+        first.getStrings().add("c");
+        assertEquals(1, ((ReteEvaluatorBasedRuleUnitInstance<Strings>) reused).getEvaluator()
+                .getEntryPoint(Strings.class.getCanonicalName() + ".strings").getFactCount());
+        assertEquals(1, reused.fire());
+        reused.dispose();
+    }
+
+    @Test
+    public void testInstanceBoundToDataNotSupportingUnsubscribeIsNotPooled() {
+        PooledRuleUnit unit = new PooledRuleUnit();
+        unit.setInstancesPoolSize(1);
+
+        RuleUnitInstance<Strings> instance = unit.createInstance(new Strings(new NotUnsubscribableDataStore<>(), "a"));
+        assertEquals(1, instance.fire());
+        instance.dispose();
+        assertEquals(0, unit.getInstancesPool().getIdleInstancesCount());
+
+        RuleUnitInstance<Strings> created = unit.createInstance(new Strings("b"));
+        assertNotSame(instance, created);
+        created.dispose();
+    }
+
+    @Test
+    public void testMaxIdleInstances() {
+        PooledRuleUnit unit = new PooledRuleUnit();
+        unit.setInstancesPoolSize(1);
+
+        RuleUnitInstance<Strings> first = unit.createInstance(new Strings("a"));
+        RuleUnitInstance<Strings> second = unit.createInstance(new Strings("b"));
+        assertNotSame(first, second);
+
+        first.dispose();
+        second.dispose();
+        assertEquals(1, unit.getInstancesPool().getIdleInstancesCount());
+
+        unit.setInstancesPoolSize(0);
+        assertNull(unit.getInstancesPool());
+    }
+
+    public static class Strings implements RuleUnitData {
+
+        private final DataStore<String> strings;
+
+        public Strings(String... values) {
+            this(new ListDataStore<>(), values);
+        }
+
+        public Strings(DataStore<String> strings, String... values) {
+            this.strings = strings;
+            for (String value : values) {
+                strings.add(value);
+            }
+        }
+
+        public DataStore<String> getStrings() {
+            return strings;
+        }
+    }
+
+    static class NotUnsubscribableDataStore<T> implements DataStore<T> {
+
+        private final ListDataStore<T> delegate = new ListDataStore<>();
+
+        @Override
+        public DataHandle add(T object) {
+            return delegate.add(object);
+        }
+
+        @Override
+        public void update(DataHandle handle, T object) {
+            delegate.update(handle, object);
+        }
+
+        @Override
+        public void remove(DataHandle handle) {
+            delegate.remove(handle);
+        }
+
+        @Override
+        public void remove(Object object) {
+            delegate.remove(object);
+        }
+
+        @Override
+        public void subscribe(DataProcessor<T> subscriber) {
+            delegate.subscribe(subscriber);
+        }
+    }
+
+    static class PooledRuleUnit extends AbstractRuleUnit<Strings> {
+
+        private final InternalKnowledgeBase kBase;
+
+        PooledRuleUnit() {
+            super(Strings.class.getCanonicalName(), InterpretedRuleUnit.DummyRuleUnits.INSTANCE);
+            String drl =
+                    "import " + String.class.getCanonicalName() + ";\n" +
+                    "rule R when\n" +
+                    "  String() from entry-point \"" + Strings.class.getCanonicalName() + ".strings\"\n" +
+                    "then\n" +
+                    "end\n";
+            KnowledgeBuilderImpl kBuilder = new KnowledgeBuilderImpl();
+            kBuilder.add(new ReaderResource(new StringReader(drl)), ResourceType.DRL);
+            kBase = KnowledgeBaseFactory.newKnowledgeBase();
+            kBase.addPackages(kBuilder.getKnowledgePackages());
+        }
+
+        @Override
+        protected RuleUnitInstance<Strings> internalCreateInstance(Strings data) {
+            return new InterpretedRuleUnitInstance<>(this, data, new RuleUnitExecutorImpl(kBase));
+        }
+    }
+}
@@ -499,8 +499,7 @@ public class ProtobufOutputMarshaller {
 
                 if ( key.size() > 1 ) {
                     // add all the other key's if they exist
-                    FastIterator keyIter = key.fastIterator();
-                    for ( DefaultFactHandle handle = key.getFirst().getNext(); handle != null; handle = (DefaultFactHandle) keyIter.next( handle ) ) {
+                    for ( DefaultFactHandle handle = key.getOtherFactHandles().getFirst(); handle != null; handle = handle.getNext() ) {
                         _key.addOtherHandle( handle.getId() );
                     }
                 }
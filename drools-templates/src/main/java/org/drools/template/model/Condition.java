@@ -16,6 +16,8 @@
 
 package org.drools.template.model;
 
+import java.util.List;
+
 /**
  * This class represents a single LHS item (which will be the same as a line in
  * traditional DRL).
@@ -26,6 +28,10 @@ public class Condition extends DRLElement
 
     public String _snippet;
 
+    private String _pattern;
+
+    private List<String> _constraints;
+
     /**
      * @param snippet The snippet to set.
      */
@@ -37,6 +43,29 @@ public class Condition extends DRLElement
         return this._snippet;
     }
 
+    /**
+     * Keeps the parts of a condition that is a single pattern, so that it can be built without parsing its snippet.
+     *
+     * @param pattern The pattern in front of the parentheses, as in $p : Person.
+     * @param constraints The constraints inside the parentheses, in their order.
+     */
+    public void setPattern(final String pattern,
+                           final List<String> constraints) {
+        this._pattern = pattern;
+        this._constraints = constraints;
+    }
+
+    /**
+     * @return The pattern of the condition, or null when the condition is only known by its snippet.
+     */
+    public String getPattern() {
+        return this._pattern;
+    }
+
+    public List<String> getConstraints() {
+        return this._constraints;
+    }
+
     public void renderDRL(final DRLOutput out) {
         out.writeLine("\t\t" + this._snippet);
     }
@@ -35,6 +35,13 @@ public class DRLOutput {
         this.writer = new StringWriter();
     }
 
+    /**
+     * Append the DRL rendered in another output
+     */
+    public void write(final DRLOutput other) {
+        this.writer.getBuffer().append(other.writer.getBuffer());
+    }
+
     /**
      * Return the rendered DRL so far
      */
@@ -16,8 +16,10 @@
 
 package org.drools.template.model;
 
+import java.util.ArrayList;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.stream.Collectors;
 
 /**
  * This is the top of the parse tree. Represents a package of rules once it has
@@ -28,6 +30,8 @@ public class Package extends AttributedDRLElement
         implements
         DRLJavaEmitter {
 
+    private static final int PARALLEL_RENDERING_THRESHOLD = 1000;
+
     private String name;
 
     private List<Import> imports;
@@ -105,6 +109,15 @@ public class Package extends AttributedDRLElement
     }
 
     public void renderDRL( final DRLOutput out) {
+        renderHeaderDRL(out);
+        renderRules(out);
+    }
+
+    /**
+     * Renders everything but the rules: the package, imports, globals, functions, queries, declared types and the
+     * attributes shared by the rules.
+     */
+    public void renderHeaderDRL( final DRLOutput out) {
         if ( name != null) {
             out.writeLine("package " + name.replace(' ', '_') + ";");
         }
@@ -124,8 +137,26 @@ public class Package extends AttributedDRLElement
 
         // attributes
         super.renderDRL(out);
+    }
 
-        renderDRL(rules, out);
+    /**
+     * The rules of a large sheet are rendered concurrently, each in its own output, and then appended in their order.
+     */
+    private void renderRules(final DRLOutput out) {
+        if (rules.size() < PARALLEL_RENDERING_THRESHOLD) {
+            renderDRL(rules, out);
+            return;
+        }
+        final List<DRLOutput> renderedRules = new ArrayList<>(rules).parallelStream()
+                .map(rule -> {
+                    final DRLOutput ruleOut = new DRLOutput();
+                    rule.renderDRL(ruleOut);
+                    return ruleOut;
+                })
+                .collect(Collectors.toList());
+        for (DRLOutput renderedRule : renderedRules) {
+            out.write(renderedRule);
+        }
     }
 
     private void renderDRL(final List<? extends DRLJavaEmitter> list,
@@ -89,4 +89,24 @@ public class PackageRenderTest {
         assertTrue(drl.contains("no-loop true"));
         assertTrue(drl.contains("salience 100"));
     }
+
+    @Test
+    public void testLargeRulesetKeepsRuleOrder() {
+        final Package ruleSet = new Package("my ruleset");
+        final StringBuilder expected = new StringBuilder();
+        for (int i = 0; i < 2000; i++) {
+            final Rule rule = buildRule();
+            rule.setName("rule " + i);
+            ruleSet.addRule(rule);
+
+            final DRLOutput ruleOut = new DRLOutput();
+            rule.renderDRL(ruleOut);
+            expected.append(ruleOut.getDRL());
+        }
+
+        final DRLOutput out = new DRLOutput();
+        ruleSet.renderDRL(out);
+
+        assertTrue(out.getDRL().endsWith(expected.toString()));
+    }
 }
@@ -2626,4 +2626,57 @@ public class AddRemoveRulesTest {
 
         assertThat(globalList).isEmpty();
     }
+
+    @Test
+    public void testAddManySharingRulesToSessionWithFacts() {
+        final String drl = "package org.drools.test; \n" +
+                "global java.util.List list;\n" +
+                "rule R1 when\n" +
+                "  $i : Integer()\n" +
+                "  String( length == $i )\n" +
+                "then\n" +
+                "  list.add(\"R1\");\n" +
+                "end\n" +
+                "rule R2 when\n" +
+                "  $i : Integer()\n" +
+                "  String( length == $i )\n" +
+                "  Long()\n" +
+                "then\n" +
+                "  list.add(\"R2\");\n" +
+                "end\n" +
+                "rule R3 when\n" +
+                "  $i : Integer()\n" +
+                "  String( length == $i )\n" +
+                "  not Double()\n" +
+                "then\n" +
+                "  list.add(\"R3\");\n" +
+                "end\n" +
+                "rule R4 when\n" +
+                "  Long()\n" +
+                "then\n" +
+                "  list.add(\"R4\");\n" +
+                "end\n";
+
+        final KieSession kSession = base.newKieSession();
+        kSession.insert(1);
+        kSession.insert("a");
+        kSession.insert(1L);
+        assertEquals(0, kSession.fireAllRules());
+
+        // all the rules are added to the network in a single change set
+        final KnowledgeBuilder kbuilder = TestUtil.createKnowledgeBuilder(null, drl);
+        base.addPackages( kbuilder.getKnowledgePackages() );
+
+        final List<String> list = new ArrayList<>();
+        kSession.setGlobal("list", list);
+
+        assertEquals(4, kSession.fireAllRules());
+        assertThat(list).containsExactlyInAnyOrder("R1", "R2", "R3", "R4");
+
+        list.clear();
+        kSession.insert(1.0);
+        kSession.insert("b");
+        assertEquals(2, kSession.fireAllRules());
+        assertThat(list).containsExactlyInAnyOrder("R1", "R2");
+    }
 }
@@ -35,6 +35,7 @@ import org.kie.internal.conf.ConsequenceExceptionHandlerOption;
 import org.kie.internal.conf.IndexLeftBetaMemoryOption;
 import org.kie.internal.conf.IndexPrecedenceOption;
 import org.kie.internal.conf.IndexRightBetaMemoryOption;
+import org.kie.internal.conf.LazyAgendaGroupsOption;
 import org.kie.internal.conf.MaxThreadsOption;
 import org.kie.internal.conf.MultithreadEvaluationOption;
 import org.kie.internal.conf.PermGenThresholdOption;
@@ -152,6 +153,30 @@ public class KnowledgeBaseConfigurationTest {
                       config.getProperty( ShareBetaNodesOption.PROPERTY_NAME ) );
     }
     
+    @Test
+    public void testLazyAgendaGroupsConfiguration() {
+        // setting the option using the type safe method
+        config.setOption( LazyAgendaGroupsOption.YES );
+
+        // checking the type safe getOption() method
+        assertEquals( LazyAgendaGroupsOption.YES,
+                      config.getOption( LazyAgendaGroupsOption.class ) );
+        // checking the string based getProperty() method
+        assertEquals( "true",
+                      config.getProperty( LazyAgendaGroupsOption.PROPERTY_NAME ) );
+
+        // setting the options using the string based setProperty() method
+        config.setProperty( LazyAgendaGroupsOption.PROPERTY_NAME,
+                            "false" );
+
+        // checking the type safe getOption() method
+        assertEquals( LazyAgendaGroupsOption.NO,
+                      config.getOption( LazyAgendaGroupsOption.class ) );
+        // checking the string based getProperty() method
+        assertEquals( "false",
+                      config.getProperty( LazyAgendaGroupsOption.PROPERTY_NAME ) );
+    }
+
     @Test
     public void testIndexLeftBetaMemoryConfiguration() {
         // setting the option using the type safe method
@@ -16,7 +16,9 @@
 package org.drools.mvel.integrationtests;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
 import java.util.concurrent.atomic.AtomicBoolean;
 
@@ -25,6 +27,7 @@ import org.drools.core.common.InternalRuleFlowGroup;
 import org.drools.core.common.InternalWorkingMemory;
 import org.drools.core.phreak.RuleAgendaItem;
 import org.drools.core.spi.AgendaGroup;
+import org.drools.kiesession.rulebase.InternalKnowledgeBase;
 import org.drools.mvel.compiler.Cell;
 import org.drools.mvel.compiler.Cheese;
 import org.drools.mvel.compiler.FactA;
@@ -36,11 +39,14 @@ import org.drools.mvel.compiler.PersonInterface;
 import org.drools.mvel.compiler.Pet;
 import org.drools.testcoverage.common.util.KieBaseTestConfiguration;
 import org.drools.testcoverage.common.util.KieBaseUtil;
+import org.drools.testcoverage.common.util.KieUtil;
 import org.drools.testcoverage.common.util.TestParametersUtil;
 import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.junit.runners.Parameterized;
 import org.kie.api.KieBase;
+import org.kie.api.KieBaseConfiguration;
+import org.kie.api.builder.KieModule;
 import org.kie.api.event.rule.AfterMatchFiredEvent;
 import org.kie.api.event.rule.AgendaEventListener;
 import org.kie.api.event.rule.DefaultAgendaEventListener;
@@ -48,9 +54,11 @@ import org.kie.api.event.rule.MatchCancelledEvent;
 import org.kie.api.event.rule.MatchCreatedEvent;
 import org.kie.api.runtime.KieSession;
 import org.kie.api.runtime.rule.FactHandle;
+import org.kie.internal.conf.LazyAgendaGroupsOption;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
 
 @RunWith(Parameterized.class)
 public class ExecutionFlowControlTest {
@@ -672,6 +680,118 @@ public class ExecutionFlowControlTest {
         assertEquals( "group2", list.get( 7 ) );
     }
 
+    @Test
+    public void testLazyAgendaGroups() {
+        String str =
+                "package org.drools.mvel.compiler\n" +
+                "global java.util.List list\n" +
+                "rule R1 when\n" +
+                "    Cheese( $type : type )\n" +
+                "then\n" +
+                "    list.add( \"MAIN \" + $type );\n" +
+                "    drools.setFocus( \"group1\" );\n" +
+                "end\n" +
+                "rule R2 agenda-group \"group1\" when\n" +
+                "    Cheese( $price : price )\n" +
+                "then\n" +
+                "    list.add( \"group1 \" + $price );\n" +
+                "end\n" +
+                "rule R3 agenda-group \"group2\" when\n" +
+                "    Cheese( $type : type, price > 10 )\n" +
+                "then\n" +
+                "    list.add( \"group2 \" + $type );\n" +
+                "end\n";
+
+        KieModule kieModule = KieUtil.getKieModuleFromDrls("test", kieBaseTestConfiguration, str);
+        KieBaseConfiguration kbConf = kieBaseTestConfiguration.getKieBaseConfiguration();
+        kbConf.setOption( LazyAgendaGroupsOption.YES );
+        KieBase kbase = KieBaseUtil.newKieBaseFromReleaseId(kieModule.getReleaseId(), kbConf);
+
+        InternalKnowledgeBase internalKBase = (InternalKnowledgeBase) kbase;
+        assertTrue( internalKBase.hasLazyRules( "group1" ) );
+        assertTrue( internalKBase.hasLazyRules( "group2" ) );
+
+        KieSession ksession = kbase.newKieSession();
+        final List<String> list = new ArrayList<>();
+        ksession.setGlobal( "list", list );
+
+        ksession.insert( new Cheese( "brie", 12 ) );
+        ksession.fireAllRules();
+
+        // the focus set by the consequence links group1 and its rule still fires in the same fireAllRules
+        assertFalse( internalKBase.hasLazyRules( "group1" ) );
+        assertEquals( 2, list.size() );
+        assertEquals( "MAIN brie", list.get( 0 ) );
+        assertEquals( "group1 12", list.get( 1 ) );
+
+        assertTrue( internalKBase.hasLazyRules( "group2" ) );
+        ksession.getAgenda().getAgendaGroup( "group2" ).setFocus();
+        ksession.fireAllRules();
+
+        assertFalse( internalKBase.hasLazyRules( "group2" ) );
+        assertEquals( 3, list.size() );
+        assertEquals( "group2 brie", list.get( 2 ) );
+
+        ksession.dispose();
+    }
+
+    @Test
+    public void testLazyAgendaGroupsWithFactsInsertedBeforeTheFocus() {
+        String str =
+                "package org.drools.mvel.compiler\n" +
+                "global java.util.List list\n" +
+                "rule R1 agenda-group \"group1\" when\n" +
+                "    Cheese( $type : type )\n" +
+                "then\n" +
+                "    list.add( \"group1 \" + $type );\n" +
+                "end\n" +
+                "rule R2 ruleflow-group \"flow\" when\n" +
+                "    Cheese( $type : type, price > 10 )\n" +
+                "then\n" +
+                "    list.add( \"flow \" + $type );\n" +
+                "end\n";
+
+        KieModule kieModule = KieUtil.getKieModuleFromDrls("test", kieBaseTestConfiguration, str);
+        KieBaseConfiguration kbConf = kieBaseTestConfiguration.getKieBaseConfiguration();
+        kbConf.setOption( LazyAgendaGroupsOption.YES );
+        KieBase kbase = KieBaseUtil.newKieBaseFromReleaseId(kieModule.getReleaseId(), kbConf);
+        InternalKnowledgeBase internalKBase = (InternalKnowledgeBase) kbase;
+
+        KieSession ksession1 = kbase.newKieSession();
+        final List<String> list1 = new ArrayList<>();
+        ksession1.setGlobal( "list", list1 );
+        ksession1.insert( new Cheese( "brie", 12 ) );
+
+        KieSession ksession2 = kbase.newKieSession();
+        final List<String> list2 = new ArrayList<>();
+        ksession2.setGlobal( "list", list2 );
+        ksession2.insert( new Cheese( "stilton", 8 ) );
+
+        ksession1.fireAllRules();
+        ksession2.fireAllRules();
+        assertTrue( list1.isEmpty() );
+        assertTrue( list2.isEmpty() );
+
+        // the focus on the first session links the rules of group1 also for the facts of the second one
+        ksession1.getAgenda().getAgendaGroup( "group1" ).setFocus();
+        assertFalse( internalKBase.hasLazyRules( "group1" ) );
+        ksession1.fireAllRules();
+        assertEquals( Collections.singletonList( "group1 brie" ), list1 );
+
+        ksession2.getAgenda().getAgendaGroup( "group1" ).setFocus();
+        ksession2.fireAllRules();
+        assertEquals( Collections.singletonList( "group1 stilton" ), list2 );
+
+        assertTrue( internalKBase.hasLazyRules( "flow" ) );
+        ((InternalAgenda) ksession1.getAgenda()).activateRuleFlowGroup( "flow" );
+        assertFalse( internalKBase.hasLazyRules( "flow" ) );
+        ksession1.fireAllRules();
+        assertEquals( Arrays.asList( "group1 brie", "flow brie" ), list1 );
+
+        ksession1.dispose();
+        ksession2.dispose();
+    }
+
     @Test
     public void testActivationGroups() throws Exception {
         KieBase kbase = KieBaseUtil.getKieBaseFromClasspathResources(this.getClass(), kieBaseTestConfiguration, "test_ActivationGroups.drl");
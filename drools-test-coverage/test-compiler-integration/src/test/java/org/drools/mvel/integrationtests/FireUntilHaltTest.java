@@ -18,8 +18,16 @@ package org.drools.mvel.integrationtests;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
+import org.drools.core.common.InternalWorkingMemory;
+import org.drools.core.util.LatencyHistogram;
+import org.drools.kiesession.agenda.DefaultAgenda;
+import org.drools.kiesession.session.SessionsReactor;
+import org.drools.kiesession.session.StatefulKnowledgeSessionImpl;
 import org.drools.mvel.compiler.Cheese;
 import org.drools.mvel.compiler.Person;
 import org.drools.testcoverage.common.util.KieBaseTestConfiguration;
@@ -29,14 +37,20 @@ import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.junit.runners.Parameterized;
 import org.kie.api.KieBase;
+import org.kie.api.KieServices;
+import org.kie.api.event.rule.AfterMatchFiredEvent;
+import org.kie.api.event.rule.DefaultAgendaEventListener;
 import org.kie.api.io.ResourceType;
 import org.kie.api.runtime.KieSession;
+import org.kie.api.runtime.KieSessionConfiguration;
 import org.kie.api.runtime.rule.EntryPoint;
 import org.kie.api.runtime.rule.FactHandle;
+import org.kie.internal.runtime.conf.FireUntilHaltFireBudgetOption;
 import org.kie.internal.utils.KieHelper;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
 
 @RunWith(Parameterized.class)
 public class FireUntilHaltTest {
@@ -98,6 +112,130 @@ public class FireUntilHaltTest {
         kSession.dispose();
     }
 
+    @Test(timeout = 10000)
+    public void testSessionsReactor() throws InterruptedException {
+        final String drl =
+                "import " + Person.class.getCanonicalName() + "\n" +
+                "global java.util.List list;" +
+                "rule R when\n" +
+                "    Person( happy, age >= 18 )\n" +
+                "then\n" +
+                "    list.add(\"happy adult\");" +
+                "end";
+
+        KieBase kbase = KieBaseUtil.getKieBaseFromKieModuleFromDrl("test", kieBaseTestConfiguration, drl);
+
+        // many sessions evaluated by 2 carrier threads instead of one fireUntilHalt thread each
+        final SessionsReactor reactor = new SessionsReactor(2);
+        final int sessionsNr = 50;
+        final List<KieSession> sessions = new ArrayList<>();
+        final List<List<String>> lists = new ArrayList<>();
+        for (int i = 0; i < sessionsNr; i++) {
+            KieSession kSession = kbase.newKieSession();
+            List<String> list = Collections.synchronizedList(new ArrayList<>());
+            kSession.setGlobal("list", list);
+            reactor.register((StatefulKnowledgeSessionImpl) kSession);
+            sessions.add(kSession);
+            lists.add(list);
+        }
+        assertEquals(sessionsNr, reactor.getRegisteredSessionsCount());
+
+        for (int i = 0; i < sessionsNr; i++) {
+            sessions.get(i).insert(new Person("me", 17 + i % 2, true));
+        }
+
+        for (int i = 0; i < sessionsNr; i++) {
+            final int expected = i % 2;
+            while (lists.get(i).size() < expected) {
+                Thread.sleep(10L);
+            }
+        }
+        Thread.sleep(100L);
+        for (int i = 0; i < sessionsNr; i++) {
+            assertEquals(i % 2, lists.get(i).size());
+        }
+
+        // a disposed session does not wait for a wake up to be unregistered
+        sessions.get(0).dispose();
+        assertEquals(sessionsNr - 1, reactor.getRegisteredSessionsCount());
+
+        reactor.shutdown();
+        assertEquals(0, reactor.getRegisteredSessionsCount());
+        sessions.forEach(KieSession::dispose);
+    }
+
+    @Test(timeout = 10000)
+    public void testFireUntilHaltWithFireBudget() throws InterruptedException {
+        // the cascade never ends by itself, it is stopped only by the insertion of a String
+        final String drl =
+                "import " + Cheese.class.getCanonicalName() + "\n" +
+                "import " + Person.class.getCanonicalName() + "\n" +
+                "global java.util.List list;" +
+                "rule Cascade when\n" +
+                "    $c : Cheese( price >= 0 )\n" +
+                "    not String()\n" +
+                "then\n" +
+                "    modify( $c ) { setPrice( $c.getPrice() + 1 ) };" +
+                "end\n" +
+                "rule R salience 10 when\n" +
+                "    Person( happy )\n" +
+                "then\n" +
+                "    list.add(\"happy\");" +
+                "end";
+
+        final int fireBudget = 2;
+        KieBase kbase = KieBaseUtil.getKieBaseFromKieModuleFromDrl("test", kieBaseTestConfiguration, drl);
+        KieSessionConfiguration conf = KieServices.get().newKieSessionConfiguration();
+        conf.setOption(FireUntilHaltFireBudgetOption.get(fireBudget));
+        KieSession kSession = kbase.newKieSession(conf, null);
+
+        final List<String> list = Collections.synchronizedList(new ArrayList<>());
+        kSession.setGlobal("list", list);
+        final AtomicInteger cascadeFireCount = new AtomicInteger();
+        kSession.addEventListener(new DefaultAgendaEventListener() {
+            @Override
+            public void afterMatchFired(AfterMatchFiredEvent event) {
+                if (event.getMatch().getRule().getName().equals("Cascade")) {
+                    cascadeFireCount.incrementAndGet();
+                }
+            }
+        });
+
+        final Thread t1 = new Thread(kSession::fireUntilHalt);
+        t1.start();
+
+        kSession.insert(new Cheese("counter", 0));
+        while (cascadeFireCount.get() < 10) {
+            Thread.sleep(10L);
+        }
+
+        // the persons inserted during the cascade are evaluated while it is still running
+        final int personsNr = 20;
+        for (int i = 0; i < personsNr; i++) {
+            kSession.insert(new Person("p" + i, 18, true));
+        }
+        while (list.size() < personsNr) {
+            Thread.sleep(10L);
+        }
+
+        kSession.insert("stop");
+        final int stoppedAt = cascadeFireCount.get();
+        kSession.halt();
+        t1.join(5000);
+        assertTrue(cascadeFireCount.get() >= stoppedAt);
+
+        // no iteration of the fireUntilHalt loop fired more rules than its budget
+        final DefaultAgenda agenda = (DefaultAgenda) ((InternalWorkingMemory) kSession).getAgenda();
+        assertEquals(fireBudget, agenda.getFireUntilHaltMaxIterationFireCount());
+
+        // the latency is recorded for each inserted fact
+        final LatencyHistogram latencies = agenda.getFireUntilHaltLatencies();
+        assertTrue(latencies.getCount() >= personsNr + 1);
+        assertTrue(latencies.getPercentile(99, TimeUnit.NANOSECONDS) > 0);
+
+        kSession.dispose();
+    }
+
     @Test
     public void testFireAllWhenFiringUntilHalt() throws InterruptedException {
         KieBase kbase = KieBaseUtil.getKieBaseFromKieModuleFromDrl("test", kieBaseTestConfiguration); // empty
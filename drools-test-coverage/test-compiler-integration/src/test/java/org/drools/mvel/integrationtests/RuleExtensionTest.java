@@ -423,4 +423,45 @@ public class RuleExtensionTest {
         assertEquals( 1, errors.size() );
         assertTrue( errors.iterator().next().toString().contains("Circular") );
     }
+
+    @Test
+    public void testManyRulesExtendingTheSameRule() {
+        // enough rules to have their LHS transformed in parallel, all sharing the elements of the parent
+        StringBuilder drl = new StringBuilder(
+                "package org.drools.test;\n" +
+                "global java.util.List list;\n" +
+                "rule \"Base\"\n" +
+                "when\n" +
+                "  $s : String( this == \"go\" ) or String( this == \"run\" )\n" +
+                "then\n" +
+                "end\n");
+        for (int i = 0; i < 12; i++) {
+            drl.append("rule \"Ext").append(i).append("\" extends \"Base\"\n" +
+                       "when\n" +
+                       "  Integer( intValue == ").append(i).append(" )\n" +
+                       "then\n" +
+                       "  list.add( $s + ").append(i).append(" );\n" +
+                       "end\n");
+        }
+
+        KieBase kbase = KieBaseUtil.getKieBaseFromKieModuleFromDrl("test", kieBaseTestConfiguration, drl.toString());
+        KieSession ksession = kbase.newKieSession();
+
+        List<String> list = new ArrayList<>();
+        ksession.setGlobal( "list", list );
+
+        ksession.insert( "go" );
+        ksession.insert( "run" );
+        for (int i = 0; i < 12; i++) {
+            ksession.insert( i );
+        }
+        ksession.fireAllRules();
+
+        assertEquals( 24, list.size() );
+        for (int i = 0; i < 12; i++) {
+            assertTrue( list.contains( "go" + i ) );
+            assertTrue( list.contains( "run" + i ) );
+        }
+        ksession.dispose();
+    }
 }
@@ -320,12 +320,31 @@ public class TruthMaintenanceSystemImpl implements TruthMaintenanceSystem {
 
         PropagationContext context = ((Tuple)activation).findMostRecentPropagationContext();
 
-        for ( LogicalDependency<M> node = list.getFirst(); node != null; node = node.getNext() ) {
-            removeLogicalDependency( node, context );
+        BeliefSystem<M> beliefSystem = getCommonBeliefSystem( list );
+        if ( beliefSystem != null ) {
+            // all the dependencies belong to the same belief system, so they can be deleted as a single batch
+            beliefSystem.delete( list, context );
+        } else {
+            for ( LogicalDependency<M> node = list.getFirst(); node != null; node = node.getNext() ) {
+                removeLogicalDependency( node, context );
+            }
         }
         activation.setLogicalDependencies( null );
     }
 
+    private static <M extends ModedAssertion<M>> BeliefSystem<M> getCommonBeliefSystem(LinkedList<LogicalDependency<M>> list) {
+        BeliefSystem<M> beliefSystem = null;
+        for ( LogicalDependency<M> node = list.getFirst(); node != null; node = node.getNext() ) {
+            BeliefSystem<M> nodeBeliefSystem = (( BeliefSet<M> ) node.getJustified()).getBeliefSystem();
+            if ( beliefSystem == null ) {
+                beliefSystem = nodeBeliefSystem;
+            } else if ( beliefSystem != nodeBeliefSystem ) {
+                return null;
+            }
+        }
+        return beliefSystem;
+    }
+
     public static <M extends ModedAssertion<M>> void removeLogicalDependency(final LogicalDependency<M> node, final PropagationContext context) {
         final BeliefSet<M> beliefSet = ( BeliefSet ) node.getJustified();
         beliefSet.getBeliefSystem().delete( node, beliefSet, context );
@@ -16,7 +16,6 @@
 package org.drools.tms.beliefsystem;
 
 import org.drools.core.common.InternalFactHandle;
-import org.drools.core.common.WorkingMemoryAction;
 import org.drools.core.util.FastIterator;
 import org.drools.core.spi.PropagationContext;
 
@@ -47,8 +46,6 @@ public interface BeliefSet<M extends ModedAssertion<M>> {
      */
     void clear(PropagationContext propagationContext);
     
-    void setWorkingMemoryAction(WorkingMemoryAction wmAction);
-
     boolean isNegated();
 
     boolean isDecided();
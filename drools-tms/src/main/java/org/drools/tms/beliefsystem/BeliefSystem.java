@@ -21,6 +21,7 @@ import org.drools.core.definitions.rule.impl.RuleImpl;
 import org.drools.core.reteoo.ObjectTypeConf;
 import org.drools.core.spi.Activation;
 import org.drools.core.spi.PropagationContext;
+import org.drools.core.util.LinkedList;
 import org.drools.tms.LogicalDependency;
 import org.drools.tms.agenda.TruthMaintenanceSystemActivation;
 
@@ -40,6 +41,16 @@ public interface BeliefSystem<M extends ModedAssertion<M>> {
     
     void delete(M mode, RuleImpl rule, Activation activation, Object payload, BeliefSet<M> beliefSet, PropagationContext context);
 
+    /**
+     * Deletes all the logical dependencies of the same cancelled activation. Implementations can first remove all of
+     * them from their belief sets and only then retract, in a single pass, the facts left without any justification.
+     */
+    default void delete(LinkedList<LogicalDependency<M>> nodes, PropagationContext context) {
+        for ( LogicalDependency<M> node = nodes.getFirst(); node != null; node = node.getNext() ) {
+            delete( node, (BeliefSet<M>) node.getJustified(), context );
+        }
+    }
+
     BeliefSet newBeliefSet(InternalFactHandle fh);
     
     LogicalDependency newLogicalDependency(TruthMaintenanceSystemActivation<M> activation, BeliefSet<M> beliefSet, Object object, Object value);
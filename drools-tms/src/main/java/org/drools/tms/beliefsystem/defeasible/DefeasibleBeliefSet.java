@@ -21,7 +21,6 @@ import java.util.List;
 import org.drools.core.common.EqualityKey;
 import org.drools.core.common.InternalFactHandle;
 import org.drools.core.common.QueryElementFactHandle;
-import org.drools.core.common.WorkingMemoryAction;
 import org.drools.core.definitions.rule.impl.RuleImpl;
 import org.drools.core.spi.PropagationContext;
 import org.drools.core.util.Entry;
@@ -362,9 +361,6 @@ public class DefeasibleBeliefSet<M extends DefeasibleMode<M>> implements JTMSBel
     public void clear(PropagationContext propagationContext) {
     }
 
-    public void setWorkingMemoryAction(WorkingMemoryAction wmAction) {
-    }
-
     public boolean isDefinitelyPosProveable() {
         return  (statusMask &  DEFINITELY_POS_BIT) != 0;
     }
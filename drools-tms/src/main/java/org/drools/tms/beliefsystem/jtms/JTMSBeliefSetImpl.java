@@ -18,7 +18,6 @@ package org.drools.tms.beliefsystem.jtms;
 import org.drools.tms.beliefsystem.BeliefSystem;
 import org.drools.core.common.InternalFactHandle;
 import org.drools.tms.LogicalDependency;
-import org.drools.core.common.WorkingMemoryAction;
 import org.drools.core.spi.PropagationContext;
 import org.drools.core.util.LinkedList;
 
@@ -26,8 +25,6 @@ public class JTMSBeliefSetImpl<M extends JTMSMode<M>> extends LinkedList<M> impl
 
     private BeliefSystem<M> beliefSystem;
 
-    private WorkingMemoryAction wmAction;
-
     private InternalFactHandle rootHandle;
 
     private int posCounter = 0;
@@ -163,12 +160,4 @@ public class JTMSBeliefSetImpl<M extends JTMSMode<M>> extends LinkedList<M> impl
             entry = temp;
         }
     }    
-
-    public void setWorkingMemoryAction(WorkingMemoryAction wmAction) {
-        this.wmAction = wmAction;
-    }    
-    
-    public WorkingMemoryAction getWorkingMemoryAction() {
-        return this.wmAction;
-    }
 }
@@ -15,6 +15,9 @@
 
 package org.drools.tms.beliefsystem.jtms;
 
+import java.util.ArrayList;
+import java.util.List;
+
 import org.drools.core.WorkingMemoryEntryPoint;
 import org.drools.tms.TruthMaintenanceSystemEqualityKey;
 import org.drools.tms.beliefsystem.BeliefSet;
@@ -27,6 +30,7 @@ import org.drools.core.definitions.rule.impl.RuleImpl;
 import org.drools.core.reteoo.ObjectTypeConf;
 import org.drools.core.spi.Activation;
 import org.drools.core.spi.PropagationContext;
+import org.drools.core.util.LinkedList;
 import org.drools.tms.LogicalDependency;
 import org.drools.tms.agenda.TruthMaintenanceSystemActivation;
 import org.drools.tms.beliefsystem.BeliefSystem;
@@ -116,6 +120,35 @@ public class JTMSBeliefSystem<M extends JTMSMode<M>>
 
     @Override
     public void delete( M mode, RuleImpl rule, Activation activation, Object payload, BeliefSet<M> beliefSet, PropagationContext context ) {
+        if ( removeMode( mode, rule, activation, payload, beliefSet, context ) ) {
+            retract( beliefSet, activation, context );
+        }
+    }
+
+    @Override
+    public void delete(LinkedList<LogicalDependency<M>> nodes, PropagationContext context) {
+        // first remove all the dependencies from their belief sets, then retract the facts left unjustified with a single propagation
+        List<BeliefSet<M>> unjustified = null;
+        for ( LogicalDependency<M> node = nodes.getFirst(); node != null; node = node.getNext() ) {
+            BeliefSet<M> beliefSet = (BeliefSet<M>) node.getJustified();
+            if ( removeMode( node.getMode(), node.getJustifier().getRule(), node.getJustifier(), node.getObject(), beliefSet, context ) ) {
+                if ( unjustified == null ) {
+                    unjustified = new ArrayList<>();
+                }
+                unjustified.add( beliefSet );
+            }
+        }
+
+        if ( unjustified != null ) {
+            Activation activation = nodes.getFirst().getJustifier();
+            retract( unjustified, activation, context );
+        }
+    }
+
+    /**
+     * Removes the mode from the belief set and returns true if the fact is now unjustified and has to be retracted.
+     */
+    private boolean removeMode( M mode, RuleImpl rule, Activation activation, Object payload, BeliefSet<M> beliefSet, PropagationContext context ) {
         if ( log.isTraceEnabled() ) {
             log.trace( "TMSDelete {} {}", payload, mode.getValue() );
         }
@@ -139,9 +172,8 @@ public class JTMSBeliefSystem<M extends JTMSMode<M>>
 
 
         if ( beliefSet.isEmpty() && fh.getEqualityKey().getStatus() == EqualityKey.JUSTIFIED ) {
-            // the set is empty, so delete form the EP, so things are cleaned up.
-            ep.delete(fh, fh.getObject(), getObjectTypeConf(beliefSet), context.getRuleOrigin(),
-                      null, activation != null ? activation.getTuple().getTupleSink() : null );
+            // the set is empty, so it has to be deleted from the EP, so things are cleaned up.
+            return true;
         } else  if ( !(processBeliefSet( rule, activation, payload, context, jtmsBeliefSet, wasDecided, wasNegated, fh) && beliefSet.isEmpty())  ) {
             //  The state of the BS did not change, but maybe the prime did
             if ( fh.getObject() == payload ) {
@@ -179,15 +211,47 @@ public class JTMSBeliefSystem<M extends JTMSMode<M>>
         }
 
         if ( beliefSet.isEmpty() ) {
-            // if the beliefSet is empty, we must null the logical handle
-            EqualityKey key = fh.getEqualityKey();
-            key.setLogicalFactHandle( null );
-            ((TruthMaintenanceSystemEqualityKey)key).setBeliefSet(null);
-
-            if ( key.getStatus() == EqualityKey.JUSTIFIED ) {
-                // if it's stated, there will be other handles, so leave it in the TMS
-                tms.remove( key );
-            }
+            clearLogicalFactHandle( fh.getEqualityKey() );
+        }
+        return false;
+    }
+
+    private void retract( BeliefSet<M> beliefSet, Activation activation, PropagationContext context ) {
+        InternalFactHandle fh = beliefSet.getFactHandle();
+        EqualityKey key = fh.getEqualityKey();
+
+        ep.delete(fh, fh.getObject(), getObjectTypeConf(beliefSet), context.getRuleOrigin(),
+                  null, activation != null ? activation.getTuple().getTupleSink() : null );
+
+        clearLogicalFactHandle( key );
+    }
+
+    private void retract( List<BeliefSet<M>> beliefSets, Activation activation, PropagationContext context ) {
+        List<InternalFactHandle> handles = new ArrayList<>( beliefSets.size() );
+        List<ObjectTypeConf> typeConfs = new ArrayList<>( beliefSets.size() );
+        List<EqualityKey> keys = new ArrayList<>( beliefSets.size() );
+        for ( BeliefSet<M> beliefSet : beliefSets ) {
+            InternalFactHandle fh = beliefSet.getFactHandle();
+            handles.add( fh );
+            typeConfs.add( getObjectTypeConf( beliefSet ) );
+            keys.add( fh.getEqualityKey() );
+        }
+
+        ep.delete( handles, typeConfs, context.getRuleOrigin(), activation != null ? activation.getTuple().getTupleSink() : null );
+
+        for ( EqualityKey key : keys ) {
+            clearLogicalFactHandle( key );
+        }
+    }
+
+    private void clearLogicalFactHandle( EqualityKey key ) {
+        // if the beliefSet is empty, we must null the logical handle
+        key.setLogicalFactHandle( null );
+        ((TruthMaintenanceSystemEqualityKey)key).setBeliefSet(null);
+
+        if ( key.getStatus() == EqualityKey.JUSTIFIED ) {
+            // if it's stated, there will be other handles, so leave it in the TMS
+            tms.remove( key );
         }
     }
 
@@ -82,7 +82,6 @@ public class BeliefSystemLogicalCallback extends PropagationEntry.AbstractPropag
         NamedEntryPoint nep = (NamedEntryPoint) handle.getEntryPoint(reteEvaluator) ;
 
         BeliefSet bs = ((TruthMaintenanceSystemEqualityKey)handle.getEqualityKey()).getBeliefSet();
-        bs.setWorkingMemoryAction( null );
 
         if ( update ) {
             if ( !bs.isEmpty() ) {
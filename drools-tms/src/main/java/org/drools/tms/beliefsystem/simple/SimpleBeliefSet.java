@@ -20,7 +20,6 @@ import org.drools.tms.beliefsystem.BeliefSystem;
 import org.drools.tms.SimpleMode;
 import org.drools.core.common.InternalFactHandle;
 import org.drools.tms.LogicalDependency;
-import org.drools.core.common.WorkingMemoryAction;
 import org.drools.core.spi.PropagationContext;
 import org.drools.core.util.LinkedList;
 import org.drools.core.util.LinkedListEntry;
@@ -29,9 +28,7 @@ public class SimpleBeliefSet extends LinkedList<SimpleMode> implements BeliefSet
     protected BeliefSystem beliefSystem;
     
     protected InternalFactHandle fh;
-    
-    protected WorkingMemoryAction wmAction;
-    
+
     public SimpleBeliefSet(BeliefSystem beliefSystem, InternalFactHandle fh) {
         this.beliefSystem = beliefSystem;
         this.fh = fh;
@@ -77,14 +74,6 @@ public class SimpleBeliefSet extends LinkedList<SimpleMode> implements BeliefSet
         }
     }    
 
-    public WorkingMemoryAction getWorkingMemoryAction() {
-        return wmAction;
-    }
-
-    public void setWorkingMemoryAction(WorkingMemoryAction wmAction) {
-        this.wmAction = wmAction;
-    }
-
     @Override
     public boolean isNegated() {
         return false;
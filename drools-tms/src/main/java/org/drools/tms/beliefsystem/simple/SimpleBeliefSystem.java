@@ -15,6 +15,9 @@
 
 package org.drools.tms.beliefsystem.simple;
 
+import java.util.ArrayList;
+import java.util.List;
+
 import org.drools.core.WorkingMemoryEntryPoint;
 import org.drools.tms.TruthMaintenanceSystemEqualityKey;
 import org.drools.tms.beliefsystem.BeliefSet;
@@ -28,6 +31,7 @@ import org.drools.core.definitions.rule.impl.RuleImpl;
 import org.drools.core.reteoo.ObjectTypeConf;
 import org.drools.core.spi.Activation;
 import org.drools.core.spi.PropagationContext;
+import org.drools.core.util.LinkedList;
 import org.drools.tms.LogicalDependency;
 import org.drools.tms.SimpleMode;
 import org.drools.tms.agenda.TruthMaintenanceSystemActivation;
@@ -118,15 +122,45 @@ public class SimpleBeliefSystem
 
     @Override
     public void delete( SimpleMode mode, RuleImpl rule, Activation activation, Object payload, BeliefSet<SimpleMode> beliefSet, PropagationContext context ) {
+        if ( removeMode( mode, payload, beliefSet ) ) {
+            retract( beliefSet, activation, context );
+        }
+    }
+
+    @Override
+    public void delete(LinkedList<LogicalDependency<SimpleMode>> nodes, PropagationContext context) {
+        // first remove all the dependencies from their belief sets, then retract the facts left unjustified with a single propagation
+        List<BeliefSet<SimpleMode>> unjustified = null;
+        for ( LogicalDependency<SimpleMode> node = nodes.getFirst(); node != null; node = node.getNext() ) {
+            BeliefSet<SimpleMode> beliefSet = (BeliefSet<SimpleMode>) node.getJustified();
+            if ( removeMode( node.getMode(), node.getObject(), beliefSet ) ) {
+                if ( unjustified == null ) {
+                    unjustified = new ArrayList<>();
+                }
+                unjustified.add( beliefSet );
+            }
+        }
 
+        if ( unjustified != null ) {
+            Activation activation = nodes.getFirst().getJustifier();
+            retract( unjustified, activation, context );
+        }
+    }
+
+    /**
+     * Removes the mode from the belief set and returns true if the fact is now unjustified and has to be retracted.
+     */
+    private boolean removeMode( SimpleMode mode, Object payload, BeliefSet<SimpleMode> beliefSet ) {
         beliefSet.remove( mode );
 
         InternalFactHandle bfh = beliefSet.getFactHandle();
+        EqualityKey key = bfh.getEqualityKey();
 
-        if ( beliefSet.isEmpty() && bfh.getEqualityKey() != null && bfh.getEqualityKey().getStatus() == EqualityKey.JUSTIFIED ) {
-            ep.delete(bfh, bfh.getObject(), getObjectTypeConf(beliefSet), context.getRuleOrigin(),
-                      null, activation != null ? activation.getTuple().getTupleSink() : null);
-        } else if ( !beliefSet.isEmpty() && bfh.getObject() == payload && payload != bfh.getObject() ) {
+        if ( beliefSet.isEmpty() && key != null && key.getStatus() == EqualityKey.JUSTIFIED ) {
+            return true;
+        }
+
+        if ( !beliefSet.isEmpty() && bfh.getObject() == payload && payload != bfh.getObject() ) {
             // prime has changed, to update new object
             // Equality might have changed on the object, so remove (which uses the handle id) and add back in
             WorkingMemoryEntryPoint ep = bfh.getEntryPoint(this.ep.getReteEvaluator());
@@ -134,16 +168,49 @@ public class SimpleBeliefSystem
             ep.update( bfh, bfh.getObject(), allSetButTraitBitMask(), Object.class, null );
         }
 
-        if ( beliefSet.isEmpty() && bfh.getEqualityKey() != null ) {
-            // if the beliefSet is empty, we must null the logical handle
-            EqualityKey key = bfh.getEqualityKey();
-            key.setLogicalFactHandle( null );
-            ((TruthMaintenanceSystemEqualityKey)key).setBeliefSet( null );
+        if ( beliefSet.isEmpty() && key != null ) {
+            // the fact is also stated, so it stays in the network
+            clearLogicalFactHandle( key );
+        }
+        return false;
+    }
 
-            if ( key.getStatus() == EqualityKey.JUSTIFIED ) {
-                // if it's stated, there will be other handles, so leave it in the TMS
-                tms.remove( key );
-            }
+    private void retract( BeliefSet<SimpleMode> beliefSet, Activation activation, PropagationContext context ) {
+        InternalFactHandle bfh = beliefSet.getFactHandle();
+        EqualityKey key = bfh.getEqualityKey();
+
+        ep.delete(bfh, bfh.getObject(), getObjectTypeConf(beliefSet), context.getRuleOrigin(),
+                  null, activation != null ? activation.getTuple().getTupleSink() : null);
+
+        clearLogicalFactHandle( key );
+    }
+
+    private void retract( List<BeliefSet<SimpleMode>> beliefSets, Activation activation, PropagationContext context ) {
+        List<InternalFactHandle> handles = new ArrayList<>( beliefSets.size() );
+        List<ObjectTypeConf> typeConfs = new ArrayList<>( beliefSets.size() );
+        List<EqualityKey> keys = new ArrayList<>( beliefSets.size() );
+        for ( BeliefSet<SimpleMode> beliefSet : beliefSets ) {
+            InternalFactHandle fh = beliefSet.getFactHandle();
+            handles.add( fh );
+            typeConfs.add( getObjectTypeConf( beliefSet ) );
+            keys.add( fh.getEqualityKey() );
+        }
+
+        ep.delete( handles, typeConfs, context.getRuleOrigin(), activation != null ? activation.getTuple().getTupleSink() : null );
+
+        for ( EqualityKey key : keys ) {
+            clearLogicalFactHandle( key );
+        }
+    }
+
+    private void clearLogicalFactHandle( EqualityKey key ) {
+        // the beliefSet is empty, so we must null the logical handle
+        key.setLogicalFactHandle( null );
+        ((TruthMaintenanceSystemEqualityKey)key).setBeliefSet( null );
+
+        if ( key.getStatus() == EqualityKey.JUSTIFIED ) {
+            // if it's stated, there will be other handles, so leave it in the TMS
+            tms.remove( key );
         }
     }
 
@@ -20,6 +20,7 @@ import org.drools.core.common.EqualityKey;
 import org.drools.core.common.InternalFactHandle;
 import org.drools.core.reteoo.ReteooFactHandleFactory;
 import org.drools.core.test.model.Cheese;
+import org.drools.tms.beliefsystem.simple.SimpleBeliefSet;
 import org.junit.Test;
 
 import static org.junit.Assert.assertEquals;
@@ -65,4 +66,28 @@ public class EqualityKeyTest {
         assertNull( key.getFactHandle() );
         assertEquals( 0, key.size() );
     }
+
+    @Test
+    public void testLogicalFactHandle() {
+        ReteooFactHandleFactory factory = new ReteooFactHandleFactory();
+
+        InternalFactHandle stated = factory.newFactHandle( new Cheese ("c", 10), null, null, null );
+        TruthMaintenanceSystemEqualityKey key = new TruthMaintenanceSystemEqualityKey( stated, EqualityKey.STATED );
+        assertNull( key.getOtherFactHandles() );
+
+        InternalFactHandle logical = factory.newFactHandle( new Cheese ("c", 10), null, null, null );
+        key.setLogicalFactHandle( logical );
+        assertSame( logical, key.getFactHandle() );
+        assertSame( stated, key.get( 1 ) );
+        assertEquals( 2, key.size() );
+
+        key.setBeliefSet( new SimpleBeliefSet() );
+        assertSame( logical, key.getLogicalFactHandle() );
+
+        // the logical handle is removed, and the stated one is the only one left
+        key.setLogicalFactHandle( null );
+        assertSame( stated, key.getFactHandle() );
+        assertEquals( 1, key.size() );
+        assertNull( key.getOtherFactHandles() );
+    }
 }
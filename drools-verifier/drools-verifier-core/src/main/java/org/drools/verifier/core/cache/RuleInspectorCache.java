@@ -220,6 +220,10 @@ public class RuleInspectorCache {
         return ruleInspectors.get(getRule(row));
     }
 
+    public boolean contains(final RuleInspector ruleInspector) {
+        return ruleInspectors.get(ruleInspector.getRule()) == ruleInspector;
+    }
+
     public AnalyzerConfiguration getConfiguration() {
         return configuration;
     }
@@ -73,6 +73,9 @@ public class RuleInspector
     private final InspectorList<ActionInspector> brlActionInspectors;
     private InspectorList<ActionsInspectorMultiMap> actionsInspectors = null;
     private InspectorList<ConditionsInspectorMultiMap> conditionsInspectors = null;
+    private boolean actionsInspectorsChanged = false;
+    private boolean conditionsInspectorsChanged = false;
+    private int version = 0;
 
     public RuleInspector(final Rule rule,
                          final CheckStorage checkStorage,
@@ -101,9 +104,18 @@ public class RuleInspector
         makeChecks();
     }
 
+    /**
+     * The lists are filled again instead of replaced, so they keep their UUIDs and the relations other rows have
+     * cached against them are revalidated instead of piling up.
+     */
     private void makeConditionsInspectors() {
-        conditionsInspectors = new InspectorList<>(true,
-                                                   configuration);
+        if (conditionsInspectors == null) {
+            conditionsInspectors = new InspectorList<>(true,
+                                                       configuration);
+        } else {
+            conditionsInspectors.clear();
+        }
+        conditionsInspectorsChanged = false;
 
         for (final PatternInspector patternInspector : patternInspectorList) {
             conditionsInspectors.add(patternInspector.getConditionsInspector());
@@ -111,8 +123,13 @@ public class RuleInspector
     }
 
     private void makeActionsInspectors() {
-        actionsInspectors = new InspectorList<>(true,
-                                                configuration);
+        if (actionsInspectors == null) {
+            actionsInspectors = new InspectorList<>(true,
+                                                    configuration);
+        } else {
+            actionsInspectors.clear();
+        }
+        actionsInspectorsChanged = false;
 
         for (final PatternInspector patternInspector : patternInspectorList) {
             actionsInspectors.add(patternInspector.getActionsInspector());
@@ -166,12 +183,14 @@ public class RuleInspector
 
                                                                                @Override
                                                                                public void resetActionsInspectors() {
-                                                                                   actionsInspectors = null;
+                                                                                   actionsInspectorsChanged = true;
+                                                                                   version++;
                                                                                }
 
                                                                                @Override
                                                                                public void resetConditionsInspectors() {
-                                                                                   conditionsInspectors = null;
+                                                                                   conditionsInspectorsChanged = true;
+                                                                                   version++;
                                                                                }
                                                                            },
                                                                            configuration);
@@ -181,6 +200,7 @@ public class RuleInspector
     }
 
     private void updateBRLConditionInspectors(final Collection<Condition> conditions) {
+        version++;
         this.brlConditionsInspectors.clear();
         for (final Condition condition : conditions) {
             this.brlConditionsInspectors.add(new BRLConditionInspector((BRLCondition) condition,
@@ -189,6 +209,7 @@ public class RuleInspector
     }
 
     private void updateBRLActionInspectors(final Collection<Action> actions) {
+        version++;
         this.brlActionInspectors.clear();
         for (final Action action : actions) {
             this.brlActionInspectors.add(new BRLActionInspector((BRLAction) action,
@@ -197,14 +218,14 @@ public class RuleInspector
     }
 
     public InspectorList<ConditionsInspectorMultiMap> getConditionsInspectors() {
-        if (conditionsInspectors == null) {
+        if (conditionsInspectors == null || conditionsInspectorsChanged) {
             makeConditionsInspectors();
         }
         return conditionsInspectors;
     }
 
     public InspectorList<ActionsInspectorMultiMap> getActionsInspectors() {
-        if (actionsInspectors == null) {
+        if (actionsInspectors == null || actionsInspectorsChanged) {
             makeActionsInspectors();
         }
         return actionsInspectors;
@@ -214,6 +235,13 @@ public class RuleInspector
         return patternInspectorList;
     }
 
+    /**
+     * @return A number that changes every time a condition or an action of the row changes
+     */
+    public int getVersion() {
+        return version;
+    }
+
     public int getRowIndex() {
         return rule.getRowNumber();
     }
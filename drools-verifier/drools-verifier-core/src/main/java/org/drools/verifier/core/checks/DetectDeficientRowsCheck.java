@@ -29,6 +29,10 @@ import org.drools.verifier.core.configuration.AnalyzerConfiguration;
 public class DetectDeficientRowsCheck
         extends OneToManyCheck {
 
+    private RuleInspector notDeficientTo = null;
+    private int notDeficientToVersion;
+    private int version;
+
     public DetectDeficientRowsCheck(final RuleInspector ruleInspector,
                                     final AnalyzerConfiguration configuration) {
         super(ruleInspector,
@@ -41,6 +45,13 @@ public class DetectDeficientRowsCheck
 
     @Override
     public boolean check() {
+        if (isStillNotDeficient()) {
+            return hasIssues = false;
+        }
+
+        notDeficientTo = null;
+        version = ruleInspector.getVersion();
+
         return hasIssues = !ruleInspector.isEmpty() &&
                 ruleInspector.atLeastOneConditionHasAValue() &&
                 thereIsAtLeastOneRow() &&
@@ -48,7 +59,25 @@ public class DetectDeficientRowsCheck
     }
 
     private boolean isDeficient() {
-        return !getOtherRows().stream().anyMatch(other -> !isDeficient(other));
+        for (final RuleInspector other : getOtherRows()) {
+            if (!isDeficient(other)) {
+                notDeficientTo = other;
+                notDeficientToVersion = other.getVersion();
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * When neither this row nor the row that proved it not deficient changed since the last run, the result still
+     * holds and the other rows do not need to be looked at again.
+     */
+    private boolean isStillNotDeficient() {
+        return notDeficientTo != null
+                && version == ruleInspector.getVersion()
+                && notDeficientToVersion == notDeficientTo.getVersion()
+                && ruleInspector.getCache().contains(notDeficientTo);
     }
 
     private boolean isDeficient(final RuleInspector other) {
@@ -51,7 +51,7 @@ public class CheckRunManager {
             }
         }
 
-        checkRunner.run(rechecks,
+        checkRunner.run(new PairCheckPruner().prune(rechecks),
                         onStatus,
                         onCompletion);
         rechecks.clear();
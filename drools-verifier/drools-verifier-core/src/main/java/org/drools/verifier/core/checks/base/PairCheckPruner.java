@@ -0,0 +1,136 @@
+/*
+ * Copyright 2022 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.drools.verifier.core.checks.base;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.drools.verifier.core.cache.inspectors.RuleInspector;
+import org.drools.verifier.core.cache.inspectors.condition.ConditionInspector;
+import org.drools.verifier.core.cache.inspectors.condition.ConditionsInspectorMultiMap;
+import org.drools.verifier.core.index.model.ObjectField;
+
+/**
+ * Leaves out the pair checks that can not find an issue, before they are run.
+ * <br>
+ * <br>
+ * Every check of a {@link PairCheckBundle} needs the conditions of the row to subsume the conditions of the other row
+ * and that never happens when the two rows have conflicting conditions on the same field, like age &lt; 10 and age &gt; 20.
+ * The conditions are indexed per field and grouped by value, so the conflict between two groups is resolved only once,
+ * no matter how many rows share them.
+ */
+public class PairCheckPruner {
+
+    private final Map<ObjectField, Map<String, ConditionGroup>> groupsByField = new HashMap<>();
+    private final Map<RuleInspector, List<ConditionGroup>> groupsByRow = new HashMap<>();
+    private final Map<RuleInspector, Set<RuleInspector>> conflictingRows = new HashMap<>();
+
+    /**
+     * @param checks Checks that are going to be run
+     * @return The checks that still need to run. The issues of the pair checks that are left out are cleared.
+     */
+    public Set<Check> prune(final Set<Check> checks) {
+        for (final Check check : checks) {
+            if (check instanceof PairCheckBundle) {
+                index(((PairCheckBundle) check).getRuleInspector());
+                index(((PairCheckBundle) check).getOther());
+            }
+        }
+
+        final Set<Check> result = new HashSet<>();
+        for (final Check check : checks) {
+            if (check instanceof PairCheckBundle && haveConflictingConditions((PairCheckBundle) check)) {
+                ((PairCheckBundle) check).clearIssues();
+            } else {
+                result.add(check);
+            }
+        }
+        return result;
+    }
+
+    private void index(final RuleInspector ruleInspector) {
+        if (groupsByRow.containsKey(ruleInspector)) {
+            return;
+        }
+
+        final List<ConditionGroup> groups = new ArrayList<>();
+        for (final ConditionsInspectorMultiMap conditionsInspectors : ruleInspector.getConditionsInspectors()) {
+            for (final ObjectField field : conditionsInspectors.keySet()) {
+                final Map<String, ConditionGroup> fieldGroups = groupsByField.computeIfAbsent(field,
+                                                                                              k -> new HashMap<>());
+                for (final ConditionInspector conditionInspector : conditionsInspectors.get(field)) {
+                    final ConditionGroup group = fieldGroups.computeIfAbsent(signature(conditionInspector),
+                                                                             k -> new ConditionGroup(field,
+                                                                                                     conditionInspector));
+                    group.rows.add(ruleInspector);
+                    groups.add(group);
+                }
+            }
+        }
+        groupsByRow.put(ruleInspector,
+                        groups);
+    }
+
+    private boolean haveConflictingConditions(final PairCheckBundle pairCheckBundle) {
+        return conflictingRows.computeIfAbsent(pairCheckBundle.getRuleInspector(),
+                                               this::findConflictingRows)
+                .contains(pairCheckBundle.getOther());
+    }
+
+    private Set<RuleInspector> findConflictingRows(final RuleInspector ruleInspector) {
+        final Set<RuleInspector> result = new HashSet<>();
+        for (final ConditionGroup group : groupsByRow.get(ruleInspector)) {
+            for (final ConditionGroup other : groupsByField.get(group.field).values()) {
+                if (group.conflicts(other)) {
+                    result.addAll(other.rows);
+                }
+            }
+        }
+        return result;
+    }
+
+    private static String signature(final ConditionInspector conditionInspector) {
+        return conditionInspector.getClass().getName()
+                + " " + conditionInspector.toHumanReadableString()
+                + " " + conditionInspector.getValues();
+    }
+
+    /**
+     * The conditions of one field that have the same operator and values.
+     */
+    private static class ConditionGroup {
+
+        private final ObjectField field;
+        private final ConditionInspector conditionInspector;
+        private final Set<RuleInspector> rows = new HashSet<>();
+        private final Map<ConditionGroup, Boolean> conflicts = new HashMap<>();
+
+        private ConditionGroup(final ObjectField field,
+                               final ConditionInspector conditionInspector) {
+            this.field = field;
+            this.conditionInspector = conditionInspector;
+        }
+
+        private boolean conflicts(final ConditionGroup other) {
+            return conflicts.computeIfAbsent(other,
+                                             o -> conditionInspector.conflicts(o.conditionInspector));
+        }
+    }
+}
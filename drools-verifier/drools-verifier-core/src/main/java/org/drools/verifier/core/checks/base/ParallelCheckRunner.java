@@ -0,0 +1,141 @@
+/*
+ * Copyright 2022 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.drools.verifier.core.checks.base;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+
+import org.drools.verifier.api.Command;
+import org.drools.verifier.api.StatusUpdate;
+import org.drools.verifier.core.cache.RuleInspectorCache;
+import org.drools.verifier.core.cache.inspectors.RuleInspector;
+
+/**
+ * Server side runner that splits the checks in blocks and runs the blocks concurrently.
+ * <br>
+ * <br>
+ * The inspectors that are built lazily are created before the blocks are submitted, the relations cached by the
+ * inspectors while the checks run are thread safe. Not available in GWT, see VerifierCore.gwt.xml.
+ */
+public class ParallelCheckRunner
+        implements CheckRunner {
+
+    private static final int BLOCK_SIZE = 50;
+
+    private final ExecutorService executorService;
+
+    private volatile boolean isCancelled = false;
+
+    public ParallelCheckRunner() {
+        this(ForkJoinPool.commonPool());
+    }
+
+    public ParallelCheckRunner(final ExecutorService executorService) {
+        this.executorService = executorService;
+    }
+
+    @Override
+    public void run(final Set<Check> rechecks,
+                    final StatusUpdate onStatus,
+                    final Command onCompletion) {
+        isCancelled = false;
+
+        final List<Check> checksToRun = new ArrayList<>(rechecks);
+        makeLazyInspectors(checksToRun);
+
+        final List<Future<?>> blocks = new ArrayList<>();
+        for (int startIndex = 0; startIndex < checksToRun.size(); startIndex += BLOCK_SIZE) {
+            final List<Check> block = checksToRun.subList(startIndex,
+                                                          Math.min(checksToRun.size(),
+                                                                   startIndex + BLOCK_SIZE));
+            blocks.add(executorService.submit(() -> runBlock(block)));
+        }
+
+        int endIndex = 0;
+        for (final Future<?> block : blocks) {
+            waitFor(block);
+            final int startIndex = endIndex;
+            endIndex = Math.min(checksToRun.size(),
+                                endIndex + BLOCK_SIZE);
+            if (onStatus != null) {
+                onStatus.update(startIndex,
+                                endIndex,
+                                checksToRun.size());
+            }
+        }
+
+        if (onCompletion != null) {
+            onCompletion.execute();
+        }
+    }
+
+    private void runBlock(final List<Check> block) {
+        for (final Check check : block) {
+            if (isCancelled) {
+                return;
+            }
+            check.check();
+        }
+    }
+
+    private static void waitFor(final Future<?> block) {
+        try {
+            block.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException(e);
+        } catch (ExecutionException e) {
+            throw new RuntimeException(e.getCause());
+        }
+    }
+
+    private static void makeLazyInspectors(final List<Check> checks) {
+        final Set<RuleInspector> ruleInspectors = new HashSet<>();
+        for (final Check check : checks) {
+            if (check instanceof PairCheckBundle) {
+                ruleInspectors.add(((PairCheckBundle) check).getRuleInspector());
+                ruleInspectors.add(((PairCheckBundle) check).getOther());
+            } else if (check instanceof SingleCheck) {
+                ruleInspectors.add(((SingleCheck) check).getRuleInspector());
+            }
+        }
+
+        // Single checks can look at the other rows of the table
+        final Set<RuleInspectorCache> caches = new HashSet<>();
+        for (final RuleInspector ruleInspector : ruleInspectors) {
+            caches.add(ruleInspector.getCache());
+        }
+        for (final RuleInspectorCache cache : caches) {
+            ruleInspectors.addAll(cache.all());
+        }
+
+        for (final RuleInspector ruleInspector : ruleInspectors) {
+            ruleInspector.getConditionsInspectors();
+            ruleInspector.getActionsInspectors();
+        }
+    }
+
+    @Override
+    public void cancelExistingAnalysis() {
+        isCancelled = true;
+    }
+}
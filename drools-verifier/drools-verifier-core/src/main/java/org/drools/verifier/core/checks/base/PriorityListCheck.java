@@ -61,4 +61,11 @@ public class PriorityListCheck
         checkWithIssues = filteredSet.stream().filter(Check::check).findFirst().orElse(null);
         return checkWithIssues != null;
     }
+
+    /**
+     * Forgets the issue found by the last run, for when the check is known to have no issues without running it.
+     */
+    public void clearIssues() {
+        checkWithIssues = null;
+    }
 }
@@ -29,23 +29,23 @@ public class SubsumptionBlockers {
         this.record = record;
     }
 
-    public void add(final SubsumptionBlocker blocker) {
+    public synchronized void add(final SubsumptionBlocker blocker) {
         if (record) {
             keyMap.put(blocker.otherUUID(), blocker);
         }
     }
 
-    public SubsumptionBlocker get(final UUIDKey uuidKey) {
+    public synchronized SubsumptionBlocker get(final UUIDKey uuidKey) {
         return keyMap.get(uuidKey);
     }
 
-    public void remove(final SubsumptionBlocker blocker) {
+    public synchronized void remove(final SubsumptionBlocker blocker) {
         if (record) {
             keyMap.remove(blocker.otherUUID());
         }
     }
 
-    public int size() {
+    public synchronized int size() {
         return keyMap.size();
     }
 }
@@ -31,6 +31,7 @@ import org.junit.runner.RunWith;
 import org.mockito.junit.MockitoJUnitRunner;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 
 @RunWith(MockitoJUnitRunner.class)
@@ -89,6 +90,17 @@ public class RuleInspectorCacheTest {
                                  5);
     }
 
+    @Test
+    public void testContains() throws
+            Exception {
+        final RuleInspector removed = cache.removeRow(3);
+
+        assertFalse(cache.contains(removed));
+        for (final RuleInspector ruleInspector : cache.all()) {
+            assertTrue(cache.contains(ruleInspector));
+        }
+    }
+
     private void assertContainsRowNumbers(final Collection<RuleInspector> all,
                                           final int... numbers) {
         final ArrayList<Integer> rowNumbers = new ArrayList<>();
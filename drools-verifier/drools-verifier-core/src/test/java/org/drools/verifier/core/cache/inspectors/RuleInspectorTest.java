@@ -0,0 +1,120 @@
+/*
+ * Copyright 2022 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.drools.verifier.core.cache.inspectors;
+
+import org.drools.verifier.core.AnalyzerConfigurationMock;
+import org.drools.verifier.core.cache.RuleInspectorCache;
+import org.drools.verifier.core.cache.inspectors.condition.ConditionInspector;
+import org.drools.verifier.core.cache.inspectors.condition.ConditionsInspectorMultiMap;
+import org.drools.verifier.core.configuration.AnalyzerConfiguration;
+import org.drools.verifier.core.index.IndexImpl;
+import org.drools.verifier.core.index.keys.Values;
+import org.drools.verifier.core.index.model.Column;
+import org.drools.verifier.core.index.model.Field;
+import org.drools.verifier.core.index.model.FieldCondition;
+import org.drools.verifier.core.index.model.ObjectField;
+import org.drools.verifier.core.index.model.ObjectType;
+import org.drools.verifier.core.index.model.Pattern;
+import org.drools.verifier.core.index.model.Rule;
+import org.drools.verifier.core.maps.InspectorList;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertSame;
+
+public class RuleInspectorTest {
+
+    private FieldCondition<Integer> condition;
+    private RuleInspector ruleInspector;
+
+    @Before
+    public void setUp() throws
+            Exception {
+        final AnalyzerConfiguration configuration = new AnalyzerConfigurationMock();
+        final RuleInspectorCache cache = new RuleInspectorCache(new IndexImpl(),
+                                                                configuration);
+
+        final Rule rule = new Rule(0,
+                                   configuration);
+        final Pattern pattern = new Pattern("p",
+                                            new ObjectType("Person",
+                                                           configuration),
+                                            configuration);
+        final Field field = new Field(new ObjectField("Person",
+                                                      "Integer",
+                                                      "age",
+                                                      configuration),
+                                      "Person",
+                                      "Integer",
+                                      "age",
+                                      configuration);
+        condition = new FieldCondition<>(field,
+                                         new Column(0,
+                                                    configuration),
+                                         "==",
+                                         new Values<>(10),
+                                         configuration);
+        field.getConditions().add(condition);
+        pattern.getFields().add(field);
+        rule.getPatterns().add(pattern);
+        rule.getConditions().add(condition);
+
+        ruleInspector = cache.addRule(rule);
+    }
+
+    @Test
+    public void testConditionsInspectorsAreRefilledInPlace() throws
+            Exception {
+        final InspectorList<ConditionsInspectorMultiMap> conditionsInspectors = ruleInspector.getConditionsInspectors();
+        final int version = ruleInspector.getVersion();
+        assertEquals(10,
+                     getFirstConditionValue(conditionsInspectors));
+
+        condition.setValue(new Values<>(20));
+
+        assertNotEquals(version,
+                        ruleInspector.getVersion());
+
+        final InspectorList<ConditionsInspectorMultiMap> refilled = ruleInspector.getConditionsInspectors();
+        assertSame(conditionsInspectors,
+                   refilled);
+        assertEquals(1,
+                     refilled.size());
+        assertEquals(20,
+                     getFirstConditionValue(refilled));
+    }
+
+    @Test
+    public void testVersionDoesNotChangeWithoutUpdates() throws
+            Exception {
+        final int version = ruleInspector.getVersion();
+
+        ruleInspector.getConditionsInspectors();
+        ruleInspector.getActionsInspectors();
+
+        assertEquals(version,
+                     ruleInspector.getVersion());
+    }
+
+    private Object getFirstConditionValue(final InspectorList<ConditionsInspectorMultiMap> conditionsInspectors) {
+        final ConditionsInspectorMultiMap conditionsInspector = conditionsInspectors.get(0);
+        final ConditionInspector conditionInspector = conditionsInspector.allValues().iterator().next();
+        return conditionInspector.getValue();
+    }
+}
@@ -0,0 +1,176 @@
+/*
+ * Copyright 2022 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.drools.verifier.core.checks;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.drools.verifier.core.AnalyzerConfigurationMock;
+import org.drools.verifier.core.cache.RuleInspectorCache;
+import org.drools.verifier.core.cache.inspectors.RuleInspector;
+import org.drools.verifier.core.checks.base.CheckFactory;
+import org.drools.verifier.core.checks.base.CheckStorage;
+import org.drools.verifier.core.configuration.AnalyzerConfiguration;
+import org.drools.verifier.core.index.IndexImpl;
+import org.drools.verifier.core.index.keys.Values;
+import org.drools.verifier.core.index.model.Column;
+import org.drools.verifier.core.index.model.Field;
+import org.drools.verifier.core.index.model.FieldCondition;
+import org.drools.verifier.core.index.model.ObjectField;
+import org.drools.verifier.core.index.model.ObjectType;
+import org.drools.verifier.core.index.model.Pattern;
+import org.drools.verifier.core.index.model.Rule;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+
+public class DetectDeficientRowsCheckTest {
+
+    private AnalyzerConfiguration configuration;
+    private RuleInspectorCache cache;
+    private Column column;
+    private ObjectType objectType;
+    private ObjectField objectField;
+
+    private final List<FieldCondition> conditions = new ArrayList<>();
+    private final List<RuleInspector> comparedRows = new ArrayList<>();
+
+    private DetectDeficientRowsCheck check;
+
+    @Before
+    public void setUp() throws
+            Exception {
+        configuration = new AnalyzerConfigurationMock();
+        cache = new RuleInspectorCache(new IndexImpl(),
+                                       configuration);
+        column = new Column(0,
+                            configuration);
+        objectType = new ObjectType("Person",
+                                    configuration);
+        objectField = new ObjectField("Person",
+                                      "Integer",
+                                      "age",
+                                      configuration);
+
+        final Rule rule = addRow(0,
+                                 10);
+        addRow(1,
+               20);
+        addRow(2,
+               30);
+
+        // counts the rows this row is compared to
+        final RuleInspector ruleInspector = new RuleInspector(rule,
+                                                              new CheckStorage(new CheckFactory(configuration)),
+                                                              cache,
+                                                              configuration) {
+            @Override
+            public boolean isDeficient(final RuleInspector other) {
+                comparedRows.add(other);
+                return super.isDeficient(other);
+            }
+        };
+        check = new DetectDeficientRowsCheck(ruleInspector,
+                                             configuration);
+    }
+
+    @Test
+    public void testNotDeficientRowIsNotComparedAgain() throws
+            Exception {
+        assertFalse(check.check());
+        assertEquals(1,
+                     comparedRows.size());
+
+        assertFalse(check.check());
+        assertEquals(1,
+                     comparedRows.size());
+    }
+
+    @Test
+    public void testRowIsComparedAgainWhenItChanges() throws
+            Exception {
+        assertFalse(check.check());
+        assertEquals(1,
+                     comparedRows.size());
+
+        conditions.get(0).setValue(new Values<>(15));
+
+        assertFalse(check.check());
+        assertEquals(2,
+                     comparedRows.size());
+    }
+
+    @Test
+    public void testRowIsComparedAgainWhenTheProvingRowChanges() throws
+            Exception {
+        assertFalse(check.check());
+        assertEquals(1,
+                     comparedRows.size());
+
+        final RuleInspector provingRow = comparedRows.get(0);
+        conditions.get(provingRow.getRowIndex()).setValue(new Values<>(25));
+
+        assertFalse(check.check());
+        assertEquals(2,
+                     comparedRows.size());
+    }
+
+    @Test
+    public void testRowIsComparedAgainWhenTheProvingRowIsRemoved() throws
+            Exception {
+        assertFalse(check.check());
+        assertEquals(1,
+                     comparedRows.size());
+
+        final RuleInspector provingRow = comparedRows.get(0);
+        cache.removeRow(provingRow.getRowIndex());
+
+        assertFalse(check.check());
+        assertEquals(2,
+                     comparedRows.size());
+        assertFalse(comparedRows.get(1) == provingRow);
+    }
+
+    private Rule addRow(final int rowNumber,
+                        final int age) {
+        final Rule rule = new Rule(rowNumber,
+                                   configuration);
+        final Pattern pattern = new Pattern("p",
+                                            objectType,
+                                            configuration);
+        final Field field = new Field(objectField,
+                                      "Person",
+                                      "Integer",
+                                      "age",
+                                      configuration);
+        final FieldCondition<Integer> condition = new FieldCondition<>(field,
+                                                                       column,
+                                                                       "==",
+                                                                       new Values<>(age),
+                                                                       configuration);
+        field.getConditions().add(condition);
+        pattern.getFields().add(field);
+        rule.getPatterns().add(pattern);
+        rule.getConditions().add(condition);
+        conditions.add(condition);
+
+        cache.addRule(rule);
+        return rule;
+    }
+}
@@ -0,0 +1,143 @@
+/*
+ * Copyright 2022 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.drools.verifier.core.checks.base;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.drools.verifier.core.AnalyzerConfigurationMock;
+import org.drools.verifier.core.cache.inspectors.RuleInspector;
+import org.drools.verifier.core.cache.inspectors.condition.ConditionsInspectorMultiMap;
+import org.drools.verifier.core.cache.inspectors.condition.NumericIntegerConditionInspector;
+import org.drools.verifier.core.configuration.AnalyzerConfiguration;
+import org.drools.verifier.core.index.keys.Values;
+import org.drools.verifier.core.index.model.Column;
+import org.drools.verifier.core.index.model.Field;
+import org.drools.verifier.core.index.model.FieldCondition;
+import org.drools.verifier.core.index.model.ObjectField;
+import org.drools.verifier.core.maps.InspectorList;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@RunWith(MockitoJUnitRunner.class)
+public class PairCheckPrunerTest {
+
+    @Mock
+    private RuleInspector a;
+
+    @Mock
+    private RuleInspector b;
+
+    @Mock
+    private RuleInspector c;
+
+    @Mock
+    private Field field;
+
+    private AnalyzerConfiguration configuration;
+    private ObjectField objectField;
+
+    @Before
+    public void setUp() throws Exception {
+        configuration = new AnalyzerConfigurationMock();
+        objectField = new ObjectField("org.Person",
+                                      "Integer",
+                                      "age",
+                                      configuration);
+
+        mockConditions(a,
+                       ">",
+                       10);
+        mockConditions(b,
+                       "<",
+                       5);
+        mockConditions(c,
+                       ">",
+                       20);
+    }
+
+    @Test
+    public void testPairsWithConflictingConditionsAreNotRun() throws Exception {
+        final Check check = mock(Check.class);
+        when(check.check()).thenReturn(true);
+        final PairCheckBundle ab = new PairCheckBundle(a,
+                                                       b,
+                                                       newList(check));
+        final PairCheckBundle ac = new PairCheckBundle(a,
+                                                       c,
+                                                       newList(mock(Check.class)));
+        final PairCheckBundle bc = new PairCheckBundle(b,
+                                                       c,
+                                                       newList(mock(Check.class)));
+        final PairCheckBundle ca = new PairCheckBundle(c,
+                                                       a,
+                                                       newList(mock(Check.class)));
+        final Check singleCheck = mock(Check.class);
+
+        ab.check();
+        assertTrue(ab.hasIssues());
+
+        final Set<Check> checks = new HashSet<>();
+        checks.add(ab);
+        checks.add(ac);
+        checks.add(bc);
+        checks.add(ca);
+        checks.add(singleCheck);
+
+        final Set<Check> result = new PairCheckPruner().prune(checks);
+
+        assertEquals(3,
+                     result.size());
+        assertTrue(result.contains(ac));
+        assertTrue(result.contains(ca));
+        assertTrue(result.contains(singleCheck));
+        assertFalse(ab.hasIssues());
+    }
+
+    private void mockConditions(final RuleInspector ruleInspector,
+                                final String operator,
+                                final int value) {
+        final ConditionsInspectorMultiMap conditionsInspectorMultiMap = new ConditionsInspectorMultiMap(configuration);
+        conditionsInspectorMultiMap.put(objectField,
+                                        new NumericIntegerConditionInspector(new FieldCondition<>(field,
+                                                                                                  mock(Column.class),
+                                                                                                  operator,
+                                                                                                  new Values<>(value),
+                                                                                                  configuration),
+                                                                             configuration));
+
+        final InspectorList<ConditionsInspectorMultiMap> conditionsInspectors = new InspectorList<>(configuration);
+        conditionsInspectors.add(conditionsInspectorMultiMap);
+        when(ruleInspector.getConditionsInspectors()).thenReturn(conditionsInspectors);
+    }
+
+    private List<Check> newList(final Check check) {
+        final List<Check> checks = new ArrayList<>();
+        checks.add(check);
+        return checks;
+    }
+}
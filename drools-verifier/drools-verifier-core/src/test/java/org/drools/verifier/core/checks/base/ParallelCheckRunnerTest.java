@@ -0,0 +1,81 @@
+/*
+ * Copyright 2022 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.drools.verifier.core.checks.base;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.drools.verifier.api.Command;
+import org.drools.verifier.api.StatusUpdate;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+@RunWith(MockitoJUnitRunner.class)
+public class ParallelCheckRunnerTest {
+
+    @Mock
+    private StatusUpdate onStatus;
+
+    @Mock
+    private Command onCompletion;
+
+    private ExecutorService executorService;
+
+    @Before
+    public void setUp() throws Exception {
+        executorService = Executors.newFixedThreadPool(4);
+    }
+
+    @After
+    public void tearDown() throws Exception {
+        executorService.shutdown();
+    }
+
+    @Test
+    public void testAllChecksAreRun() throws Exception {
+        final Set<Check> checks = new HashSet<>();
+        for (int i = 0; i < 120; i++) {
+            checks.add(mock(Check.class));
+        }
+
+        new ParallelCheckRunner(executorService).run(checks,
+                                                     onStatus,
+                                                     onCompletion);
+
+        for (final Check check : checks) {
+            verify(check).check();
+        }
+        verify(onStatus).update(0,
+                                50,
+                                120);
+        verify(onStatus).update(50,
+                                100,
+                                120);
+        verify(onStatus).update(100,
+                                120,
+                                120);
+        verify(onCompletion).execute();
+    }
+}
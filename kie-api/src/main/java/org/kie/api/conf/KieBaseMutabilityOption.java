@@ -21,15 +21,19 @@ package org.kie.api.conf;
  * An option to define if a KieBase should be mutable or not.
  * By default mutability (incremental compilation) is allowed but for performances reasonds
  * it is strongly recommended to set this option to "disabled" if you don't need it.
+ * When set to "deferred" the KieBase is mutable, but an update never pauses a session that is firing rules:
+ * it is applied when all the sessions are at rest, typically at the end of a fireAllRules or when a
+ * fireUntilHalt is waiting for new facts.
  *
- * drools.kieBaseMutability = &lt;allowed|disabled&gt;
+ * drools.kieBaseMutability = &lt;allowed|disabled|deferred&gt;
  *
  * DEFAULT = allowed
  */
 public enum KieBaseMutabilityOption implements SingleValueKieBaseOption {
 
     ALLOWED,
-    DISABLED;
+    DISABLED,
+    DEFERRED;
 
     /**
      * The property name for the sequential mode option
@@ -43,11 +47,17 @@ public enum KieBaseMutabilityOption implements SingleValueKieBaseOption {
         return PROPERTY_NAME;
     }
 
+    public boolean isMutable() {
+        return this != DISABLED;
+    }
+
     public static KieBaseMutabilityOption determineMutability( String option ) {
         if ( ALLOWED.name().equalsIgnoreCase(option) ) {
             return ALLOWED;
         } else if ( DISABLED.name().equalsIgnoreCase( option ) ) {
             return DISABLED;
+        } else if ( DEFERRED.name().equalsIgnoreCase( option ) ) {
+            return DEFERRED;
         }
         throw new IllegalArgumentException( "Illegal enum value '" + option + "' for KieBaseMutabilityOption" );
     }
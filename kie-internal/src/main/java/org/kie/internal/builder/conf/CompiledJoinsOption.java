@@ -0,0 +1,57 @@
+/*
+ * Copyright 2022 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.kie.internal.builder.conf;
+
+/**
+ * An Enum for CompiledJoinsOption option.
+ *
+ * drools.compiledJoins = &lt;true|false&gt;
+ *
+ * Enabled : Generate specialised evaluators for the join nodes of the simple linear paths of the network after
+ *           creation of the kiebase and compile them in-memory
+ * Disabled: Evaluate all join nodes with the generic implementation
+ *
+ * DEFAULT = false
+ */
+public enum CompiledJoinsOption implements SingleValueKnowledgeBuilderOption {
+
+    ENABLED(true),
+    DISABLED(false);
+
+    /**
+     * The property name for the compilation of the join nodes
+     */
+    public static final String PROPERTY_NAME = "drools.compiledJoins";
+
+    private boolean value;
+
+    CompiledJoinsOption(final boolean value ) {
+        this.value = value;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public String getPropertyName() {
+        return PROPERTY_NAME;
+    }
+
+    public boolean isCompiledJoins() {
+        return this.value;
+    }
+
+}
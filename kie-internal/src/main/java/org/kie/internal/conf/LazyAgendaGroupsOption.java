@@ -0,0 +1,58 @@
+/*
+ * Copyright 2022 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.kie.internal.conf;
+
+import org.kie.api.conf.SingleValueKieBaseOption;
+
+/**
+ * An Enum for LazyAgendaGroups option.
+ *
+ * drools.lazyAgendaGroups = &lt;true|false&gt;
+ *
+ * When enabled, the rules belonging to an agenda group other than MAIN are linked into the network only when
+ * their agenda group gets the focus or is activated for the first time. This requires a mutable KieBase.
+ *
+ * DEFAULT = false
+ */
+public enum LazyAgendaGroupsOption implements SingleValueKieBaseOption {
+
+    YES(true),
+    NO(false);
+
+    /**
+     * The property name for the lazy agenda groups option
+     */
+    public static final String PROPERTY_NAME = "drools.lazyAgendaGroups";
+
+    private boolean value;
+
+    LazyAgendaGroupsOption( final boolean value ) {
+        this.value = value;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public String getPropertyName() {
+        return PROPERTY_NAME;
+    }
+
+    public boolean isLazyAgendaGroups() {
+        return this.value;
+    }
+
+}
@@ -0,0 +1,66 @@
+/*
+ * Copyright 2022 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.kie.internal.runtime.conf;
+
+import org.kie.api.runtime.conf.SingleValueKieSessionOption;
+
+/**
+ * Option to limit the number of rules fired by an iteration of the fireUntilHalt loop before flushing the pending
+ * propagations, -1 for no limit.
+ */
+public class FireUntilHaltFireBudgetOption implements SingleValueKieSessionOption {
+
+    private static final long serialVersionUID = 510l;
+
+    public static final String PROPERTY_NAME = "drools.fireUntilHaltFireBudget";
+
+    private final int fireBudget;
+
+    private FireUntilHaltFireBudgetOption( int fireBudget ) {
+        this.fireBudget = fireBudget;
+    }
+
+    public static FireUntilHaltFireBudgetOption get( int fireBudget ) {
+        return new FireUntilHaltFireBudgetOption( fireBudget );
+    }
+
+    public String getPropertyName() {
+        return PROPERTY_NAME;
+    }
+
+    public int getFireBudget() {
+        return fireBudget;
+    }
+
+    @Override
+    public int hashCode() {
+        return fireBudget;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if ( this == obj ) { return true; }
+        if ( obj == null ) { return false; }
+        if ( getClass() != obj.getClass() ) { return false; }
+        return fireBudget == ((FireUntilHaltFireBudgetOption) obj).fireBudget;
+    }
+
+    @Override
+    public String toString() {
+        return "FireUntilHaltFireBudgetOption( fireBudget=" + fireBudget + " )";
+    }
+}
@@ -0,0 +1,66 @@
+/*
+ * Copyright 2022 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.kie.internal.runtime.conf;
+
+import org.kie.api.runtime.conf.SingleValueKieSessionOption;
+
+/**
+ * Option to limit the time, in milliseconds, spent firing rules by an iteration of the fireUntilHalt loop before
+ * flushing the pending propagations, -1 for no limit.
+ */
+public class FireUntilHaltTimeBudgetOption implements SingleValueKieSessionOption {
+
+    private static final long serialVersionUID = 510l;
+
+    public static final String PROPERTY_NAME = "drools.fireUntilHaltTimeBudget";
+
+    private final long timeBudgetMillis;
+
+    private FireUntilHaltTimeBudgetOption( long timeBudgetMillis ) {
+        this.timeBudgetMillis = timeBudgetMillis;
+    }
+
+    public static FireUntilHaltTimeBudgetOption get( long timeBudgetMillis ) {
+        return new FireUntilHaltTimeBudgetOption( timeBudgetMillis );
+    }
+
+    public String getPropertyName() {
+        return PROPERTY_NAME;
+    }
+
+    public long getTimeBudgetMillis() {
+        return timeBudgetMillis;
+    }
+
+    @Override
+    public int hashCode() {
+        return Long.hashCode( timeBudgetMillis );
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if ( this == obj ) { return true; }
+        if ( obj == null ) { return false; }
+        if ( getClass() != obj.getClass() ) { return false; }
+        return timeBudgetMillis == ((FireUntilHaltTimeBudgetOption) obj).timeBudgetMillis;
+    }
+
+    @Override
+    public String toString() {
+        return "FireUntilHaltTimeBudgetOption( timeBudgetMillis=" + timeBudgetMillis + " )";
+    }
+}
@@ -44,4 +44,8 @@ public abstract class AbstractJavaCompiler implements JavaCompiler {
     public void setJavaCompilerSettings( JavaCompilerSettings javaCompilerSettings ) {
         this.javaCompilerSettings = javaCompilerSettings;
     }
+
+    public JavaCompilerSettings getJavaCompilerSettings() {
+        return javaCompilerSettings != null ? javaCompilerSettings : createDefaultSettings();
+    }
 }
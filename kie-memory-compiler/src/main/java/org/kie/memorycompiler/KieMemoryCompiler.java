@@ -127,7 +127,7 @@ public class KieMemoryCompiler {
         JavaConfiguration javaConfiguration = new JavaConfiguration();
         javaConfiguration.setCompiler(compilerType);
         javaConfiguration.setJavaLanguageLevel(findJavaVersion());
-        JavaCompiler compiler = JavaCompilerFactory.loadCompiler(javaConfiguration);
+        JavaCompiler compiler = ShardedJavaCompiler.forSources(JavaCompilerFactory.loadCompiler(javaConfiguration), classNames.length);
         CompilationResult res = compilerSettings == null ?
                 compiler.compile( classNames, reader, store, classLoader) :
                 compiler.compile( classNames, reader, store, classLoader, compilerSettings);
@@ -0,0 +1,184 @@
+/*
+ * Copyright 2022 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.kie.memorycompiler;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.drools.util.PortablePath;
+import org.kie.memorycompiler.jdknative.NativeJavaCompiler;
+import org.kie.memorycompiler.resources.MemoryResourceStore;
+import org.kie.memorycompiler.resources.ResourceReader;
+import org.kie.memorycompiler.resources.ResourceStore;
+
+/**
+ * Compiles the sources in shards, one for each available core, running the underlying compiler on all of them
+ * concurrently.
+ * <p>
+ * The sources are sorted by path and split in contiguous shards, so the classes of a package are mostly compiled
+ * together. A shard still sees the sources of the other shards: the native compiler resolves the types they declare
+ * from the reader without generating them, while ECJ compiles the sources it needs and only the classes of the sources
+ * of the shard are kept. The classes and the problems are collected in the order of the shards, so the result does not
+ * depend on the scheduling of the shards.
+ * <p>
+ * The sharding is enabled setting the drools.memoryCompiler.parallelThreshold system property to the minimum number of
+ * sources of a shard, it is disabled by default or when the property is -1.
+ */
+public class ShardedJavaCompiler extends AbstractJavaCompiler {
+
+    public static final String PARALLEL_THRESHOLD_PROPERTY = "drools.memoryCompiler.parallelThreshold";
+
+    private static final int PARALLEL_THRESHOLD = Integer.getInteger(PARALLEL_THRESHOLD_PROPERTY, -1);
+
+    private static final String SOURCE_EXTENSION = ".java";
+    private static final String CLASS_EXTENSION = ".class";
+
+    private final AbstractJavaCompiler compiler;
+    private final int shards;
+
+    public ShardedJavaCompiler(AbstractJavaCompiler compiler, int shards) {
+        this.compiler = compiler;
+        this.shards = shards;
+    }
+
+    /**
+     * @return The given compiler, wrapped in a ShardedJavaCompiler when the sharding is enabled and there are enough
+     * sources for more than one shard
+     */
+    public static JavaCompiler forSources(JavaCompiler compiler, int sourcesCount) {
+        return forSources(compiler, sourcesCount, PARALLEL_THRESHOLD);
+    }
+
+    static JavaCompiler forSources(JavaCompiler compiler, int sourcesCount, int parallelThreshold) {
+        if (parallelThreshold <= 0 || !(compiler instanceof AbstractJavaCompiler)) {
+            return compiler;
+        }
+        int shards = Math.min(Runtime.getRuntime().availableProcessors(), sourcesCount / parallelThreshold);
+        return shards > 1 ? new ShardedJavaCompiler((AbstractJavaCompiler) compiler, shards) : compiler;
+    }
+
+    @Override
+    public JavaCompilerSettings createDefaultSettings() {
+        return compiler.getJavaCompilerSettings();
+    }
+
+    @Override
+    public void setSourceFolder(String sourceFolder) {
+        compiler.setSourceFolder(sourceFolder);
+    }
+
+    @Override
+    public CompilationResult compile(String[] pResourcePaths, ResourceReader pReader, ResourceStore pStore, ClassLoader pClassLoader, JavaCompilerSettings pSettings) {
+        if (pResourcePaths.length < shards) {
+            return compiler.compile(pResourcePaths, pReader, pStore, pClassLoader, pSettings);
+        }
+
+        String[] sortedPaths = pResourcePaths.clone();
+        Arrays.sort(sortedPaths);
+        List<String[]> shardPaths = IntStream.range(0, shards)
+                .mapToObj(i -> Arrays.copyOfRange(sortedPaths, i * sortedPaths.length / shards, (i + 1) * sortedPaths.length / shards))
+                .collect(Collectors.toList());
+
+        List<ShardResult> results = shardPaths.parallelStream()
+                .map(paths -> compileShard(paths, pReader, pClassLoader, pSettings))
+                .collect(Collectors.toList());
+
+        return merge(results, pStore);
+    }
+
+    private ShardResult compileShard(String[] paths, ResourceReader reader, ClassLoader classLoader, JavaCompilerSettings settings) {
+        MemoryResourceStore store = new MemoryResourceStore();
+        CompilationResult result = compiler instanceof NativeJavaCompiler ?
+                ((NativeJavaCompiler) compiler).compile(paths, reader, store, classLoader, settings, true) :
+                compiler.compile(paths, reader, store, classLoader, settings);
+
+        // the classes are stored by their name, while the sources can also have the path of the source folder
+        Set<String> ownedClasses = new HashSet<>();
+        for (String path : paths) {
+            String classPath = path.endsWith(SOURCE_EXTENSION) ? path.substring(0, path.length() - SOURCE_EXTENSION.length()) : path;
+            ownedClasses.add(classPath);
+            for (int i = classPath.indexOf('/'); i >= 0; i = classPath.indexOf('/', i + 1)) {
+                ownedClasses.add(classPath.substring(i + 1));
+            }
+        }
+        return new ShardResult(result, store, ownedClasses);
+    }
+
+    private CompilationResult merge(List<ShardResult> results, ResourceStore store) {
+        // a class compiled by more than one shard is taken from the shard of its source
+        Map<PortablePath, byte[]> classes = new TreeMap<>((p1, p2) -> p1.asString().compareTo(p2.asString()));
+        for (ShardResult result : results) {
+            result.store.getResources().forEach((path, bytes) -> {
+                if (result.isOwned(path)) {
+                    classes.put(path, bytes);
+                }
+            });
+        }
+        for (ShardResult result : results) {
+            result.store.getResources().forEach(classes::putIfAbsent);
+        }
+        classes.forEach(store::write);
+
+        // the problems of a source resolved by more than one shard are reported only once
+        Map<String, CompilationProblem> problems = new LinkedHashMap<>();
+        for (ShardResult result : results) {
+            for (CompilationProblem problem : result.result.getErrors()) {
+                problems.putIfAbsent(problemKey(problem), problem);
+            }
+            for (CompilationProblem problem : result.result.getWarnings()) {
+                problems.putIfAbsent(problemKey(problem), problem);
+            }
+        }
+        return new CompilationResult(problems.values().toArray(new CompilationProblem[problems.size()]));
+    }
+
+    private static String problemKey(CompilationProblem problem) {
+        return problem.isError() + ":" + problem.getFileName() + ":" + problem.getStartLine() + ":" + problem.getStartColumn() + ":" + problem.getMessage();
+    }
+
+    private static class ShardResult {
+
+        private final CompilationResult result;
+        private final MemoryResourceStore store;
+        private final Set<String> ownedClasses;
+
+        private ShardResult(CompilationResult result, MemoryResourceStore store, Set<String> ownedClasses) {
+            this.result = result;
+            this.store = store;
+            this.ownedClasses = ownedClasses;
+        }
+
+        private boolean isOwned(PortablePath classPath) {
+            String path = classPath.asString();
+            if (path.startsWith("/")) {
+                path = path.substring(1);
+            }
+            if (path.endsWith(CLASS_EXTENSION)) {
+                path = path.substring(0, path.length() - CLASS_EXTENSION.length());
+            }
+            int innerClassSeparator = path.indexOf('$', path.lastIndexOf('/') + 1);
+            return ownedClasses.contains(innerClassSeparator < 0 ? path : path.substring(0, innerClassSeparator));
+        }
+    }
+}
@@ -42,6 +42,7 @@ import java.nio.charset.Charset;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Enumeration;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
@@ -62,6 +63,8 @@ public class NativeJavaCompiler extends AbstractJavaCompiler {
 
     private JavaCompilerFinder javaCompilerFinder;
 
+    private String sourceFolder = "";
+
 	public JavaCompilerSettings createDefaultSettings() {
         return new JavaCompilerSettings();
     }
@@ -74,12 +77,31 @@ public class NativeJavaCompiler extends AbstractJavaCompiler {
 		this.javaCompilerFinder = javaCompilerFinder;
 	}
 
+    @Override
+    public void setSourceFolder( String sourceFolder ) {
+        this.sourceFolder = sourceFolder.isEmpty() || sourceFolder.endsWith( "/" ) ? sourceFolder : sourceFolder + "/";
+    }
+
 	@Override
     public CompilationResult compile( String[] pResourcePaths,
                                       ResourceReader pReader,
                                       ResourceStore pStore,
                                       ClassLoader pClassLoader,
                                       JavaCompilerSettings pSettings) {
+        return compile( pResourcePaths, pReader, pStore, pClassLoader, pSettings, false );
+    }
+
+    /**
+     * Compiles the given resources, also resolving the types they use from the other java sources of the reader
+     * when useReaderAsSourcePath is true. The classes of those sources are not written to the store, so the sources
+     * of the reader can be compiled in separated batches.
+     */
+    public CompilationResult compile( String[] pResourcePaths,
+                                      ResourceReader pReader,
+                                      ResourceStore pStore,
+                                      ClassLoader pClassLoader,
+                                      JavaCompilerSettings pSettings,
+                                      boolean useReaderAsSourcePath) {
         DiagnosticCollector<JavaFileObject> diagnostics = new DiagnosticCollector<JavaFileObject>();
         JavaCompiler compiler = getJavaCompiler();
 
@@ -94,10 +116,16 @@ public class NativeJavaCompiler extends AbstractJavaCompiler {
             try (MemoryFileManager fileManager = new MemoryFileManager( jFileManager, pClassLoader )) {
                 final List<JavaFileObject> units = new ArrayList<JavaFileObject>();
                 for (final String sourcePath : pResourcePaths) {
-                    units.add( new CompilationUnit( PortablePath.of(sourcePath), pReader ) );
+                    units.add( new CompilationUnit( PortablePath.of(sourcePath), pReader, toBinaryName( sourcePath ) ) );
                 }
 
-                Iterable<String> options = new NativeJavaCompilerSettings( pSettings ).toOptionsList();
+                List<String> options = new NativeJavaCompilerSettings( pSettings ).toOptionsList();
+                if (useReaderAsSourcePath) {
+                    fileManager.setSourcePath( pReader, sourceFolder, pResourcePaths );
+                    // the sources of the reader are more recent than the classes of a previous build of the same project
+                    options.add( "-implicit:none" );
+                    options.add( "-Xprefer:source" );
+                }
 
                 if ( compiler.getTask( null, fileManager, diagnostics, options, null, units ).call() ) {
                     for (CompilationOutput compilationOutput : fileManager.getOutputs()) {
@@ -119,6 +147,17 @@ public class NativeJavaCompiler extends AbstractJavaCompiler {
         }
     }
 
+    private String toBinaryName( String sourcePath ) {
+        String className = sourcePath.startsWith( "/" ) ? sourcePath.substring( 1 ) : sourcePath;
+        if ( !sourceFolder.isEmpty() && className.startsWith( sourceFolder ) ) {
+            className = className.substring( sourceFolder.length() );
+        }
+        if ( className.endsWith( JavaFileObject.Kind.SOURCE.extension ) ) {
+            className = className.substring( 0, className.length() - JavaFileObject.Kind.SOURCE.extension.length() );
+        }
+        return className.replace( '/', '.' );
+    }
+
     private JavaCompiler getJavaCompiler() {
         JavaCompiler compiler = null;
         Throwable cause = null;
@@ -139,19 +178,25 @@ public class NativeJavaCompiler extends AbstractJavaCompiler {
         }
     }
 
-    private static class CompilationUnit extends SimpleJavaFileObject {
+    private static class CompilationUnit extends SimpleJavaFileObject implements DroolsJavaFileObject {
 
         public static final Charset UTF8_CHARSET = Charset.forName("UTF-8");
 
+        private final String binaryName;
         private final String content;
 
-        CompilationUnit(PortablePath path, String content) {
+        CompilationUnit(PortablePath path, String content, String binaryName) {
             super(URI.create("memo:///" + path.asString()), Kind.SOURCE);
+            this.binaryName = binaryName;
             this.content = content;
         }
 
-        CompilationUnit(PortablePath name, ResourceReader pReader) {
-            this(name, new String(pReader.getBytes(name), UTF8_CHARSET));
+        CompilationUnit(PortablePath name, ResourceReader pReader, String binaryName) {
+            this(name, new String(pReader.getBytes(name), UTF8_CHARSET), binaryName);
+        }
+
+        public String getBinaryName() {
+            return binaryName;
         }
 
         @Override
@@ -300,11 +345,37 @@ public class NativeJavaCompiler extends AbstractJavaCompiler {
         private final List<CompilationOutput> outputs = new ArrayList<CompilationOutput>();
         private final ClassLoader classLoader;
 
+        private ResourceReader sourcePathReader;
+        private String sourcePathFolder;
+        private Set<PortablePath> compiledSources;
+
         MemoryFileManager(JavaFileManager fileManager, ClassLoader classLoader) {
             super(fileManager);
             this.classLoader = classLoader;
         }
 
+        void setSourcePath(ResourceReader reader, String sourceFolder, String[] compiledSourcePaths) {
+            this.sourcePathReader = reader;
+            this.sourcePathFolder = sourceFolder;
+            this.compiledSources = new HashSet<PortablePath>();
+            for (String sourcePath : compiledSourcePaths) {
+                compiledSources.add(PortablePath.of(sourcePath));
+            }
+        }
+
+        @Override
+        public boolean hasLocation(Location location) {
+            return (location == StandardLocation.SOURCE_PATH && sourcePathReader != null) || super.hasLocation(location);
+        }
+
+        @Override
+        public boolean isSameFile(FileObject a, FileObject b) {
+            if (a instanceof DroolsJavaFileObject || b instanceof DroolsJavaFileObject) {
+                return a.toUri().equals(b.toUri());
+            }
+            return super.isSameFile(a, b);
+        }
+
         @Override
         public String inferBinaryName(Location location, JavaFileObject file) {
             return file instanceof DroolsJavaFileObject ? ((DroolsJavaFileObject) file).getBinaryName() : super.inferBinaryName(location, file);
@@ -319,6 +390,9 @@ public class NativeJavaCompiler extends AbstractJavaCompiler {
 
         @Override
         public Iterable<JavaFileObject> list(Location location, String packageName, Set<JavaFileObject.Kind> kinds, boolean recurse) throws IOException {
+            if (location == StandardLocation.SOURCE_PATH && sourcePathReader != null) {
+                return kinds.contains(JavaFileObject.Kind.SOURCE) ? findSourcesInPackage(packageName, recurse) : Collections.<JavaFileObject>emptyList();
+            }
             Iterable<JavaFileObject> fileManagerList = super.list(location, packageName, kinds, recurse);
             if (location != StandardLocation.CLASS_PATH || packageName.startsWith("java.") || packageName.equals("java")) {
                 return fileManagerList;
@@ -328,6 +402,21 @@ public class NativeJavaCompiler extends AbstractJavaCompiler {
             return externalClasses.isEmpty() ? fileManagerList : new AggregatingIterable<JavaFileObject>(fileManagerList, externalClasses);
         }
 
+        private List<JavaFileObject> findSourcesInPackage(String packageName, boolean recurse) {
+            String packagePath = sourcePathFolder + (packageName.isEmpty() ? "" : packageName.replace('.', '/') + "/");
+            String extension = JavaFileObject.Kind.SOURCE.extension;
+            List<JavaFileObject> sources = new ArrayList<JavaFileObject>();
+            for (PortablePath path : sourcePathReader.getFilePaths()) {
+                String pathName = path.asString().startsWith("/") ? path.asString().substring(1) : path.asString();
+                if (pathName.endsWith(extension) && pathName.startsWith(packagePath) &&
+                        (recurse || pathName.indexOf('/', packagePath.length()) < 0) && !compiledSources.contains(path)) {
+                    String binaryName = pathName.substring(sourcePathFolder.length(), pathName.length() - extension.length()).replace('/', '.');
+                    sources.add(new CompilationUnit(path, sourcePathReader, binaryName));
+                }
+            }
+            return sources;
+        }
+
         private List<JavaFileObject> findCompiledClassInPackage(String packageName) {
             List<JavaFileObject> compiledList = new ArrayList<JavaFileObject>();
             if (classLoader instanceof StoreClassLoader ) {
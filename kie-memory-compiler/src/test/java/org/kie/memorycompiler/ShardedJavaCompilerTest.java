@@ -0,0 +1,89 @@
+/*
+ * Copyright 2022 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kie.memorycompiler;
+
+import java.util.Arrays;
+import java.util.HashSet;
+
+import org.drools.util.PortablePath;
+import org.junit.Test;
+import org.kie.memorycompiler.resources.MemoryResourceReader;
+import org.kie.memorycompiler.resources.MemoryResourceStore;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.kie.memorycompiler.JavaConfiguration.findJavaVersion;
+
+public class ShardedJavaCompilerTest {
+
+    @Test
+    public void compileSourcesReferringToOtherShards() {
+        MemoryResourceReader reader = new MemoryResourceReader();
+        reader.add("org/kie/memorycompiler/a/First.java", ("package org.kie.memorycompiler.a;\n" +
+                "public class First {\n" +
+                "    public int value() { return new org.kie.memorycompiler.b.Second().value() + 1; }\n" +
+                "}").getBytes());
+        reader.add("org/kie/memorycompiler/a/Other.java", ("package org.kie.memorycompiler.a;\n" +
+                "public class Other {\n" +
+                "    public static class Inner { }\n" +
+                "}").getBytes());
+        reader.add("org/kie/memorycompiler/b/Second.java", ("package org.kie.memorycompiler.b;\n" +
+                "public class Second {\n" +
+                "    public int value() { return org.kie.memorycompiler.a.Other.class.getName().length(); }\n" +
+                "}").getBytes());
+        reader.add("org/kie/memorycompiler/b/Third.java", ("package org.kie.memorycompiler.b;\n" +
+                "public class Third extends org.kie.memorycompiler.a.First { }").getBytes());
+
+        JavaCompiler compiler = JavaCompilerFactory.loadCompiler(JavaConfiguration.CompilerType.NATIVE, findJavaVersion());
+        MemoryResourceStore store = new MemoryResourceStore();
+        CompilationResult result = new ShardedJavaCompiler((AbstractJavaCompiler) compiler, 2)
+                .compile(new String[] {"org/kie/memorycompiler/b/Third.java", "org/kie/memorycompiler/a/First.java",
+                                "org/kie/memorycompiler/b/Second.java", "org/kie/memorycompiler/a/Other.java"},
+                         reader, store, getClass().getClassLoader());
+
+        assertEquals(0, result.getErrors().length);
+        assertEquals(new HashSet<>(Arrays.asList(PortablePath.of("org/kie/memorycompiler/a/First.class"),
+                                                 PortablePath.of("org/kie/memorycompiler/a/Other.class"),
+                                                 PortablePath.of("org/kie/memorycompiler/a/Other$Inner.class"),
+                                                 PortablePath.of("org/kie/memorycompiler/b/Second.class"),
+                                                 PortablePath.of("org/kie/memorycompiler/b/Third.class"))),
+                     store.getResources().keySet());
+    }
+
+    @Test
+    public void reportErrorsOfAllShards() {
+        MemoryResourceReader reader = new MemoryResourceReader();
+        reader.add("org/kie/memorycompiler/a/First.java", "package org.kie.memorycompiler.a;\npublic class First { int x = \"\"; }".getBytes());
+        reader.add("org/kie/memorycompiler/b/Second.java", "package org.kie.memorycompiler.b;\npublic class Second { int y = \"\"; }".getBytes());
+
+        JavaCompiler compiler = JavaCompilerFactory.loadCompiler(JavaConfiguration.CompilerType.NATIVE, findJavaVersion());
+        CompilationResult result = new ShardedJavaCompiler((AbstractJavaCompiler) compiler, 2)
+                .compile(new String[] {"org/kie/memorycompiler/a/First.java", "org/kie/memorycompiler/b/Second.java"},
+                         reader, new MemoryResourceStore(), getClass().getClassLoader());
+
+        assertEquals(2, result.getErrors().length);
+        assertTrue(result.getErrors()[0].getFileName().contains("First"));
+        assertTrue(result.getErrors()[1].getFileName().contains("Second"));
+    }
+
+    @Test
+    public void doNotShardWhenDisabled() {
+        JavaCompiler compiler = JavaCompilerFactory.loadCompiler(JavaConfiguration.CompilerType.NATIVE, findJavaVersion());
+        assertSame(compiler, ShardedJavaCompiler.forSources(compiler, 1000, -1));
+        assertSame(compiler, ShardedJavaCompiler.forSources(compiler, 10, 100));
+    }
+}
@@ -0,0 +1,136 @@
+/*
+ * Copyright 2022 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kie.pmml.api.runtime;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+
+import org.kie.api.pmml.PMMLRequestData;
+import org.kie.pmml.api.exceptions.KiePMMLException;
+
+/**
+ * <b>Columnar</b> representation of many input rows to be scored by the same model.
+ * Each column holds the values of one <b>mining field</b>, one array element per row; all the columns must have
+ * the same length. A <code>null</code> element (for <code>Object</code> columns) represents a <b>missing</b> value.
+ * <p>
+ * The arrays are not copied, so they must not be modified while the batch is evaluated.
+ */
+public class PMMLBatchRequestData {
+
+    private final String correlationId;
+    private final String modelName;
+    /**
+     * The columns, by field name: each one is a <code>double[]</code>, an <code>int[]</code> or an <code>Object[]</code>
+     */
+    private final Map<String, Object> columns = new LinkedHashMap<>();
+    private int size = -1;
+
+    public PMMLBatchRequestData(final String correlationId, final String modelName) {
+        this.correlationId = correlationId;
+        this.modelName = modelName;
+    }
+
+    public PMMLBatchRequestData addColumn(final String fieldName, final double[] values) {
+        return addColumn(fieldName, values.length, values);
+    }
+
+    public PMMLBatchRequestData addColumn(final String fieldName, final int[] values) {
+        return addColumn(fieldName, values.length, values);
+    }
+
+    public PMMLBatchRequestData addColumn(final String fieldName, final Object[] values) {
+        return addColumn(fieldName, values.length, values);
+    }
+
+    public String getCorrelationId() {
+        return correlationId;
+    }
+
+    public String getModelName() {
+        return modelName;
+    }
+
+    /**
+     * Returns the number of rows of the batch
+     * @return
+     */
+    public int getSize() {
+        return Math.max(size, 0);
+    }
+
+    /**
+     * Returns an <b>unmodifiable set</b> of the names of the columns
+     * @return
+     */
+    public Set<String> getFieldNames() {
+        return Collections.unmodifiableSet(columns.keySet());
+    }
+
+    /**
+     * Returns the <code>double[]</code> column of the given field, or <code>null</code> if there is none
+     * @param fieldName
+     * @return
+     */
+    public double[] getDoubleColumn(final String fieldName) {
+        final Object column = columns.get(fieldName);
+        return column instanceof double[] ? (double[]) column : null;
+    }
+
+    /**
+     * Returns the <code>int[]</code> column of the given field, or <code>null</code> if there is none
+     * @param fieldName
+     * @return
+     */
+    public int[] getIntColumn(final String fieldName) {
+        final Object column = columns.get(fieldName);
+        return column instanceof int[] ? (int[]) column : null;
+    }
+
+    /**
+     * Returns the <code>PMMLRequestData</code> representing the given row, boxing its values
+     * @param row
+     * @return
+     */
+    public PMMLRequestData getRequestData(final int row) {
+        if (row < 0 || row >= getSize()) {
+            throw new KiePMMLException(String.format("Row %s out of batch of size %s", row, getSize()));
+        }
+        final PMMLRequestData toReturn = new PMMLRequestData(correlationId, modelName);
+        columns.forEach((fieldName, column) -> toReturn.addRequestParam(fieldName, getValue(column, row)));
+        return toReturn;
+    }
+
+    private static Object getValue(final Object column, final int row) {
+        if (column instanceof double[]) {
+            return ((double[]) column)[row];
+        } else if (column instanceof int[]) {
+            return ((int[]) column)[row];
+        } else {
+            return ((Object[]) column)[row];
+        }
+    }
+
+    private PMMLBatchRequestData addColumn(final String fieldName, final int length, final Object column) {
+        if (size != -1 && size != length) {
+            throw new KiePMMLException(String.format("Column %s has %s rows, expected %s", fieldName, length, size));
+        }
+        size = length;
+        columns.put(fieldName, column);
+        return this;
+    }
+}
@@ -15,11 +15,14 @@
  */
 package org.kie.pmml.api.runtime;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
+import java.util.function.Function;
 
 import org.kie.api.pmml.PMML4Result;
+import org.kie.api.pmml.PMMLRequestData;
 import org.kie.pmml.api.models.PMMLModel;
 
 public interface PMMLRuntime {
@@ -32,6 +35,26 @@ public interface PMMLRuntime {
      */
     PMML4Result evaluate(final String modelName, final PMMLContext context);
 
+    /**
+     * Evaluate the model for each row of the given batch, with the <code>PMMLContext</code> built for each row by the
+     * given factory.
+     * The default implementation evaluates each row with {@link #evaluate(String, PMMLContext)}; runtimes may
+     * override it to look up the model once per batch, or to evaluate it directly over the primitive columns, in
+     * which case no <code>PMMLContext</code> is built at all
+     * @param modelName the name of the model to evaluate
+     * @param batchData the input variables of all the rows, by column
+     * @param contextFactory the factory of the <code>PMMLContext</code> of each row
+     * @return the results of the evaluation, in the same order as the rows
+     */
+    default List<PMML4Result> evaluateAll(final String modelName, final PMMLBatchRequestData batchData,
+                                          final Function<PMMLRequestData, PMMLContext> contextFactory) {
+        final List<PMML4Result> toReturn = new ArrayList<>(batchData.getSize());
+        for (int row = 0; row < batchData.getSize(); row++) {
+            toReturn.add(evaluate(modelName, contextFactory.apply(batchData.getRequestData(row))));
+        }
+        return toReturn;
+    }
+
     /**
      * Returns a list of all models available to this runtime
      * @return the list of available models. An empty list in
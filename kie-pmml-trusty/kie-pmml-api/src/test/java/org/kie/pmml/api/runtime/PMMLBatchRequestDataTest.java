@@ -0,0 +1,79 @@
+/*
+ * Copyright 2022 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kie.pmml.api.runtime;
+
+import java.util.Map;
+
+import org.junit.Test;
+import org.kie.api.pmml.PMMLRequestData;
+import org.kie.api.pmml.ParameterInfo;
+import org.kie.pmml.api.exceptions.KiePMMLException;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+public class PMMLBatchRequestDataTest {
+
+    @Test
+    public void getRequestData() {
+        PMMLBatchRequestData batchData = new PMMLBatchRequestData("CORRELATION_ID", "MODEL_NAME")
+                .addColumn("DOUBLE", new double[]{1.5, 2.5, 3.5})
+                .addColumn("INT", new int[]{1, 2, 3})
+                .addColumn("STRING", new Object[]{"A", null, "C"});
+        assertEquals(3, batchData.getSize());
+        for (int row = 0; row < batchData.getSize(); row++) {
+            PMMLRequestData retrieved = batchData.getRequestData(row);
+            assertEquals("CORRELATION_ID", retrieved.getCorrelationId());
+            assertEquals("MODEL_NAME", retrieved.getModelName());
+            Map<String, ParameterInfo> params = retrieved.getMappedRequestParams();
+            assertEquals(1.5 + row, params.get("DOUBLE").getValue());
+            assertEquals(1 + row, params.get("INT").getValue());
+        }
+        assertEquals("A", batchData.getRequestData(0).getMappedRequestParams().get("STRING").getValue());
+        assertFalse(batchData.getRequestData(1).getMappedRequestParams().containsKey("STRING"));
+    }
+
+    @Test
+    public void getColumns() {
+        double[] doubles = {1.5, 2.5};
+        int[] ints = {1, 2};
+        PMMLBatchRequestData batchData = new PMMLBatchRequestData("CORRELATION_ID", "MODEL_NAME")
+                .addColumn("DOUBLE", doubles)
+                .addColumn("INT", ints)
+                .addColumn("STRING", new Object[]{"A", "B"});
+        assertSame(doubles, batchData.getDoubleColumn("DOUBLE"));
+        assertNull(batchData.getDoubleColumn("INT"));
+        assertSame(ints, batchData.getIntColumn("INT"));
+        assertNull(batchData.getIntColumn("STRING"));
+        assertNull(batchData.getDoubleColumn("MISSING"));
+    }
+
+    @Test(expected = KiePMMLException.class)
+    public void addColumnWrongSize() {
+        new PMMLBatchRequestData("CORRELATION_ID", "MODEL_NAME")
+                .addColumn("DOUBLE", new double[]{1.5, 2.5, 3.5})
+                .addColumn("INT", new int[]{1, 2});
+    }
+
+    @Test(expected = KiePMMLException.class)
+    public void getRequestDataOutOfRange() {
+        new PMMLBatchRequestData("CORRELATION_ID", "MODEL_NAME")
+                .addColumn("DOUBLE", new double[]{1.5})
+                .getRequestData(1);
+    }
+}
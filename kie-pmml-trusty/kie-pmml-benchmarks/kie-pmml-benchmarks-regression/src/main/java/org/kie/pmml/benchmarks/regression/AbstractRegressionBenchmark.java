@@ -15,6 +15,7 @@
  */
 package org.kie.pmml.benchmarks.regression;
 
+import java.util.List;
 import java.util.concurrent.TimeUnit;
 
 import org.kie.api.KieBase;
@@ -28,8 +29,10 @@ import org.kie.api.pmml.PMML4Result;
 import org.kie.api.runtime.KieSession;
 import org.kie.pmml.api.exceptions.KiePMMLException;
 import org.kie.pmml.commons.model.KiePMMLModel;
+import org.kie.pmml.api.runtime.PMMLBatchRequestData;
 import org.kie.pmml.api.runtime.PMMLContext;
 import org.kie.pmml.evaluator.api.executor.PMMLRuntimeInternal;
+import org.kie.pmml.evaluator.core.PMMLContextImpl;
 import org.openjdk.jmh.annotations.BenchmarkMode;
 import org.openjdk.jmh.annotations.Measurement;
 import org.openjdk.jmh.annotations.Mode;
@@ -67,4 +70,8 @@ public abstract class AbstractRegressionBenchmark {
     protected PMML4Result evaluate() {
         return pmmlRuntime.evaluate(model.getName(), pmmlContext);
     }
+
+    protected List<PMML4Result> evaluateAll(final PMMLBatchRequestData batchData) {
+        return pmmlRuntime.evaluateAll(model.getName(), batchData, PMMLContextImpl::new);
+    }
 }
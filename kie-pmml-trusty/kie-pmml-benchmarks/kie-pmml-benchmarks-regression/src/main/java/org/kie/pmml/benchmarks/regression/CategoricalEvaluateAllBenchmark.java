@@ -0,0 +1,124 @@
+/*
+ * Copyright 2022 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kie.pmml.benchmarks.regression;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.kie.api.pmml.PMML4Result;
+import org.kie.api.pmml.PMMLRequestData;
+import org.kie.pmml.api.runtime.PMMLBatchRequestData;
+import org.kie.pmml.evaluator.core.PMMLContextImpl;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Compares the scoring of many rows through repeated <code>PMMLRuntime.evaluate</code> invocations with the
+ * scoring of the same rows through a single <code>PMMLRuntime.evaluateAll</code> invocation.
+ * The model has categorical predictors, so <code>evaluateAll</code> evaluates each row with the model-invariant
+ * state resolved once per batch; see {@link NumericEvaluateAllBenchmark} for the evaluation over the columns
+ */
+@BenchmarkMode(Mode.Throughput)
+@State(Scope.Thread)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5, time = 30)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Fork(value = 5)
+public class CategoricalEvaluateAllBenchmark extends AbstractRegressionBenchmark {
+
+    private static final Logger logger = LoggerFactory.getLogger(CategoricalEvaluateAllBenchmark.class);
+
+    private static final String MODEL_NAME = "Sample for logistic regression";
+    private static final String[] LINES = {
+            "38,Private,College,Unmarried,Service,81838,Female,FALSE,72,0",
+            "30,Consultant,HSgrad,Divorced,Repair,9608.48,Male,FALSE,40,0",
+            "65,SelfEmp,College,Married,Sales,32963.39,Male,FALSE,40,0",
+            "40,PSLocal,Vocational,Divorced,Executive,182165.08,Female,FALSE,40,0",
+            "41,PSState,Bachelor,Divorced,Executive,70603.7,Male,FALSE,40,0",
+            "49,PSFederal,College,Married,Support,15345.33,Male,FALSE,40,1",
+            "62,Volunteer,Associate,Married,Farming,51230.5,Male,FALSE,50,0"
+    };
+
+    @Param({"100", "10000"})
+    int rows;
+
+    private PMMLBatchRequestData batchData;
+
+    @Setup
+    public void setupModel() throws Exception {
+        logger.debug("setup model...");
+        modelName = MODEL_NAME;
+        fileName = "CategoricalRegressionSample.pmml";
+        super.setupModel();
+        logger.debug("setup batch...");
+        int[] age = new int[rows];
+        Object[] employment = new Object[rows];
+        Object[] education = new Object[rows];
+        Object[] marital = new Object[rows];
+        Object[] occupation = new Object[rows];
+        double[] income = new double[rows];
+        Object[] gender = new Object[rows];
+        int[] hours = new int[rows];
+        for (int row = 0; row < rows; row++) {
+            final String[] split = LINES[row % LINES.length].split(",");
+            age[row] = Integer.parseInt(split[0]);
+            employment[row] = split[1];
+            education[row] = split[2];
+            marital[row] = split[3];
+            occupation[row] = split[4];
+            income[row] = Double.parseDouble(split[5]);
+            gender[row] = split[6];
+            hours[row] = Integer.parseInt(split[8]);
+        }
+        batchData = new PMMLBatchRequestData("123", MODEL_NAME)
+                .addColumn("Age", age)
+                .addColumn("Employment", employment)
+                .addColumn("Education", education)
+                .addColumn("Marital", marital)
+                .addColumn("Occupation", occupation)
+                .addColumn("Income", income)
+                .addColumn("Gender", gender)
+                .addColumn("Hours", hours);
+    }
+
+    @Benchmark
+    public List<PMML4Result> evaluateRowByRow() {
+        List<PMML4Result> toReturn = new ArrayList<>(rows);
+        for (int row = 0; row < rows; row++) {
+            PMMLRequestData requestData = batchData.getRequestData(row);
+            pmmlContext = new PMMLContextImpl(requestData);
+            toReturn.add(super.evaluate());
+        }
+        return toReturn;
+    }
+
+    @Benchmark
+    public List<PMML4Result> evaluateAll() {
+        return super.evaluateAll(batchData);
+    }
+}
@@ -0,0 +1,96 @@
+/*
+ * Copyright 2022 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kie.pmml.benchmarks.regression;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.kie.api.pmml.PMML4Result;
+import org.kie.pmml.api.runtime.PMMLBatchRequestData;
+import org.kie.pmml.evaluator.core.PMMLContextImpl;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Compares the scoring of many rows through repeated <code>PMMLRuntime.evaluate</code> invocations with the
+ * scoring of the same rows through a single <code>PMMLRuntime.evaluateAll</code> invocation, for a regression model
+ * with numeric predictors only, that <code>evaluateAll</code> evaluates directly over the <code>double[]</code> columns
+ */
+@BenchmarkMode(Mode.Throughput)
+@State(Scope.Thread)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5, time = 30)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Fork(value = 5)
+public class NumericEvaluateAllBenchmark extends AbstractRegressionBenchmark {
+
+    private static final Logger logger = LoggerFactory.getLogger(NumericEvaluateAllBenchmark.class);
+
+    private static final String MODEL_NAME = "Sample for numeric linear regression";
+
+    @Param({"100", "10000"})
+    int rows;
+
+    private PMMLBatchRequestData batchData;
+
+    @Setup
+    public void setupModel() throws Exception {
+        logger.debug("setup model...");
+        modelName = MODEL_NAME;
+        fileName = "NumericRegressionSample.pmml";
+        super.setupModel();
+        logger.debug("setup batch...");
+        double[] age = new double[rows];
+        double[] salary = new double[rows];
+        double[] yearsOfDriving = new double[rows];
+        for (int row = 0; row < rows; row++) {
+            age[row] = 18 + row % 60;
+            salary[row] = 1000 + (row % 100) * 37.5;
+            yearsOfDriving[row] = row % 40;
+        }
+        batchData = new PMMLBatchRequestData("123", MODEL_NAME)
+                .addColumn("age", age)
+                .addColumn("salary", salary)
+                .addColumn("years_of_driving", yearsOfDriving);
+    }
+
+    @Benchmark
+    public List<PMML4Result> evaluateRowByRow() {
+        List<PMML4Result> toReturn = new ArrayList<>(rows);
+        for (int row = 0; row < rows; row++) {
+            pmmlContext = new PMMLContextImpl(batchData.getRequestData(row));
+            toReturn.add(super.evaluate());
+        }
+        return toReturn;
+    }
+
+    @Benchmark
+    public List<PMML4Result> evaluateAll() {
+        return super.evaluateAll(batchData);
+    }
+}
@@ -0,0 +1,44 @@
+/*
+ * Copyright 2022 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kie.pmml.commons.model;
+
+/**
+ * Interface used to define if a given <code>KiePMMLModel</code> may be evaluated over whole <code>double[]</code>
+ * columns, one element per row, without building any per-row input nor <code>PMMLContext</code>
+ */
+public interface HasColumnarEvaluation {
+
+    /**
+     * Returns <code>true</code> if the model may currently be evaluated over columns
+     * @return
+     */
+    boolean isColumnarEvaluable();
+
+    /**
+     * Returns the names of the fields whose columns are expected by {@link #evaluateColumns(double[][], int)},
+     * in the same order
+     * @return
+     */
+    String[] getColumnarFieldNames();
+
+    /**
+     * Evaluate the model over the given columns, whose positions are the ones of {@link #getColumnarFieldNames()}
+     * @param columns
+     * @param rows the number of rows, i.e. the length of each column
+     * @return the value of the target field of each row
+     */
+    Object[] evaluateColumns(final double[][] columns, final int rows);
+}
@@ -80,6 +80,22 @@ public class ProcessingDTO {
      * @param miningFields
      * @param orderedReasonCodes a <b>mutable</b> list
      */
+    /**
+     * Creates a <code>ProcessingDTO</code> for a new input of the same model of the given one, sharing its
+     * <b>fix</b> values instead of collecting them again from the model
+     * @param modelProcessingDTO
+     * @param kiePMMLNameValues a <b>mutable</b> list of <code>KiePMMLNameValue</code>
+     */
+    public ProcessingDTO(final ProcessingDTO modelProcessingDTO, final List<KiePMMLNameValue> kiePMMLNameValues) {
+        this.derivedFields = modelProcessingDTO.derivedFields;
+        this.defineFunctions = modelProcessingDTO.defineFunctions;
+        this.outputFields = modelProcessingDTO.outputFields;
+        this.kiePMMLTargets = modelProcessingDTO.kiePMMLTargets;
+        this.kiePMMLNameValues = kiePMMLNameValues;
+        this.orderedReasonCodes = new ArrayList<>();
+        this.miningFields = modelProcessingDTO.miningFields;
+    }
+
     public ProcessingDTO(final List<KiePMMLDefineFunction> defineFunctions,
                          final List<KiePMMLDerivedField> derivedFields,
                          final List<KiePMMLOutputField> outputFields,
@@ -21,18 +21,23 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
+import java.util.function.Function;
 import java.util.function.Supplier;
 
 import org.kie.api.KieBase;
 import org.kie.api.pmml.PMML4Result;
 import org.kie.api.pmml.PMMLRequestData;
+import org.kie.pmml.api.enums.DATA_TYPE;
 import org.kie.pmml.api.enums.PMML_MODEL;
 import org.kie.pmml.api.enums.PMML_STEP;
 import org.kie.pmml.api.exceptions.KiePMMLException;
 import org.kie.pmml.api.models.PMMLModel;
 import org.kie.pmml.api.models.PMMLStep;
+import org.kie.pmml.api.runtime.PMMLBatchRequestData;
 import org.kie.pmml.api.runtime.PMMLContext;
 import org.kie.pmml.api.runtime.PMMLListener;
+import org.kie.pmml.commons.model.HasColumnarEvaluation;
+import org.kie.pmml.commons.model.KiePMMLMiningField;
 import org.kie.pmml.commons.model.KiePMMLModel;
 import org.kie.pmml.commons.model.ProcessingDTO;
 import org.kie.pmml.evaluator.api.executor.PMMLRuntimeInternal;
@@ -47,8 +52,11 @@ import static org.kie.pmml.api.enums.PMML_STEP.END;
 import static org.kie.pmml.api.enums.PMML_STEP.POST_EVALUATION;
 import static org.kie.pmml.api.enums.PMML_STEP.PRE_EVALUATION;
 import static org.kie.pmml.api.enums.PMML_STEP.START;
+import static org.kie.pmml.api.enums.ResultCode.OK;
 import static org.kie.pmml.evaluator.core.utils.PMMLListenerUtils.stepExecuted;
+import static org.kie.pmml.evaluator.core.utils.PostProcess.getTargetDataType;
 import static org.kie.pmml.evaluator.core.utils.PostProcess.postProcess;
+import static org.kie.pmml.evaluator.core.utils.PreProcess.getNotTargetMiningFields;
 import static org.kie.pmml.evaluator.core.utils.PreProcess.preProcess;
 
 public class PMMLRuntimeInternalImpl implements PMMLRuntimeInternal {
@@ -99,6 +107,41 @@ public class PMMLRuntimeInternalImpl implements PMMLRuntimeInternal {
         return evaluate(toEvaluate, context);
     }
 
+    /**
+     * Evaluate the model for each row of the given batch.
+     * The model is evaluated directly over the primitive columns, without building any <code>PMMLContext</code>,
+     * when {@link #getColumns(KiePMMLModel, PMMLBatchRequestData)} allows it; otherwise each row is evaluated with
+     * the model-invariant state (model, <code>PMMLModelEvaluator</code>, <b>not-target</b> mining fields,
+     * <b>fix</b> <code>ProcessingDTO</code> values and target <code>DATA_TYPE</code>) resolved once for the whole batch
+     * @param modelName
+     * @param batchData
+     * @param contextFactory
+     * @return
+     */
+    @Override
+    public List<PMML4Result> evaluateAll(final String modelName, final PMMLBatchRequestData batchData,
+                                         final Function<PMMLRequestData, PMMLContext> contextFactory) {
+        if (logger.isDebugEnabled()) {
+            logger.debug("evaluateAll {} {}", modelName, batchData.getSize());
+        }
+        KiePMMLModel toEvaluate = getKiePMMLModel(modelName).orElseThrow(() -> new KiePMMLException("Failed to retrieve model with name " + modelName));
+        Optional<double[][]> columns = getColumns(toEvaluate, batchData);
+        if (columns.isPresent()) {
+            return evaluateColumns(toEvaluate, columns.get(), batchData.getSize());
+        }
+        final PMMLModelEvaluator executor = getPMMLModelEvaluator(toEvaluate);
+        final List<KiePMMLMiningField> notTargetMiningFields = getNotTargetMiningFields(toEvaluate);
+        final ProcessingDTO modelProcessingDTO = new ProcessingDTO(toEvaluate, new ArrayList<>());
+        final DATA_TYPE targetDataType = getTargetDataType(toEvaluate);
+        final List<PMML4Result> toReturn = new ArrayList<>(batchData.getSize());
+        for (int row = 0; row < batchData.getSize(); row++) {
+            PMMLContext context = contextFactory.apply(batchData.getRequestData(row));
+            toReturn.add(evaluate(toEvaluate, executor, notTargetMiningFields, modelProcessingDTO, targetDataType,
+                                  context));
+        }
+        return toReturn;
+    }
+
     @Override
     public void addPMMLListener(PMMLListener toAdd) {
         pmmlListeners.add(toAdd);
@@ -114,25 +157,160 @@ public class PMMLRuntimeInternalImpl implements PMMLRuntimeInternal {
         return Collections.unmodifiableSet(pmmlListeners);
     }
 
-    @SuppressWarnings({"unchecked", "rawtypes"})
     protected PMML4Result evaluate(final KiePMMLModel model, final PMMLContext context) {
         if (logger.isDebugEnabled()) {
             logger.debug("evaluate {} {}", model, context);
         }
+        return evaluate(model, null, getNotTargetMiningFields(model), null, null, context);
+    }
+
+    /**
+     * Evaluate the given <code>KiePMMLModel</code> with its already resolved model-invariant state:
+     * <ul>
+     * <li>the <code>PMMLModelEvaluator</code> (if <code>null</code>, it is looked up <b>after</b> pre-processing);</li>
+     * <li>the <b>not-target</b> mining fields;</li>
+     * <li>the <code>ProcessingDTO</code> with the <b>fix</b> values of the model (if <code>null</code>, they are
+     * collected from the model);</li>
+     * <li>the <code>DATA_TYPE</code> of the target field (if <code>null</code>, it is retrieved from the model).</li>
+     * </ul>
+     * @param model
+     * @param evaluator
+     * @param notTargetMiningFields
+     * @param modelProcessingDTO
+     * @param targetDataType
+     * @param context
+     * @return
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    PMML4Result evaluate(final KiePMMLModel model, final PMMLModelEvaluator evaluator,
+                         final List<KiePMMLMiningField> notTargetMiningFields, final ProcessingDTO modelProcessingDTO,
+                         final DATA_TYPE targetDataType, final PMMLContext context) {
         pmmlListeners.forEach(context::addPMMLListener);
         addStep(() -> getStep(START, model, context.getRequestData()), context);
-        final ProcessingDTO processingDTO = preProcess(model, context);
+        final ProcessingDTO processingDTO = modelProcessingDTO != null ?
+                preProcess(modelProcessingDTO, notTargetMiningFields, context) :
+                preProcess(model, notTargetMiningFields, context);
         addStep(() -> getStep(PRE_EVALUATION, model, context.getRequestData()), context);
-        PMMLModelEvaluator executor = getFromPMMLModelType(model.getPmmlMODEL())
-                .orElseThrow(() -> new KiePMMLException(String.format("PMMLModelEvaluator not found for model %s",
-                                                                      model.getPmmlMODEL())));
+        PMMLModelEvaluator executor = evaluator != null ? evaluator : getPMMLModelEvaluator(model);
         PMML4Result toReturn = executor.evaluate(knowledgeBase, model, context);
         addStep(() -> getStep(POST_EVALUATION, model, context.getRequestData()), context);
-        postProcess(toReturn, model, context, processingDTO);
+        postProcess(toReturn, model, targetDataType != null ? targetDataType : getTargetDataType(model), context,
+                    processingDTO);
         addStep(() -> getStep(END, model, context.getRequestData()), context);
         return toReturn;
     }
 
+    /**
+     * Returns the columns to evaluate the given <code>KiePMMLModel</code> with, in the order of
+     * {@link HasColumnarEvaluation#getColumnarFieldNames()}, if the batch may be evaluated over them without any
+     * per-row pre- or post-processing, i.e. if:
+     * <ul>
+     * <li>the model implements <code>HasColumnarEvaluation</code> and is currently columnar evaluable;</li>
+     * <li>there are no <code>PMMLListener</code>s, that expect the steps of each row;</li>
+     * <li>the model has no derived fields, targets nor output fields;</li>
+     * <li>each not-target mining field is read by the model, has no allowed values nor intervals, and has a
+     * primitive column, without <code>NaN</code>s, that does not need any conversion.</li>
+     * </ul>
+     * Otherwise, an empty <code>Optional</code> is returned
+     * @param model
+     * @param batchData
+     * @return
+     */
+    Optional<double[][]> getColumns(final KiePMMLModel model, final PMMLBatchRequestData batchData) {
+        if (!(model instanceof HasColumnarEvaluation) || !((HasColumnarEvaluation) model).isColumnarEvaluable() ||
+                !pmmlListeners.isEmpty() || hasDerivedFields(model) ||
+                !model.getKiePMMLTargets().isEmpty() || !model.getKiePMMLOutputFields().isEmpty()) {
+            return Optional.empty();
+        }
+        final String[] fieldNames = ((HasColumnarEvaluation) model).getColumnarFieldNames();
+        final List<KiePMMLMiningField> notTargetMiningFields = getNotTargetMiningFields(model);
+        if (notTargetMiningFields.size() != fieldNames.length) {
+            return Optional.empty();
+        }
+        final double[][] toReturn = new double[fieldNames.length][];
+        for (int i = 0; i < fieldNames.length; i++) {
+            final String fieldName = fieldNames[i];
+            final KiePMMLMiningField miningField = notTargetMiningFields.stream()
+                    .filter(kiePMMLMiningField -> fieldName.equals(kiePMMLMiningField.getName()))
+                    .findFirst()
+                    .orElse(null);
+            if (miningField == null ||
+                    (miningField.getAllowedValues() != null && !miningField.getAllowedValues().isEmpty()) ||
+                    (miningField.getIntervals() != null && !miningField.getIntervals().isEmpty())) {
+                return Optional.empty();
+            }
+            toReturn[i] = getColumn(miningField.getDataType(), batchData, fieldName);
+            if (toReturn[i] == null) {
+                return Optional.empty();
+            }
+        }
+        return Optional.of(toReturn);
+    }
+
+    static boolean hasDerivedFields(final KiePMMLModel model) {
+        return (model.getTransformationDictionary() != null &&
+                model.getTransformationDictionary().getDerivedFields() != null &&
+                !model.getTransformationDictionary().getDerivedFields().isEmpty()) ||
+                (model.getLocalTransformations() != null &&
+                        model.getLocalTransformations().getDerivedFields() != null &&
+                        !model.getLocalTransformations().getDerivedFields().isEmpty());
+    }
+
+    /**
+     * Evaluate the given <code>KiePMMLModel</code>, that must be <code>HasColumnarEvaluation</code>, over the given
+     * columns, building the <code>PMML4Result</code>s the same way its <code>PMMLModelEvaluator</code> and
+     * post-processing do, without any target nor output field
+     * @param model
+     * @param columns
+     * @param rows
+     * @return
+     */
+    List<PMML4Result> evaluateColumns(final KiePMMLModel model, final double[][] columns, final int rows) {
+        final Object[] results = ((HasColumnarEvaluation) model).evaluateColumns(columns, rows);
+        final String targetField = model.getTargetField();
+        final DATA_TYPE targetDataType = getTargetDataType(model);
+        final List<PMML4Result> toReturn = new ArrayList<>(rows);
+        for (int row = 0; row < rows; row++) {
+            PMML4Result toAdd = new PMML4Result();
+            toAdd.addResultVariable(targetField, results[row] != null ? targetDataType.getActualValue(results[row]) :
+                    null);
+            toAdd.setResultObjectName(targetField);
+            toAdd.setResultCode(OK.getName());
+            toReturn.add(toAdd);
+        }
+        return toReturn;
+    }
+
+    /**
+     * Returns the column of the given field as <code>double[]</code>, if it is primitive, its values do not
+     * need any conversion to the given <code>DATA_TYPE</code> and none of them is <code>NaN</code>;
+     * <code>null</code> otherwise
+     * @param dataType
+     * @param batchData
+     * @param fieldName
+     * @return
+     */
+    static double[] getColumn(final DATA_TYPE dataType, final PMMLBatchRequestData batchData, final String fieldName) {
+        final int[] intColumn = batchData.getIntColumn(fieldName);
+        if (intColumn != null && (DATA_TYPE.INTEGER.equals(dataType) || DATA_TYPE.DOUBLE.equals(dataType))) {
+            final double[] toReturn = new double[intColumn.length];
+            for (int row = 0; row < intColumn.length; row++) {
+                toReturn[row] = intColumn[row];
+            }
+            return toReturn;
+        }
+        final double[] doubleColumn = batchData.getDoubleColumn(fieldName);
+        if (doubleColumn != null && DATA_TYPE.DOUBLE.equals(dataType)) {
+            for (double value : doubleColumn) {
+                if (Double.isNaN(value)) {
+                    return null;
+                }
+            }
+            return doubleColumn;
+        }
+        return null;
+    }
+
     /**
      * Send the given <code>PMMLStep</code>
      * to the <code>PMMLContext</code>
@@ -153,6 +331,12 @@ public class PMMLRuntimeInternalImpl implements PMMLRuntimeInternal {
         return toReturn;
     }
 
+    private PMMLModelEvaluator getPMMLModelEvaluator(final KiePMMLModel model) {
+        return getFromPMMLModelType(model.getPmmlMODEL())
+                .orElseThrow(() -> new KiePMMLException(String.format("PMMLModelEvaluator not found for model %s",
+                                                                      model.getPmmlMODEL())));
+    }
+
     /**
      * Returns an <code>Optional&lt;PMMLModelExecutor&gt;</code> to allow
      * incremental development of different model-specific executors
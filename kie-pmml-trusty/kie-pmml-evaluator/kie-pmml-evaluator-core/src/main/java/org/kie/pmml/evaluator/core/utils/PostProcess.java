@@ -50,8 +50,23 @@ public class PostProcess {
 
     public static void postProcess(final PMML4Result toReturn, final KiePMMLModel model,
                                    final PMMLContext pmmlContext, final ProcessingDTO processingDTO) {
+        postProcess(toReturn, model, getTargetDataType(model), pmmlContext, processingDTO);
+    }
+
+    /**
+     * Post-process the given <code>PMML4Result</code> with the already retrieved <code>DATA_TYPE</code> of the
+     * <b>target</b> field of the given <code>KiePMMLModel</code> (e.g. for batch evaluation)
+     * @param toReturn
+     * @param model
+     * @param targetDataType
+     * @param pmmlContext
+     * @param processingDTO
+     */
+    public static void postProcess(final PMML4Result toReturn, final KiePMMLModel model,
+                                   final DATA_TYPE targetDataType, final PMMLContext pmmlContext,
+                                   final ProcessingDTO processingDTO) {
         executeTargets(toReturn, processingDTO);
-        updateTargetValueType(model, toReturn);
+        updateTargetValueType(model.getTargetField(), targetDataType, toReturn);
         populateProcessingDTO(toReturn, pmmlContext, processingDTO);
         populateOutputFields(toReturn, processingDTO);
     }
@@ -116,16 +131,29 @@ public class PostProcess {
      * @param toUpdate
      */
     static void updateTargetValueType(final KiePMMLModel model, final PMML4Result toUpdate) {
-        DATA_TYPE dataType = model.getMiningFields().stream()
+        updateTargetValueType(model.getTargetField(), getTargetDataType(model), toUpdate);
+    }
+
+    static void updateTargetValueType(final String targetField, final DATA_TYPE dataType, final PMML4Result toUpdate) {
+        Object prediction = toUpdate.getResultVariables().get(targetField);
+        if (prediction != null) {
+            Object convertedPrediction = dataType.getActualValue(prediction);
+            toUpdate.getResultVariables().put(targetField, convertedPrediction);
+        }
+    }
+
+    /**
+     * Returns the <code>DATA_TYPE</code> of the <b>target</b> field of the given <code>KiePMMLModel</code>, as
+     * defined inside <code>DataDictionary/MiningSchema</code>
+     * @param model
+     * @return
+     */
+    public static DATA_TYPE getTargetDataType(final KiePMMLModel model) {
+        return model.getMiningFields().stream()
                 .filter(miningField -> model.getTargetField().equals(miningField.getName()))
                 .map(MiningField::getDataType)
                 .findFirst()
                 .orElseThrow(() -> new KiePMMLException("Failed to find DATA_TYPE for " + model.getTargetField()));
-        Object prediction = toUpdate.getResultVariables().get(model.getTargetField());
-        if (prediction != null) {
-            Object convertedPrediction = dataType.getActualValue(prediction);
-            toUpdate.getResultVariables().put(model.getTargetField(), convertedPrediction);
-        }
     }
 
     /**
@@ -55,10 +55,20 @@ public class PreProcess {
      * @return
      */
     public static ProcessingDTO preProcess(final KiePMMLModel model, final PMMLContext context) {
-        final List<KiePMMLMiningField> notTargetMiningFields = model.getMiningFields() != null ?
-                model.getKiePMMLMiningFields().stream().filter(miningField -> !miningField.isTarget())
-                        .collect(Collectors.toList())
-                : Collections.emptyList();
+        return preProcess(model, getNotTargetMiningFields(model), context);
+    }
+
+    /**
+     * Method to create a <code>ProcessingDTO</code> with <b>fix</b> values from the given <code>KiePMMLModel</code>,
+     * reusing the already retrieved <b>not-target</b> <code>KiePMMLMiningField</code>s (e.g. for batch evaluation)
+     * @param model
+     * @param notTargetMiningFields
+     * @param context
+     * @return
+     */
+    public static ProcessingDTO preProcess(final KiePMMLModel model,
+                                           final List<KiePMMLMiningField> notTargetMiningFields,
+                                           final PMMLContext context) {
         final PMMLRequestData requestData = context.getRequestData();
         convertInputData(notTargetMiningFields, requestData);
         verifyFixInvalidValues(notTargetMiningFields, requestData);
@@ -68,6 +78,39 @@ public class PreProcess {
         return toReturn;
     }
 
+    /**
+     * Method to create a <code>ProcessingDTO</code> for one of the many inputs of the same model (e.g. for batch
+     * evaluation), sharing the <b>fix</b> values of the given <code>ProcessingDTO</code> of the model
+     * @param modelProcessingDTO
+     * @param notTargetMiningFields
+     * @param context
+     * @return
+     */
+    public static ProcessingDTO preProcess(final ProcessingDTO modelProcessingDTO,
+                                           final List<KiePMMLMiningField> notTargetMiningFields,
+                                           final PMMLContext context) {
+        final PMMLRequestData requestData = context.getRequestData();
+        convertInputData(notTargetMiningFields, requestData);
+        verifyFixInvalidValues(notTargetMiningFields, requestData);
+        verifyAddMissingValues(notTargetMiningFields, requestData);
+        final ProcessingDTO toReturn = new ProcessingDTO(modelProcessingDTO,
+                                                         getKiePMMLNameValuesFromParameterInfos(requestData.getMappedRequestParams().values()));
+        executeTransformations(toReturn, requestData);
+        return toReturn;
+    }
+
+    /**
+     * Returns the <code>KiePMMLMiningField</code>s of the given <code>KiePMMLModel</code> that are not <b>target</b>
+     * @param model
+     * @return
+     */
+    public static List<KiePMMLMiningField> getNotTargetMiningFields(final KiePMMLModel model) {
+        return model.getMiningFields() != null ?
+                model.getKiePMMLMiningFields().stream().filter(miningField -> !miningField.isTarget())
+                        .collect(Collectors.toList())
+                : Collections.emptyList();
+    }
+
     /**
      * Try to convert input data to expected data-type, throwing exception when data are not
      * convertible
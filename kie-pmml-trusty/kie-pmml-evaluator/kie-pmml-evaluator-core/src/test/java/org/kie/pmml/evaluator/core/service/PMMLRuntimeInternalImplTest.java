@@ -34,6 +34,7 @@ import org.kie.pmml.api.enums.PMML_STEP;
 import org.kie.pmml.api.exceptions.KiePMMLException;
 import org.kie.pmml.api.models.MiningField;
 import org.kie.pmml.api.models.PMMLStep;
+import org.kie.pmml.api.runtime.PMMLBatchRequestData;
 import org.kie.pmml.api.runtime.PMMLContext;
 import org.kie.pmml.api.runtime.PMMLListener;
 import org.kie.pmml.commons.model.KiePMMLModel;
@@ -143,6 +144,27 @@ public class PMMLRuntimeInternalImplTest {
         });
     }
 
+    @Test
+    public void evaluateAllModelNotFound() {
+        try {
+            pmmlRuntime.evaluateAll(MODEL_NAME, new PMMLBatchRequestData("CORRELATION_ID", MODEL_NAME)
+                    .addColumn("PARAM_0", new double[]{1.0, 2.0}), PMMLContextImpl::new);
+        } catch (KiePMMLException e) {
+            commonManageException(e);
+        }
+    }
+
+    @Test
+    public void evaluateWithEvaluator() {
+        final PMMLRequestData requestData = getPMMLRequestData();
+        final PMMLContext pmmlContext = new PMMLContextImpl(requestData);
+        PMML4Result retrieved = pmmlRuntime.evaluate(modelMock, evaluatorMock, Collections.emptyList(), null,
+                                                   DATA_TYPE.FLOAT, pmmlContext);
+        assertEquals(resultMock, retrieved);
+        verify(evaluatorMock).evaluate(kieBaseMock, modelMock, pmmlContext);
+        verify(pmmlModelExecutorFinderMock, never()).getImplementations(false);
+    }
+
     @Test
     public void getStep() {
         final PMMLRequestData requestData = getPMMLRequestData();
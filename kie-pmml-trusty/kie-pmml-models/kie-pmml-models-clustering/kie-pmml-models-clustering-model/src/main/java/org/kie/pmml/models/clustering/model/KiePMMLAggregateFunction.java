@@ -42,7 +42,11 @@ public enum KiePMMLAggregateFunction implements Named {
         return name;
     }
 
-    public double apply(List<KiePMMLClusteringField> fields, KiePMMLCompareFunction defaultCompare, Double[] inputs, double[] seeds, double adjust) {
+    /**
+     * Applies the aggregate function over a primitive feature vector, where missing values are represented as
+     * <code>NaN</code>
+     */
+    public double apply(List<KiePMMLClusteringField> fields, KiePMMLCompareFunction defaultCompare, double[] inputs, double[] seeds, double adjust) {
         switch (this) {
             case EUCLIDEAN:
                 return euclidean(fields, defaultCompare, inputs, seeds, adjust);
@@ -60,18 +64,18 @@ public enum KiePMMLAggregateFunction implements Named {
         throw new IllegalStateException("Unknown aggregate function: " + this);
     }
 
-    static double euclidean(List<KiePMMLClusteringField> fields, KiePMMLCompareFunction defaultCompare, Double[] inputs, double[] seeds, double adjust) {
+    static double euclidean(List<KiePMMLClusteringField> fields, KiePMMLCompareFunction defaultCompare, double[] inputs, double[] seeds, double adjust) {
         return Math.sqrt(squaredEuclidean(fields, defaultCompare, inputs, seeds, adjust));
     }
 
-    static double squaredEuclidean(List<KiePMMLClusteringField> fields, KiePMMLCompareFunction defaultCompare, Double[] inputs, double[] seeds, double adjust) {
+    static double squaredEuclidean(List<KiePMMLClusteringField> fields, KiePMMLCompareFunction defaultCompare, double[] inputs, double[] seeds, double adjust) {
         double sum = 0.0;
         for (int i = 0; i < fields.size(); i++) {
-            if (inputs[i] != null) {
+            if (!Double.isNaN(inputs[i])) {
                 KiePMMLClusteringField field = fields.get(i);
-                double weight = field.getFieldWeight();
                 KiePMMLCompareFunction compare = field.getCompareFunction().orElse(defaultCompare);
-                sum += weight * Math.pow(compare.apply(field, inputs[i], seeds[i]), 2.0);
+                double compared = compare.apply(field, inputs[i], seeds[i]);
+                sum += field.getFieldWeight() * compared * compared;
             }
         }
         return sum * adjust;
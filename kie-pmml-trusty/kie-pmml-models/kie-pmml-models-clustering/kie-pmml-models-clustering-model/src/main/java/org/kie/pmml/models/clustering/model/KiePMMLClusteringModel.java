@@ -27,11 +27,13 @@ import org.kie.pmml.api.enums.MINING_FUNCTION;
 import org.kie.pmml.api.enums.Named;
 import org.kie.pmml.api.enums.PMML_MODEL;
 import org.kie.pmml.api.exceptions.KieEnumException;
+import org.kie.pmml.api.exceptions.KiePMMLException;
 import org.kie.pmml.api.runtime.PMMLContext;
+import org.kie.pmml.commons.model.HasColumnarEvaluation;
 import org.kie.pmml.commons.model.IsInterpreted;
 import org.kie.pmml.commons.model.KiePMMLModel;
 
-public class KiePMMLClusteringModel extends KiePMMLModel implements IsInterpreted {
+public class KiePMMLClusteringModel extends KiePMMLModel implements IsInterpreted, HasColumnarEvaluation {
 
     private static final long serialVersionUID = 2845884699009576755L;
 
@@ -63,6 +65,10 @@ public class KiePMMLClusteringModel extends KiePMMLModel implements IsInterprete
     private List<KiePMMLClusteringField> clusteringFields = new ArrayList<>();
     private KiePMMLComparisonMeasure comparisonMeasure;
     private KiePMMLMissingValueWeights missingValueWeights;
+    /**
+     * Values of the clusters, resolved once and reused by every evaluation
+     */
+    private transient double[][] clustersValues;
 
     private KiePMMLClusteringModel(String modelName) {
         super(modelName, Collections.emptyList());
@@ -92,33 +98,102 @@ public class KiePMMLClusteringModel extends KiePMMLModel implements IsInterprete
         return missingValueWeights;
     }
 
+    /**
+     * Returns the names of the fields expected by {@link #evaluate(double[], PMMLContext)}, in feature-vector order
+     * @return
+     */
+    public String[] getFeatureNames() {
+        return clusteringFields.stream().map(KiePMMLClusteringField::getField).toArray(String[]::new);
+    }
+
     @Override
     public Object evaluate(final Object knowledgeBase, final Map<String, Object> requestData,
                            final PMMLContext context) {
         double adjustmentFactor = computeAdjustmentFactor(requestData);
 
-        Double[] inputs = new Double[clusteringFields.size()];
+        double[] inputs = new double[clusteringFields.size()];
         for (int i = 0; i < clusteringFields.size(); i++) {
-            String fieldName = clusteringFields.get(i).getField();
-            inputs[i] = requestData.containsKey(fieldName) ? (Double) requestData.get(fieldName) : null;
+            Object value = requestData.get(clusteringFields.get(i).getField());
+            inputs[i] = value != null ? ((Number) value).doubleValue() : Double.NaN;
         }
+        return evaluate(inputs, adjustmentFactor, context);
+    }
 
-        double[] aggregates = new double[clusters.size()];
-        for (int i = 0; i < clusters.size(); i++) {
-            aggregates[i] = comparisonMeasure.getAggregateFunction()
-                    .apply(clusteringFields, comparisonMeasure.getCompareFunction(), inputs,
-                           clusters.get(i).getValuesArray(), adjustmentFactor);
+    /**
+     * Alternate entry point evaluating the model over a <code>double[]</code> feature vector, whose positions are the
+     * ones of {@link #getFeatureNames()}. Missing values have to be represented as <code>NaN</code>
+     * @param features
+     * @param context
+     * @return
+     */
+    public Object evaluate(final double[] features, final PMMLContext context) {
+        if (features.length != clusteringFields.size()) {
+            throw new KiePMMLException(String.format("Expected %s features, retrieved %s", clusteringFields.size(),
+                                                     features.length));
+        }
+        return evaluate(features, computeAdjustmentFactor(features), context);
+    }
+
+    @Override
+    public boolean isColumnarEvaluable() {
+        return true;
+    }
+
+    @Override
+    public String[] getColumnarFieldNames() {
+        return getFeatureNames();
+    }
+
+    /**
+     * Evaluate the model once per row, without setting the predicted display value, the entity id and the affinity
+     * of the selected cluster, that are only read by output fields
+     * @param columns
+     * @param rows
+     * @return
+     */
+    @Override
+    public Object[] evaluateColumns(final double[][] columns, final int rows) {
+        final double[] features = new double[clusteringFields.size()];
+        final double[] aggregates = new double[clusters.size()];
+        final Object[] toReturn = new Object[rows];
+        for (int row = 0; row < rows; row++) {
+            for (int i = 0; i < features.length; i++) {
+                features[i] = columns[i][row];
+            }
+            final int selectedIndex = selectCluster(features, computeAdjustmentFactor(features), aggregates);
+            toReturn[row] = getClusterId(selectedIndex);
         }
+        return toReturn;
+    }
 
-        final int selectedIndex = findMinIndex(aggregates);
+    private Object evaluate(final double[] inputs, final double adjustmentFactor, final PMMLContext context) {
+        final double[] aggregates = new double[clusters.size()];
+        final int selectedIndex = selectCluster(inputs, adjustmentFactor, aggregates);
         final KiePMMLCluster selectedCluster = clusters.get(selectedIndex);
-        final int selectedEntityId = selectedIndex + 1;
 
         selectedCluster.getName().ifPresent(context::setPredictedDisplayValue);
-        context.setEntityId(selectedEntityId);
+        context.setEntityId(selectedIndex + 1);
         context.setAffinity(aggregates[selectedIndex]);
 
-        return selectedCluster.getId().orElseGet(() -> Integer.toString(selectedEntityId));
+        return getClusterId(selectedIndex);
+    }
+
+    /**
+     * Returns the index of the cluster nearest to the given inputs, filling <code>aggregates</code> with the
+     * distance, or similarity, of each cluster
+     */
+    private int selectCluster(final double[] inputs, final double adjustmentFactor, final double[] aggregates) {
+        final double[][] seeds = getClustersValues();
+        for (int i = 0; i < seeds.length; i++) {
+            aggregates[i] = comparisonMeasure.getAggregateFunction()
+                    .apply(clusteringFields, comparisonMeasure.getCompareFunction(), inputs,
+                           seeds[i], adjustmentFactor);
+        }
+        return findMinIndex(aggregates);
+    }
+
+    private String getClusterId(final int index) {
+        return clusters.get(index).getId().orElseGet(() -> Integer.toString(index + 1));
     }
 
     private double computeAdjustmentFactor(Map<String, Object> requestData) {
@@ -136,6 +211,28 @@ public class KiePMMLClusteringModel extends KiePMMLModel implements IsInterprete
         return numerator / denumerator;
     }
 
+    private double computeAdjustmentFactor(double[] features) {
+        double numerator = 1.0;
+        double denumerator = 1.0;
+
+        for (int i = 0; i < clusteringFields.size(); i++) {
+            double weight = missingValueWeightFor(i);
+            double nonMissingFactor = Double.isNaN(features[i]) ? 0.0 : 1.0;
+
+            numerator *= weight;
+            denumerator *= weight * nonMissingFactor;
+        }
+
+        return numerator / denumerator;
+    }
+
+    private double[][] getClustersValues() {
+        if (clustersValues == null) {
+            clustersValues = clusters.stream().map(KiePMMLCluster::getValuesArray).toArray(double[][]::new);
+        }
+        return clustersValues;
+    }
+
     private int findMinIndex(double[] values) {
         int minIndex = 0;
         double min = values[minIndex];
@@ -170,6 +267,7 @@ public class KiePMMLClusteringModel extends KiePMMLModel implements IsInterprete
         public Builder withClusters(List<KiePMMLCluster> clusters) {
             if (clusters != null) {
                 toBuild.clusters.addAll(clusters);
+                toBuild.clustersValues = null;
             }
             return this;
         }
@@ -43,7 +43,7 @@ public class KiePMMLAggregateFunctionTest {
 
     private static final List<KiePMMLClusteringField> TEST_FIELDS = new ArrayList<>(2);
     private static final KiePMMLCompareFunction TEST_COMPARE_FN = KiePMMLCompareFunction.ABS_DIFF;
-    private static final Double[] TEST_INPUTS = new Double[2];
+    private static final double[] TEST_INPUTS = new double[2];
     private static final double[] TEST_SEEDS = new double[2];
     private static final double TEST_ADJUST = 1.0;
 
@@ -101,4 +101,10 @@ public class KiePMMLAggregateFunctionTest {
         assertThat(squaredEuclidean(TEST_FIELDS, TEST_COMPARE_FN, TEST_INPUTS, TEST_SEEDS, TEST_ADJUST)).isEqualTo(25.0, DOUBLE_OFFSET);
     }
 
+    @Test
+    public void testSquaredEuclideanMissingValue() {
+        double[] inputs = new double[]{5.0, Double.NaN};
+        assertThat(squaredEuclidean(TEST_FIELDS, TEST_COMPARE_FN, inputs, TEST_SEEDS, TEST_ADJUST)).isEqualTo(16.0, DOUBLE_OFFSET);
+    }
+
 }
@@ -0,0 +1,64 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kie.pmml.models.clustering.model;
+
+import java.util.Arrays;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.kie.pmml.api.enums.MINING_FUNCTION;
+import org.kie.pmml.commons.testingutility.PMMLContextTest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class KiePMMLClusteringModelTest {
+
+    private static final String FIELD_X = "x";
+    private static final String FIELD_Y = "y";
+
+    private KiePMMLClusteringModel clusteringModel;
+
+    @Before
+    public void setup() {
+        clusteringModel = KiePMMLClusteringModel.builder("ClusteringModel", MINING_FUNCTION.CLUSTERING)
+                .withModelClass(KiePMMLClusteringModel.ModelClass.CENTER_BASED)
+                .withClusteringFields(Arrays.asList(new KiePMMLClusteringField(FIELD_X, 1.0, true, null, null),
+                                                    new KiePMMLClusteringField(FIELD_Y, 1.0, true, null, null)))
+                .withClusters(Arrays.asList(new KiePMMLCluster("first", "First", Arrays.asList(0.0, 0.0)),
+                                            new KiePMMLCluster(null, "Second", Arrays.asList(10.0, 10.0))))
+                .withComparisonMeasure(new KiePMMLComparisonMeasure(KiePMMLComparisonMeasure.Kind.DISTANCE,
+                                                                    KiePMMLAggregateFunction.SQUARED_EUCLIDEAN,
+                                                                    KiePMMLCompareFunction.ABS_DIFF))
+                .build();
+    }
+
+    @Test
+    public void getColumnarFieldNames() {
+        assertThat(clusteringModel.isColumnarEvaluable()).isTrue();
+        assertThat(clusteringModel.getColumnarFieldNames()).containsExactly(FIELD_X, FIELD_Y);
+    }
+
+    @Test
+    public void evaluateColumns() {
+        final double[][] columns = {{1.0, 9.0, 4.0}, {2.0, 8.0, 7.0}};
+        final Object[] retrieved = clusteringModel.evaluateColumns(columns, 3);
+        assertThat(retrieved).containsExactly("first", "2", "2");
+        for (int row = 0; row < 3; row++) {
+            final double[] features = {columns[0][row], columns[1][row]};
+            assertThat(retrieved[row]).isEqualTo(clusteringModel.evaluate(features, new PMMLContextTest()));
+        }
+    }
+}
@@ -20,11 +20,13 @@ import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.StringJoiner;
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
 import java.util.function.Supplier;
 
 import org.kie.api.KieBase;
 import org.kie.api.event.rule.AgendaEventListener;
 import org.kie.api.pmml.PMML4Result;
+import org.kie.api.runtime.KieSessionsPool;
 import org.kie.pmml.api.enums.MINING_FUNCTION;
 import org.kie.pmml.api.enums.PMML_MODEL;
 import org.kie.pmml.api.enums.ResultCode;
@@ -58,6 +60,14 @@ public abstract class KiePMMLDroolsModel extends KiePMMLModel implements IsDrool
      */
     protected Map<String, KiePMMLOriginalTypeGeneratedType> fieldTypeMap = new HashMap<>();
 
+    private static final AtomicReferenceFieldUpdater<KiePMMLDroolsModel, PooledSessions> POOLED_SESSIONS_UPDATER =
+            AtomicReferenceFieldUpdater.newUpdater(KiePMMLDroolsModel.class, PooledSessions.class, "pooledSessions");
+
+    /**
+     * Pool of the sessions used to evaluate this model, bound to the <code>KieBase</code> it has been created from
+     */
+    private transient volatile PooledSessions pooledSessions;
+
     protected KiePMMLDroolsModel(final String modelName,
                                  final List<KiePMMLExtension> extensions) {
         super(modelName, extensions);
@@ -79,8 +89,8 @@ public abstract class KiePMMLDroolsModel extends KiePMMLModel implements IsDrool
         String fullClassName = this.getClass().getName();
         String packageName = fullClassName.contains(".") ?
                 fullClassName.substring(0, fullClassName.lastIndexOf('.')) : "";
-        KiePMMLSessionUtils.Builder builder = KiePMMLSessionUtils.builder((KieBase) knowledgeBase, name, packageName,
-                                                                          toReturn)
+        KiePMMLSessionUtils.Builder builder = KiePMMLSessionUtils.builder(getSessionsPool((KieBase) knowledgeBase), name,
+                                                                          packageName, toReturn)
                 .withObjectsInSession(requestData, fieldTypeMap)
                 .withOutputFieldsMap(context.getOutputFieldsMap());
         if (logger.isDebugEnabled()) {
@@ -91,6 +101,30 @@ public abstract class KiePMMLDroolsModel extends KiePMMLModel implements IsDrool
         return toReturn;
     }
 
+    /**
+     * Returns the <code>KieSessionsPool</code> of the given <code>KieBase</code>, creating it on first usage.
+     * Pooled sessions are reset when released, so each evaluation starts from an empty working memory.
+     * The pool of a previous <code>KieBase</code> is shut down when it is replaced
+     * @param knowledgeBase
+     * @return
+     */
+    KieSessionsPool getSessionsPool(final KieBase knowledgeBase) {
+        PooledSessions current = pooledSessions;
+        while (current == null || current.knowledgeBase != knowledgeBase) {
+            PooledSessions created = new PooledSessions(knowledgeBase, knowledgeBase.newKieSessionsPool(1));
+            if (POOLED_SESSIONS_UPDATER.compareAndSet(this, current, created)) {
+                if (current != null) {
+                    current.sessionsPool.shutdown();
+                }
+                return created.sessionsPool;
+            }
+            // another thread replaced the pool in the meanwhile
+            created.sessionsPool.shutdown();
+            current = pooledSessions;
+        }
+        return current.sessionsPool;
+    }
+
     @Override
     public String getKModulePackageName() {
         return kModulePackageName;
@@ -136,6 +170,17 @@ public abstract class KiePMMLDroolsModel extends KiePMMLModel implements IsDrool
         return toReturn;
     }
 
+    private static class PooledSessions {
+
+        private final KieBase knowledgeBase;
+        private final KieSessionsPool sessionsPool;
+
+        private PooledSessions(final KieBase knowledgeBase, final KieSessionsPool sessionsPool) {
+            this.knowledgeBase = knowledgeBase;
+            this.sessionsPool = sessionsPool;
+        }
+    }
+
     public abstract static class Builder<T extends KiePMMLDroolsModel> extends KiePMMLModel.Builder<T> {
 
         protected Builder(String prefix, PMML_MODEL pmmlMODEL, MINING_FUNCTION miningFunction, Supplier<T> supplier) {
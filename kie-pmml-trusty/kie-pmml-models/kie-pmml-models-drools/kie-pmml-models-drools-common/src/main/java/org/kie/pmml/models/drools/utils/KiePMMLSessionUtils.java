@@ -26,6 +26,7 @@ import org.kie.api.command.Command;
 import org.kie.api.definition.type.FactType;
 import org.kie.api.event.rule.AgendaEventListener;
 import org.kie.api.pmml.PMML4Result;
+import org.kie.api.runtime.KieSessionsPool;
 import org.kie.api.runtime.StatelessKieSession;
 import org.kie.pmml.api.exceptions.KiePMMLException;
 import org.kie.pmml.evaluator.api.exceptions.KiePMMLModelException;
@@ -55,14 +56,39 @@ public class KiePMMLSessionUtils {
         this.modelName = modelName;
         this.packageName = packageName;
         kieSession = getKieSession(knowledgeBase);
-        commands = new ArrayList<>();
-        commands.add(COMMAND_FACTORY_SERVICE.newInsert(new KiePMMLStatusHolder()));
-        commands.add(COMMAND_FACTORY_SERVICE.newInsert(pmml4Result));
-        commands.add(COMMAND_FACTORY_SERVICE.newSetGlobal(PMML4_RESULT_IDENTIFIER, pmml4Result));
+        commands = getInitialCommands(pmml4Result);
+    }
+
+    private KiePMMLSessionUtils(final KieSessionsPool sessionsPool, final String modelName, final String packageName, final PMML4Result pmml4Result) {
+        this.modelName = modelName;
+        this.packageName = packageName;
+        kieSession = getKieSession(sessionsPool);
+        commands = getInitialCommands(pmml4Result);
     }
 
     public static Builder builder(final KieBase knowledgeBase, final String modelName, final String packageName, final PMML4Result pmml4Result) {
-        return new Builder(knowledgeBase, modelName, packageName, pmml4Result);
+        return new Builder(new KiePMMLSessionUtils(knowledgeBase, modelName, packageName, pmml4Result));
+    }
+
+    /**
+     * Returns a <code>Builder</code> whose <code>StatelessKieSession</code> borrows its underlying session from the
+     * given <code>KieSessionsPool</code>; the session is reset and given back to the pool at the end of each execution
+     * @param sessionsPool
+     * @param modelName
+     * @param packageName
+     * @param pmml4Result
+     * @return
+     */
+    public static Builder builder(final KieSessionsPool sessionsPool, final String modelName, final String packageName, final PMML4Result pmml4Result) {
+        return new Builder(new KiePMMLSessionUtils(sessionsPool, modelName, packageName, pmml4Result));
+    }
+
+    private static List<Command> getInitialCommands(final PMML4Result pmml4Result) {
+        final List<Command> toReturn = new ArrayList<>();
+        toReturn.add(COMMAND_FACTORY_SERVICE.newInsert(new KiePMMLStatusHolder()));
+        toReturn.add(COMMAND_FACTORY_SERVICE.newInsert(pmml4Result));
+        toReturn.add(COMMAND_FACTORY_SERVICE.newSetGlobal(PMML4_RESULT_IDENTIFIER, pmml4Result));
+        return toReturn;
     }
 
     /**
@@ -86,6 +112,19 @@ public class KiePMMLSessionUtils {
         }
     }
 
+    StatelessKieSession getKieSession(final KieSessionsPool sessionsPool) {
+        StatelessKieSession toReturn;
+        try {
+            toReturn = sessionsPool.newStatelessKieSession();
+            if (toReturn == null) {
+                throw new KiePMMLException("Failed to retrieve pooled KieSession for model " + modelName);
+            }
+            return toReturn;
+        } catch (Throwable t) {
+            throw new KiePMMLException("Failed to retrieve pooled KieSession for model " + modelName, t);
+        }
+    }
+
     /**
      * Insert an <code>Object</code> to the underlying <code>KieSession</code>.
      * @param toInsert the <code>Object</code> to insert
@@ -128,8 +167,8 @@ public class KiePMMLSessionUtils {
 
         KiePMMLSessionUtils toBuild;
 
-        private Builder(final KieBase knowledgeBase, final String modelName, final String packageName, final PMML4Result pmml4Result) {
-            this.toBuild = new KiePMMLSessionUtils(knowledgeBase, modelName, packageName, pmml4Result);
+        private Builder(final KiePMMLSessionUtils toBuild) {
+            this.toBuild = toBuild;
         }
 
         /**
@@ -20,12 +20,18 @@ import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 
+import org.drools.kiesession.rulebase.KnowledgeBaseFactory;
 import org.junit.Before;
 import org.junit.Test;
+import org.kie.api.KieBase;
+import org.kie.api.runtime.KieSessionsPool;
 import org.kie.pmml.api.exceptions.KiePMMLException;
 import org.kie.pmml.commons.model.KiePMMLExtension;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
 import static org.kie.pmml.commons.utils.KiePMMLModelUtils.getSanitizedPackageName;
 
 public class KiePMMLDroolsModelTest {
@@ -52,6 +58,23 @@ public class KiePMMLDroolsModelTest {
         kiePMMLDroolsModel.evaluate("NOT_KIE_BASE", new HashMap<>(), null);
     }
 
+    @Test
+    public void getSessionsPool() {
+        KieBase kieBase = KnowledgeBaseFactory.newKnowledgeBase("PMML", null);
+        KieSessionsPool retrieved = kiePMMLDroolsModel.getSessionsPool(kieBase);
+        assertNotNull(retrieved);
+        assertSame(retrieved, kiePMMLDroolsModel.getSessionsPool(kieBase));
+        KieBase otherKieBase = KnowledgeBaseFactory.newKnowledgeBase("PMML", null);
+        assertNotSame(retrieved, kiePMMLDroolsModel.getSessionsPool(otherKieBase));
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void getSessionsPoolShutsDownReplacedPool() {
+        KieSessionsPool retrieved = kiePMMLDroolsModel.getSessionsPool(KnowledgeBaseFactory.newKnowledgeBase("PMML", null));
+        kiePMMLDroolsModel.getSessionsPool(KnowledgeBaseFactory.newKnowledgeBase("PMML", null));
+        retrieved.newKieSession();
+    }
+
     private final class KiePMMLDroolsModelFake extends KiePMMLDroolsModel {
 
         protected KiePMMLDroolsModelFake(String modelName,
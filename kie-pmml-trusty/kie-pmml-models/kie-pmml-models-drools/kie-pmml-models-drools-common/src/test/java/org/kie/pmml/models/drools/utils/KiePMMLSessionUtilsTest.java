@@ -26,6 +26,7 @@ import org.junit.Test;
 import org.kie.api.KieBase;
 import org.kie.api.command.Command;
 import org.kie.api.pmml.PMML4Result;
+import org.kie.api.runtime.KieSessionsPool;
 import org.kie.api.runtime.StatelessKieSession;
 import org.kie.pmml.models.drools.executor.KiePMMLStatusHolder;
 
@@ -87,6 +88,21 @@ public class KiePMMLSessionUtilsTest {
         assertNotNull(retrieved);
     }
 
+    @Test
+    public void getPooledKieSession() {
+        KieSessionsPool sessionsPool = KIE_BASE.newKieSessionsPool(1);
+        try {
+            KiePMMLSessionUtils pooled = KiePMMLSessionUtils.builder(sessionsPool, MODEL_NAME, PACKAGE_NAME,
+                                                                     PMML4_RESULT).build();
+            assertNotNull(pooled.kieSession);
+            assertEquals(3, pooled.commands.size());
+            StatelessKieSession retrieved = pooled.getKieSession(sessionsPool);
+            assertNotNull(retrieved);
+        } finally {
+            sessionsPool.shutdown();
+        }
+    }
+
     @Test
     public void insertObjectInSession() {
         final List<Command> retrieved = kiePMMLSessionUtils.commands;
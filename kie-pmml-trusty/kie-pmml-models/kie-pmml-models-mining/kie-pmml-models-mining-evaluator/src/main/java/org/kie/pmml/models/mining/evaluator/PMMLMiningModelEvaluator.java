@@ -15,12 +15,21 @@
  */
 package org.kie.pmml.models.mining.evaluator;
 
+import java.util.ArrayList;
 import java.util.Collections;
-import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
@@ -32,21 +41,32 @@ import org.drools.kiesession.rulebase.KnowledgeBaseFactory;
 import org.kie.api.KieBase;
 import org.kie.api.definition.KiePackage;
 import org.kie.api.pmml.PMML4Result;
+import org.kie.api.pmml.PMMLRequestData;
+import org.kie.api.pmml.ParameterInfo;
 import org.kie.api.runtime.KieRuntimeFactory;
+import org.kie.pmml.api.enums.FIELD_USAGE_TYPE;
 import org.kie.pmml.api.enums.MINING_FUNCTION;
 import org.kie.pmml.api.enums.PMML_MODEL;
 import org.kie.pmml.api.enums.ResultCode;
 import org.kie.pmml.api.exceptions.KieEnumException;
 import org.kie.pmml.api.exceptions.KiePMMLException;
 import org.kie.pmml.api.exceptions.KiePMMLInternalException;
+import org.kie.pmml.api.models.MiningField;
+import org.kie.pmml.api.models.OutputField;
 import org.kie.pmml.api.models.PMMLStep;
 import org.kie.pmml.api.runtime.PMMLContext;
 import org.kie.pmml.api.runtime.PMMLRuntime;
 import org.kie.pmml.commons.model.KiePMMLModel;
+import org.kie.pmml.commons.model.predicates.KiePMMLCompoundPredicate;
+import org.kie.pmml.commons.model.predicates.KiePMMLFalsePredicate;
 import org.kie.pmml.commons.model.predicates.KiePMMLPredicate;
+import org.kie.pmml.commons.model.predicates.KiePMMLSimplePredicate;
+import org.kie.pmml.commons.model.predicates.KiePMMLSimpleSetPredicate;
+import org.kie.pmml.commons.model.predicates.KiePMMLTruePredicate;
 import org.kie.pmml.commons.model.tuples.KiePMMLNameValue;
 import org.kie.pmml.commons.model.tuples.KiePMMLValueWeight;
 import org.kie.pmml.evaluator.api.exceptions.KiePMMLModelException;
+import org.kie.pmml.evaluator.core.PMMLContextImpl;
 import org.kie.pmml.evaluator.core.executor.PMMLModelEvaluator;
 import org.kie.pmml.models.mining.model.KiePMMLMiningModel;
 import org.kie.pmml.models.mining.model.enums.MULTIPLE_MODEL_METHOD;
@@ -64,10 +84,36 @@ import static org.kie.pmml.evaluator.core.utils.PMMLListenerUtils.stepExecuted;
  */
 public class PMMLMiningModelEvaluator implements PMMLModelEvaluator<KiePMMLMiningModel> {
 
+    /**
+     * System property to set the number of threads used to concurrently evaluate the segments of
+     * <b>order-independent</b> <code>MULTIPLE_MODEL_METHOD</code>s (see {@link MULTIPLE_MODEL_METHOD#isOrderIndependent()}).
+     * Default is <b>1</b>, i.e. sequential evaluation.
+     * When enabled, <code>PMMLListener</code>s may be notified of inner-model steps from different threads.
+     */
+    public static final String SEGMENTS_EVALUATION_PARALLELISM = "kie.pmml.mining.segments.parallelism";
+
     private static final Logger logger = LoggerFactory.getLogger(PMMLMiningModelEvaluator.class.getName());
     private static final String EXPECTED_A_KIE_PMMLMINING_MODEL_RECEIVED = "Expected a KiePMMLMiningModel, received %s";
     private static final String TARGET_FIELD_REQUIRED_RETRIEVED = "TargetField required, retrieved %s";
-    private static final Map<String, InternalKnowledgeBase> MAPPED_KIEBASES = new HashMap<>();
+    private static final Map<String, InternalKnowledgeBase> MAPPED_KIEBASES = new ConcurrentHashMap<>();
+
+    /**
+     * The <code>Executor</code> used to evaluate segments concurrently; <code>null</code> means sequential evaluation
+     */
+    private final Executor segmentsExecutor;
+
+    public PMMLMiningModelEvaluator() {
+        this(getDefaultSegmentsExecutor());
+    }
+
+    /**
+     * Create an evaluator that evaluates the segments of <b>order-independent</b> <code>MULTIPLE_MODEL_METHOD</code>s
+     * with the given <code>Executor</code>
+     * @param segmentsExecutor the <code>Executor</code> to use, or <code>null</code> for sequential evaluation
+     */
+    public PMMLMiningModelEvaluator(final Executor segmentsExecutor) {
+        this.segmentsExecutor = segmentsExecutor;
+    }
 
     @Override
     public PMML_MODEL getPMMLModelType() {
@@ -126,17 +172,21 @@ public class PMMLMiningModelEvaluator implements PMMLModelEvaluator<KiePMMLMinin
     PMMLRuntime getPMMLRuntime(final String kModulePackageName, final KieBase knowledgeBase,
                                final String containerModelName) {
         final String key = containerModelName + "_" + kModulePackageName;
-        InternalKnowledgeBase kieBase = MAPPED_KIEBASES.computeIfAbsent(key, s -> {
+        InternalKnowledgeBase kieBase = MAPPED_KIEBASES.get(key);
+        if (kieBase == null) {
+            // built outside the map, so concurrent segments do not block each other on the map;
+            // if two of them race only the first stored one is used
             final KiePackage kiePackage = knowledgeBase.getKiePackage(kModulePackageName);
             final List<KiePackage> packages = kiePackage != null ?
-                    Collections.singletonList(knowledgeBase.getKiePackage(kModulePackageName)) :
+                    Collections.singletonList(kiePackage) :
                     Collections.emptyList();
             RuleBaseConfiguration conf = new RuleBaseConfiguration();
             conf.setClassLoader(((RuleBase) knowledgeBase).getRootClassLoader());
-            InternalKnowledgeBase toReturn = KnowledgeBaseFactory.newKnowledgeBase(kModulePackageName, conf);
-            toReturn.addPackages(packages);
-            return toReturn;
-        });
+            InternalKnowledgeBase toPut = KnowledgeBaseFactory.newKnowledgeBase(kModulePackageName, conf);
+            toPut.addPackages(packages);
+            InternalKnowledgeBase existing = MAPPED_KIEBASES.putIfAbsent(key, toPut);
+            kieBase = existing != null ? existing : toPut;
+        }
         KieRuntimeFactory kieRuntimeFactory = KieRuntimeFactory.of(kieBase);
         return kieRuntimeFactory.get(PMMLRuntime.class);
     }
@@ -233,10 +283,22 @@ public class PMMLMiningModelEvaluator implements PMMLModelEvaluator<KiePMMLMinin
                                             final MULTIPLE_MODEL_METHOD multipleModelMethod,
                                             final KiePMMLSegment segment,
                                             final LinkedHashMap<String, KiePMMLNameValueProbabilityMapTuple> toPopulate) {
+        populateInputDataWithSegmentResult(new PMML4ResultProbabilityMapTuple(pmml4Result,
+                                                                              pmmlContext.getProbabilityMap()),
+                                           pmmlContext,
+                                           multipleModelMethod,
+                                           segment,
+                                           toPopulate);
+    }
+
+    void populateInputDataWithSegmentResult(final PMML4ResultProbabilityMapTuple pmml4ResultTuple,
+                                            final PMMLContext pmmlContext,
+                                            final MULTIPLE_MODEL_METHOD multipleModelMethod,
+                                            final KiePMMLSegment segment,
+                                            final LinkedHashMap<String, KiePMMLNameValueProbabilityMapTuple> toPopulate) {
+        final PMML4Result pmml4Result = pmml4ResultTuple.pmml4Result;
         pmml4Result.getResultVariables().forEach((s, o) -> pmmlContext.getRequestData().addRequestParam(s, o));
 
-        PMML4ResultProbabilityMapTuple pmml4ResultTuple = new PMML4ResultProbabilityMapTuple(pmml4Result,
-                                                                                             pmmlContext.getProbabilityMap());
 
         KiePMMLNameValue predictionValue = getKiePMMLNameValue(pmml4ResultTuple.pmml4Result,
                                                                multipleModelMethod,
@@ -249,6 +311,113 @@ public class PMMLMiningModelEvaluator implements PMMLModelEvaluator<KiePMMLMinin
         addStep(() -> getStep(segment, pmml4Result), pmmlContext);
     }
 
+    /**
+     * Return a new <code>PMMLContext</code> to be used for the isolated evaluation of a single segment.
+     * It contains a copy of the <code>PMMLRequestData</code> of the given one, and the same <code>PMMLListener</code>s
+     * @param pmmlContext
+     * @return
+     */
+    PMMLContext getSegmentContext(final PMMLContext pmmlContext) {
+        final PMMLRequestData source = pmmlContext.getRequestData();
+        final PMMLRequestData requestData = new PMMLRequestData(source.getCorrelationId(), source.getModelName());
+        requestData.setSource(source.getSource());
+        source.getRequestParams().forEach(requestData::addRequestParam);
+        return new PMMLContextImpl(requestData, pmmlContext.getPMMLListeners());
+    }
+
+    /**
+     * Merge into the given <code>PMMLContext</code> what the evaluation of a single segment left in its own
+     * <b>segmentContext</b>, i.e. the same side effects the segment would have had if evaluated directly on the
+     * former: the request parameters added or replaced (compared to <b>originalParams</b>), the transformations,
+     * the output fields and the predicted values
+     * @param segmentContext
+     * @param originalParams the request parameters the <b>segmentContext</b> has been created with
+     * @param pmmlContext
+     */
+    void mergeSegmentContext(final PMMLContext segmentContext,
+                             final Set<ParameterInfo> originalParams,
+                             final PMMLContext pmmlContext) {
+        final PMMLRequestData requestData = pmmlContext.getRequestData();
+        segmentContext.getRequestData().getRequestParams().stream()
+                .filter(parameterInfo -> !originalParams.contains(parameterInfo))
+                .forEach(requestData::addRequestParam);
+        segmentContext.getMissingValueReplacedMap().forEach(pmmlContext::addMissingValueReplaced);
+        segmentContext.getCommonTransformationMap().forEach(pmmlContext::addCommonTranformation);
+        segmentContext.getLocalTransformationMap().forEach(pmmlContext::addLocalTranformation);
+        pmmlContext.getOutputFieldsMap().putAll(segmentContext.getOutputFieldsMap());
+        if (segmentContext.getPredictedDisplayValue() != null) {
+            pmmlContext.setPredictedDisplayValue(segmentContext.getPredictedDisplayValue());
+        }
+        if (segmentContext.getEntityId() != null) {
+            pmmlContext.setEntityId(segmentContext.getEntityId());
+        }
+        if (segmentContext.getAffinity() != null) {
+            pmmlContext.setAffinity(segmentContext.getAffinity());
+        }
+        if (segmentContext.getProbabilityResultMap() != null) {
+            pmmlContext.setProbabilityResultMap(segmentContext.getProbabilityResultMap());
+        }
+    }
+
+    /**
+     * Returns <code>true</code> if no segment may read a field that another one produces (its target or its
+     * output fields), i.e. if the segments may be evaluated without seeing the results of the previous ones.
+     * The fields read are the non-target mining fields of the model and the ones referred by the predicate of the
+     * segment; a predicate of unknown type is considered dependent
+     * @param segments
+     * @return
+     */
+    static boolean areIndependent(final List<KiePMMLSegment> segments) {
+        final Set<String> produced = new HashSet<>();
+        final Set<String> read = new HashSet<>();
+        for (KiePMMLSegment segment : segments) {
+            final KiePMMLModel model = segment.getModel();
+            if (model.getTargetField() != null) {
+                produced.add(model.getTargetField());
+            }
+            if (model.getOutputFields() != null) {
+                model.getOutputFields().stream().map(OutputField::getName).forEach(produced::add);
+            }
+            if (model.getMiningFields() != null) {
+                model.getMiningFields().stream()
+                        .filter(miningField -> !FIELD_USAGE_TYPE.TARGET.equals(miningField.getUsageType()) &&
+                                !FIELD_USAGE_TYPE.PREDICTED.equals(miningField.getUsageType()))
+                        .map(MiningField::getName)
+                        .forEach(read::add);
+            }
+            if (!addPredicateFields(segment.getKiePMMLPredicate(), read)) {
+                return false;
+            }
+        }
+        return Collections.disjoint(produced, read);
+    }
+
+    /**
+     * Add to <b>toPopulate</b> the names of the fields referred by the given <code>KiePMMLPredicate</code>
+     * @param predicate
+     * @param toPopulate
+     * @return <code>false</code> if the fields of the predicate can not be determined
+     */
+    static boolean addPredicateFields(final KiePMMLPredicate predicate, final Set<String> toPopulate) {
+        if (predicate == null || predicate instanceof KiePMMLTruePredicate || predicate instanceof KiePMMLFalsePredicate) {
+            return true;
+        } else if (predicate instanceof KiePMMLSimplePredicate) {
+            toPopulate.add(((KiePMMLSimplePredicate) predicate).getName());
+            return true;
+        } else if (predicate instanceof KiePMMLSimpleSetPredicate) {
+            toPopulate.add(((KiePMMLSimpleSetPredicate) predicate).getName());
+            return true;
+        } else if (predicate instanceof KiePMMLCompoundPredicate) {
+            for (KiePMMLPredicate nested : ((KiePMMLCompoundPredicate) predicate).getKiePMMLPredicates()) {
+                if (!addPredicateFields(nested, toPopulate)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+        return false;
+    }
+
     /**
      * Send the given <code>PMMLStep</code>
      * to the <code>PMMLContext</code>
@@ -292,19 +461,81 @@ public class PMMLMiningModelEvaluator implements PMMLModelEvaluator<KiePMMLMinin
         final MULTIPLE_MODEL_METHOD multipleModelMethod = toEvaluate.getSegmentation().getMultipleModelMethod();
         final List<KiePMMLSegment> segments = toEvaluate.getSegmentation().getSegments();
         final LinkedHashMap<String, KiePMMLNameValueProbabilityMapTuple> inputData = new LinkedHashMap<>();
-        for (KiePMMLSegment segment : segments) {
-            Optional<PMML4Result> segmentResult = evaluateSegment(segment, pmmlContext,
-                                                                  knowledgeBase,
-                                                                  toEvaluate.getName());
-            segmentResult.ifPresent(pmml4Result -> populateInputDataWithSegmentResult(pmml4Result,
-                                                                                      pmmlContext,
-                                                                                      multipleModelMethod,
-                                                                                      segment,
-                                                                                      inputData));
+        if (segmentsExecutor != null && multipleModelMethod.isOrderIndependent() && segments.size() > 1 &&
+                areIndependent(segments)) {
+            evaluateSegmentsConcurrently(segments, pmmlContext, knowledgeBase, toEvaluate.getName(),
+                                         multipleModelMethod, inputData);
+        } else {
+            for (KiePMMLSegment segment : segments) {
+                Optional<PMML4Result> segmentResult = evaluateSegment(segment, pmmlContext,
+                                                                      knowledgeBase,
+                                                                      toEvaluate.getName());
+                segmentResult.ifPresent(pmml4Result -> populateInputDataWithSegmentResult(pmml4Result,
+                                                                                          pmmlContext,
+                                                                                          multipleModelMethod,
+                                                                                          segment,
+                                                                                          inputData));
+                if (segmentResult.isPresent() && MULTIPLE_MODEL_METHOD.SELECT_FIRST.equals(multipleModelMethod)) {
+                    // only the first matching segment contributes to the result
+                    break;
+                }
+            }
         }
         return getPMML4Result(toEvaluate, inputData, pmmlContext);
     }
 
+    /**
+     * Evaluate the given <code>KiePMMLSegment</code>s on the <code>segmentsExecutor</code>, each one with its own
+     * copy of the given <code>PMMLContext</code>. Results are then merged back in <b>segments</b> order, so that
+     * the outcome does not depend on scheduling
+     * @param segments
+     * @param pmmlContext
+     * @param knowledgeBase
+     * @param containerModelName
+     * @param multipleModelMethod
+     * @param toPopulate
+     */
+    private void evaluateSegmentsConcurrently(final List<KiePMMLSegment> segments,
+                                              final PMMLContext pmmlContext,
+                                              final KieBase knowledgeBase,
+                                              final String containerModelName,
+                                              final MULTIPLE_MODEL_METHOD multipleModelMethod,
+                                              final LinkedHashMap<String, KiePMMLNameValueProbabilityMapTuple> toPopulate) {
+        // the contexts are all copied before any result is merged back, so every segment sees the same inputs
+        final Set<ParameterInfo> originalParams = Collections.newSetFromMap(new IdentityHashMap<>());
+        originalParams.addAll(pmmlContext.getRequestData().getRequestParams());
+        final List<PMMLContext> segmentContexts = segments.stream()
+                .map(segment -> getSegmentContext(pmmlContext))
+                .collect(Collectors.toList());
+        final List<CompletableFuture<Optional<PMML4Result>>> futures = new ArrayList<>();
+        for (int i = 0; i < segments.size(); i++) {
+            final KiePMMLSegment segment = segments.get(i);
+            final PMMLContext segmentContext = segmentContexts.get(i);
+            futures.add(CompletableFuture.supplyAsync(() -> evaluateSegment(segment, segmentContext, knowledgeBase,
+                                                                            containerModelName),
+                                                      segmentsExecutor));
+        }
+        for (int i = 0; i < segments.size(); i++) {
+            final KiePMMLSegment segment = segments.get(i);
+            final PMMLContext segmentContext = segmentContexts.get(i);
+            try {
+                final Optional<PMML4Result> segmentResult = futures.get(i).join();
+                mergeSegmentContext(segmentContext, originalParams, pmmlContext);
+                segmentResult.ifPresent(pmml4Result -> populateInputDataWithSegmentResult(
+                        new PMML4ResultProbabilityMapTuple(pmml4Result, segmentContext.getProbabilityMap()),
+                        pmmlContext,
+                        multipleModelMethod,
+                        segment,
+                        toPopulate));
+            } catch (CompletionException e) {
+                if (e.getCause() instanceof RuntimeException) {
+                    throw (RuntimeException) e.getCause();
+                }
+                throw new KiePMMLException("Failed to evaluate segment " + segment.getId(), e.getCause());
+            }
+        }
+    }
+
     /**
      * Evaluate the model contained in the <code>KiePMMLSegment</code>, indirectly invoking
      * the model-specific evaluator (through <code>PMMLRuntime</code> container)
@@ -333,6 +564,24 @@ public class PMMLMiningModelEvaluator implements PMMLModelEvaluator<KiePMMLMinin
         return toReturn;
     }
 
+    private static Executor getDefaultSegmentsExecutor() {
+        return SegmentsExecutorHolder.PARALLELISM > 1 ? SegmentsExecutorHolder.EXECUTOR : null;
+    }
+
+    /**
+     * Lazily creates the shared <code>ExecutorService</code> configured by {@link #SEGMENTS_EVALUATION_PARALLELISM}
+     */
+    private static class SegmentsExecutorHolder {
+
+        private static final int PARALLELISM = Integer.getInteger(SEGMENTS_EVALUATION_PARALLELISM, 1);
+        private static final ExecutorService EXECUTOR = PARALLELISM > 1 ?
+                Executors.newFixedThreadPool(PARALLELISM, runnable -> {
+                    Thread toReturn = new Thread(runnable, "kie-pmml-mining-segments");
+                    toReturn.setDaemon(true);
+                    return toReturn;
+                }) : null;
+    }
+
     static class PMML4ResultProbabilityMapTuple {
 
         private final PMML4Result pmml4Result;
@@ -18,6 +18,7 @@ package org.kie.pmml.models.mining.evaluator;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.IdentityHashMap;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
@@ -30,23 +31,32 @@ import org.junit.Test;
 import org.kie.api.KieBase;
 import org.kie.api.KieServices;
 import org.kie.api.pmml.PMML4Result;
+import org.kie.api.pmml.PMMLRequestData;
+import org.kie.api.pmml.ParameterInfo;
 import org.kie.api.runtime.KieContainer;
+import org.kie.pmml.api.enums.FIELD_USAGE_TYPE;
 import org.kie.pmml.api.enums.MINING_FUNCTION;
+import org.kie.pmml.api.enums.OPERATOR;
 import org.kie.pmml.api.enums.PMML_MODEL;
 import org.kie.pmml.api.enums.ResultCode;
 import org.kie.pmml.api.exceptions.KiePMMLException;
 import org.kie.pmml.api.exceptions.KiePMMLInternalException;
+import org.kie.pmml.api.models.MiningField;
 import org.kie.pmml.api.models.PMMLStep;
 import org.kie.pmml.api.runtime.PMMLContext;
 import org.kie.pmml.api.runtime.PMMLListener;
 import org.kie.pmml.api.runtime.PMMLRuntime;
 import org.kie.pmml.commons.model.KiePMMLModel;
+import org.kie.pmml.commons.model.predicates.KiePMMLPredicate;
+import org.kie.pmml.commons.model.predicates.KiePMMLSimplePredicate;
+import org.kie.pmml.commons.model.predicates.KiePMMLTruePredicate;
 import org.kie.pmml.commons.model.tuples.KiePMMLNameValue;
 import org.kie.pmml.commons.model.tuples.KiePMMLValueWeight;
 import org.kie.pmml.commons.testingutility.KiePMMLTestingModel;
 import org.kie.pmml.commons.testingutility.PMMLContextTest;
 import org.kie.pmml.evaluator.api.exceptions.KiePMMLModelException;
 import org.kie.pmml.evaluator.api.executor.PMMLRuntimeInternal;
+import org.kie.pmml.evaluator.core.PMMLContextImpl;
 import org.kie.pmml.models.mining.model.KiePMMLMiningModel;
 import org.kie.pmml.models.mining.model.enums.MULTIPLE_MODEL_METHOD;
 import org.kie.pmml.models.mining.model.segmentation.KiePMMLSegment;
@@ -56,6 +66,7 @@ import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotEquals;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNotSame;
 import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
@@ -332,6 +343,73 @@ public class PMMLMiningModelEvaluatorTest {
         pmmlListenersMock.forEach(pmmlListenerMock -> verify(pmmlListenerMock).stepExecuted(step));
     }
 
+    @Test
+    public void getSegmentContext() {
+        PMMLRequestData requestData = new PMMLRequestData("CORRELATION_ID", "MODEL_NAME");
+        requestData.addRequestParam("FIELD", 23.4);
+        PMMLListener pmmlListener = mock(PMMLListener.class);
+        PMMLContext pmmlContext = new PMMLContextImpl(requestData, Collections.singleton(pmmlListener));
+        PMMLContext retrieved = evaluator.getSegmentContext(pmmlContext);
+        assertNotNull(retrieved);
+        assertNotSame(pmmlContext, retrieved);
+        assertEquals(requestData.getCorrelationId(), retrieved.getRequestData().getCorrelationId());
+        assertEquals(requestData.getModelName(), retrieved.getRequestData().getModelName());
+        assertEquals(23.4, retrieved.getRequestData().getMappedRequestParams().get("FIELD").getValue());
+        assertTrue(retrieved.getPMMLListeners().contains(pmmlListener));
+        retrieved.getRequestData().addRequestParam("SEGMENT_RESULT", "VALUE");
+        assertFalse(requestData.getMappedRequestParams().containsKey("SEGMENT_RESULT"));
+    }
+
+    @Test
+    public void mergeSegmentContext() {
+        PMMLRequestData requestData = new PMMLRequestData("CORRELATION_ID", "MODEL_NAME");
+        requestData.addRequestParam("FIELD", 23.4);
+        PMMLContext pmmlContext = new PMMLContextImpl(requestData);
+        Set<ParameterInfo> originalParams = Collections.newSetFromMap(new IdentityHashMap<>());
+        originalParams.addAll(requestData.getRequestParams());
+        PMMLContext segmentContext = evaluator.getSegmentContext(pmmlContext);
+        // a parameter changed by the main context after the copy is not overwritten with the copied one
+        requestData.addRequestParam("FIELD", 45.6);
+        segmentContext.getRequestData().addRequestParam("DERIVED", "DERIVED_VALUE");
+        segmentContext.addCommonTranformation("COMMON", 1);
+        segmentContext.addLocalTranformation("LOCAL", 2);
+        segmentContext.addMissingValueReplaced("MISSING", 3);
+        segmentContext.getOutputFieldsMap().put("OUTPUT", 4);
+        segmentContext.setPredictedDisplayValue("DISPLAY");
+        segmentContext.setEntityId("ENTITY");
+        segmentContext.setAffinity(5.0);
+        evaluator.mergeSegmentContext(segmentContext, originalParams, pmmlContext);
+        assertEquals(45.6, requestData.getMappedRequestParams().get("FIELD").getValue());
+        assertEquals("DERIVED_VALUE", requestData.getMappedRequestParams().get("DERIVED").getValue());
+        assertEquals(1, pmmlContext.getCommonTransformationMap().get("COMMON"));
+        assertEquals(2, pmmlContext.getLocalTransformationMap().get("LOCAL"));
+        assertEquals(3, pmmlContext.getMissingValueReplacedMap().get("MISSING"));
+        assertEquals(4, pmmlContext.getOutputFieldsMap().get("OUTPUT"));
+        assertEquals("DISPLAY", pmmlContext.getPredictedDisplayValue());
+        assertEquals("ENTITY", pmmlContext.getEntityId());
+        assertEquals(5.0, pmmlContext.getAffinity());
+    }
+
+    @Test
+    public void areIndependent() {
+        KiePMMLSegment first = getSegmentMock("FIRST_TARGET", "INPUT",
+                                              KiePMMLSimplePredicate.builder("INPUT", Collections.emptyList(), OPERATOR.GREATER_THAN).withValue(1).build());
+        KiePMMLSegment second = getSegmentMock("SECOND_TARGET", "INPUT",
+                                               KiePMMLTruePredicate.builder(Collections.emptyList()).build());
+        assertTrue(PMMLMiningModelEvaluator.areIndependent(Arrays.asList(first, second)));
+        // the predicate of the third segment reads the target of the first one
+        KiePMMLSegment third = getSegmentMock("THIRD_TARGET", "INPUT",
+                                              KiePMMLSimplePredicate.builder("FIRST_TARGET", Collections.emptyList(), OPERATOR.EQUAL).withValue(1).build());
+        assertFalse(PMMLMiningModelEvaluator.areIndependent(Arrays.asList(first, second, third)));
+        // the model of the fourth segment reads the target of the second one
+        KiePMMLSegment fourth = getSegmentMock("FOURTH_TARGET", "SECOND_TARGET",
+                                               KiePMMLTruePredicate.builder(Collections.emptyList()).build());
+        assertFalse(PMMLMiningModelEvaluator.areIndependent(Arrays.asList(first, second, fourth)));
+        // the fields of an unknown predicate can not be determined
+        KiePMMLSegment fifth = getSegmentMock("FIFTH_TARGET", "INPUT", mock(KiePMMLPredicate.class));
+        assertFalse(PMMLMiningModelEvaluator.areIndependent(Arrays.asList(first, fifth)));
+    }
+
     @Test
     public void getStep() {
         final String modelName = "MODEL_NAME";
@@ -379,4 +457,17 @@ public class PMMLMiningModelEvaluatorTest {
         toReturn.setResultObjectName(resultObjectName);
         return toReturn;
     }
+
+    private KiePMMLSegment getSegmentMock(String targetField, String inputField, KiePMMLPredicate predicate) {
+        KiePMMLModel modelMock = mock(KiePMMLModel.class);
+        when(modelMock.getTargetField()).thenReturn(targetField);
+        when(modelMock.getMiningFields()).thenReturn(Arrays.asList(
+                new MiningField(inputField, FIELD_USAGE_TYPE.ACTIVE, null, null, null, null, null, null, null, null),
+                new MiningField(targetField, FIELD_USAGE_TYPE.TARGET, null, null, null, null, null, null, null, null)));
+        when(modelMock.getOutputFields()).thenReturn(Collections.emptyList());
+        KiePMMLSegment segmentMock = mock(KiePMMLSegment.class);
+        when(segmentMock.getModel()).thenReturn(modelMock);
+        when(segmentMock.getKiePMMLPredicate()).thenReturn(predicate);
+        return segmentMock;
+    }
 }
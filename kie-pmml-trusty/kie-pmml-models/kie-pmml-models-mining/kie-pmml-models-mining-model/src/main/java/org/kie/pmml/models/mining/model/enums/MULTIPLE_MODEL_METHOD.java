@@ -141,6 +141,28 @@ public enum MULTIPLE_MODEL_METHOD {
         return name;
     }
 
+    /**
+     * Returns <code>true</code> if the aggregation of segment results does not depend on the order in which
+     * segments have been evaluated, nor on the outcome of previous segments; segments of such methods may be
+     * evaluated concurrently
+     * @return
+     */
+    public boolean isOrderIndependent() {
+        switch (this) {
+            case MAJORITY_VOTE:
+            case AVERAGE:
+            case WEIGHTED_AVERAGE:
+            case MEDIAN:
+            case WEIGHTED_MEDIAN:
+            case MAX:
+            case SUM:
+            case WEIGHTED_SUM:
+                return true;
+            default:
+                return false;
+        }
+    }
+
     /**
      * Return the prediction of the input data
      * The <b>key</b> of the map is the name of the (inner) model, the <b>value</b> is the result of the model
@@ -88,6 +88,14 @@ public class MULTIPLE_MODEL_METHODTest {
         EXISTING_VALUES.forEach((multipleModelMethod, s) -> assertEquals(s, multipleModelMethod.getName()));
     }
 
+    @Test
+    public void isOrderIndependent() {
+        List<MULTIPLE_MODEL_METHOD> orderDependent = Arrays.asList(SELECT_FIRST, SELECT_ALL, MODEL_CHAIN,
+                                                                   WEIGHTED_MAJORITY_VOTE);
+        EXISTING_VALUES.keySet().forEach(multipleModelMethod -> assertEquals(!orderDependent.contains(multipleModelMethod),
+                                                                             multipleModelMethod.isOrderIndependent()));
+    }
+
     @Test
     public void applyMAJORITY_VOTE() {
         LinkedHashMap<String, KiePMMLNameValue> inputData = new LinkedHashMap<>();
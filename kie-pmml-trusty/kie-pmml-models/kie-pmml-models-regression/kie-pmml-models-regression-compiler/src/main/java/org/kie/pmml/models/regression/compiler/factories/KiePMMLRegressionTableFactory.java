@@ -73,6 +73,7 @@ import static org.kie.pmml.commons.Constants.VARIABLE_NAME_TEMPLATE;
 import static org.kie.pmml.commons.utils.KiePMMLModelUtils.getSanitizedVariableName;
 import static org.kie.pmml.compiler.commons.utils.CommonCodegenUtils.addMapPopulationExpressions;
 import static org.kie.pmml.compiler.commons.utils.CommonCodegenUtils.createPopulatedHashMap;
+import static org.kie.pmml.compiler.commons.utils.CommonCodegenUtils.getArraysAsListInvocationMethodCall;
 import static org.kie.pmml.compiler.commons.utils.CommonCodegenUtils.getChainedMethodCallExprFrom;
 import static org.kie.pmml.compiler.commons.utils.CommonCodegenUtils.getExpressionForObject;
 import static org.kie.pmml.compiler.commons.utils.CommonCodegenUtils.getTypedClassOrInterfaceTypeByTypeNames;
@@ -151,7 +152,17 @@ public class KiePMMLRegressionTableFactory {
         final SerializableFunction<Double, Double> resultUpdater =
                 getResultUpdaterFunction(compilationDTO.getDefaultNormalizationMethod());
         final Double intercept = regressionTable.getIntercept() != null ? regressionTable.getIntercept().doubleValue() : null;
+        final List<NumericPredictor> numericPredictors = regressionTable.getNumericPredictors();
         return KiePMMLRegressionTable.builder(UUID.randomUUID().toString(), Collections.emptyList())
+                .withNumericFeatures(numericPredictors.stream()
+                                             .map(numericPredictor -> numericPredictor.getName().getValue())
+                                             .collect(Collectors.toList()),
+                                     numericPredictors.stream()
+                                             .map(numericPredictor -> numericPredictor.getCoefficient().doubleValue())
+                                             .collect(Collectors.toList()),
+                                     numericPredictors.stream()
+                                             .map(numericPredictor -> numericPredictor.getExponent().doubleValue())
+                                             .collect(Collectors.toList()))
                 .withNumericFunctionMap(numericPredictorsMap)
                 .withCategoricalFunctionMap(categoricalPredictorsMap)
                 .withPredictorTermsFunctionMap(predictorTermFunctionMap)
@@ -374,6 +385,8 @@ public class KiePMMLRegressionTableFactory {
                 .asMethodCallExpr();
         final MethodCallExpr builder = getChainedMethodCallExprFrom("builder", initializer);
         builder.setArgument(0, new StringLiteralExpr(variableName));
+        getChainedMethodCallExprFrom("withNumericFeatures", initializer)
+                .setArguments(getNumericFeaturesExpressions(regressionTable.getNumericPredictors()));
         getChainedMethodCallExprFrom("withNumericFunctionMap", initializer).setArgument(0,
                                                                                         new NameExpr(numericFunctionMapName) {
                                                                                         });
@@ -423,6 +436,26 @@ public class KiePMMLRegressionTableFactory {
         return toReturn;
     }
 
+    /**
+     * Create the <b>withNumericFeatures</b> arguments, i.e. the positional <code>List</code>s of field names,
+     * coefficients and exponents of the given <b>NumericPredictor</b>s
+     * @param numericPredictors
+     * @return
+     */
+    static NodeList<Expression> getNumericFeaturesExpressions(final List<NumericPredictor> numericPredictors) {
+        final NodeList<Expression> fieldNames = new NodeList<>();
+        final NodeList<Expression> coefficients = new NodeList<>();
+        final NodeList<Expression> exponents = new NodeList<>();
+        for (NumericPredictor numericPredictor : numericPredictors) {
+            fieldNames.add(new StringLiteralExpr(numericPredictor.getName().getValue()));
+            coefficients.add(getExpressionForObject(numericPredictor.getCoefficient().doubleValue()));
+            exponents.add(getExpressionForObject(numericPredictor.getExponent().doubleValue()));
+        }
+        return NodeList.nodeList(getArraysAsListInvocationMethodCall(fieldNames),
+                                 getArraysAsListInvocationMethodCall(coefficients),
+                                 getArraysAsListInvocationMethodCall(exponents));
+    }
+
     /**
      * Create <b>NumericPredictor</b>s <code>CastExpr</code>es
      * @param numericPredictors
@@ -20,14 +20,16 @@ import java.util.Map;
 
 import org.kie.pmml.api.enums.MINING_FUNCTION;
 import org.kie.pmml.api.enums.PMML_MODEL;
+import org.kie.pmml.api.exceptions.KiePMMLException;
 import org.kie.pmml.api.runtime.PMMLContext;
+import org.kie.pmml.commons.model.HasColumnarEvaluation;
 import org.kie.pmml.commons.model.IsInterpreted;
 import org.kie.pmml.commons.model.KiePMMLModel;
 
 /**
  * @see <a href=http://dmg.org/pmml/v4-4/Regression.html>Regression</a>
  */
-public class KiePMMLRegressionModel extends KiePMMLModel implements IsInterpreted {
+public class KiePMMLRegressionModel extends KiePMMLModel implements IsInterpreted, HasColumnarEvaluation {
 
     private static final long serialVersionUID = -6870859552385880008L;
     private AbstractKiePMMLTable regressionTable;
@@ -46,6 +48,49 @@ public class KiePMMLRegressionModel extends KiePMMLModel implements IsInterprete
         return regressionTable.evaluateRegression(requestData, context);
     }
 
+    /**
+     * Alternate entry point evaluating the model over a <code>double[]</code> feature vector, whose positions are the
+     * ones of {@link KiePMMLRegressionTable#getNumericFieldNames()}.
+     * Only available for regression (not classification) models with numeric predictors only
+     * @param features
+     * @return
+     */
+    public double evaluate(final double[] features) {
+        if (!isFeatureVectorEvaluable()) {
+            throw new KiePMMLException(String.format("Model %s can not be evaluated over a feature vector", name));
+        }
+        return ((KiePMMLRegressionTable) regressionTable).evaluateRegression(features);
+    }
+
+    public boolean isFeatureVectorEvaluable() {
+        return regressionTable instanceof KiePMMLRegressionTable &&
+                ((KiePMMLRegressionTable) regressionTable).isFeatureVectorEvaluable();
+    }
+
+    @Override
+    public boolean isColumnarEvaluable() {
+        return isFeatureVectorEvaluable();
+    }
+
+    @Override
+    public String[] getColumnarFieldNames() {
+        return isFeatureVectorEvaluable() ? ((KiePMMLRegressionTable) regressionTable).getNumericFieldNames() :
+                new String[0];
+    }
+
+    @Override
+    public Object[] evaluateColumns(final double[][] columns, final int rows) {
+        if (!isFeatureVectorEvaluable()) {
+            throw new KiePMMLException(String.format("Model %s can not be evaluated over columns", name));
+        }
+        final double[] results = ((KiePMMLRegressionTable) regressionTable).evaluateRegression(columns, rows);
+        final Object[] toReturn = new Object[rows];
+        for (int row = 0; row < rows; row++) {
+            toReturn[row] = results[row];
+        }
+        return toReturn;
+    }
+
     public AbstractKiePMMLTable getRegressionTable() {
         return regressionTable;
     }
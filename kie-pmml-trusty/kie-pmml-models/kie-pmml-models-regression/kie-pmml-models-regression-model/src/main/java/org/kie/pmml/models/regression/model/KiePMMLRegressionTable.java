@@ -15,14 +15,24 @@
  */
 package org.kie.pmml.models.regression.model;
 
+import java.util.Arrays;
 import java.util.List;
 
+import org.kie.pmml.api.exceptions.KiePMMLException;
 import org.kie.pmml.commons.model.KiePMMLExtension;
 
 public final class KiePMMLRegressionTable extends AbstractKiePMMLTable {
 
     private static final long serialVersionUID = -7899446939844650691L;
 
+    /**
+     * Names of the <b>NumericPredictor</b>s, in the order expected by {@link #evaluateRegression(double[])}
+     */
+    private String[] numericFieldNames = new String[0];
+    private double[] numericCoefficients = new double[0];
+    private double[] numericExponents = new double[0];
+    private boolean numericLinear = true;
+
     public static Builder builder(String name, List<KiePMMLExtension> extensions) {
         return new Builder(name, extensions);
     }
@@ -32,10 +42,136 @@ public final class KiePMMLRegressionTable extends AbstractKiePMMLTable {
         super(name, extensions);
     }
 
+    /**
+     * Returns the names of the fields expected by {@link #evaluateRegression(double[])}, in feature-vector order
+     * @return
+     */
+    public String[] getNumericFieldNames() {
+        return numericFieldNames.clone();
+    }
+
+    /**
+     * Returns <code>true</code> if this table may be evaluated over a <code>double[]</code> feature vector, i.e. if
+     * it only contains <b>NumericPredictor</b>s whose positions have been resolved at compile time
+     * @return
+     */
+    public boolean isFeatureVectorEvaluable() {
+        return categoricalFunctionMap.isEmpty() &&
+                predictorTermsFunctionMap.isEmpty() &&
+                numericFieldNames.length == numericFunctionMap.size();
+    }
+
+    /**
+     * Evaluate the table over the given feature vector, whose positions are the ones of
+     * {@link #getNumericFieldNames()}. Missing values have to be represented as <code>NaN</code>, and do not
+     * contribute to the result, as for the <code>Map</code> based evaluation
+     * @param features
+     * @return
+     */
+    public double evaluateRegression(final double[] features) {
+        if (!isFeatureVectorEvaluable()) {
+            throw new KiePMMLException(String.format("Table %s can not be evaluated over a feature vector", name));
+        }
+        if (features.length != numericFieldNames.length) {
+            throw new KiePMMLException(String.format("Expected %s features, retrieved %s", numericFieldNames.length,
+                                                     features.length));
+        }
+        double result = intercept + (numericLinear ? linearSum(features, numericCoefficients) :
+                polynomialSum(features, numericCoefficients, numericExponents));
+        if (resultUpdater != null) {
+            result = resultUpdater.apply(result);
+        }
+        return result;
+    }
+
+    /**
+     * Evaluate the table over the given columns, whose positions are the ones of {@link #getNumericFieldNames()}.
+     * Each column is walked once, adding its terms to the results of all the rows; values are expected not to be
+     * <code>NaN</code>
+     * @param columns
+     * @param rows
+     * @return
+     */
+    public double[] evaluateRegression(final double[][] columns, final int rows) {
+        if (!isFeatureVectorEvaluable()) {
+            throw new KiePMMLException(String.format("Table %s can not be evaluated over columns", name));
+        }
+        if (columns.length != numericFieldNames.length) {
+            throw new KiePMMLException(String.format("Expected %s columns, retrieved %s", numericFieldNames.length,
+                                                     columns.length));
+        }
+        final double[] toReturn = new double[rows];
+        Arrays.fill(toReturn, intercept);
+        for (int i = 0; i < columns.length; i++) {
+            final double[] column = columns[i];
+            final double coefficient = numericCoefficients[i];
+            final double exponent = numericExponents[i];
+            if (exponent == 1.0) {
+                for (int row = 0; row < rows; row++) {
+                    toReturn[row] += column[row] * coefficient;
+                }
+            } else {
+                for (int row = 0; row < rows; row++) {
+                    toReturn[row] += evaluateNumericWithExponent(column[row], coefficient, exponent);
+                }
+            }
+        }
+        if (resultUpdater != null) {
+            for (int row = 0; row < rows; row++) {
+                toReturn[row] = resultUpdater.apply(toReturn[row]);
+            }
+        }
+        return toReturn;
+    }
+
+    static double linearSum(final double[] features, final double[] coefficients) {
+        double toReturn = 0.0;
+        for (int i = 0; i < coefficients.length; i++) {
+            final double term = features[i] * coefficients[i];
+            toReturn += Double.isNaN(features[i]) ? 0.0 : term;
+        }
+        return toReturn;
+    }
+
+    static double polynomialSum(final double[] features, final double[] coefficients, final double[] exponents) {
+        double toReturn = 0.0;
+        for (int i = 0; i < coefficients.length; i++) {
+            if (!Double.isNaN(features[i])) {
+                toReturn += exponents[i] == 1.0 ? features[i] * coefficients[i] :
+                        evaluateNumericWithExponent(features[i], coefficients[i], exponents[i]);
+            }
+        }
+        return toReturn;
+    }
+
     public static class Builder extends AbstractKiePMMLTable.Builder<KiePMMLRegressionTable> {
 
         protected Builder(String name, List<KiePMMLExtension> extensions) {
             super("KiePMMLRegressionTable-", () -> new KiePMMLRegressionTable(name, extensions));
         }
+
+        /**
+         * Set the <b>NumericPredictor</b>s used by the feature-vector evaluation; the three <code>List</code>s are
+         * positional and must have the same size
+         * @param fieldNames
+         * @param coefficients
+         * @param exponents
+         * @return
+         */
+        public Builder withNumericFeatures(final List<String> fieldNames, final List<Double> coefficients,
+                                           final List<Double> exponents) {
+            if (fieldNames != null && coefficients != null && exponents != null) {
+                if (fieldNames.size() != coefficients.size() || fieldNames.size() != exponents.size()) {
+                    throw new KiePMMLException(String.format("Mismatching numeric features sizes %s %s %s",
+                                                             fieldNames.size(), coefficients.size(),
+                                                             exponents.size()));
+                }
+                toBuild.numericFieldNames = fieldNames.toArray(new String[0]);
+                toBuild.numericCoefficients = coefficients.stream().mapToDouble(Double::doubleValue).toArray();
+                toBuild.numericExponents = exponents.stream().mapToDouble(Double::doubleValue).toArray();
+                toBuild.numericLinear = exponents.stream().allMatch(exponent -> exponent == 1.0);
+            }
+            return this;
+        }
     }
 }
@@ -25,10 +25,13 @@ import java.util.Map;
 import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.junit.runners.Parameterized;
+import org.kie.pmml.api.exceptions.KiePMMLException;
 import org.kie.pmml.api.iinterfaces.SerializableFunction;
 import org.kie.pmml.api.runtime.PMMLContext;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
 import static org.mockito.Mockito.mock;
 
 @RunWith(Parameterized.class)
@@ -81,6 +84,58 @@ public class KiePMMLRegressionTableTest {
         assertEquals(expectedResult, retrieved);
     }
 
+    @Test
+    public void evaluateRegressionFeatureVector() {
+        KiePMMLRegressionTable numericTable = getNumericKiePMMLRegressionTable();
+        assertTrue(numericTable.isFeatureVectorEvaluable());
+        assertFalse(regressionTable.isFeatureVectorEvaluable());
+        Map<String, Object> input = new HashMap<>();
+        input.put(FIRST_NUMERIC_INPUT, firstNumericalInput);
+        input.put(SECOND_NUMERIC_INPUT, secondNumericalInput);
+        double expected = (double) numericTable.evaluateRegression(input, mock(PMMLContext.class));
+        double retrieved = numericTable.evaluateRegression(new double[]{firstNumericalInput, secondNumericalInput});
+        assertEquals(expected, retrieved, 0.000000001);
+        // missing values do not contribute, as for Map inputs
+        input.remove(SECOND_NUMERIC_INPUT);
+        expected = (double) numericTable.evaluateRegression(input, mock(PMMLContext.class));
+        retrieved = numericTable.evaluateRegression(new double[]{firstNumericalInput, Double.NaN});
+        assertEquals(expected, retrieved, 0.000000001);
+    }
+
+    @Test
+    public void evaluateRegressionColumns() {
+        KiePMMLRegressionTable numericTable = getNumericKiePMMLRegressionTable();
+        double[] firstColumn = {firstNumericalInput, 3.0, -1.5};
+        double[] secondColumn = {secondNumericalInput, 0.0, 4.25};
+        double[] retrieved = numericTable.evaluateRegression(new double[][]{firstColumn, secondColumn}, 3);
+        assertEquals(3, retrieved.length);
+        for (int row = 0; row < 3; row++) {
+            double expected = numericTable.evaluateRegression(new double[]{firstColumn[row], secondColumn[row]});
+            assertEquals(expected, retrieved[row], 0.000000001);
+        }
+    }
+
+    @Test(expected = KiePMMLException.class)
+    public void evaluateRegressionColumnsNotEvaluable() {
+        regressionTable.evaluateRegression(new double[][]{{1.0}, {2.0}}, 1);
+    }
+
+    private KiePMMLRegressionTable getNumericKiePMMLRegressionTable() {
+        Map<String, SerializableFunction<Double, Double>> numericFunctionMapLocal = new HashMap<>();
+        numericFunctionMapLocal.put(FIRST_NUMERIC_INPUT,
+                                    input -> KiePMMLRegressionTable.evaluateNumericWithoutExponent(input, 2.5));
+        numericFunctionMapLocal.put(SECOND_NUMERIC_INPUT,
+                                    input -> KiePMMLRegressionTable.evaluateNumericWithExponent(input, 0.5, 2.0));
+        return KiePMMLRegressionTable.builder("", Collections.emptyList())
+                .withNumericFeatures(Arrays.asList(FIRST_NUMERIC_INPUT, SECOND_NUMERIC_INPUT),
+                                     Arrays.asList(2.5, 0.5),
+                                     Arrays.asList(1.0, 2.0))
+                .withTargetField(TARGET_FIELD)
+                .withNumericFunctionMap(numericFunctionMapLocal)
+                .withIntercept(1.2)
+                .build();
+    }
+
     private KiePMMLRegressionTable getKiePMMLRegressionTable() {
         Map<String, SerializableFunction<Double, Double>> numericFunctionMapLocal = new HashMap<>();
         numericFunctionMapLocal.put(FIRST_NUMERIC_INPUT, FIRST_NUMERIC_FUNCTION);
@@ -0,0 +1,263 @@
+/*
+ * Copyright 2022 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kie.pmml.models.tree.compiler.factories;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.github.javaparser.ast.Modifier;
+import com.github.javaparser.ast.NodeList;
+import com.github.javaparser.ast.body.ClassOrInterfaceDeclaration;
+import com.github.javaparser.ast.body.MethodDeclaration;
+import com.github.javaparser.ast.body.Parameter;
+import com.github.javaparser.ast.expr.BooleanLiteralExpr;
+import com.github.javaparser.ast.expr.DoubleLiteralExpr;
+import com.github.javaparser.ast.expr.Expression;
+import com.github.javaparser.ast.expr.IntegerLiteralExpr;
+import com.github.javaparser.ast.expr.MethodCallExpr;
+import com.github.javaparser.ast.expr.NameExpr;
+import com.github.javaparser.ast.expr.NullLiteralExpr;
+import com.github.javaparser.ast.expr.StringLiteralExpr;
+import com.github.javaparser.ast.stmt.BlockStmt;
+import com.github.javaparser.ast.stmt.ReturnStmt;
+import com.github.javaparser.ast.type.ClassOrInterfaceType;
+import org.dmg.pmml.DataType;
+import org.dmg.pmml.False;
+import org.dmg.pmml.Field;
+import org.dmg.pmml.Predicate;
+import org.dmg.pmml.ScoreDistribution;
+import org.dmg.pmml.SimplePredicate;
+import org.dmg.pmml.True;
+import org.dmg.pmml.tree.Node;
+import org.kie.pmml.api.enums.DATA_TYPE;
+import org.kie.pmml.api.enums.OPERATOR;
+import org.kie.pmml.models.tree.model.KiePMMLFlatTree;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import static org.kie.pmml.compiler.api.utils.ModelUtils.getDataType;
+import static org.kie.pmml.compiler.commons.utils.CommonCodegenUtils.getArraysAsListInvocationMethodCall;
+import static org.kie.pmml.models.tree.compiler.factories.KiePMMLNodeFactory.getKiePMMLScoreDistribution;
+
+/**
+ * Class meant to provide <i>helper</i> methods to generate the code that builds a <code>KiePMMLFlatTree</code>
+ * out of a <code>Node</code> whose predicates are all <b>True</b>, <b>False</b> or numeric comparison
+ * <b>SimplePredicate</b>s
+ */
+public class KiePMMLFlatTreeFactory {
+
+    static final String POPULATE_FLAT_TREE = "populateFlatTree";
+    static final String BUILDER = "builder";
+    static final String WITH_NODE = "withNode";
+    static final String WITH_CONSTANT_NODE = "withConstantNode";
+    /**
+     * Maximum number of nodes populated by each generated method, to stay well below the JVM method size limit
+     */
+    static final int NODES_PER_METHOD = 200;
+    private static final Logger logger = LoggerFactory.getLogger(KiePMMLFlatTreeFactory.class.getName());
+
+    private KiePMMLFlatTreeFactory() {
+        // Avoid instantiation
+    }
+
+    /**
+     * Returns <code>true</code> if all the predicates of the given <code>Node</code> and its descendants may be
+     * represented inside a <code>KiePMMLFlatTree</code>
+     * @param node
+     * @param fields
+     * @return
+     */
+    public static boolean isFlattenable(final Node node, final List<Field<?>> fields) {
+        if (node == null || !isFlattenable(node.getPredicate(), fields)) {
+            return false;
+        }
+        if (node.hasNodes()) {
+            for (Node nestedNode : node.getNodes()) {
+                if (!isFlattenable(nestedNode, fields)) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Add to the given <code>ClassOrInterfaceDeclaration</code> the <b>populateFlatTree(n)</b> methods for the
+     * given <code>Node</code>, and returns the <code>Expression</code> that builds the <code>KiePMMLFlatTree</code>
+     * <p>
+     *     <code>populateFlatTree1(populateFlatTree0(KiePMMLFlatTree.builder(missingValuePenalty))).build()</code>
+     * </p>
+     * @param modelTemplate
+     * @param root
+     * @param fields
+     * @param missingValuePenalty
+     * @return
+     */
+    public static Expression getKiePMMLFlatTreeExpression(final ClassOrInterfaceDeclaration modelTemplate,
+                                                          final Node root,
+                                                          final List<Field<?>> fields,
+                                                          final Double missingValuePenalty) {
+        logger.trace("getKiePMMLFlatTreeExpression {}", root);
+        final List<Node> nodes = getBreadthFirstNodes(root);
+        final double penalty = missingValuePenalty != null ? missingValuePenalty : 1.0;
+        Expression toReturn = new MethodCallExpr(new NameExpr(KiePMMLFlatTree.class.getCanonicalName()),
+                                                 BUILDER,
+                                                 NodeList.nodeList(new DoubleLiteralExpr(penalty)));
+        int firstChild = 1;
+        int methodCounter = 0;
+        BlockStmt methodBody = null;
+        for (int i = 0; i < nodes.size(); i++) {
+            if (i % NODES_PER_METHOD == 0) {
+                if (methodBody != null) {
+                    methodBody.addStatement(new ReturnStmt(new NameExpr(BUILDER)));
+                }
+                final String methodName = POPULATE_FLAT_TREE + methodCounter++;
+                methodBody = addPopulateMethod(modelTemplate, methodName);
+                toReturn = new MethodCallExpr(null, methodName, NodeList.nodeList(toReturn));
+            }
+            final Node node = nodes.get(i);
+            final int childrenCount = node.hasNodes() ? node.getNodes().size() : 0;
+            methodBody.addStatement(getNodeExpression(node, fields, firstChild, childrenCount));
+            firstChild += childrenCount;
+        }
+        if (methodBody != null) {
+            methodBody.addStatement(new ReturnStmt(new NameExpr(BUILDER)));
+        }
+        return new MethodCallExpr(toReturn, "build");
+    }
+
+    /**
+     * Returns the given <code>Node</code> and all its descendants in <b>breadth-first</b> order, so that the
+     * children of each node are contiguous
+     * @param root
+     * @return
+     */
+    static List<Node> getBreadthFirstNodes(final Node root) {
+        final List<Node> toReturn = new ArrayList<>();
+        toReturn.add(root);
+        for (int i = 0; i < toReturn.size(); i++) {
+            final Node node = toReturn.get(i);
+            if (node.hasNodes()) {
+                toReturn.addAll(node.getNodes());
+            }
+        }
+        return toReturn;
+    }
+
+    /**
+     * Return the <b>builder.withNode(...)</b> or <b>builder.withConstantNode(...)</b> invocation for the given
+     * <code>Node</code>
+     * @param node
+     * @param fields
+     * @param firstChild
+     * @param childrenCount
+     * @return
+     */
+    static MethodCallExpr getNodeExpression(final Node node,
+                                            final List<Field<?>> fields,
+                                            final int firstChild,
+                                            final int childrenCount) {
+        final Predicate predicate = node.getPredicate();
+        final NodeList<Expression> arguments = new NodeList<>();
+        final String methodName;
+        if (predicate instanceof SimplePredicate) {
+            final SimplePredicate simplePredicate = (SimplePredicate) predicate;
+            final OPERATOR operator = OPERATOR.byName(simplePredicate.getOperator().value());
+            methodName = WITH_NODE;
+            arguments.add(new StringLiteralExpr(simplePredicate.getField().getValue()));
+            arguments.add(new NameExpr(OPERATOR.class.getName() + "." + operator.name()));
+            arguments.add(new DoubleLiteralExpr(getThreshold(simplePredicate, fields)));
+        } else {
+            methodName = WITH_CONSTANT_NODE;
+            arguments.add(new BooleanLiteralExpr(predicate instanceof True));
+        }
+        arguments.add(new IntegerLiteralExpr(String.valueOf(firstChild)));
+        arguments.add(new IntegerLiteralExpr(String.valueOf(childrenCount)));
+        arguments.add(getScoreExpression(node.getScore()));
+        arguments.add(getScoreDistributionsExpression(node));
+        return new MethodCallExpr(new NameExpr(BUILDER), methodName, arguments);
+    }
+
+    static boolean isFlattenable(final Predicate predicate, final List<Field<?>> fields) {
+        if (predicate instanceof True || predicate instanceof False) {
+            return true;
+        }
+        if (!(predicate instanceof SimplePredicate)) {
+            return false;
+        }
+        final SimplePredicate simplePredicate = (SimplePredicate) predicate;
+        if (simplePredicate.getOperator() == null ||
+                !KiePMMLFlatTree.isSupportedOperator(OPERATOR.byName(simplePredicate.getOperator().value()))) {
+            return false;
+        }
+        try {
+            getThreshold(simplePredicate, fields);
+            return true;
+        } catch (RuntimeException e) {
+            logger.debug("Not flattenable predicate {}: {}", simplePredicate, e.getMessage());
+            return false;
+        }
+    }
+
+    static double getThreshold(final SimplePredicate simplePredicate, final List<Field<?>> fields) {
+        final DataType dataType = getDataType(fields, simplePredicate.getField().getValue());
+        final Object actualValue = DATA_TYPE.byName(dataType.value()).getActualValue(simplePredicate.getValue());
+        if (!(actualValue instanceof Number) || !Double.isFinite(((Number) actualValue).doubleValue())) {
+            throw new IllegalArgumentException("Expected a finite number, retrieved " + actualValue);
+        }
+        return ((Number) actualValue).doubleValue();
+    }
+
+    /**
+     * Return the <b>score</b> <code>Expression</code>, coherent with
+     * {@link KiePMMLNodeFactory#populateEvaluateNodeWithScore(BlockStmt, Object)}
+     * @param score
+     * @return
+     */
+    static Expression getScoreExpression(final Object score) {
+        if (score == null) {
+            return new NullLiteralExpr();
+        }
+        return score instanceof String ? new StringLiteralExpr((String) score) : new NameExpr(score.toString());
+    }
+
+    static Expression getScoreDistributionsExpression(final Node node) {
+        if (!node.hasScoreDistributions()) {
+            return new NullLiteralExpr();
+        }
+        final NodeList<Expression> scoreDistributions = new NodeList<>();
+        int counter = 0;
+        for (ScoreDistribution scoreDistribution : node.getScoreDistributions()) {
+            scoreDistributions.add(getKiePMMLScoreDistribution(String.format("scoreDistribution_%s", counter),
+                                                               scoreDistribution));
+            counter++;
+        }
+        return getArraysAsListInvocationMethodCall(scoreDistributions);
+    }
+
+    private static BlockStmt addPopulateMethod(final ClassOrInterfaceDeclaration modelTemplate,
+                                               final String methodName) {
+        final ClassOrInterfaceType builderType =
+                new ClassOrInterfaceType(null, KiePMMLFlatTree.Builder.class.getCanonicalName());
+        final MethodDeclaration toReturn = modelTemplate.addMethod(methodName, Modifier.Keyword.PRIVATE,
+                                                                   Modifier.Keyword.STATIC);
+        toReturn.setType(builderType);
+        toReturn.setParameters(NodeList.nodeList(new Parameter(builderType, BUILDER)));
+        final BlockStmt body = new BlockStmt();
+        toReturn.setBody(body);
+        return body;
+    }
+}
@@ -15,11 +15,13 @@
  */
 package org.kie.pmml.models.tree.compiler.factories;
 
+import java.util.HashMap;
 import java.util.Map;
 
 import com.github.javaparser.ast.CompilationUnit;
 import com.github.javaparser.ast.body.ClassOrInterfaceDeclaration;
 import com.github.javaparser.ast.body.ConstructorDeclaration;
+import com.github.javaparser.ast.expr.Expression;
 import com.github.javaparser.ast.expr.MethodReferenceExpr;
 import com.github.javaparser.ast.expr.NameExpr;
 import com.github.javaparser.ast.stmt.BlockStmt;
@@ -35,6 +37,8 @@ import org.slf4j.LoggerFactory;
 
 import static org.kie.pmml.commons.Constants.MISSING_DEFAULT_CONSTRUCTOR;
 import static org.kie.pmml.compiler.commons.utils.JavaParserUtils.MAIN_CLASS_NOT_FOUND;
+import static org.kie.pmml.models.tree.compiler.factories.KiePMMLFlatTreeFactory.getKiePMMLFlatTreeExpression;
+import static org.kie.pmml.models.tree.compiler.factories.KiePMMLFlatTreeFactory.isFlattenable;
 import static org.kie.pmml.models.tree.compiler.factories.KiePMMLNodeFactory.getKiePMMLNodeSourcesMap;
 import static org.kie.pmml.models.tree.compiler.utils.KiePMMLTreeModelUtils.createNodeClassName;
 
@@ -70,6 +74,14 @@ public class KiePMMLTreeModelFactory {
                                                                                  KIE_PMML_TREE_MODEL_TEMPLATE);
         ClassOrInterfaceDeclaration modelTemplate = cloneCU.getClassByName(className)
                 .orElseThrow(() -> new KiePMMLException(MAIN_CLASS_NOT_FOUND + ": " + className));
+        String fullClassName = packageName + "." + className;
+        if (isFlattenable(compilationDTO.getNode(), compilationDTO.getFields())) {
+            // simple-predicate tree: evaluated through a KiePMMLFlatTree, no node classes needed
+            setFlatTreeConstructor(compilationDTO, modelTemplate);
+            Map<String, String> toReturn = new HashMap<>();
+            toReturn.put(fullClassName, cloneCU.toString());
+            return toReturn;
+        }
         final Double missingValuePenalty = compilationDTO.getMissingValuePenalty();
         final KiePMMLNodeFactory.NodeNamesDTO nodeNamesDTO =
                 new KiePMMLNodeFactory.NodeNamesDTO(compilationDTO.getNode(),
@@ -81,7 +93,6 @@ public class KiePMMLTreeModelFactory {
         setConstructor(compilationDTO,
                        modelTemplate,
                        fullNodeClassName);
-        String fullClassName = packageName + "." + className;
         toReturn.put(fullClassName, cloneCU.toString());
         return toReturn;
     }
@@ -100,4 +111,24 @@ public class KiePMMLTreeModelFactory {
         nodeReference.setIdentifier("evaluateNode");
         CommonCodegenUtils.setAssignExpressionValue(body, "nodeFunction", nodeReference);
     }
+
+    /**
+     * Set the constructor of a tree model whose <code>Node</code>s may be represented inside a
+     * <code>KiePMMLFlatTree</code>; <b>nodeFunction</b> is set to the built <code>KiePMMLFlatTree</code>
+     * @param compilationDTO
+     * @param modelTemplate
+     */
+    static void setFlatTreeConstructor(final TreeCompilationDTO compilationDTO,
+                                       final ClassOrInterfaceDeclaration modelTemplate) {
+        KiePMMLModelFactoryUtils.init(compilationDTO,
+                                      modelTemplate);
+        final ConstructorDeclaration constructorDeclaration =
+                modelTemplate.getDefaultConstructor().orElseThrow(() -> new KiePMMLInternalException(String.format(MISSING_DEFAULT_CONSTRUCTOR, modelTemplate.getName())));
+        final BlockStmt body = constructorDeclaration.getBody();
+        final Expression flatTree = getKiePMMLFlatTreeExpression(modelTemplate,
+                                                                 compilationDTO.getNode(),
+                                                                 compilationDTO.getFields(),
+                                                                 compilationDTO.getMissingValuePenalty());
+        CommonCodegenUtils.setAssignExpressionValue(body, "nodeFunction", flatTree);
+    }
 }
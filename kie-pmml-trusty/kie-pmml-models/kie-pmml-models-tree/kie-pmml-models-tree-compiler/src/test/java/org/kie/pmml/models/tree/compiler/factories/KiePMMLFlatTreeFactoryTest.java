@@ -0,0 +1,166 @@
+/*
+ * Copyright 2022 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.kie.pmml.models.tree.compiler.factories;
+
+import java.util.Arrays;
+import java.util.List;
+
+import com.github.javaparser.ast.body.ClassOrInterfaceDeclaration;
+import com.github.javaparser.ast.body.MethodDeclaration;
+import com.github.javaparser.ast.expr.Expression;
+import com.github.javaparser.ast.expr.MethodCallExpr;
+import com.github.javaparser.ast.expr.NullLiteralExpr;
+import org.dmg.pmml.CompoundPredicate;
+import org.dmg.pmml.DataType;
+import org.dmg.pmml.False;
+import org.dmg.pmml.Field;
+import org.dmg.pmml.OpType;
+import org.dmg.pmml.Predicate;
+import org.dmg.pmml.SimplePredicate;
+import org.dmg.pmml.True;
+import org.dmg.pmml.tree.ComplexNode;
+import org.dmg.pmml.tree.Node;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.kie.pmml.compiler.api.testutils.PMMLModelTestUtils.getDataField;
+import static org.kie.pmml.compiler.api.testutils.PMMLModelTestUtils.getSimplePredicate;
+import static org.kie.pmml.models.tree.compiler.factories.KiePMMLFlatTreeFactory.NODES_PER_METHOD;
+import static org.kie.pmml.models.tree.compiler.factories.KiePMMLFlatTreeFactory.POPULATE_FLAT_TREE;
+import static org.kie.pmml.models.tree.compiler.factories.KiePMMLFlatTreeFactory.WITH_CONSTANT_NODE;
+import static org.kie.pmml.models.tree.compiler.factories.KiePMMLFlatTreeFactory.WITH_NODE;
+
+public class KiePMMLFlatTreeFactoryTest {
+
+    private static final String FIELD_X = "x";
+    private static final String FIELD_S = "s";
+
+    private List<Field<?>> fields;
+    private Node root;
+    private Node low;
+    private Node high;
+    private Node never;
+
+    @Before
+    public void setup() {
+        fields = Arrays.asList(getDataField(FIELD_X, OpType.CONTINUOUS, DataType.DOUBLE),
+                               getDataField(FIELD_S, OpType.CATEGORICAL, DataType.STRING));
+        low = getNode(getSimplePredicate(FIELD_X, "5", SimplePredicate.Operator.LESS_THAN), "low");
+        never = getNode(new False(), "never");
+        high = getNode(getSimplePredicate(FIELD_X, "5", SimplePredicate.Operator.GREATER_OR_EQUAL), "high", never);
+        root = getNode(new True(), "root", low, high);
+    }
+
+    @Test
+    public void isFlattenable() {
+        assertTrue(KiePMMLFlatTreeFactory.isFlattenable(root, fields));
+        // equality operators keep the type-sensitive semantic of the generated nodes
+        high.addNodes(getNode(getSimplePredicate(FIELD_X, "5", SimplePredicate.Operator.EQUAL), "equal"));
+        assertFalse(KiePMMLFlatTreeFactory.isFlattenable(root, fields));
+    }
+
+    @Test
+    public void isFlattenablePredicate() {
+        assertTrue(KiePMMLFlatTreeFactory.isFlattenable(new True(), fields));
+        assertTrue(KiePMMLFlatTreeFactory.isFlattenable(new False(), fields));
+        assertTrue(KiePMMLFlatTreeFactory.isFlattenable(getSimplePredicate(FIELD_X, "5.5",
+                                                                           SimplePredicate.Operator.LESS_OR_EQUAL),
+                                                        fields));
+        assertFalse(KiePMMLFlatTreeFactory.isFlattenable(getSimplePredicate(FIELD_S, "A",
+                                                                            SimplePredicate.Operator.LESS_OR_EQUAL),
+                                                         fields));
+        assertFalse(KiePMMLFlatTreeFactory.isFlattenable(getSimplePredicate("unknown", "5",
+                                                                            SimplePredicate.Operator.LESS_OR_EQUAL),
+                                                         fields));
+        assertFalse(KiePMMLFlatTreeFactory.isFlattenable(getSimplePredicate(FIELD_X, "5",
+                                                                            SimplePredicate.Operator.IS_MISSING),
+                                                         fields));
+        assertFalse(KiePMMLFlatTreeFactory.isFlattenable(new CompoundPredicate(), fields));
+    }
+
+    @Test
+    public void getBreadthFirstNodes() {
+        List<Node> retrieved = KiePMMLFlatTreeFactory.getBreadthFirstNodes(root);
+        assertEquals(Arrays.asList(root, low, high, never), retrieved);
+    }
+
+    @Test
+    public void getNodeExpression() {
+        MethodCallExpr retrieved = KiePMMLFlatTreeFactory.getNodeExpression(high, fields, 3, 1);
+        assertEquals(WITH_NODE, retrieved.getNameAsString());
+        assertEquals("builder.withNode(\"x\", org.kie.pmml.api.enums.OPERATOR.GREATER_OR_EQUAL, 5.0, 3, 1, " +
+                             "\"high\", null)", retrieved.toString());
+        retrieved = KiePMMLFlatTreeFactory.getNodeExpression(never, fields, 4, 0);
+        assertEquals(WITH_CONSTANT_NODE, retrieved.getNameAsString());
+        assertEquals("builder.withConstantNode(false, 4, 0, \"never\", null)", retrieved.toString());
+    }
+
+    @Test
+    public void getScoreExpression() {
+        assertTrue(KiePMMLFlatTreeFactory.getScoreExpression(null) instanceof NullLiteralExpr);
+        assertEquals("\"score\"", KiePMMLFlatTreeFactory.getScoreExpression("score").toString());
+        assertEquals("12", KiePMMLFlatTreeFactory.getScoreExpression(12).toString());
+    }
+
+    @Test
+    public void getKiePMMLFlatTreeExpression() {
+        ClassOrInterfaceDeclaration modelTemplate = new ClassOrInterfaceDeclaration();
+        Expression retrieved = KiePMMLFlatTreeFactory.getKiePMMLFlatTreeExpression(modelTemplate, root, fields, 0.8);
+        assertEquals(POPULATE_FLAT_TREE + "0(org.kie.pmml.models.tree.model.KiePMMLFlatTree.builder(0.8)).build()",
+                     retrieved.toString());
+        List<MethodDeclaration> methods = modelTemplate.getMethodsByName(POPULATE_FLAT_TREE + "0");
+        assertEquals(1, methods.size());
+        // four nodes plus the return statement
+        assertEquals(5, methods.get(0).getBody().get().getStatements().size());
+        assertEquals("builder.withConstantNode(true, 1, 2, \"root\", null);",
+                     methods.get(0).getBody().get().getStatement(0).toString());
+        assertEquals("builder.withNode(\"x\", org.kie.pmml.api.enums.OPERATOR.GREATER_OR_EQUAL, 5.0, 3, 1, " +
+                             "\"high\", null);",
+                     methods.get(0).getBody().get().getStatement(2).toString());
+    }
+
+    @Test
+    public void getKiePMMLFlatTreeExpressionManyNodes() {
+        Node wideRoot = getNode(new True(), "root");
+        for (int i = 0; i < NODES_PER_METHOD; i++) {
+            wideRoot.addNodes(getNode(getSimplePredicate(FIELD_X, String.valueOf(i),
+                                                         SimplePredicate.Operator.LESS_THAN), "child" + i));
+        }
+        ClassOrInterfaceDeclaration modelTemplate = new ClassOrInterfaceDeclaration();
+        Expression retrieved = KiePMMLFlatTreeFactory.getKiePMMLFlatTreeExpression(modelTemplate, wideRoot, fields,
+                                                                                  null);
+        assertEquals(POPULATE_FLAT_TREE + "1(" + POPULATE_FLAT_TREE + "0(org.kie.pmml.models.tree.model" +
+                             ".KiePMMLFlatTree.builder(1.0))).build()", retrieved.toString());
+        assertEquals(NODES_PER_METHOD + 1,
+                     modelTemplate.getMethodsByName(POPULATE_FLAT_TREE + "0").get(0).getBody().get().getStatements().size());
+        assertEquals(2,
+                     modelTemplate.getMethodsByName(POPULATE_FLAT_TREE + "1").get(0).getBody().get().getStatements().size());
+    }
+
+    private static Node getNode(final Predicate predicate, final Object score, final Node... children) {
+        ComplexNode toReturn = new ComplexNode();
+        toReturn.setPredicate(predicate);
+        toReturn.setScore(score);
+        if (children.length > 0) {
+            toReturn.addNodes(children);
+        }
+        return toReturn;
+    }
+}
@@ -0,0 +1,250 @@
+/*
+ * Copyright 2022 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kie.pmml.models.tree.model;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+import org.kie.pmml.api.enums.OPERATOR;
+import org.kie.pmml.api.exceptions.KiePMMLException;
+import org.kie.pmml.commons.model.tuples.KiePMMLProbabilityConfidence;
+
+/**
+ * Array-encoded representation of a tree whose predicates are all <b>True</b>, <b>False</b> or
+ * numeric comparison <b>SimplePredicate</b>s.
+ * <p>
+ * Nodes are stored in breadth-first order, so that the children of each node are contiguous: every node is
+ * described by the index of the feature it tests, the comparison operator, the threshold and the offset/count of its
+ * children.
+ * Evaluation first resolves the input values to a <code>double[]</code> (<code>NaN</code> for missing or
+ * non-numeric values, that never satisfy a comparison), and then walks the tree with a primitive loop.
+ * </p>
+ * Evaluation semantics are the same of the generated <code>KiePMMLNode</code>s: the first matching child is followed,
+ * and the deepest matching node provides the result.
+ */
+public class KiePMMLFlatTree implements Function<Map<String, Object>, KiePMMLNodeResult>, Serializable {
+
+    static final int OP_TRUE = 0;
+    static final int OP_FALSE = 1;
+    static final int OP_LESS_THAN = 2;
+    static final int OP_LESS_OR_EQUAL = 3;
+    static final int OP_GREATER_THAN = 4;
+    static final int OP_GREATER_OR_EQUAL = 5;
+
+    private static final long serialVersionUID = 2427430917329263410L;
+
+    private final String[] fieldNames;
+    private final int[] featureIndexes;
+    private final int[] operators;
+    private final double[] thresholds;
+    private final int[] firstChildren;
+    private final int[] childrenCounts;
+    private final Object[] scores;
+    private final List<LinkedHashMap<String, KiePMMLProbabilityConfidence>> probabilityConfidenceMaps;
+
+    private KiePMMLFlatTree(final Builder builder) {
+        final int size = builder.operators.size();
+        fieldNames = builder.fieldNames.toArray(new String[0]);
+        featureIndexes = new int[size];
+        operators = new int[size];
+        thresholds = new double[size];
+        firstChildren = new int[size];
+        childrenCounts = new int[size];
+        scores = builder.scores.toArray();
+        for (int i = 0; i < size; i++) {
+            featureIndexes[i] = builder.featureIndexes.get(i);
+            operators[i] = builder.operators.get(i);
+            thresholds[i] = builder.thresholds.get(i);
+            firstChildren[i] = builder.firstChildren.get(i);
+            childrenCounts[i] = builder.childrenCounts.get(i);
+        }
+        probabilityConfidenceMaps = builder.probabilityConfidenceMaps;
+    }
+
+    public static Builder builder(final double missingValuePenalty) {
+        return new Builder(missingValuePenalty);
+    }
+
+    /**
+     * Returns the names of the fields used by the tree, in the order expected by {@link #evaluate(double[])}
+     * @return
+     */
+    public String[] getFieldNames() {
+        return fieldNames.clone();
+    }
+
+    public int getSize() {
+        return operators.length;
+    }
+
+    @Override
+    public KiePMMLNodeResult apply(final Map<String, Object> requestData) {
+        final double[] features = new double[fieldNames.length];
+        for (int i = 0; i < fieldNames.length; i++) {
+            final Object value = requestData.get(fieldNames[i]);
+            features[i] = value instanceof Number ? ((Number) value).doubleValue() : Double.NaN;
+        }
+        return evaluate(features);
+    }
+
+    /**
+     * Evaluate the tree against the given feature vector, whose positions are the ones of {@link #getFieldNames()}.
+     * Missing values have to be represented as <code>NaN</code>
+     * @param features
+     * @return the result of the deepest matching node, or <code>null</code> if the root node does not match
+     */
+    public KiePMMLNodeResult evaluate(final double[] features) {
+        int node = 0;
+        if (getSize() == 0 || !matches(node, features)) {
+            return null;
+        }
+        boolean descending = true;
+        while (descending) {
+            descending = false;
+            final int end = firstChildren[node] + childrenCounts[node];
+            for (int child = firstChildren[node]; child < end; child++) {
+                if (matches(child, features)) {
+                    node = child;
+                    descending = true;
+                    break;
+                }
+            }
+        }
+        return new KiePMMLNodeResult(scores[node], probabilityConfidenceMaps.get(node));
+    }
+
+    boolean matches(final int node, final double[] features) {
+        switch (operators[node]) {
+            case OP_TRUE:
+                return true;
+            case OP_FALSE:
+                return false;
+            case OP_LESS_THAN:
+                return features[featureIndexes[node]] < thresholds[node];
+            case OP_LESS_OR_EQUAL:
+                return features[featureIndexes[node]] <= thresholds[node];
+            case OP_GREATER_THAN:
+                return features[featureIndexes[node]] > thresholds[node];
+            case OP_GREATER_OR_EQUAL:
+                return features[featureIndexes[node]] >= thresholds[node];
+            default:
+                throw new KiePMMLException("Unknown operator code " + operators[node]);
+        }
+    }
+
+    /**
+     * Returns <code>true</code> if the given <code>OPERATOR</code> may be used inside a <code>KiePMMLFlatTree</code>
+     * @param operator
+     * @return
+     */
+    public static boolean isSupportedOperator(final OPERATOR operator) {
+        switch (operator) {
+            case LESS_THAN:
+            case LESS_OR_EQUAL:
+            case GREATER_THAN:
+            case GREATER_OR_EQUAL:
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    /**
+     * Builder of <code>KiePMMLFlatTree</code>; nodes have to be added in breadth-first order
+     */
+    public static class Builder {
+
+        private final double missingValuePenalty;
+        private final List<String> fieldNames = new ArrayList<>();
+        private final List<Integer> featureIndexes = new ArrayList<>();
+        private final List<Integer> operators = new ArrayList<>();
+        private final List<Double> thresholds = new ArrayList<>();
+        private final List<Integer> firstChildren = new ArrayList<>();
+        private final List<Integer> childrenCounts = new ArrayList<>();
+        private final List<Object> scores = new ArrayList<>();
+        private final List<LinkedHashMap<String, KiePMMLProbabilityConfidence>> probabilityConfidenceMaps =
+                new ArrayList<>();
+
+        private Builder(final double missingValuePenalty) {
+            this.missingValuePenalty = missingValuePenalty;
+        }
+
+        /**
+         * Add a node whose predicate compares the given field with the given threshold
+         */
+        public Builder withNode(final String fieldName, final OPERATOR operator, final double threshold,
+                                final int firstChild, final int childrenCount, final Object score,
+                                final List<KiePMMLScoreDistribution> scoreDistributions) {
+            if (!isSupportedOperator(operator)) {
+                throw new KiePMMLException("Unsupported operator for flat tree " + operator);
+            }
+            int featureIndex = fieldNames.indexOf(fieldName);
+            if (featureIndex == -1) {
+                featureIndex = fieldNames.size();
+                fieldNames.add(fieldName);
+            }
+            return addNode(featureIndex, getOperatorCode(operator), threshold, firstChild, childrenCount, score,
+                           scoreDistributions);
+        }
+
+        /**
+         * Add a node whose predicate is the given constant (<b>True</b> or <b>False</b>)
+         */
+        public Builder withConstantNode(final boolean predicate, final int firstChild, final int childrenCount,
+                                        final Object score,
+                                        final List<KiePMMLScoreDistribution> scoreDistributions) {
+            return addNode(-1, predicate ? OP_TRUE : OP_FALSE, Double.NaN, firstChild, childrenCount, score,
+                           scoreDistributions);
+        }
+
+        public KiePMMLFlatTree build() {
+            return new KiePMMLFlatTree(this);
+        }
+
+        private Builder addNode(final int featureIndex, final int operator, final double threshold,
+                                final int firstChild, final int childrenCount, final Object score,
+                                final List<KiePMMLScoreDistribution> scoreDistributions) {
+            featureIndexes.add(featureIndex);
+            operators.add(operator);
+            thresholds.add(threshold);
+            firstChildren.add(firstChild);
+            childrenCounts.add(childrenCount);
+            scores.add(score);
+            probabilityConfidenceMaps.add(KiePMMLNode.getProbabilityConfidenceMap(scoreDistributions,
+                                                                                  missingValuePenalty));
+            return this;
+        }
+
+        private static int getOperatorCode(final OPERATOR operator) {
+            switch (operator) {
+                case LESS_THAN:
+                    return OP_LESS_THAN;
+                case LESS_OR_EQUAL:
+                    return OP_LESS_OR_EQUAL;
+                case GREATER_THAN:
+                    return OP_GREATER_THAN;
+                case GREATER_OR_EQUAL:
+                    return OP_GREATER_OR_EQUAL;
+                default:
+                    throw new KiePMMLException("Unsupported operator for flat tree " + operator);
+            }
+        }
+    }
+}
@@ -19,10 +19,12 @@ import java.util.Collections;
 import java.util.Map;
 import java.util.function.Function;
 
+import org.kie.pmml.api.exceptions.KiePMMLException;
 import org.kie.pmml.api.runtime.PMMLContext;
+import org.kie.pmml.commons.model.HasColumnarEvaluation;
 import org.kie.pmml.commons.model.KiePMMLModel;
 
-public abstract class KiePMMLTreeModel extends KiePMMLModel {
+public abstract class KiePMMLTreeModel extends KiePMMLModel implements HasColumnarEvaluation {
 
     private static final long serialVersionUID = -5158590062736070465L;
 
@@ -40,4 +42,42 @@ public abstract class KiePMMLTreeModel extends KiePMMLModel {
         return kiePMMLNodeResult.getScore();
     }
 
+    /**
+     * Trees compiled to a <code>KiePMMLFlatTree</code> may be evaluated over columns
+     * @return
+     */
+    @Override
+    public boolean isColumnarEvaluable() {
+        return nodeFunction instanceof KiePMMLFlatTree;
+    }
+
+    @Override
+    public String[] getColumnarFieldNames() {
+        return isColumnarEvaluable() ? ((KiePMMLFlatTree) nodeFunction).getFieldNames() : new String[0];
+    }
+
+    /**
+     * Evaluate the flat tree once per row; the score of a row whose root node does not match is <code>null</code>
+     * @param columns
+     * @param rows
+     * @return
+     */
+    @Override
+    public Object[] evaluateColumns(final double[][] columns, final int rows) {
+        if (!isColumnarEvaluable()) {
+            throw new KiePMMLException(String.format("Model %s can not be evaluated over columns", name));
+        }
+        final KiePMMLFlatTree flatTree = (KiePMMLFlatTree) nodeFunction;
+        final double[] features = new double[columns.length];
+        final Object[] toReturn = new Object[rows];
+        for (int row = 0; row < rows; row++) {
+            for (int i = 0; i < columns.length; i++) {
+                features[i] = columns[i][row];
+            }
+            final KiePMMLNodeResult kiePMMLNodeResult = flatTree.evaluate(features);
+            toReturn[row] = kiePMMLNodeResult != null ? kiePMMLNodeResult.getScore() : null;
+        }
+        return toReturn;
+    }
+
 }
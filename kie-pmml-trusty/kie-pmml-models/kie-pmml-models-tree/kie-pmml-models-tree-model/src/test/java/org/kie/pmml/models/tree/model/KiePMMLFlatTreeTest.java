@@ -0,0 +1,124 @@
+/*
+ * Copyright 2022 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.kie.pmml.models.tree.model;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.kie.pmml.api.enums.OPERATOR;
+import org.kie.pmml.api.exceptions.KiePMMLException;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.kie.pmml.models.tree.model.KiePMMLTreeTestUtils.getRandomKiePMMLScoreDistributions;
+
+public class KiePMMLFlatTreeTest {
+
+    private static final String FIELD_X = "x";
+    private static final String FIELD_Y = "y";
+
+    private List<KiePMMLScoreDistribution> scoreDistributions;
+    private KiePMMLFlatTree flatTree;
+
+    /**
+     * <pre>
+     * 0: True                    -> "root"
+     *   1: x &lt; 5.0             -> "low"
+     *   2: x &gt;= 5.0           -> "high"
+     *     3: y &gt; 2.0          -> "highY"
+     *     4: y &lt;= 2.0 (False)  -> "never"
+     * </pre>
+     */
+    @Before
+    public void setup() {
+        scoreDistributions = getRandomKiePMMLScoreDistributions(true);
+        flatTree = KiePMMLFlatTree.builder(1.0)
+                .withConstantNode(true, 1, 2, "root", null)
+                .withNode(FIELD_X, OPERATOR.LESS_THAN, 5.0, 3, 0, "low", null)
+                .withNode(FIELD_X, OPERATOR.GREATER_OR_EQUAL, 5.0, 3, 2, "high", null)
+                .withNode(FIELD_Y, OPERATOR.GREATER_THAN, 2.0, 5, 0, "highY", scoreDistributions)
+                .withConstantNode(false, 5, 0, "never", null)
+                .build();
+    }
+
+    @Test
+    public void getFieldNames() {
+        assertArrayEquals(new String[]{FIELD_X, FIELD_Y}, flatTree.getFieldNames());
+        assertEquals(5, flatTree.getSize());
+    }
+
+    @Test
+    public void apply() {
+        assertEquals("low", flatTree.apply(getRequestData(3, null)).getScore());
+        assertEquals("high", flatTree.apply(getRequestData(5, 1)).getScore());
+        KiePMMLNodeResult retrieved = flatTree.apply(getRequestData(7.5, 2.5));
+        assertNotNull(retrieved);
+        assertEquals("highY", retrieved.getScore());
+        assertEquals(scoreDistributions.size(), retrieved.getProbabilityMap().size());
+        scoreDistributions.forEach(scoreDistribution -> assertEquals(scoreDistribution.getProbability(),
+                                                                     retrieved.getProbabilityMap().get(scoreDistribution.getValue()),
+                                                                     0.000000001));
+    }
+
+    @Test
+    public void applyMissingValues() {
+        // missing and non-numeric values never satisfy a comparison
+        assertEquals("root", flatTree.apply(new HashMap<>()).getScore());
+        assertEquals("root", flatTree.apply(getRequestData("5", null)).getScore());
+        assertEquals("high", flatTree.apply(getRequestData(5, "3")).getScore());
+    }
+
+    @Test
+    public void evaluateNotMatchingRoot() {
+        KiePMMLFlatTree notMatching = KiePMMLFlatTree.builder(1.0)
+                .withNode(FIELD_X, OPERATOR.GREATER_THAN, 0, 1, 0, "root", null)
+                .build();
+        assertNull(notMatching.evaluate(new double[]{-1.0}));
+        assertNull(notMatching.evaluate(new double[]{Double.NaN}));
+        assertEquals("root", notMatching.evaluate(new double[]{1.0}).getScore());
+    }
+
+    @Test
+    public void isSupportedOperator() {
+        assertTrue(KiePMMLFlatTree.isSupportedOperator(OPERATOR.LESS_THAN));
+        assertTrue(KiePMMLFlatTree.isSupportedOperator(OPERATOR.LESS_OR_EQUAL));
+        assertTrue(KiePMMLFlatTree.isSupportedOperator(OPERATOR.GREATER_THAN));
+        assertTrue(KiePMMLFlatTree.isSupportedOperator(OPERATOR.GREATER_OR_EQUAL));
+        assertFalse(KiePMMLFlatTree.isSupportedOperator(OPERATOR.EQUAL));
+        assertFalse(KiePMMLFlatTree.isSupportedOperator(OPERATOR.NOT_EQUAL));
+        assertFalse(KiePMMLFlatTree.isSupportedOperator(OPERATOR.IS_MISSING));
+    }
+
+    @Test(expected = KiePMMLException.class)
+    public void withNodeUnsupportedOperator() {
+        KiePMMLFlatTree.builder(1.0).withNode(FIELD_X, OPERATOR.EQUAL, 5.0, 1, 0, "root", null);
+    }
+
+    private Map<String, Object> getRequestData(Object x, Object y) {
+        Map<String, Object> toReturn = new HashMap<>();
+        toReturn.put(FIELD_X, x);
+        toReturn.put(FIELD_Y, y);
+        return toReturn;
+    }
+}
@@ -0,0 +1,64 @@
+/*
+ * Copyright 2022 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.kie.pmml.models.tree.model;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Function;
+
+import org.junit.Test;
+import org.kie.pmml.api.enums.OPERATOR;
+import org.kie.pmml.api.exceptions.KiePMMLException;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class KiePMMLTreeModelTest {
+
+    private static final String FIELD_X = "x";
+    private static final String FIELD_Y = "y";
+
+    @Test
+    public void evaluateColumns() {
+        final KiePMMLTreeModel treeModel = new KiePMMLTreeModelFake(KiePMMLFlatTree.builder(1.0)
+                                                                            .withNode(FIELD_X, OPERATOR.GREATER_THAN, 0, 1, 2, "root", null)
+                                                                            .withNode(FIELD_Y, OPERATOR.LESS_THAN, 5.0, 3, 0, "low", null)
+                                                                            .withNode(FIELD_Y, OPERATOR.GREATER_OR_EQUAL, 5.0, 3, 0, "high", null)
+                                                                            .build());
+        assertTrue(treeModel.isColumnarEvaluable());
+        assertArrayEquals(new String[]{FIELD_X, FIELD_Y}, treeModel.getColumnarFieldNames());
+        // the root node does not match the last row
+        final Object[] retrieved = treeModel.evaluateColumns(new double[][]{{1.0, 2.0, -1.0}, {3.0, 7.0, 3.0}}, 3);
+        assertArrayEquals(new Object[]{"low", "high", null}, retrieved);
+    }
+
+    @Test(expected = KiePMMLException.class)
+    public void evaluateColumnsNotFlatTree() {
+        final KiePMMLTreeModel treeModel =
+                new KiePMMLTreeModelFake(requestData -> new KiePMMLNodeResult("root", new LinkedHashMap<>()));
+        assertFalse(treeModel.isColumnarEvaluable());
+        treeModel.evaluateColumns(new double[0][], 1);
+    }
+
+    private static class KiePMMLTreeModelFake extends KiePMMLTreeModel {
+
+        KiePMMLTreeModelFake(final Function<Map<String, Object>, KiePMMLNodeResult> nodeFunction) {
+            super("TreeModel");
+            this.nodeFunction = nodeFunction;
+        }
+    }
+}